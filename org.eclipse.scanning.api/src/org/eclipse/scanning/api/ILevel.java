@@ -11,6 +11,8 @@
  *******************************************************************************/
 package org.eclipse.scanning.api;
 
+import java.util.Collection;
+
 /**
  * Interface for any device with a level. Level is used for instance in scanning to
  * define the order that devices are moved to in the scan.
@@ -35,4 +37,15 @@ public interface ILevel extends INameable {
 	 * @return int - the level
 	 */
 	int getLevel();
+
+	/**
+	 * Used when devices in a scan are started as soon as the devices they depend on have
+	 * finished, rather than when all the devices at lower levels have finished.
+	 *
+	 * @return the names of the devices at lower levels which must finish before this one
+	 *         is started, or <code>null</code> (the default) to wait for all devices at lower levels
+	 */
+	default Collection<String> getLevelDependencies() {
+		return null;
+	}
 }
@@ -12,8 +12,11 @@
 package org.eclipse.scanning.api.annotation.scan;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,8 +24,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.eclipse.scanning.api.IServiceResolver;
 import org.eclipse.scanning.api.scan.IScanParticipant;
@@ -39,8 +42,11 @@ import org.slf4j.LoggerFactory;
  * to be injected into the method.
  *
  * If attemps to parse all the reflection stuff up-front so that a call
- * to invoke(...) during the scan can be as efficiently despatched using
- * method.invoke(...) as possible.
+ * to invoke(...) during the scan can be as efficiently despatched as possible.
+ * Each annotated method is bound to a {@link MethodHandle} when the device is
+ * added, and the argument each class of context object is injected into is
+ * worked out the first time it is seen, so that invoke(...) is called for
+ * every point of a scan without allocating.
  *
  * This class could be made into a general purpose annotation parsing
  * and method calling class once tested.
@@ -56,10 +62,13 @@ public class AnnotationManager {
 
 	private static Logger logger = LoggerFactory.getLogger(AnnotationManager.class);
 
-	private Map<Class<? extends Annotation>, Collection<MethodWrapper>> annotationMap;
+	private static final MethodWrapper[] NO_METHODS = new MethodWrapper[0];
+
+	private Map<Class<? extends Annotation>, MethodWrapper[]>           annotationMap;
 	private Map<Class<?>, Collection<Class<?>>>                         cachedClasses;
 	private Map<Class<?>, Object>                                       services;
 	private Collection<Object>                                          extraContext;
+	private volatile Object[]                                           extraContextArray = new Object[0]; // extraContext, iterated without allocating
 
 	private Collection<Class<? extends Annotation>> annotations;
 	private IServiceResolver serviceResolver;
@@ -185,14 +194,19 @@ public class AnnotationManager {
 			for (Annotation annotation : method.getAnnotations()) {
 				final Class<? extends Annotation> annotationType = annotation.annotationType();
 				if (annotations.contains(annotationType)) {
-					annotationMap.computeIfAbsent(annotationType, klass -> new ArrayList<>());
-					final Collection<MethodWrapper> methodWrappers = annotationMap.get(annotationType);
-					methodWrappers.add(new MethodWrapper(annotationType, device, method));
+					final MethodWrapper methodWrapper = new MethodWrapper(annotationType, device, method);
+					annotationMap.merge(annotationType, new MethodWrapper[] { methodWrapper }, AnnotationManager::concat);
 				}
 			}
 		}
 	}
 
+	private static MethodWrapper[] concat(MethodWrapper[] first, MethodWrapper[] second) {
+		final MethodWrapper[] methodWrappers = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, methodWrappers, first.length, second.length);
+		return methodWrappers;
+	}
+
 	/**
 	 * Notify the methods with this annotation that it happened.
 	 * Optionally provide some context which the system will try to insert into the
@@ -203,27 +217,17 @@ public class AnnotationManager {
 	 * @throws ScanningException if an error occurred invoking the annotated methods
 	 */
 	public void invoke(Class<? extends Annotation> annotation, Object... context) throws ScanningException {
+		final boolean trace = logger.isTraceEnabled();
 		try {
-			logger.trace("Invoking methods annotated with {} with context: {}", annotation, context);
-			final Collection<MethodWrapper> methodWrappers = annotationMap.get(annotation);
-			if (methodWrappers != null) {
-				for (MethodWrapper methodWrapper : methodWrappers) {
-					logger.trace("Invoking on {} in invoke({},{})", methodWrapper.instance, annotation, context);
-					methodWrapper.invoke(context);
-					logger.trace("Invoked  on {} in invoke({},{})", methodWrapper.instance, annotation, context);
-				}
-			}
-		} catch (InvocationTargetException e) {
-			logger.error("Exception in invoke({},{}): ", annotation, context, e);
-		    Throwable wrapped = e.getTargetException();
-			if (wrapped instanceof ScanningException) {
-				throw (ScanningException) wrapped;
+			if (trace) logger.trace("Invoking methods annotated with {} with context: {}", annotation, context);
+			final MethodWrapper[] methodWrappers = annotationMap.getOrDefault(annotation, NO_METHODS);
+			for (MethodWrapper methodWrapper : methodWrappers) {
+				if (trace) logger.trace("Invoking on {} in invoke({},{})", methodWrapper.instance, annotation, context);
+				methodWrapper.invoke(annotation, context);
+				if (trace) logger.trace("Invoked  on {} in invoke({},{})", methodWrapper.instance, annotation, context);
 			}
-		    throw new ScanningException(e);
-		} catch (IllegalAccessException | IllegalArgumentException e) {
-		    throw new ScanningException(e);
 		} finally {
-			logger.trace("Completed invoke({}, {})", annotation, context);
+			if (trace) logger.trace("Completed invoke({}, {})", annotation, context);
 		}
 	}
 
@@ -234,6 +238,13 @@ public class AnnotationManager {
 		private final List<Class<?>> argClasses;
 		private final Object[] arguments; // Must be object[] for speed and is not variable
 
+		/** The method bound to the instance, taking the arguments as an Object[] */
+		private final MethodHandle handle;
+
+		/** The index in the arguments of each class of context object, or -1 if it is not injected */
+		private final Map<Class<?>, Integer> argumentIndices = new ConcurrentHashMap<>();
+		private final Function<Class<?>, Integer> argumentIndexFinder = this::findArgumentIndex;
+
 		MethodWrapper(final Class<? extends Annotation> aclass, Object instance, Method method) throws IllegalArgumentException {
 			this.instance = instance;
 			this.method = method;
@@ -249,44 +260,73 @@ public class AnnotationManager {
 
 		    this.arguments = this.argClasses.stream()
 		    					.map(arg -> getService(arg)).toArray();
+		    this.handle = createHandle(aclass);
+		}
+
+		private MethodHandle createHandle(Class<? extends Annotation> aclass) {
+			MethodHandle methodHandle;
+			try {
+				// The method is public but its class may not be, e.g. an anonymous class
+				method.trySetAccessible();
+				methodHandle = MethodHandles.lookup().unreflect(method);
+			} catch (IllegalAccessException e) {
+				throw new IllegalArgumentException("Cannot access method '"+method.getName()+"' annotated with @"+aclass.getSimpleName()+" on class '"+instance.getClass().getSimpleName()+"'", e);
+			}
+			if (!Modifier.isStatic(method.getModifiers())) {
+				methodHandle = methodHandle.bindTo(instance);
+			}
+			return methodHandle.asSpreader(Object[].class, arguments.length)
+							   .asType(MethodType.methodType(void.class, Object[].class));
 		}
 
-		public void invoke(Object... objects) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-			if (arguments.length == 0) {
-				method.invoke(instance);
-			} else {
+		public void invoke(Class<? extends Annotation> annotation, Object... objects) throws ScanningException {
+			if (arguments.length > 0) {
 				// Put the context into the args (if there are any)
-				final List<Object> context = getContext(objects);
-				for (int i = 0; i < context.size(); i++) {
-					final Collection<Class<?>> classes = getCachedClasses(context.get(i));
-
-					// Find the first class in classes which is in argClasses
-					// NOTE this is why duplicates are not supported, type of argument used to map to injected class.
-					final Optional<Class<?>> contained = classes.stream().filter(x -> argClasses.contains(x)).findFirst();
-					if (contained.isPresent()) {
-						final int index = argClasses.indexOf(contained.get());
-						arguments[index] = context.get(i);
-					}
+				for (Object object : extraContextArray) {
+					inject(object);
 				}
-				boolean accessible = method.isAccessible();
-				try {
-					method.setAccessible(true);
-					method.invoke(instance, arguments);
-				} finally {
-					method.setAccessible(accessible);
+				if (objects != null) {
+					for (Object object : objects) {
+						inject(object);
+					}
 				}
 			}
+			try {
+				handle.invokeExact(arguments);
+			} catch (ScanningException e) {
+				logger.error("Exception in invoke({},{}): ", annotation, objects, e);
+				throw e;
+			} catch (Throwable e) {
+				logger.error("Exception in invoke({},{}): ", annotation, objects, e);
+				throw new ScanningException(e);
+			}
+		}
+
+		private void inject(Object object) {
+			if (object == null) return;
+			final int index = argumentIndices.computeIfAbsent(object.getClass(), argumentIndexFinder);
+			if (index >= 0) arguments[index] = object;
+		}
+
+		/**
+		 * Find the first class in the classes of the context object which is in argClasses
+		 * NOTE this is why duplicates are not supported, type of argument used to map to injected class.
+		 */
+		private Integer findArgumentIndex(Class<?> clazz) {
+			for (Class<?> contained : getCachedClasses(clazz)) {
+				final int index = argClasses.indexOf(contained);
+				if (index >= 0) return index;
+			}
+			return -1;
 		}
 	}
 
 	/**
-	 * TODO Cache for speed?
-	 * @param object
-	 * @return
+	 * @param clazz
+	 * @return the class, its super classes and their interfaces
 	 */
-	private Collection<Class<?>> getCachedClasses(Object object) {
+	private Collection<Class<?>> getCachedClasses(Class<?> clazz) {
 
-		final Class<?> clazz = object.getClass();
 		if (cachedClasses.containsKey(clazz)) return cachedClasses.get(clazz);
 
 		final Collection<Class<?>> classes = new HashSet<>();
@@ -325,7 +365,9 @@ public class AnnotationManager {
 			return false;
 		}
 		if (extraContext == null) extraContext = new HashSet<>();
-		return extraContext.add(object);
+		final boolean added = extraContext.add(object);
+		extraContextArray = extraContext.toArray();
+		return added;
 	}
 
 	/**
@@ -335,6 +377,7 @@ public class AnnotationManager {
 	public void removeContext(Object object) {
 		if (extraContext == null) return;
 		extraContext.remove(object);
+		extraContextArray = extraContext.toArray();
 	}
 
 	private Object getService(Class<?> class1) {
@@ -348,5 +391,6 @@ public class AnnotationManager {
 		annotationMap.clear();
 		cachedClasses.clear();
 		if (extraContext!=null) extraContext.clear();
+		extraContextArray = new Object[0];
 	}
 }
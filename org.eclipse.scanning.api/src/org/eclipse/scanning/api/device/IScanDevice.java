@@ -18,6 +18,9 @@
 
 package org.eclipse.scanning.api.device;
 
+import java.util.List;
+
+import org.eclipse.scanning.api.scan.DeviceLatency;
 import org.eclipse.scanning.api.scan.event.IPositionListenable;
 import org.eclipse.scanning.api.scan.event.IPositionListener;
 import org.eclipse.scanning.api.scan.models.ScanModel;
@@ -29,4 +32,14 @@ import org.eclipse.scanning.api.scan.models.ScanModel;
  */
 public interface IScanDevice extends IRunnableEventDevice<ScanModel>, IPositionListenable {
 
+	/**
+	 * Returns the latencies of the devices moved, run and written by this scan so far, e.g. to find which device
+	 * takes the most time at each point of the scan.
+	 *
+	 * @return the latencies of each device at each level it was run
+	 */
+	default List<DeviceLatency> getDeviceLatencies() {
+		return List.of();
+	}
+
 }
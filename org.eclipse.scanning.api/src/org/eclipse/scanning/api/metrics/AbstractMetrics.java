@@ -0,0 +1,94 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.eclipse.scanning.api.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for metrics published as an MXBean on the platform MBean server. Subclasses implement their MXBean
+ * interface and hold their own counters; this class registers them under the object name
+ * <code>domain:type=type,name="name"</code>.
+ * <p>
+ * Failure to register or unregister is logged but is not fatal, as metrics are not needed for the thing being
+ * measured to work.
+ */
+public abstract class AbstractMetrics {
+
+	private static final Logger logger = LoggerFactory.getLogger(AbstractMetrics.class);
+
+	private final String domain;
+
+	private final String type;
+
+	private final String name;
+
+	private ObjectName objectName;
+
+	/**
+	 * @param domain
+	 *            the domain of the object name, e.g. <code>gda.scan</code>
+	 * @param type
+	 *            the type key of the object name, i.e. what is measured
+	 * @param name
+	 *            the name of the instance measured, which is quoted in the object name
+	 */
+	protected AbstractMetrics(String domain, String type, String name) {
+		this.domain = domain;
+		this.type = type;
+		this.name = name;
+	}
+
+	protected String getName() {
+		return name;
+	}
+
+	/**
+	 * Registers this with the platform MBean server, unless it is already registered.
+	 */
+	public synchronized void register() {
+		if (objectName != null) return;
+		try {
+			final ObjectName objName = new ObjectName(String.format("%s:type=%s,name=%s", domain, type, ObjectName.quote(name)));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, objName);
+			objectName = objName;
+		} catch (InstanceAlreadyExistsException e) {
+			logger.debug("{} metrics named '{}' are already registered", type, name);
+		} catch (JMException e) {
+			logger.warn("Could not register {} metrics named '{}'", type, name, e);
+		}
+	}
+
+	public synchronized void unregister() {
+		if (objectName == null) return;
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (JMException e) {
+			logger.warn("Could not unregister {} metrics named '{}'", type, name, e);
+		}
+		objectName = null;
+	}
+
+}
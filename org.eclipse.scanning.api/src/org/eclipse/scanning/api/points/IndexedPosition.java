@@ -0,0 +1,154 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.api.points;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A position whose axis names are given by a {@link PositionSchema} shared by every position of the scan, and whose
+ * values and indices are held in primitive arrays in the slot order of the schema.
+ * <p>
+ * Unlike {@link MapPosition}, no maps are created for each position and {@link #getNames()} does not copy the names,
+ * which matters for scans of millions of points. The maps returned by {@link #getValues()} and {@link #getIndices()}
+ * are created on each call, so these should be avoided on the scan thread. The values are always doubles.
+ *
+ * <pre>
+ * final PositionSchema schema = new PositionSchema(List.of(List.of("T"), List.of("y", "x")));
+ * final IndexedPosition pos = new IndexedPosition(schema);
+ * pos.set(schema.getSlot("x"), 1.5, 3);
+ * </pre>
+ */
+public final class IndexedPosition extends AbstractPosition {
+
+	private static final long serialVersionUID = 4163587012945281316L;
+
+	private final PositionSchema schema;
+	private final double[] values;
+	private final int[] indices;
+
+	/**
+	 * Creates a position with all values 0 and all indices -1
+	 */
+	public IndexedPosition(PositionSchema schema) {
+		this(schema, new double[schema.size()], new int[schema.size()]);
+		Arrays.fill(indices, -1);
+	}
+
+	/**
+	 * Creates a position backed by the given arrays, which are not copied
+	 *
+	 * @param schema
+	 *            the names of the axes
+	 * @param values
+	 *            the value of each axis, in the slot order of the schema
+	 * @param indices
+	 *            the index of each axis, in the slot order of the schema
+	 */
+	public IndexedPosition(PositionSchema schema, double[] values, int[] indices) {
+		if (values.length != schema.size() || indices.length != schema.size()) {
+			throw new IllegalArgumentException("Expected " + schema.size() + " values and indices but got "
+					+ values.length + " values and " + indices.length + " indices");
+		}
+		this.schema = schema;
+		this.values = values;
+		this.indices = indices;
+		setDimensionNames(schema.getDimensionNames());
+	}
+
+	public PositionSchema getSchema() {
+		return schema;
+	}
+
+	/**
+	 * Sets the value and index of the axis with the given slot
+	 */
+	public void set(int slot, double value, int index) {
+		values[slot] = value;
+		indices[slot] = index;
+	}
+
+	public void setValue(int slot, double value) {
+		values[slot] = value;
+	}
+
+	public void setIndex(int slot, int index) {
+		indices[slot] = index;
+	}
+
+	public double getSlotValue(int slot) {
+		return values[slot];
+	}
+
+	public int getSlotIndex(int slot) {
+		return indices[slot];
+	}
+
+	@Override
+	public int size() {
+		return values.length;
+	}
+
+	@Override
+	public List<String> getNames() {
+		return schema.getNames();
+	}
+
+	@Override
+	public Object get(String name) {
+		final int slot = schema.getSlot(name);
+		return slot < 0 ? null : values[slot];
+	}
+
+	@Override
+	public double getDouble(String name) {
+		final int slot = schema.getSlot(name);
+		if (slot < 0) {
+			throw new IllegalArgumentException("No axis '" + name + "' in position " + this);
+		}
+		return values[slot];
+	}
+
+	@Override
+	public int getIndex(String name) {
+		final int slot = schema.getSlot(name);
+		return slot < 0 ? -1 : indices[slot];
+	}
+
+	@Override
+	public IPosition compound(IPosition parent) {
+		if (!(parent instanceof IndexedPosition indexedParent)) {
+			return super.compound(parent);
+		}
+
+		final PositionSchema.Compound compound = schema.compound(indexedParent.schema);
+		final IndexedPosition ret = new IndexedPosition(compound.schema());
+		final int[] parentSlots = compound.parentSlots();
+		for (int i = 0; i < parentSlots.length; i++) {
+			ret.set(parentSlots[i], indexedParent.values[i], indexedParent.indices[i]);
+		}
+		final int[] childSlots = compound.childSlots();
+		for (int i = 0; i < childSlots.length; i++) {
+			ret.set(childSlots[i], values[i], indices[i]);
+		}
+		ret.setStepIndex(getStepIndex());
+		ret.setExposureTime(getExposureTime());
+		return ret;
+	}
+
+}
@@ -0,0 +1,142 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.api.points;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The axis names of the positions of a scan, shared by every {@link IndexedPosition} of the scan. Each name is given a
+ * slot, in the order of the dimensions, which is the index of its value in the arrays of the position.
+ * <p>
+ * A schema is immutable, so it can be created once when a scan is prepared and used by any number of threads.
+ */
+public final class PositionSchema implements Serializable {
+
+	private static final long serialVersionUID = -6020523117389407516L;
+
+	/**
+	 * The schema of positions compounded from a position of a parent schema and one of this schema, with the slot of
+	 * each of their names in the compound schema.
+	 */
+	record Compound(PositionSchema parent, PositionSchema schema, int[] parentSlots, int[] childSlots) {}
+
+	private final List<List<String>> dimensionNames;
+	private final List<String> names;
+	private final Map<String, Integer> slots;
+
+	/** The last schema compounded with a parent, as scans compound many positions with the same parent schema */
+	private transient volatile Compound lastCompound;
+
+	/**
+	 * @param dimensionNames
+	 *            the names of the axes in each dimension of the scan, as returned by
+	 *            {@link IPosition#getDimensionNames()}. If a name occurs more than once it is given the slot of its
+	 *            first occurrence.
+	 */
+	public PositionSchema(List<List<String>> dimensionNames) {
+		final List<List<String>> dimensions = new ArrayList<>(dimensionNames.size());
+		final Set<String> uniqueNames = new LinkedHashSet<>();
+		for (List<String> dimension : dimensionNames) {
+			dimensions.add(List.copyOf(dimension));
+			uniqueNames.addAll(dimension);
+		}
+		this.dimensionNames = Collections.unmodifiableList(dimensions);
+		this.names = List.copyOf(uniqueNames);
+		this.slots = new HashMap<>(names.size() * 2);
+		for (int i = 0; i < names.size(); i++) {
+			slots.put(names.get(i), i);
+		}
+	}
+
+	/**
+	 * @return the number of slots, i.e. the number of distinct axis names
+	 */
+	public int size() {
+		return names.size();
+	}
+
+	/**
+	 * @return the axis names in slot order. The list is unmodifiable and is not copied.
+	 */
+	public List<String> getNames() {
+		return names;
+	}
+
+	/**
+	 * @return the axis names in each dimension. The list is unmodifiable and is not copied.
+	 */
+	public List<List<String>> getDimensionNames() {
+		return dimensionNames;
+	}
+
+	/**
+	 * @return the slot of the given axis, or -1 if the axis is not in this schema
+	 */
+	public int getSlot(String name) {
+		final Integer slot = slots.get(name);
+		return slot == null ? -1 : slot;
+	}
+
+	/**
+	 * Returns the schema of the positions created by compounding a position of this schema with a parent position of
+	 * the given schema (see {@link IPosition#compound(IPosition)}). The names of the parent come first and values of
+	 * this schema replace those of the parent where the names are the same.
+	 */
+	Compound compound(PositionSchema parent) {
+		final Compound last = lastCompound;
+		if (last != null && last.parent() == parent) {
+			return last;
+		}
+
+		final List<List<String>> compoundDimensions = new ArrayList<>(parent.dimensionNames);
+		compoundDimensions.addAll(dimensionNames);
+		final PositionSchema schema = new PositionSchema(compoundDimensions);
+		final int[] parentSlots = parent.names.stream().mapToInt(schema::getSlot).toArray();
+		final int[] childSlots = names.stream().mapToInt(schema::getSlot).toArray();
+		final Compound compound = new Compound(parent, schema, parentSlots, childSlots);
+		lastCompound = compound;
+		return compound;
+	}
+
+	@Override
+	public int hashCode() {
+		return dimensionNames.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		return dimensionNames.equals(((PositionSchema) obj).dimensionNames);
+	}
+
+	@Override
+	public String toString() {
+		return "PositionSchema [dimensionNames=" + dimensionNames + "]";
+	}
+
+}
@@ -0,0 +1,35 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.api.scan;
+
+/**
+ * The latencies of a device run by a scan at one level, e.g. the time taken to move a scannable to each position of
+ * the scan.
+ *
+ * @param role
+ *            the role of the device in the scan, i.e. whether the latencies are of moving, running or writing
+ * @param level
+ *            the level the device was run at
+ * @param deviceName
+ *            the name of the device
+ * @param histogram
+ *            the latencies of the device, in nanoseconds
+ */
+public record DeviceLatency(LevelRole role, int level, String deviceName, LatencyHistogram histogram) {
+
+}
@@ -0,0 +1,170 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.api.scan;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in nanoseconds, e.g. of the time taken by a device at each point of a scan.
+ * <p>
+ * As in an HDR histogram, values are counted in buckets whose width grows with the value, so that any value from a
+ * nanosecond to hundreds of years is held to within about 3% in a fixed amount of memory. Values
+ * below {@value #SUB_BUCKET_COUNT} ns are held exactly. Each power of two above that is divided into
+ * {@value #HALF_SUB_BUCKET_COUNT} buckets of equal width.
+ * <p>
+ * Values can be recorded from several threads at once without locking. The statistics are not taken atomically, so
+ * they may not include values recorded while they are being read.
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+
+	/** Number of buckets needed to hold any positive long value */
+	private static final int BUCKET_COUNT = getBucketIndex(Long.MAX_VALUE) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder totalCount = new LongAdder();
+	private final DoubleAdder totalNanos = new DoubleAdder();
+	private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+	private static int getBucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		// keep the top SUB_BUCKET_BITS bits of the value
+		final int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+	}
+
+	/**
+	 * @return the highest value that is counted in the bucket with the given index
+	 */
+	private static long getHighestValueInBucket(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		final int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+		final long subBucket = index % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * Records a latency
+	 *
+	 * @param nanos
+	 *            the latency in nanoseconds; negative values are recorded as 0
+	 */
+	public void recordValue(long nanos) {
+		final long value = Math.max(nanos, 0);
+		counts.incrementAndGet(getBucketIndex(value));
+		totalCount.increment();
+		totalNanos.add(value);
+		minNanos.accumulate(value);
+		maxNanos.accumulate(value);
+	}
+
+	/**
+	 * @return the number of values recorded
+	 */
+	public long getTotalCount() {
+		return totalCount.sum();
+	}
+
+	/**
+	 * @return the mean of the values recorded in nanoseconds, or 0 if no values have been recorded
+	 */
+	public double getMean() {
+		final long count = totalCount.sum();
+		return count == 0 ? 0 : totalNanos.sum() / count;
+	}
+
+	/**
+	 * @return the lowest value recorded in nanoseconds, or 0 if no values have been recorded
+	 */
+	public long getMin() {
+		final long min = minNanos.get();
+		return min == Long.MAX_VALUE ? 0 : min;
+	}
+
+	/**
+	 * @return the highest value recorded in nanoseconds, or 0 if no values have been recorded
+	 */
+	public long getMax() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * Gets the value below which the given percentage of the recorded values lie. As the values are counted in
+	 * buckets, the value returned is the highest value counted in the same bucket as the exact value, or the highest
+	 * value recorded if that is lower.
+	 *
+	 * @param percentile
+	 *            the percentage of values, from 0 to 100
+	 * @return the value in nanoseconds, or 0 if no values have been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+		}
+		final long count = totalCount.sum();
+		if (count == 0) {
+			return 0;
+		}
+		final long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long cumulativeCount = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulativeCount += counts.get(i);
+			if (cumulativeCount >= countAtPercentile) {
+				return Math.min(getHighestValueInBucket(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clears all the values recorded
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0);
+		}
+		totalCount.reset();
+		totalNanos.reset();
+		minNanos.reset();
+		maxNanos.reset();
+	}
+
+	private static double toMillis(double nanos) {
+		return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("LatencyHistogram [count=%d, mean=%.3fms, p50=%.3fms, p99=%.3fms, max=%.3fms]",
+				getTotalCount(), toMillis(getMean()), toMillis(getValueAtPercentile(50)),
+				toMillis(getValueAtPercentile(99)), toMillis(getMax()));
+	}
+
+}
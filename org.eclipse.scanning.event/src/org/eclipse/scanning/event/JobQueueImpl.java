@@ -69,6 +69,12 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 	private static final String QUEUE_NAME_SUBMISSION_QUEUE = "queued";
 	private static final String QUEUE_NAME_STARTED_BEANS = "started"; // aka running and completed
 
+	/**
+	 * The maximum time the consumer thread waits to be signalled that the submission queue has changed before
+	 * checking it again anyway.
+	 */
+	private static final long MAX_SUBMISSION_WAIT_MS = 1000;
+
 	private String name;
 	private UUID queueId;
 	private IEventService eventService;
@@ -94,6 +100,14 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 	private ReentrantLock queueStateChangeLock;
 	private Condition shouldResumeCondition;
 
+	/**
+	 * The consumer thread waits on this condition while there is nothing in the submission queue that it can run,
+	 * and is signalled when a bean is submitted or replaced, or when the queue is stopped.
+	 */
+	private final ReentrantLock submissionLock = new ReentrantLock();
+	private final Condition submissionCondition = submissionLock.newCondition();
+	private boolean submissionQueueChanged = false; // guarded by submissionLock
+
 	/**
 	 * A flag to indicate that the consumer thread should pause before consuming the next bean from the queue.
 	 */
@@ -117,6 +131,8 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 	private final Set<IQueueStatusListener> queueStatusListeners = new CopyOnWriteArraySet<>();
 	private QueueStatusBean queueStatusBean;
 
+	private final JobQueueMetrics metrics;
+
 	public JobQueueImpl(URI uri, String submitQueueName, String statusTopicName, String queueStatusTopicName,
 			String commandTopicName, String commandAckTopicName, IEventConnectorService connectorService,
 			IEventService eventService)
@@ -133,6 +149,7 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 		this.commandTopicName = commandTopicName;
 		this.commandAckTopicName = commandAckTopicName;
 		this.queueStatusTopicName = queueStatusTopicName;
+		this.metrics = new JobQueueMetrics(submitQueueName);
 
 		// create the status queue and submission queue,
 		final String dbDir = connectorService.getPersistenceDir();
@@ -176,6 +193,13 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 		return persistentStorePath;
 	}
 
+	/**
+	 * @return the dispatch latency and throughput metrics of this queue
+	 */
+	public JobQueueMetrics getMetrics() {
+		return metrics;
+	}
+
 	@Override
 	public void addQueueStatusListener(IQueueStatusListener listener) {
 		queueStatusListeners.add(listener);
@@ -221,7 +245,10 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 	}
 
 	private void updateBean(U bean) {
-		submissionQueue.replace(bean); // these method only replace the bean if they have a copy
+		// these method only replace the bean if they have a copy
+		if (submissionQueue.replace(bean)) {
+			signalSubmissionQueueChanged(); // the bean may no longer be deferred
+		}
 		statusQueue.replace(bean);
 	}
 
@@ -255,6 +282,7 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 	@Override
 	public synchronized void disconnect() throws EventException {
 		if (isActive()) stop();
+		metrics.unregister();
 
 		if (statusTopicPublisher != null) {
 			statusTopicPublisher.disconnect();
@@ -428,7 +456,7 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 	}
 
 	private List<U> getRunning() throws EventException{
-		return getRunningAndCompleted().stream().filter(x -> x.getStatus().isActive()).toList();
+		return statusQueue.getElementsWithStatus(Status::isActive);
 	}
 
 	@Override
@@ -478,6 +506,7 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 	@Override
 	public void clearQueue() throws EventException {
 		submissionQueue.clear();
+		metrics.queueCleared();
 	}
 
 	@Override
@@ -537,24 +566,27 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 
 	@Override
 	public void submit(U bean) throws EventException {
-		submissionQueue.add(bean);
+		metrics.jobSubmitted(bean.getUniqueId());
+		try {
+			submissionQueue.add(bean);
+		} catch (RuntimeException e) {
+			metrics.jobSubmissionFailed(bean.getUniqueId());
+			throw e;
+		}
+		signalSubmissionQueueChanged();
 	}
 
 	@Override
 	public boolean remove(U bean) throws EventException {
+		metrics.jobRemoved(bean.getUniqueId());
 		return submissionQueue.remove(bean);
 	}
 
 	@Override
 	public boolean removeCompleted(U bean) throws EventException {
-		synchronized (statusQueue) {
-			for (Iterator<U> iter = statusQueue.iterator(); iter.hasNext(); ) {
-				if (iter.next().getUniqueId().equals(bean.getUniqueId())) {
-					iter.remove();
-					LOGGER.info("Removed bean with id {} from set of completed jobs. Bean: {}", bean.getUniqueId(), bean);
-					return true;
-				}
-			}
+		if (statusQueue.remove(bean)) {
+			LOGGER.info("Removed bean with id {} from set of completed jobs. Bean: {}", bean.getUniqueId(), bean);
+			return true;
 		}
 
 		LOGGER.warn("Could not find bean with id {} to remove from set of completed jobs. Bean: {}", bean.getUniqueId(), bean);
@@ -563,7 +595,11 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 
 	@Override
 	public boolean replace(U newBean) throws EventException {
-		return submissionQueue.replace(newBean);
+		final boolean replaced = submissionQueue.replace(newBean);
+		if (replaced) {
+			signalSubmissionQueueChanged();
+		}
+		return replaced;
 	}
 
 	@Override
@@ -586,6 +622,7 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 			return thread;
 		});
 
+		metrics.register();
 		executor.submit(this::runAndStopIfError);
 	}
 
@@ -609,6 +646,7 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 		if (!isActive()) throw new IllegalStateException("Consumer thread for queue " + getSubmitQueueName() + " is not running");
 
 		setActive(false); // Stops consume loop
+		signalSubmissionQueueChanged(); // wakes the consumer thread if it is waiting for a submission
 
 		processManager.shutdown();
 		consumerThreadRunning = false;
@@ -786,8 +824,9 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 			if (isActive()) { // isActive could have been set to false while we were paused
 				final U bean = getNextBean();
 				if (bean == null) {
-					Thread.sleep(20); // TODO use constant for this sleep?
+					awaitSubmissionQueueChanged();
 				} else {
+					metrics.jobDispatched(bean.getUniqueId());
 					executeBean(bean);
 				}
 			}
@@ -797,6 +836,38 @@ public class JobQueueImpl<U extends StatusBean> extends AbstractConnection imple
 		}
 	}
 
+	/**
+	 * Signals the consumer thread that the submission queue has changed, so that if it is waiting for a bean
+	 * to run it should check the queue again.
+	 */
+	private void signalSubmissionQueueChanged() {
+		submissionLock.lock();
+		try {
+			submissionQueueChanged = true;
+			submissionCondition.signalAll();
+		} finally {
+			submissionLock.unlock();
+		}
+	}
+
+	/**
+	 * Called by the consumer thread when there is nothing in the submission queue that it can run. Waits until
+	 * signalled that the submission queue has changed (returning immediately if it has changed since the last call),
+	 * or for at most {@link #MAX_SUBMISSION_WAIT_MS}.
+	 * @throws InterruptedException
+	 */
+	private void awaitSubmissionQueueChanged() throws InterruptedException {
+		submissionLock.lock();
+		try {
+			if (!submissionQueueChanged && isActive()) {
+				submissionCondition.await(MAX_SUBMISSION_WAIT_MS, TimeUnit.MILLISECONDS);
+			}
+			submissionQueueChanged = false;
+		} finally {
+			submissionLock.unlock();
+		}
+	}
+
 	private U getNextBean() {
 		synchronized(submissionQueue) {
 			boolean queueReordered = false;
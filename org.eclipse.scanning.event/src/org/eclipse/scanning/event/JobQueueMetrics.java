@@ -0,0 +1,137 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.eclipse.scanning.event;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scanning.api.metrics.AbstractMetrics;
+import org.eclipse.scanning.api.metrics.TimingStatistics;
+
+/**
+ * Collects the time taken for the consumer thread of a {@link JobQueueImpl} to take jobs from its submission queue,
+ * and the rate at which it starts them. An instance is registered with the platform MBean server while the consumer
+ * thread of its queue is running.
+ */
+public class JobQueueMetrics extends AbstractMetrics implements JobQueueMetricsMXBean {
+
+	/** {@link System#nanoTime()} at which each job waiting in the queue was submitted */
+	private final Map<String, Long> submissionNanosById = new ConcurrentHashMap<>();
+
+	private final LongAdder jobsSubmitted = new LongAdder();
+
+	private final LongAdder jobsStarted = new LongAdder();
+
+	private final TimingStatistics dispatchLatency = new TimingStatistics();
+
+	private volatile long firstStartNanos;
+
+	public JobQueueMetrics(String queueName) {
+		super("org.eclipse.scanning", "JobQueue", queueName);
+	}
+
+	/**
+	 * Records that a job is being submitted to the queue. This must be called before the job is added, as the
+	 * consumer thread may dispatch it as soon as it is in the queue.
+	 */
+	public void jobSubmitted(String uniqueId) {
+		jobsSubmitted.increment();
+		submissionNanosById.put(uniqueId, System.nanoTime());
+	}
+
+	/**
+	 * Records that a job recorded by {@link #jobSubmitted(String)} could not be added to the queue
+	 */
+	public void jobSubmissionFailed(String uniqueId) {
+		jobsSubmitted.decrement();
+		submissionNanosById.remove(uniqueId);
+	}
+
+	/**
+	 * Records that the consumer thread has taken a job from the queue to run it
+	 */
+	public void jobDispatched(String uniqueId) {
+		final long now = System.nanoTime();
+		if (firstStartNanos == 0) {
+			firstStartNanos = now;
+		}
+		jobsStarted.increment();
+		final Long submissionNanos = submissionNanosById.remove(uniqueId);
+		if (submissionNanos != null) {
+			dispatchLatency.record(now - submissionNanos);
+		}
+	}
+
+	/**
+	 * Records that a job has been removed from the queue without being run
+	 */
+	public void jobRemoved(String uniqueId) {
+		submissionNanosById.remove(uniqueId);
+	}
+
+	/**
+	 * Records that all jobs have been removed from the queue without being run
+	 */
+	public void queueCleared() {
+		submissionNanosById.clear();
+	}
+
+	@Override
+	public String getQueueName() {
+		return getName();
+	}
+
+	@Override
+	public long getJobsSubmitted() {
+		return jobsSubmitted.sum();
+	}
+
+	@Override
+	public long getJobsStarted() {
+		return jobsStarted.sum();
+	}
+
+	@Override
+	public double getThroughput() {
+		final long started = firstStartNanos;
+		if (started == 0) return 0;
+		final double minutes = (System.nanoTime() - started) / (double) TimeUnit.MINUTES.toNanos(1);
+		return minutes == 0 ? 0 : getJobsStarted() / minutes;
+	}
+
+	@Override
+	public double getMeanDispatchLatency() {
+		return dispatchLatency.getMeanMillis();
+	}
+
+	@Override
+	public double getMaxDispatchLatency() {
+		return dispatchLatency.getMaxMillis();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s [jobs=%d/%d, throughput=%.1f/min, dispatchLatency=%.3f/%.3fms (mean/max)]",
+				getQueueName(), getJobsStarted(), getJobsSubmitted(), getThroughput(),
+				getMeanDispatchLatency(), getMaxDispatchLatency());
+	}
+
+}
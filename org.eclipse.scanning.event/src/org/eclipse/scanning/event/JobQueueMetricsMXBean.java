@@ -0,0 +1,45 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.eclipse.scanning.event;
+
+/**
+ * JMX view of the dispatch timings of a {@link JobQueueImpl}. All times are in milliseconds.
+ */
+public interface JobQueueMetricsMXBean {
+
+	String getQueueName();
+
+	long getJobsSubmitted();
+
+	long getJobsStarted();
+
+	/**
+	 * @return the number of jobs started per minute since the consumer thread was first started
+	 */
+	double getThroughput();
+
+	/**
+	 * @return time between a job being submitted to the queue and the consumer thread taking it from the queue
+	 *         to run it. Only includes jobs submitted since the queue was created, not those loaded from disk.
+	 */
+	double getMeanDispatchLatency();
+
+	double getMaxDispatchLatency();
+
+}
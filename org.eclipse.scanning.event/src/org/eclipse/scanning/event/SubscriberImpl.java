@@ -12,7 +12,6 @@
 package org.eclipse.scanning.event;
 
 import java.net.URI;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -24,6 +23,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -329,7 +329,7 @@ class SubscriberImpl<T extends EventListener> extends AbstractTopicConnection im
 		this.synchronous = synchronous;
 	}
 
-	private List<String> properties;
+	private volatile List<String> properties; // read by the JMS thread for every message
 
 
 	@Override
@@ -338,7 +338,7 @@ class SubscriberImpl<T extends EventListener> extends AbstractTopicConnection im
 			throw new IllegalArgumentException("It is only possible to remove properties from the subscribed json right now");
 		}
 
-		if (properties == null) properties = new ArrayList<>();
+		if (properties == null) properties = new CopyOnWriteArrayList<>();
 		properties.add(name);
 	}
 
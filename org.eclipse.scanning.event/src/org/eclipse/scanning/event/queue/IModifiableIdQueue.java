@@ -20,8 +20,11 @@ package org.eclipse.scanning.event.queue;
 
 import java.util.List;
 import java.util.Queue;
+import java.util.function.Predicate;
 
 import org.eclipse.scanning.api.event.IdBean;
+import org.eclipse.scanning.api.event.status.Status;
+import org.eclipse.scanning.api.event.status.StatusBean;
 
 /**
  * A {@link Queue} that provides methods to allow the queue to be modified.
@@ -77,4 +80,30 @@ public interface IModifiableIdQueue<E extends IdBean> extends Queue<E> {
 	 *   <code>false</code> otherwise
 	 */
 	boolean moveDown(E e);
+
+	/**
+	 * Return a list of the elements in the queue that are {@link StatusBean}s with a status
+	 * matching the given predicate, in the same order as they are in the queue. As with
+	 * {@link #getElements()} the list is a snapshot.
+	 * @param statusFilter predicate on the status of the beans to return, e.g. {@link Status#isActive()}
+	 * @return a list of the matching elements of the queue
+	 */
+	default List<E> getElementsWithStatus(Predicate<Status> statusFilter) {
+		return getElements().stream()
+				.filter(e -> e instanceof StatusBean bean && bean.getStatus() != null && statusFilter.test(bean.getStatus()))
+				.toList();
+	}
+
+	/**
+	 * Return a list of the elements in the queue that are {@link StatusBean}s submitted before
+	 * the given time, in the same order as they are in the queue. As with {@link #getElements()}
+	 * the list is a snapshot.
+	 * @param time time in milliseconds since the epoch, as returned by {@link StatusBean#getSubmissionTime()}
+	 * @return a list of the elements of the queue submitted before the given time
+	 */
+	default List<E> getElementsSubmittedBefore(long time) {
+		return getElements().stream()
+				.filter(e -> e instanceof StatusBean bean && bean.getSubmissionTime() < time)
+				.toList();
+	}
 }
@@ -18,21 +18,37 @@
 
 package org.eclipse.scanning.event.queue;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.toList;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import org.eclipse.scanning.api.event.IEventConnectorService;
 import org.eclipse.scanning.api.event.IdBean;
+import org.eclipse.scanning.api.event.status.Status;
+import org.eclipse.scanning.api.event.status.StatusBean;
+import org.h2.mvstore.DataUtils;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 import org.h2.mvstore.WriteBuffer;
@@ -54,6 +70,20 @@ import org.slf4j.LoggerFactory;
  * contain multiple beans with the same unique id. If this requirement is not upheld
  * the behaviour of this class is undefined.
  * <p>
+ * The queue order, and the status and submission time of {@link StatusBean}s, are also
+ * held in in-memory indexes which are rebuilt when the queue is loaded. These allow beans
+ * to be removed and reordered without scanning the queue, and allow
+ * {@link #getElementsWithStatus(Predicate)} and {@link #getElementsSubmittedBefore(long)}
+ * to read only the matching beans. Methods returning snapshots of the queue hold the
+ * lock on the queue only while copying bean ids, so do not block other threads while
+ * the beans are deserialized.
+ * <p>
+ * The status index holds the status of a bean when it was added or last
+ * {@link #replace(IdBean) replaced}, so a change of status must be made through
+ * {@link #replace(IdBean)} to be seen by {@link #getElementsWithStatus(Predicate)}, as the
+ * job queue does when a process publishes the new status of its bean. A bean whose status
+ * has been changed in place to one that no longer matches is still left out of the result.
+ * <p>
  * It is imperative that the user manually synchronize on the returned
  * queue when iterating over it:
  * <pre>
@@ -78,51 +108,165 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 	 * This is required as not all objects that form part of a ScanBean/ScanRequest
 	 * object tree are Java serializable. (Also, Java serialization, which is how
 	 * MV store (de)serializes objects by default is bad and may be removed in future).
+	 * <p>
+	 * Each bean is written as a format byte followed by the length of its JSON in UTF-8 and
+	 * then either the UTF-8 bytes, or for larger beans (e.g. {@code ScanBean}s with their
+	 * {@code ScanRequest}s) the compressed length and the deflated bytes.
 	 */
-	private final class JsonSerializableDataType extends ObjectDataType {
+	private final class CompactBeanDataType extends ObjectDataType {
 
 		@Override
 		public int getMemory(Object obj) {
+			// avoid marshalling the bean just to measure it, see NOMINAL_BEAN_SIZE
+			return NOMINAL_BEAN_SIZE;
+		}
+
+		@Override
+		public void write(WriteBuffer buff, Object obj) {
+			final byte[] json;
 			try {
-				return eventConnectorService.marshal(obj).getBytes().length + 64;
+				json = eventConnectorService.marshal(obj).getBytes(UTF_8);
 			} catch (Exception e) {
 				logger.error("Could not serialize bean: {}", obj);
 				throw new IllegalArgumentException(e);
 			}
+
+			if (json.length < COMPRESSION_THRESHOLD) {
+				buff.put(FORMAT_UTF8).putVarInt(json.length).put(json);
+			} else {
+				final byte[] deflated = deflate(json);
+				buff.put(FORMAT_DEFLATED).putVarInt(json.length).putVarInt(deflated.length).put(deflated);
+			}
 		}
 
 		@Override
-		public void write(WriteBuffer buff, Object obj) {
+		public Object read(ByteBuffer buff) {
+			final byte format = buff.get();
+			final int length = DataUtils.readVarInt(buff);
+			final byte[] json;
+			if (format == FORMAT_UTF8) {
+				json = new byte[length];
+				buff.get(json);
+			} else if (format == FORMAT_DEFLATED) {
+				final byte[] deflated = new byte[DataUtils.readVarInt(buff)];
+				buff.get(deflated);
+				json = inflate(deflated, length);
+			} else {
+				throw new IllegalArgumentException("Unknown bean format: " + format);
+			}
+
 			try {
-				final String str = eventConnectorService.marshal(obj);
-				StringDataType.INSTANCE.write(buff, str);
+				return eventConnectorService.unmarshal(new String(json, UTF_8), null);
 			} catch (Exception e) {
-				logger.error("Could not serialize bean: {}", obj);
+				logger.error("Could not deserialize bean", e);
 				throw new IllegalArgumentException(e);
 			}
 		}
 
+		private byte[] deflate(byte[] data) {
+			final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+			try {
+				deflater.setInput(data);
+				deflater.finish();
+				final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+				final byte[] chunk = new byte[4096];
+				while (!deflater.finished()) {
+					out.write(chunk, 0, deflater.deflate(chunk));
+				}
+				return out.toByteArray();
+			} finally {
+				deflater.end();
+			}
+		}
+
+		private byte[] inflate(byte[] deflated, int length) {
+			final Inflater inflater = new Inflater();
+			try {
+				inflater.setInput(deflated);
+				final byte[] data = new byte[length];
+				int read = 0;
+				while (read < length && !inflater.finished()) {
+					final int n = inflater.inflate(data, read, length - read);
+					if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						throw new IllegalArgumentException("Compressed bean is truncated");
+					}
+					read += n;
+				}
+				return data;
+			} catch (DataFormatException e) {
+				throw new IllegalArgumentException("Could not decompress bean", e);
+			} finally {
+				inflater.end();
+			}
+		}
+
+	}
+
+	/**
+	 * The {@link DataType} used by previous versions of this class, which stores beans as JSON strings.
+	 * Only used to read queues persisted by those versions so that they can be converted.
+	 */
+	private final class LegacyJsonDataType extends ObjectDataType {
+
+		@Override
+		public void write(WriteBuffer buff, Object obj) {
+			throw new UnsupportedOperationException("Beans are no longer written as JSON strings");
+		}
+
 		@Override
 		public Object read(ByteBuffer buff) {
 			final String str = StringDataType.INSTANCE.read(buff);
 			try {
 				return eventConnectorService.unmarshal(str, null);
 			} catch (Exception e) {
-				logger.error("Could not deserialize bean: {}", e);
+				logger.error("Could not deserialize bean", e);
 				throw new IllegalArgumentException(e);
 			}
 		}
 
 	}
 
+	/**
+	 * The position of a bean in the queue and, for {@link StatusBean}s, its status and submission time,
+	 * as held in the in-memory indexes. The status and submission time are <code>null</code> for other beans.
+	 */
+	private record IndexEntry(int position, Status status, Long submissionTime) {
+
+		IndexEntry withPosition(int newPosition) {
+			return new IndexEntry(newPosition, status, submissionTime);
+		}
+
+	}
+
 	private static final Logger logger = LoggerFactory.getLogger(SynchronizedModifiableIdQueue.class);
 
+	private static final byte FORMAT_UTF8 = 0;
+	private static final byte FORMAT_DEFLATED = 1;
+
+	/** Size in bytes of JSON above which beans are compressed */
+	private static final int COMPRESSION_THRESHOLD = 1024;
+
+	/**
+	 * The size every bean is given when the MVStore sizes its pages and cache. This is not a measure
+	 * of the memory used by a bean: the page and cache limits become approximate limits on the number
+	 * of beans, at this many bytes per bean, whatever the size of the beans themselves.
+	 */
+	private static final int NOMINAL_BEAN_SIZE = 1024;
+
+	private static final String BEANS_MAP_SUFFIX = "-beans";
+	private static final String POSITIONS_MAP_SUFFIX = "-posmap";
+
 	private final IEventConnectorService eventConnectorService;
 	private final String queueName;
 	private final MVStore store;
 	private final MVMap<String, E> beansById;
 	private final MVMap<Integer, String> idsByQueuePosition;
 
+	// In-memory indexes, only accessed while synchronized on this queue
+	private final Map<String, IndexEntry> indexEntriesById = new HashMap<>();
+	private final Map<Status, Set<String>> idsByStatus = new EnumMap<>(Status.class);
+	private final NavigableMap<Long, Set<String>> idsBySubmissionTime = new TreeMap<>();
+
  	private int nextQueuePosition = 1;
 
 	public SynchronizedModifiableIdQueue(IEventConnectorService eventConnectorService,
@@ -137,14 +281,81 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 		this.queueName = queueName;
 		MVMap.Builder<String, E> mapBuilder = new MVMap.Builder<>();
 		mapBuilder.setKeyType(StringDataType.INSTANCE);
-		mapBuilder.setValueType(new JsonSerializableDataType());
+		mapBuilder.setValueType(new CompactBeanDataType());
+
+		beansById = store.openMap(queueName + BEANS_MAP_SUFFIX, mapBuilder);
+		idsByQueuePosition = store.openMap(queueName + POSITIONS_MAP_SUFFIX);
+		if (store.hasMap(queueName)) {
+			convertLegacyBeans();
+		}
+
+		final Integer lastQueuePosition = idsByQueuePosition.lastKey();
+		if (lastQueuePosition != null) {
+			nextQueuePosition = lastQueuePosition + 1;
+		}
+		buildIndexes();
+	}
 
-		beansById = store.openMap(queueName, mapBuilder);
-		idsByQueuePosition = store.openMap(queueName + "-posmap");
+	/**
+	 * Copies the beans from a queue persisted as JSON strings by a previous version of this class
+	 * into the map of beans, and removes the old map. The positions map is unchanged.
+	 */
+	private void convertLegacyBeans() {
+		final MVMap.Builder<String, E> legacyMapBuilder = new MVMap.Builder<>();
+		legacyMapBuilder.setKeyType(StringDataType.INSTANCE);
+		legacyMapBuilder.setValueType(new LegacyJsonDataType());
+		final MVMap<String, E> legacyBeansById = store.openMap(queueName, legacyMapBuilder);
+		logger.info("Converting {} beans in queue {} to compact format", legacyBeansById.size(), queueName);
+		beansById.putAll(legacyBeansById);
+		store.removeMap(legacyBeansById);
+		store.commit();
+	}
 
-		final Set<Integer> queuePositions = idsByQueuePosition.keySet();
-		if (!queuePositions.isEmpty()) {
-			nextQueuePosition = Collections.max(queuePositions) + 1;
+	private void buildIndexes() {
+		for (Map.Entry<Integer, String> entry : idsByQueuePosition.entrySet()) {
+			final E bean = beansById.get(entry.getValue());
+			if (bean == null) {
+				logger.warn("Removing id {} from queue {} as there is no bean with that id", entry.getValue(), queueName);
+				idsByQueuePosition.remove(entry.getKey());
+			} else {
+				index(entry.getValue(), entry.getKey(), bean);
+			}
+		}
+	}
+
+	private void index(String id, int position, E bean) {
+		final IndexEntry indexEntry;
+		if (bean instanceof StatusBean statusBean) {
+			indexEntry = new IndexEntry(position, statusBean.getStatus(), statusBean.getSubmissionTime());
+		} else {
+			indexEntry = new IndexEntry(position, null, null);
+		}
+		indexEntriesById.put(id, indexEntry);
+		if (indexEntry.status() != null) {
+			idsByStatus.computeIfAbsent(indexEntry.status(), status -> new HashSet<>()).add(id);
+		}
+		if (indexEntry.submissionTime() != null) {
+			idsBySubmissionTime.computeIfAbsent(indexEntry.submissionTime(), time -> new HashSet<>()).add(id);
+		}
+	}
+
+	private IndexEntry unindex(String id) {
+		final IndexEntry indexEntry = indexEntriesById.remove(id);
+		if (indexEntry != null) {
+			if (indexEntry.status() != null) {
+				removeFromIndex(idsByStatus, indexEntry.status(), id);
+			}
+			if (indexEntry.submissionTime() != null) {
+				removeFromIndex(idsBySubmissionTime, indexEntry.submissionTime(), id);
+			}
+		}
+		return indexEntry;
+	}
+
+	private static <K> void removeFromIndex(Map<K, Set<String>> index, K key, String id) {
+		final Set<String> ids = index.get(key);
+		if (ids != null && ids.remove(id) && ids.isEmpty()) {
+			index.remove(key);
 		}
 	}
 
@@ -160,11 +371,54 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 
 	@Override
 	public List<E> getElements() {
+		final List<String> ids;
 		synchronized (this) {
-			return idsByQueuePosition.values().stream() // bean ids are streamed by queue order
-					.map(beansById::get)
-					.collect(toList());
+			ids = new ArrayList<>(idsByQueuePosition.values()); // bean ids are in queue order
 		}
+		return getBeans(ids);
+	}
+
+	@Override
+	public List<E> getElementsWithStatus(Predicate<Status> statusFilter) {
+		final List<String> ids = new ArrayList<>();
+		synchronized (this) {
+			idsByStatus.forEach((status, idsWithStatus) -> {
+				if (statusFilter.test(status)) ids.addAll(idsWithStatus);
+			});
+			sortByQueuePosition(ids);
+		}
+		// a bean may have been replaced, or changed in place, after its id was copied
+		return getBeans(ids).stream()
+				.filter(bean -> bean instanceof StatusBean statusBean && statusBean.getStatus() != null
+						&& statusFilter.test(statusBean.getStatus()))
+				.collect(toList());
+	}
+
+	@Override
+	public List<E> getElementsSubmittedBefore(long time) {
+		final List<String> ids = new ArrayList<>();
+		synchronized (this) {
+			idsBySubmissionTime.headMap(time, false).values().forEach(ids::addAll);
+			sortByQueuePosition(ids);
+		}
+		return getBeans(ids).stream()
+				.filter(bean -> bean instanceof StatusBean statusBean && statusBean.getSubmissionTime() < time)
+				.collect(toList());
+	}
+
+	private void sortByQueuePosition(List<String> ids) {
+		ids.sort(comparingInt(id -> indexEntriesById.get(id).position()));
+	}
+
+	/**
+	 * Gets the beans with the given ids. This is done without holding the lock on this queue as
+	 * beans may need to be deserialized, so beans removed since their ids were copied are skipped.
+	 */
+	private List<E> getBeans(List<String> ids) {
+		return ids.stream()
+				.map(beansById::get)
+				.filter(Objects::nonNull)
+				.collect(toList());
 	}
 
 	@Override
@@ -218,6 +472,9 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 		synchronized (this) {
 			beansById.clear();
 			idsByQueuePosition.clear();
+			indexEntriesById.clear();
+			idsByStatus.clear();
+			idsBySubmissionTime.clear();
 		}
 	}
 
@@ -235,6 +492,7 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 
 			beansById.put(e.getUniqueId(), e);
 			idsByQueuePosition.put(nextQueuePosition, e.getUniqueId());
+			index(e.getUniqueId(), nextQueuePosition, e);
 			nextQueuePosition++;
 			return true;
 		}
@@ -268,6 +526,7 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 	private E doRemove() {
 		final Integer firstPositionNum = idsByQueuePosition.firstKey();
 		final String firstBeanId = idsByQueuePosition.remove(firstPositionNum);
+		unindex(firstBeanId);
 		return beansById.remove(firstBeanId);
 	}
 
@@ -299,68 +558,62 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 	@Override
 	public boolean replace(E e) {
 		synchronized (this) {
-			if (beansById.containsKey(e.getUniqueId())) {
-				beansById.put(e.getUniqueId(), e);
+			final String id = e.getUniqueId();
+			if (!beansById.containsKey(id)) {
+				return false;
+			}
+			if (!indexEntriesById.containsKey(id)) {
+				// every bean in the queue is indexed when it is added or the queue is loaded
+				throw new IllegalStateException("Bean with id " + id + " in queue " + queueName + " has not been indexed");
 			}
-		}
 
-		return false;
+			beansById.put(id, e);
+			index(id, unindex(id).position(), e);
+			return true;
+		}
 	}
 
 	@Override
 	public boolean moveUp(E e) {
 		synchronized (this) {
-			Map.Entry<Integer, String> entry = null;
-			Map.Entry<Integer, String> prevEntry = null;
-			boolean found = false;
-			final Iterator<Map.Entry<Integer, String>> iter = idsByQueuePosition.entrySet().iterator();
-			while (iter.hasNext() && !found) {
-				prevEntry = entry;
-				entry = iter.next();
-				if (entry.getValue().equals(e.getUniqueId())) {
-					found = true;
-				}
+			final IndexEntry indexEntry = indexEntriesById.get(e.getUniqueId());
+			if (indexEntry == null) {
+				return false;
 			}
 
-			if (found) {
-				if (prevEntry == null) {
-					throw new IndexOutOfBoundsException("The element is already at the head of the queue");
-				}
-				swap(prevEntry.getKey(), prevEntry.getValue(), entry.getKey(), entry.getValue());
+			final Integer prevPos = idsByQueuePosition.lowerKey(indexEntry.position());
+			if (prevPos == null) {
+				throw new IndexOutOfBoundsException("The element is already at the head of the queue");
 			}
-			return found;
+			swap(prevPos, indexEntry.position());
+			return true;
 		}
 	}
 
 	@Override
 	public boolean moveDown(E e) {
 		synchronized (this) {
-			boolean found = false;
-			Map.Entry<Integer, String> entry = null;
-			final Iterator<Map.Entry<Integer, String>> iter = idsByQueuePosition.entrySet().iterator();
-			while (iter.hasNext() && !found) {
-				entry = iter.next();
-				if (entry.getValue().equals(e.getUniqueId())) {
-					found = true;
-				}
+			final IndexEntry indexEntry = indexEntriesById.get(e.getUniqueId());
+			if (indexEntry == null) {
+				return false;
 			}
 
-			if (found) {
-				if (!iter.hasNext()) {
-					throw new IndexOutOfBoundsException("The element is already at the tail of the queue");
-				}
-
-				Map.Entry<Integer, String> nextEntry = iter.next();
-				swap(entry.getKey(), entry.getValue(), nextEntry.getKey(), nextEntry.getValue());
-				return true;
+			final Integer nextPos = idsByQueuePosition.higherKey(indexEntry.position());
+			if (nextPos == null) {
+				throw new IndexOutOfBoundsException("The element is already at the tail of the queue");
 			}
-			return found;
+			swap(indexEntry.position(), nextPos);
+			return true;
 		}
 	}
 
-	private void swap(Integer firstPos, String firstBean, Integer secondPos, String secondBean) {
+	private void swap(int firstPos, int secondPos) {
+		final String firstBean = idsByQueuePosition.get(firstPos);
+		final String secondBean = idsByQueuePosition.get(secondPos);
 		idsByQueuePosition.put(secondPos, firstBean);
 		idsByQueuePosition.put(firstPos, secondBean);
+		indexEntriesById.computeIfPresent(firstBean, (id, indexEntry) -> indexEntry.withPosition(secondPos));
+		indexEntriesById.computeIfPresent(secondBean, (id, indexEntry) -> indexEntry.withPosition(firstPos));
 	}
 
 	@Override
@@ -368,15 +621,16 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 		if (!(obj instanceof IdBean)) return false; // can't be in the queue
 
 		synchronized (this) {
-			final String id = ((IdBean) obj).getUniqueId();
-			idsByQueuePosition.entrySet().stream()
-				.filter(entry -> entry.getValue().equals(id))
-				.map(Map.Entry::getKey)
-				.findFirst()
-				.ifPresent(idsByQueuePosition::remove);
+			return removeById(((IdBean) obj).getUniqueId());
+		}
+	}
 
-			return beansById.remove(id) != null;
+	private boolean removeById(String id) {
+		final IndexEntry indexEntry = unindex(id);
+		if (indexEntry != null) {
+			idsByQueuePosition.remove(indexEntry.position());
 		}
+		return beansById.remove(id) != null;
 	}
 
 	/**
@@ -386,28 +640,24 @@ public class SynchronizedModifiableIdQueue<E extends IdBean> extends AbstractCol
 	public Iterator<E> iterator() {
 		return new Iterator<E>() {
 
-			private final Iterator<Map.Entry<Integer, String>> idsByQueuePosIterator = idsByQueuePosition.entrySet().iterator();
+			private final Iterator<String> idsIterator = idsByQueuePosition.values().iterator();
 
-			private Integer currentPos = null;
 			private String currentId = null;
 
 			@Override
 			public boolean hasNext() {
-				return idsByQueuePosIterator.hasNext();
+				return idsIterator.hasNext();
 			}
 
 			@Override
 			public E next() {
-				final Map.Entry<Integer, String> currEntry = idsByQueuePosIterator.next();
-				currentPos = currEntry.getKey();
-				currentId = currEntry.getValue();
+				currentId = idsIterator.next();
 				return beansById.get(currentId);
 			}
 
 			@Override
 			public void remove() {
-				idsByQueuePosition.remove(currentPos);
-				beansById.remove(currentId);
+				removeById(currentId);
 			}
 
 		};
@@ -11,10 +11,25 @@
  *******************************************************************************/
 package org.eclipse.scanning.event.util;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 public class JsonUtil {
 
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
 	/**
 	 * Attempts to remove properties of the parent if the subscriber has
@@ -24,6 +39,9 @@ public class JsonUtil {
 	 * For instance, there is no guarantee that the required detector models would
 	 * be in the classpath. If they are not of interest to the subscriber then
 	 * they may be removed.
+	 * <p>
+	 * The json is filtered in a single pass over its tokens. If none of the property
+	 * names occur in the json it is returned unchanged.
 	 *
 	 * @param json
 	 * @param all properties in all objects with these names will be removed.
@@ -31,40 +49,44 @@ public class JsonUtil {
 	 */
 	public static String removeProperties(String json, List<String> properties) {
 
-		if (properties==null) return json; // Nothing to filter!
-		for (String property : properties) {
-			json = remove(json, property);
+		if (properties==null || properties.isEmpty()) return json; // Nothing to filter!
+		if (properties.stream().noneMatch(property -> json.contains("\""+property+"\""))) return json;
+
+		final StringWriter writer = new StringWriter(json.length());
+		try {
+			removeProperties(new StringReader(json), writer, properties);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot filter json", e);
 		}
-		return json;
+		return writer.toString();
 	}
 
-	private static String remove(String json, String property) {
-
-		final String frag = "\""+property+"\":";
-		int index = json.indexOf(frag);
-		if (index<0) return json; // Nothing to ignore.
-
-		StringBuilder ret = new StringBuilder();
-		ret.append(json.substring(0, index));
-
-
-		int i = index+frag.length();
-		int bracket = 0;
-		while(i<json.length()) {
-			char c = json.charAt(i);
-			if (c == '{') bracket++;
-			if (c == '}') bracket--;
-			if (c ==  ',') {
-				if (bracket==0) break;
+	/**
+	 * Copies json from the given reader to the given writer, removing all properties with the given
+	 * names from all objects, together with their values. Strings, arrays and nested objects are
+	 * copied or skipped as whole tokens, so braces and commas within strings are not a problem.
+	 *
+	 * @param json reader for the json to filter, which is not closed
+	 * @param out writer for the filtered json, which is flushed but not closed
+	 * @param properties names of the properties to remove
+	 * @throws IOException if the json cannot be read or is malformed, or the filtered json cannot be written
+	 */
+	public static void removeProperties(Reader json, Writer out, Collection<String> properties) throws IOException {
+		final Set<String> names = properties instanceof Set<String> set ? set : new HashSet<>(properties);
+		try (JsonParser parser = JSON_FACTORY.createParser(json);
+				JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+			parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (token == JsonToken.FIELD_NAME && names.contains(parser.getCurrentName())) {
+					parser.nextToken();
+					parser.skipChildren(); // skips the whole value if it is an object or array
+				} else {
+					generator.copyCurrentEvent(parser);
+				}
 			}
-			i++;
 		}
-
-		String end = json.substring(i+1, json.length());
-		ret.append(end);
-		String njson = ret.toString();
-		return remove(njson, property);
 	}
 
-
 }
@@ -14,8 +14,10 @@
 from java.util import Iterator
 from java.util import List
 
+from org.eclipse.scanning.api.points import IndexedPosition
 from org.eclipse.scanning.api.points import MapPosition
 from org.eclipse.scanning.api.points import Point
+from org.eclipse.scanning.api.points import PositionSchema
 from org.eclipse.scanning.api.points import Scalar
 from org.eclipse.scanning.api.points import StaticPosition
 
@@ -172,17 +174,15 @@ class GeneratorWrapper(PPointGenerator):
     
     def mapIterator(self):
         names = self.getDimensionNames()
+        schema = PositionSchema(names)
         axes_ordered = sum(names, [])
         index_locations = {axis: [axis in name for name in names].index(True) for axis in axes_ordered}
+        slots = [(axis, schema.getSlot(axis), index_locations[axis]) for axis in axes_ordered]
         for position in self.generator.iterator():
-            map_point = MapPosition()
-            for axis in axes_ordered:
-                index = index_locations[axis]
-                value = position.positions[axis]
-                map_point.put(axis, value)
-                map_point.putIndex(axis, position.indexes[index])
-            map_point.setDimensionNames(names)
-            yield map_point
+            indexed_point = IndexedPosition(schema)
+            for axis, slot, index in slots:
+                indexed_point.set(slot, position.positions[axis], position.indexes[index])
+            yield indexed_point
       
 
 class JLineGenerator1D(GeneratorWrapper):
@@ -262,7 +262,7 @@ class JStaticPointGenerator(GeneratorWrapper):
 
 class JZipGenerator(GeneratorWrapper):
     """
-    Wrap a ZipGenerator and produce MapPosition objects
+    Wrap a ZipGenerator and produce IPosition objects
     """
 
     def __init__(self, iterators, alternating=False):
@@ -275,7 +275,7 @@ class JZipGenerator(GeneratorWrapper):
 
 class JConcatGenerator(GeneratorWrapper):
     """
-    Wrap a ConcatGenerator and produce MapPosition objects
+    Wrap a ConcatGenerator and produce IPosition objects
     """
 
     def __init__(self, iterators, alternating=False):
@@ -288,7 +288,7 @@ class JConcatGenerator(GeneratorWrapper):
 
 class JCompoundGenerator(GeneratorWrapper):
     """
-    Create a CompoundGenerator and wrap the points into java MapPosition objects
+    Create a CompoundGenerator and wrap the points into java IPosition objects
     """
 
     def __init__(self, iterators, excluders, mutators, duration=-1, continuous=True, delay_after=0):
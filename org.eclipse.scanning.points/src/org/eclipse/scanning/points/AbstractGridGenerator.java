@@ -20,6 +20,11 @@ import org.eclipse.scanning.api.points.models.AbstractTwoAxisGridModel;
 import org.eclipse.scanning.api.points.models.BoundingBox;
 import org.eclipse.scanning.api.points.models.IBoundsToFit;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.AxisGenerator;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.eclipse.scanning.points.engine.LineAxisGenerator;
+import org.eclipse.scanning.points.engine.RandomOffset;
+import org.eclipse.scanning.points.mutators.RandomOffsetMutator;
 import org.python.core.PyObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,13 +43,45 @@ abstract class AbstractGridGenerator<T extends AbstractTwoAxisGridModel> extends
 		final JythonObjectFactory<PPointGenerator> lineGeneratorFactory = ScanPointGeneratorFactory.JOneAxisLineGeneratorFactory();
 
 		final T model = getModel();
-		final BoundingBox box = model.getBoundingBox();
 
 		final List<String> axes = model.getScannableNames();
 		final String xName = model.getxAxisName();
 		final String xUnits = model.getxAxisUnits();
 		final String yName = model.getyAxisName();
 		final String yUnits = model.getyAxisUnits();
+		final boolean continuous = model.isContinuous();
+		final LineAxisGenerator[] lines = createLines();
+
+		final PPointGenerator yLine = lineGeneratorFactory.createObject(
+				yName, yUnits, lines[0].getStart()[0], lines[0].getStop()[0], lines[0].getSize(), lines[0].isAlternate());
+		final PPointGenerator xLine = lineGeneratorFactory.createObject(
+				xName, xUnits, lines[1].getStart()[0], lines[1].getStop()[0], lines[1].getSize(), lines[1].isAlternate());
+
+		final PPointGenerator[] generators = new PPointGenerator[2];
+		generators[0] = model.isVerticalOrientation() ? xLine : yLine;
+		generators[1] = model.isVerticalOrientation() ? yLine : xLine;
+		//Must use full CompoundGenerator for grids as 2/4 grid models use RandomOffsetMutator
+		return createSpgCompoundGenerator(generators, new ArrayList<>(), axes, getMutator(),
+				-1d, continuous);
+	}
+
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		final T model = getModel();
+		final LineAxisGenerator[] lines = createLines();
+		final List<AxisGenerator> generators = model.isVerticalOrientation() ? List.of(lines[1], lines[0]) : List.of(lines[0], lines[1]);
+		final RandomOffsetMutator mutator = getRandomOffsetMutator();
+		final List<RandomOffset> mutators = mutator == null ? List.of() : List.of(mutator.getMutatorAsJavaObject());
+		return new JavaPointGenerator(generators, List.of(), mutators, -1, model.isContinuous());
+	}
+
+	/**
+	 * @return the y and x lines of the grid
+	 */
+	private LineAxisGenerator[] createLines() {
+		final T model = getModel();
+		final BoundingBox box = model.getBoundingBox();
+
 		final int xCount = getXPoints();
 		final int yCount = getYPoints();
 		final double xStep = IBoundsToFit.getLongestFittingStep(box.getxAxisLength(), getXStep(), model.isBoundsToFit());
@@ -54,22 +91,13 @@ abstract class AbstractGridGenerator<T extends AbstractTwoAxisGridModel> extends
 		final double maxX = IBoundsToFit.getFinalPoint(box.getxAxisStart(), xCount, xStep, model.isBoundsToFit());
 		final double maxY = IBoundsToFit.getFinalPoint(box.getyAxisStart(), yCount, yStep, model.isBoundsToFit());
 		final boolean alternating = model.isAlternating();
-		final boolean continuous = model.isContinuous();
 
-		final PPointGenerator yLine = lineGeneratorFactory.createObject(
-				yName, yUnits, minY, maxY, yCount,
+		final LineAxisGenerator yLine = new LineAxisGenerator(model.getyAxisName(), minY, maxY, yCount,
 				// If !model.isAlternateBothAxes(), we only want to alternate the innermost axis
 				alternating && (model.isAlternateBothAxes() || model.isVerticalOrientation()));
-		final PPointGenerator xLine = lineGeneratorFactory.createObject(
-				xName, xUnits, minX, maxX, xCount,
+		final LineAxisGenerator xLine = new LineAxisGenerator(model.getxAxisName(), minX, maxX, xCount,
 				alternating && (model.isAlternateBothAxes() || !model.isVerticalOrientation()));
-
-		final PPointGenerator[] generators = new PPointGenerator[2];
-		generators[0] = model.isVerticalOrientation() ? xLine : yLine;
-		generators[1] = model.isVerticalOrientation() ? yLine : xLine;
-		//Must use full CompoundGenerator for grids as 2/4 grid models use RandomOffsetMutator
-		return createSpgCompoundGenerator(generators, new ArrayList<>(), axes, getMutator(),
-				-1d, continuous);
+		return new LineAxisGenerator[] { yLine, xLine };
 	}
 
 	protected int getXPoints() {
@@ -97,7 +125,15 @@ abstract class AbstractGridGenerator<T extends AbstractTwoAxisGridModel> extends
 	}
 
 	protected PyObject[] getMutator() {
-		return EMPTY_PY_ARRAY;
+		final RandomOffsetMutator mutator = getRandomOffsetMutator();
+		return mutator == null ? EMPTY_PY_ARRAY : new PyObject[] { mutator.getMutatorAsJythonObject() };
+	}
+
+	/**
+	 * @return the mutator to apply to the points of the grid, or {@code null} for none
+	 */
+	protected RandomOffsetMutator getRandomOffsetMutator() {
+		return null;
 	}
 
 }
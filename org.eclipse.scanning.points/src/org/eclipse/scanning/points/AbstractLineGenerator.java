@@ -24,6 +24,8 @@ import org.eclipse.scanning.api.points.models.AbstractBoundingLineModel;
 import org.eclipse.scanning.api.points.models.BoundingLine;
 import org.eclipse.scanning.api.points.models.IBoundsToFit;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.eclipse.scanning.points.engine.LineAxisGenerator;
 
 public abstract class AbstractLineGenerator<T extends AbstractBoundingLineModel> extends AbstractScanPointGenerator<T> {
 
@@ -37,6 +39,25 @@ public abstract class AbstractLineGenerator<T extends AbstractBoundingLineModel>
 
 		final T model =  getModel();
 
+		final List<String> axes =  model.getScannableNames();
+		final List<String> units = model.getUnits();
+		final boolean continuous = model.isContinuous();
+		final LineAxisGenerator line = createLine();
+
+		final PPointGenerator lineGen = lineGeneratorFactory.createObject(
+				axes, units, line.getStart(), line.getStop(), line.getSize(), line.isAlternate());
+		return createWrappingCompoundGenerator(lineGen, continuous);
+
+	}
+
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		return createJavaWrappingGenerator(createLine(), getModel().isContinuous());
+	}
+
+	private LineAxisGenerator createLine() {
+		final T model =  getModel();
+
 		final BoundingLine line = model.getBoundingLine();
 
 		final int numPoints = getPoints();
@@ -50,18 +71,10 @@ public abstract class AbstractLineGenerator<T extends AbstractBoundingLineModel>
 		final double maxX = IBoundsToFit.getFinalPoint(line.getxStart(), numPoints, xStep, model.isBoundsToFit());
 		final double maxY = IBoundsToFit.getFinalPoint(line.getyStart(), numPoints, yStep, model.isBoundsToFit());
 
-
-		final List<String> axes =  model.getScannableNames();
-		final List<String> units = model.getUnits();
 		final double[] start = {minX, minY};
 		final double[] stop = {maxX, maxY};
-		final boolean alternating = model.isAlternating();
-		final boolean continuous = model.isContinuous();
-
-		final PPointGenerator lineGen = lineGeneratorFactory.createObject(
-				axes, units, start, stop, numPoints, alternating);
-		return createWrappingCompoundGenerator(lineGen, continuous);
 
+		return new LineAxisGenerator(model.getScannableNames(), start, stop, numPoints, model.isAlternating());
 	}
 
 	protected double getStep() {
@@ -52,7 +52,7 @@ public abstract class AbstractMultiGenerator<T extends AbstractMultiModel<?>> ex
 		this.model = model;
 		validateModel();
 		generators = createPointGenerators(model.getModels());
-		pointGenerator = createPythonPointGenerator();
+		pointGenerator = createPointGenerator();
 	}
 
 	protected AbstractMultiGenerator(IPointGeneratorService service) {
@@ -95,7 +95,7 @@ public abstract class AbstractMultiGenerator<T extends AbstractMultiModel<?>> ex
 	protected abstract JythonObjectFactory<PPointGenerator> getFactory();
 
 	protected PPointGenerator[] initGenerators() {
-		return generators.stream().map(AbstractScanPointGenerator.class::cast).map(AbstractScanPointGenerator::getPointGenerator)
+		return generators.stream().map(AbstractScanPointGenerator.class::cast).map(AbstractScanPointGenerator::getPythonPointGenerator)
 				.toArray(PPointGenerator[]::new);
 	}
 
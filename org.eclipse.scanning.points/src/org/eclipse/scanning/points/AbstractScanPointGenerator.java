@@ -33,6 +33,8 @@ import org.eclipse.scanning.api.points.GeneratorException;
 import org.eclipse.scanning.api.points.IPosition;
 import org.eclipse.scanning.api.points.models.AbstractPointsModel;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.AxisGenerator;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
 import org.python.core.PyDictionary;
 import org.python.core.PyObject;
 
@@ -42,14 +44,24 @@ import uk.ac.diamond.osgi.services.ServiceProvider;
  * Generator for models that use SPG python module. Python CompoundGenerators are wrapped in PPointGenerators.
  * Provide InitialBounds and FinalBounds for the use of ConsecutiveMultiModel, as both can only operate on
  * SPG generators.
+ * <p>
+ * If the system property {@value #JAVA_ENGINE_PROPERTY} is {@code true}, generators which implement
+ * {@link #createJavaPointGenerator()} generate their points with a {@link JavaPointGenerator} rather than through
+ * Jython. The Jython generator is then only created if it is needed, e.g. to serialise the generator with
+ * {@link #toDict()}.
  */
 public abstract class AbstractScanPointGenerator<T extends AbstractPointsModel> extends AbstractGenerator<T> implements PySerializable {
 
+	/** System property to generate points in Java rather than with the Jython scanpointgenerator, where supported */
+	public static final String JAVA_ENGINE_PROPERTY = "org.eclipse.scanning.points.javaEngine";
+
 	protected PPointGenerator pointGenerator;
 
+	private PPointGenerator pythonPointGenerator;
+
 	protected AbstractScanPointGenerator(T model) {
 		super(model);
-		pointGenerator = createPythonPointGenerator();
+		pointGenerator = createPointGenerator();
 	}
 
 	protected AbstractScanPointGenerator() {
@@ -71,8 +83,42 @@ public abstract class AbstractScanPointGenerator<T extends AbstractPointsModel>
 		return pointGenerator;
 	}
 
+	/**
+	 * @return the Jython generator, which is created if this generator uses a {@link JavaPointGenerator}
+	 */
+	public synchronized PPointGenerator getPythonPointGenerator() {
+		if (pythonPointGenerator == null) {
+			pythonPointGenerator = createPythonPointGenerator();
+		}
+		return pythonPointGenerator;
+	}
+
 	protected abstract PPointGenerator createPythonPointGenerator();
 
+	/**
+	 * Creates the generator of the points, in Java if {@value #JAVA_ENGINE_PROPERTY} is set and this generator
+	 * supports it, otherwise in Jython
+	 */
+	protected PPointGenerator createPointGenerator() {
+		if (Boolean.getBoolean(JAVA_ENGINE_PROPERTY)) {
+			final PPointGenerator javaPointGenerator = createJavaPointGenerator();
+			if (javaPointGenerator != null) {
+				return javaPointGenerator;
+			}
+		}
+		return getPythonPointGenerator();
+	}
+
+	/**
+	 * Creates a pure Java generator of the same points as {@link #createPythonPointGenerator()}. Subclasses that
+	 * support this should override this method.
+	 *
+	 * @return the generator or {@code null} if the model cannot be generated in Java
+	 */
+	protected JavaPointGenerator createJavaPointGenerator() {
+		return null;
+	}
+
 	@Override
 	protected void validateModel() {
 		ServiceProvider.getService(IValidatorService.class).validate(model);
@@ -111,7 +157,7 @@ public abstract class AbstractScanPointGenerator<T extends AbstractPointsModel>
 
 	@Override
 	public PyDictionary toDict() {
-		return pointGenerator.toDict();
+		return getPythonPointGenerator().toDict();
 	}
 
 	/*
@@ -142,6 +188,16 @@ public abstract class AbstractScanPointGenerator<T extends AbstractPointsModel>
 	    		Arrays.asList(generators), EMPTY_PY_ARRAY, EMPTY_PY_ARRAY, -1, continuous);
 	}
 
+	/**
+	 * The Java equivalent of {@link #createWrappingCompoundGenerator(PPointGenerator, boolean)}
+	 * @param generator  the generator of the points
+	 * @param continuous  whether the generator should have bounds half a step either side of each point
+	 * @return a JavaPointGenerator of the generator without regions or mutators
+	 */
+	protected JavaPointGenerator createJavaWrappingGenerator(AxisGenerator generator, boolean continuous) {
+		return new JavaPointGenerator(List.of(generator), List.of(), List.of(), -1, continuous);
+	}
+
 	/**
 	 * @param generators  an array of at least 1 PPointGenerator, each being repeated for every point in the generator before it
 	 * @param regions  a list of IROI regions of interest, any point produced that would be inside at least 1 IROI is included, otherwise
@@ -15,6 +15,8 @@ import java.util.List;
 
 import org.eclipse.scanning.api.points.models.AxialArrayModel;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.ArrayAxisGenerator;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
 
 public class AxialArrayGenerator extends AbstractScanPointGenerator<AxialArrayModel> {
 
@@ -39,4 +41,16 @@ public class AxialArrayGenerator extends AbstractScanPointGenerator<AxialArrayMo
         return createWrappingCompoundGenerator(array, continuous);
 	}
 
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		final AxialArrayModel model = getModel();
+		final double[] points = model.getPositions();
+		if (points == null || points.length < 2) {
+			// scanpointgenerator extrapolates the bounds from the first two points
+			return null;
+		}
+		return createJavaWrappingGenerator(new ArrayAxisGenerator(model.getName(), points, model.isAlternating()),
+				model.isContinuous());
+	}
+
 }
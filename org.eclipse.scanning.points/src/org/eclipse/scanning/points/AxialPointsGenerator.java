@@ -23,6 +23,8 @@ import java.util.List;
 import org.eclipse.scanning.api.points.models.AxialPointsModel;
 import org.eclipse.scanning.api.points.models.IBoundsToFit;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.eclipse.scanning.points.engine.LineAxisGenerator;
 
 class AxialPointsGenerator extends AbstractScanPointGenerator<AxialPointsModel> {
 
@@ -38,8 +40,23 @@ class AxialPointsGenerator extends AbstractScanPointGenerator<AxialPointsModel>
 
 		final List<String> name = model.getScannableNames();
         final List<String> units = model.getUnits();
-        final boolean alternating = model.isAlternating();
         final boolean continuous = model.isContinuous();
+        final LineAxisGenerator line = createLine();
+
+        final PPointGenerator pointGen = lineGeneratorFactory.createObject(name, units, line.getStart()[0], line.getStop()[0],
+        		line.getSize(), line.isAlternate());
+
+        return createWrappingCompoundGenerator(pointGen, continuous);
+	}
+
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		return createJavaWrappingGenerator(createLine(), getModel().isContinuous());
+	}
+
+	private LineAxisGenerator createLine() {
+		final AxialPointsModel model = getModel();
+
         final double length = model.getStop() - model.getStart();
         final int numPoints = model.getPoints();
         final double denominator = model.isBoundsToFit() ? numPoints : numPoints - 1;
@@ -47,8 +64,6 @@ class AxialPointsGenerator extends AbstractScanPointGenerator<AxialPointsModel>
         final double start = IBoundsToFit.getFirstPoint(model.getStart(), numPoints == 1, step, model.isBoundsToFit());
         final double stop   = IBoundsToFit.getFinalPoint(model.getStart(), numPoints, step, model.isBoundsToFit());
 
-        final PPointGenerator pointGen = lineGeneratorFactory.createObject(name, units, start, stop, numPoints, alternating);
-
-        return createWrappingCompoundGenerator(pointGen, continuous);
+        return new LineAxisGenerator(model.getName(), start, stop, numPoints, model.isAlternating());
 	}
 }
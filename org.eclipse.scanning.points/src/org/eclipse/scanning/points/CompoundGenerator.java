@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.dawnsci.analysis.api.roi.IROI;
@@ -34,6 +35,12 @@ import org.eclipse.scanning.api.points.models.CompoundModel;
 import org.eclipse.scanning.api.points.models.IScanPointGeneratorModel;
 import org.eclipse.scanning.api.points.models.ScanRegion;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.AxisGenerator;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.eclipse.scanning.points.engine.RandomOffset;
+import org.eclipse.scanning.points.engine.Region;
+import org.eclipse.scanning.points.engine.RegionExcluder;
+import org.eclipse.scanning.points.mutators.RandomOffsetMutator;
 import org.python.core.PyObject;
 /**
  * CompoundGenerators (analogously to their Python equivalents) handle not only compounding scans within one another,
@@ -91,7 +98,7 @@ public class CompoundGenerator extends AbstractMultiGenerator<CompoundModel> {
 			throw new GeneratorException(e);
 		}
         this.generators = new ArrayList<>(generators);
-        pointGenerator = createPythonPointGenerator();
+        pointGenerator = createPointGenerator();
 	}
 
 	public CompoundGenerator(CompoundModel model, IPointGeneratorService pgs) {
@@ -113,6 +120,48 @@ public class CompoundGenerator extends AbstractMultiGenerator<CompoundModel> {
 
 	}
 
+	/**
+	 * Creates a JavaPointGenerator if all of the generators are JavaPointGenerators and the mutators and regions are
+	 * supported in Java
+	 */
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		final CompoundModel model = getModel();
+
+		final List<RegionExcluder> excluders = getJavaExcluders(getNonRedundantRegions(model));
+		if (excluders == null) {
+			return null;
+		}
+		final List<RandomOffset> mutators = new ArrayList<>();
+		if (model.getMutators() != null) {
+			for (IMutator mutator : model.getMutators()) {
+				if (!(mutator instanceof RandomOffsetMutator randomOffsetMutator)) {
+					return null;
+				}
+				mutators.add(randomOffsetMutator.getMutatorAsJavaObject());
+			}
+		}
+
+		// As jython_spg_interface, the excluders and mutators of the generators are added if not already present
+		final List<RegionExcluder> modelExcluders = List.copyOf(excluders);
+		final List<RandomOffset> modelMutators = List.copyOf(mutators);
+		final List<AxisGenerator> axisGenerators = new ArrayList<>();
+		double duration = model.getDuration();
+		for (IPointGenerator<? extends IScanPointGeneratorModel> generator : generators) {
+			if (!(generator instanceof AbstractScanPointGenerator<?> scanPointGenerator
+					&& scanPointGenerator.getPointGenerator() instanceof JavaPointGenerator javaGenerator)) {
+				return null;
+			}
+			axisGenerators.addAll(javaGenerator.getGenerators());
+			javaGenerator.getExcluders().stream().filter(e -> !modelExcluders.contains(e)).forEach(excluders::add);
+			javaGenerator.getMutators().stream().filter(m -> !modelMutators.contains(m)).forEach(mutators::add);
+			if (model.getDuration() == -1) {
+				duration = javaGenerator.getDuration();
+			}
+		}
+		return new JavaPointGenerator(axisGenerators, excluders, mutators, duration, model.isContinuous());
+	}
+
 	/**
 	 * Creates an array of python objects representing the mutators
 	 * @param mutators
@@ -172,6 +221,28 @@ public class CompoundGenerator extends AbstractMultiGenerator<CompoundModel> {
 		return Stream.concat(excludersStream, squashers.stream()).toArray(PyObject[]::new);
 	}
 
+	/**
+	 * The Java equivalent of {@link #getExcluders(Collection)}
+	 * @param regions
+	 * @return the excluders or {@code null} if a region cannot be excluded in Java
+	 */
+	private static List<RegionExcluder> getJavaExcluders(Collection<ScanRegion> regions) {
+		final Map<List<String>, List<Region>> excluders = new HashMap<>();
+		if (regions != null) {
+			for (ScanRegion region : regions) {
+				if (region.getRoi() == null) {
+					// squashing excluders are not supported
+					return null;
+				}
+				final Region javaRegion = ROIGenerator.makeRegion(region);
+				if (javaRegion != null) excluders.computeIfAbsent(region.getScannables(), x -> new ArrayList<>()).add(javaRegion);
+			}
+		}
+		return excluders.entrySet().stream()
+				.map(e -> new RegionExcluder(e.getValue(), e.getKey()))
+				.collect(Collectors.toCollection(ArrayList::new));
+	}
+
 	@Override
 	protected JythonObjectFactory<PPointGenerator> getFactory() {
 		return ScanPointGeneratorFactory.JCompoundGeneratorFactory();
@@ -31,6 +31,7 @@ import org.eclipse.dawnsci.analysis.dataset.roi.PolygonalROI;
 import org.eclipse.dawnsci.analysis.dataset.roi.RectangularROI;
 import org.eclipse.dawnsci.analysis.dataset.roi.SectorROI;
 import org.eclipse.scanning.api.points.models.ScanRegion;
+import org.eclipse.scanning.points.engine.Region;
 import org.python.core.PyObject;
 
 public class ROIGenerator {
@@ -53,15 +54,8 @@ public class ROIGenerator {
 		roiDispatchMap.put(PointROI.class, r -> ScanPointGeneratorFactory.JPointROIFactory().createObject(
 				((PointROI) r).getPoint()));
 		roiDispatchMap.put(PolygonalROI.class, r -> {
-			PolygonalROI p = (PolygonalROI) r;
-			double[] xPoints = new double[p.getNumberOfPoints()];
-			double[] yPoints = new double[p.getNumberOfPoints()];
-			for (int i = 0; i < xPoints.length; i++) {
-				PointROI point = p.getPoint(i);
-				xPoints[i] = point.getPointX();
-				yPoints[i] = point.getPointY();
-			}
-			return ScanPointGeneratorFactory.JPolygonalROIFactory().createObject(xPoints, yPoints);
+			final double[][] points = getPolygonPoints((PolygonalROI) r);
+			return ScanPointGeneratorFactory.JPolygonalROIFactory().createObject(points[0], points[1]);
 		});
 		roiDispatchMap.put(RectangularROI.class, r -> ScanPointGeneratorFactory.JRectangularROIFactory().createObject(
 				((RectangularROI) r).getPoint(), ((RectangularROI) r).getLength(0), ((RectangularROI) r).getLength(1),
@@ -70,6 +64,42 @@ public class ROIGenerator {
 				((SectorROI) r).getPoint(), ((SectorROI) r).getRadii(), ((SectorROI) r).getAngles()));
 	}
 
+	private static Map<Class<?>, Function<IROI, Region>> regionDispatchMap;
+
+	static {
+		regionDispatchMap = new HashMap<>();
+
+		regionDispatchMap.put(CircularROI.class, r -> new Region.Circular(
+				((CircularROI) r).getCentre()[0], ((CircularROI) r).getCentre()[1], ((CircularROI) r).getRadius()));
+		regionDispatchMap.put(EllipticalROI.class, r -> new Region.Elliptical(
+				((EllipticalROI) r).getPoint()[0], ((EllipticalROI) r).getPoint()[1], ((EllipticalROI) r).getSemiAxes()[0],
+				((EllipticalROI) r).getSemiAxes()[1], ((EllipticalROI) r).getAngle()));
+		regionDispatchMap.put(LinearROI.class, r -> null); // not supported
+		regionDispatchMap.put(PointROI.class, r -> new Region.Point(
+				((PointROI) r).getPoint()[0], ((PointROI) r).getPoint()[1]));
+		regionDispatchMap.put(PolygonalROI.class, r -> {
+			final double[][] points = getPolygonPoints((PolygonalROI) r);
+			return new Region.Polygonal(points[0], points[1]);
+		});
+		regionDispatchMap.put(RectangularROI.class, r -> new Region.Rectangular(
+				((RectangularROI) r).getPoint()[0], ((RectangularROI) r).getPoint()[1], ((RectangularROI) r).getLength(0),
+				((RectangularROI) r).getLength(1), ((RectangularROI) r).getAngle()));
+		regionDispatchMap.put(SectorROI.class, r -> new Region.Sector(
+				((SectorROI) r).getPoint()[0], ((SectorROI) r).getPoint()[1], ((SectorROI) r).getRadii()[0],
+				((SectorROI) r).getRadii()[1], ((SectorROI) r).getAngles()[0], ((SectorROI) r).getAngles()[1]));
+	}
+
+	private static double[][] getPolygonPoints(PolygonalROI polygon) {
+		final double[] xPoints = new double[polygon.getNumberOfPoints()];
+		final double[] yPoints = new double[polygon.getNumberOfPoints()];
+		for (int i = 0; i < xPoints.length; i++) {
+			PointROI point = polygon.getPoint(i);
+			xPoints[i] = point.getPointX();
+			yPoints[i] = point.getPointY();
+		}
+		return new double[][] { xPoints, yPoints };
+	}
+
 	protected static PyObject makePyRoi(Object region) {
 		if (region instanceof ScanRegion sr) {
 			return makePyRoi(sr.getRoi());
@@ -80,4 +110,19 @@ public class ROIGenerator {
 		return null;
 	}
 
+	/**
+	 * Creates the Java equivalent of the python ROI made by {@link #makePyRoi(Object)}, for a {@code JavaPointGenerator}
+	 *
+	 * @return the region or {@code null} if the ROI is not supported
+	 */
+	protected static Region makeRegion(Object region) {
+		if (region instanceof ScanRegion sr) {
+			return makeRegion(sr.getRoi());
+		}
+		if (region instanceof IROI roi && regionDispatchMap.containsKey(roi.getClass())) {
+			return regionDispatchMap.get(roi.getClass()).apply(roi);
+		}
+		return null;
+	}
+
 }
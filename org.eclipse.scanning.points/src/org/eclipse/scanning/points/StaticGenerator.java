@@ -13,6 +13,8 @@ package org.eclipse.scanning.points;
 
 import org.eclipse.scanning.api.points.models.StaticModel;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.eclipse.scanning.points.engine.StaticAxisGenerator;
 
 /**
  * A software generator that generates a static (i.e. empty) point one or more times.
@@ -42,4 +44,9 @@ class StaticGenerator extends AbstractScanPointGenerator<StaticModel> {
 
 		return staticGeneratorFactory.createObject(numPoints);
 	}
+
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		return createJavaWrappingGenerator(new StaticAxisGenerator(getModel().getSize()), true);
+	}
 }
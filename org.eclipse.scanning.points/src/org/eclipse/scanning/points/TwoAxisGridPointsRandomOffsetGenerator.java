@@ -11,12 +11,12 @@
  *******************************************************************************/
 package org.eclipse.scanning.points;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.scanning.api.points.models.TwoAxisGridPointsRandomOffsetModel;
-import org.eclipse.scanning.jython.JythonObjectFactory;
-import org.python.core.PyDictionary;
-import org.python.core.PyObject;
+import org.eclipse.scanning.points.mutators.RandomOffsetMutator;
 
 public class TwoAxisGridPointsRandomOffsetGenerator extends AbstractGridGenerator<TwoAxisGridPointsRandomOffsetModel> {
 
@@ -35,20 +35,18 @@ public class TwoAxisGridPointsRandomOffsetGenerator extends AbstractGridGenerato
 	}
 
 	@Override
-	protected PyObject[] getMutator() {
-		final JythonObjectFactory<PyObject> randomOffsetMutatorFactory = ScanPointGeneratorFactory.JRandomOffsetMutatorFactory();
-
+	protected RandomOffsetMutator getRandomOffsetMutator() {
 		final TwoAxisGridPointsRandomOffsetModel model = getModel();
 
 		final List<String> axes = model.getScannableNames();
 		final double maxOffset = (model.getOffset() / 100) * (model.isVerticalOrientation() ? getYStep() : getXStep());
 		final int seed = model.getSeed();
 
-		final PyDictionary offset = new PyDictionary();
+		final Map<String, Double> offset = new LinkedHashMap<>();
         // "the same standard deviation is used for the random Gaussian offset for each axis." - See {Code @RandomOffsetDecorator}
 		offset.put(model.getyAxisName(), maxOffset);
 		offset.put(model.getxAxisName(), maxOffset);
 
-		return new PyObject[] { randomOffsetMutatorFactory.createObject(seed, axes, offset) };
+		return new RandomOffsetMutator(seed, axes, offset);
 	}
 }
\ No newline at end of file
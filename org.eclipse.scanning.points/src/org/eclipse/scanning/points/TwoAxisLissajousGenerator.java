@@ -15,6 +15,8 @@ import java.util.List;
 
 import org.eclipse.scanning.api.points.models.TwoAxisLissajousModel;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.eclipse.scanning.points.engine.LissajousAxisGenerator;
 import org.python.core.PyDictionary;
 
 public class TwoAxisLissajousGenerator extends AbstractScanPointGenerator<TwoAxisLissajousModel> {
@@ -48,4 +50,18 @@ public class TwoAxisLissajousGenerator extends AbstractScanPointGenerator<TwoAxi
 		return createWrappingCompoundGenerator(pointGen, continuous);
 	}
 
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		final TwoAxisLissajousModel model = getModel();
+
+		final double width = model.getBoundingBox().getxAxisLength();
+		final double height = model.getBoundingBox().getyAxisLength();
+		final double[] centre = new double[] { model.getBoundingBox().getxAxisStart() + width / 2,
+				model.getBoundingBox().getyAxisStart() + height / 2 };
+
+		final LissajousAxisGenerator lissajous = new LissajousAxisGenerator(model.getScannableNames(), centre,
+				new double[] { width, height }, model.getLobes(), model.getPoints(), model.isAlternating());
+		return createJavaWrappingGenerator(lissajous, model.isContinuous());
+	}
+
 }
@@ -22,6 +22,8 @@ import java.util.List;
 
 import org.eclipse.scanning.api.points.models.TwoAxisPointSingleModel;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.eclipse.scanning.points.engine.LineAxisGenerator;
 
 public class TwoAxisPointSingleGenerator extends AbstractScanPointGenerator<TwoAxisPointSingleModel> {
 
@@ -42,4 +44,14 @@ public class TwoAxisPointSingleGenerator extends AbstractScanPointGenerator<TwoA
 		return lineGeneratorFactory.createObject(names, units, position, position, 1);
 	}
 
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		final TwoAxisPointSingleModel model = getModel();
+
+		final double[] position = new double[] {model.getX(), model.getY()};
+
+		// The Jython generator is a CompoundGenerator with its default continuous = True
+		return createJavaWrappingGenerator(new LineAxisGenerator(model.getScannableNames(), position, position, 1, false), true);
+	}
+
 }
@@ -18,12 +18,12 @@
 
 package org.eclipse.scanning.points;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.scanning.api.points.models.TwoAxisPtychographyModel;
-import org.eclipse.scanning.jython.JythonObjectFactory;
-import org.python.core.PyDictionary;
-import org.python.core.PyObject;
+import org.eclipse.scanning.points.mutators.RandomOffsetMutator;
 
 public class TwoAxisPtychographyGenerator extends AbstractGridGenerator<TwoAxisPtychographyModel> {
 
@@ -42,9 +42,7 @@ public class TwoAxisPtychographyGenerator extends AbstractGridGenerator<TwoAxisP
 	}
 
 	@Override
-	protected PyObject[] getMutator() {
-		final JythonObjectFactory<PyObject> randomOffsetMutatorFactory = ScanPointGeneratorFactory.JRandomOffsetMutatorFactory();
-
+	protected RandomOffsetMutator getRandomOffsetMutator() {
 		final TwoAxisPtychographyModel model = getModel();
 
 		final List<String> axes = model.getScannableNames();
@@ -52,11 +50,11 @@ public class TwoAxisPtychographyGenerator extends AbstractGridGenerator<TwoAxisP
 		final double offsetScale = (1 - model.getOverlap())  * model.getRandomOffset();
 		final double maxXOffset = offsetScale * model.getxBeamSize();
 		final double maxYOffset = offsetScale * model.getyBeamSize();
-		final PyDictionary maxOffset = new PyDictionary();
+		final Map<String, Double> maxOffset = new LinkedHashMap<>();
 		maxOffset.put(model.getyAxisName(), maxYOffset);
 		maxOffset.put(model.getxAxisName(), maxXOffset);
 
-		return new PyObject[] { randomOffsetMutatorFactory.createObject(seed, axes, maxOffset) };
+		return new RandomOffsetMutator(seed, axes, maxOffset);
 	}
 
 }
@@ -16,6 +16,8 @@ import java.util.List;
 
 import org.eclipse.scanning.api.points.models.TwoAxisSpiralModel;
 import org.eclipse.scanning.jython.JythonObjectFactory;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.eclipse.scanning.points.engine.SpiralAxisGenerator;
 import org.python.core.PyList;
 
 class TwoAxisSpiralGenerator extends AbstractScanPointGenerator<TwoAxisSpiralModel> {
@@ -47,4 +49,19 @@ class TwoAxisSpiralGenerator extends AbstractScanPointGenerator<TwoAxisSpiralMod
         return createWrappingCompoundGenerator(pointGen, continuous);
         }
 
+	@Override
+	protected JavaPointGenerator createJavaPointGenerator() {
+		final TwoAxisSpiralModel model = getModel();
+
+		final double radiusX = model.getBoundingBox().getxAxisLength() / 2;
+		final double radiusY = model.getBoundingBox().getyAxisLength() / 2;
+		final double maxRadius = Math.pow(Math.pow(radiusX, 2) + Math.pow(radiusY, 2), 0.5);
+		final double[] centre = new double[] { model.getBoundingBox().getxAxisStart() + radiusX,
+				model.getBoundingBox().getyAxisStart() + radiusY };
+
+		final SpiralAxisGenerator spiral = new SpiralAxisGenerator(model.getScannableNames(), centre, maxRadius,
+				model.getScale(), model.isAlternating());
+		return createJavaWrappingGenerator(spiral, model.isContinuous());
+	}
+
 }
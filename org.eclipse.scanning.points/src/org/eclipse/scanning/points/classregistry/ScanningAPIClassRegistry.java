@@ -25,6 +25,7 @@ import org.eclipse.scanning.api.event.scan.ProcessingRequest;
 import org.eclipse.scanning.api.event.scan.ScanBean;
 import org.eclipse.scanning.api.event.scan.ScanEvent;
 import org.eclipse.scanning.api.event.scan.ScanRequest;
+import org.eclipse.scanning.api.points.IndexedPosition;
 import org.eclipse.scanning.api.points.MapPosition;
 import org.eclipse.scanning.api.points.Point;
 import org.eclipse.scanning.api.points.Scalar;
@@ -93,6 +94,7 @@ public class ScanningAPIClassRegistry implements IClassRegistry {
 		// points
 		registerClass(tmp, StaticPosition.class);
 		registerClass(tmp, MapPosition.class);
+		registerClass(tmp, IndexedPosition.class);
 		registerClass(tmp, Point.class);
 		registerClass(tmp, Scalar.class);
 
@@ -0,0 +1,64 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.List;
+
+/**
+ * Positions given by an array in a single axis, as the scanpointgenerator {@code ArrayGenerator}. Bounds are
+ * interpolated between the positions and extrapolated beyond the first and last.
+ */
+public class ArrayAxisGenerator extends AxisGenerator {
+
+	private final double[] points;
+
+	public ArrayAxisGenerator(String axis, double[] points, boolean alternate) {
+		super(List.of(axis), points.length, alternate);
+		if (points.length < 2) {
+			throw new IllegalArgumentException("Expected at least 2 points, got " + points.length);
+		}
+		this.points = points.clone();
+	}
+
+	public double[] getPoints() {
+		return points.clone();
+	}
+
+	@Override
+	public double getPosition(int axis, double index) {
+		final double floor = Math.floor(index);
+		final double epsilon = index - floor;
+		final int i = (int) floor;
+		final double value = extended(i);
+		return value + epsilon * (extended(i + 1) - value);
+	}
+
+	/**
+	 * @return the point at the given index, extended by one point at each end with the same step as the end points
+	 */
+	private double extended(int index) {
+		if (index < 0) {
+			return points[0] - (points[1] - points[0]);
+		}
+		if (index >= points.length) {
+			final int last = points.length - 1;
+			return points[last] + (points[last] - points[last - 1]);
+		}
+		return points[index];
+	}
+}
@@ -0,0 +1,91 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.List;
+
+/**
+ * A generator of positions along one or more axes, the Java equivalent of a scanpointgenerator {@code Generator}.
+ * <p>
+ * Positions are calculated from their index when asked for rather than stored, so a generator of any size takes
+ * constant memory. The calculations are the same as those of the python generators, so that a
+ * {@link JavaPointGenerator} produces the same points as the Jython {@code CompoundGenerator}.
+ */
+public abstract class AxisGenerator {
+
+	private final List<String> axes;
+
+	private final int size;
+
+	private final boolean alternate;
+
+	protected AxisGenerator(List<String> axes, int size, boolean alternate) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Expected size > 0, got size = " + size);
+		}
+		if (axes.stream().distinct().count() != axes.size()) {
+			throw new IllegalArgumentException("Axis names cannot be duplicated; given " + axes);
+		}
+		this.axes = List.copyOf(axes);
+		this.size = size;
+		this.alternate = alternate;
+	}
+
+	public List<String> getAxes() {
+		return axes;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public boolean isAlternate() {
+		return alternate;
+	}
+
+	/**
+	 * Calculates a position of this generator. The position of each point is at a whole index, and its bounds are half
+	 * an index either side of it.
+	 *
+	 * @param axis
+	 *            the index of the axis in {@link #getAxes()}
+	 * @param index
+	 *            the (possibly fractional) index of the position, between -0.5 and size - 0.5
+	 * @return the position
+	 */
+	public abstract double getPosition(int axis, double index);
+
+	/**
+	 * @return the lower bound of the point at the given index, when moving in the forward direction
+	 */
+	public double getLowerBound(int axis, int index) {
+		return getPosition(axis, index - 0.5);
+	}
+
+	/**
+	 * @return the upper bound of the point at the given index, when moving in the forward direction
+	 */
+	public double getUpperBound(int axis, int index) {
+		return getPosition(axis, index + 0.5);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [axes=" + axes + ", size=" + size + ", alternate=" + alternate + "]";
+	}
+}
@@ -0,0 +1,226 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * One dimension of a {@link JavaPointGenerator}: one or more nested generators, which are merged into one dimension
+ * when an excluder acts on the axes of more than one of them.
+ * <p>
+ * Positions are calculated from the index of the point in the unrolled (i.e. not excluded) dimension. When there
+ * are excluders, the unrolled index of each point that is not excluded is stored, which is the only memory that
+ * depends on the size of the dimension.
+ */
+final class Dimension {
+
+	private final List<AxisGenerator> generators;
+
+	private final List<RegionExcluder> excluders = new ArrayList<>();
+
+	private final List<String> axes = new ArrayList<>();
+
+	/** The generator of each axis */
+	private final int[] axisGenerator;
+
+	/** The index of each axis in the axes of its generator */
+	private final int[] generatorAxis;
+
+	/** The number of times each point of each generator is repeated, i.e. the product of the sizes of those inside it */
+	private final long[] repeats;
+
+	private final boolean alternate;
+
+	/** Whether the axes of the innermost generator have bounds, otherwise the bounds are the positions */
+	private boolean bounds;
+
+	/** The unrolled index of each point or null if no points are excluded */
+	private int[] indices;
+
+	private int size;
+
+	Dimension(List<AxisGenerator> generators) {
+		this.generators = List.copyOf(generators);
+		alternate = generators.get(0).isAlternate();
+
+		// a non-alternating generator inside an alternating one would have surprising paths
+		boolean startedAlternating = false;
+		for (AxisGenerator generator : generators) {
+			if (startedAlternating && !generator.isAlternate()) {
+				throw new IllegalArgumentException("Cannot nest non-alternating generators in alternating generators within a Dimension "
+						+ "due to inconsistent output paths");
+			}
+			startedAlternating |= generator.isAlternate();
+		}
+
+		repeats = new long[generators.size()];
+		long repeat = 1;
+		for (int i = generators.size() - 1; i >= 0; i--) {
+			repeats[i] = repeat;
+			repeat *= generators.get(i).getSize();
+		}
+		if (repeat > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Dimension of " + repeat + " points is too large");
+		}
+		size = (int) repeat;
+
+		for (AxisGenerator generator : generators) {
+			axes.addAll(generator.getAxes());
+		}
+		axisGenerator = new int[axes.size()];
+		generatorAxis = new int[axes.size()];
+		int axis = 0;
+		for (int i = 0; i < generators.size(); i++) {
+			for (int j = 0; j < generators.get(i).getAxes().size(); j++) {
+				axisGenerator[axis] = i;
+				generatorAxis[axis++] = j;
+			}
+		}
+	}
+
+	static Dimension merge(List<Dimension> dimensions) {
+		final List<AxisGenerator> generators = new ArrayList<>();
+		for (Dimension dimension : dimensions) {
+			generators.addAll(dimension.generators);
+		}
+		final Dimension merged = new Dimension(generators);
+		for (Dimension dimension : dimensions) {
+			merged.excluders.addAll(dimension.excluders);
+		}
+		return merged;
+	}
+
+	void applyExcluder(RegionExcluder excluder) {
+		if (!axes.containsAll(excluder.axes())) {
+			throw new IllegalArgumentException("Excluder axes " + excluder.axes() + " do not apply to Dimension axes " + axes);
+		}
+		excluders.add(excluder);
+	}
+
+	/**
+	 * Finds the points which are not excluded
+	 *
+	 * @param hasBounds
+	 *            whether the innermost generator has bounds, i.e. this is the innermost dimension of a continuous scan
+	 */
+	void prepare(boolean hasBounds) {
+		bounds = hasBounds;
+		if (excluders.isEmpty()) {
+			return;
+		}
+		final int[][] excluderAxes = new int[excluders.size()][];
+		for (int i = 0; i < excluders.size(); i++) {
+			final List<String> excluderAxisNames = excluders.get(i).axes();
+			excluderAxes[i] = new int[] { axes.indexOf(excluderAxisNames.get(0)), axes.indexOf(excluderAxisNames.get(1)) };
+		}
+		final BitSet included = new BitSet(size);
+		for (int k = 0; k < size; k++) {
+			boolean include = true;
+			for (int i = 0; i < excluders.size() && include; i++) {
+				include = excluders.get(i).contains(unrolledPosition(excluderAxes[i][0], k), unrolledPosition(excluderAxes[i][1], k));
+			}
+			if (include) {
+				included.set(k);
+			}
+		}
+		indices = included.stream().toArray();
+		size = indices.length;
+	}
+
+	int getSize() {
+		return size;
+	}
+
+	List<String> getAxes() {
+		return axes;
+	}
+
+	List<AxisGenerator> getGenerators() {
+		return generators;
+	}
+
+	boolean isAlternate() {
+		return alternate;
+	}
+
+	/**
+	 * @param axis
+	 *            the index of the axis in {@link #getAxes()}
+	 * @param index
+	 *            the index of the point in the dimension
+	 * @return the position of the point
+	 */
+	double getPosition(int axis, int index) {
+		return unrolledPosition(axis, unrolled(index));
+	}
+
+	/**
+	 * @return the lower bound of the point in the forward direction of the dimension
+	 */
+	double getLowerBound(int axis, int index) {
+		return bound(axis, index, false);
+	}
+
+	/**
+	 * @return the upper bound of the point in the forward direction of the dimension
+	 */
+	double getUpperBound(int axis, int index) {
+		return bound(axis, index, true);
+	}
+
+	private double bound(int axis, int index, boolean upper) {
+		final int g = axisGenerator[axis];
+		if (!bounds || g != generators.size() - 1) {
+			return getPosition(axis, index);
+		}
+		// the innermost generator is not repeated, but an alternating one reverses its bounds on every other run
+		final AxisGenerator generator = generators.get(g);
+		final int generatorSize = generator.getSize();
+		final int k = unrolled(index);
+		final int m = (int) (generator.isAlternate() ? k % (2L * generatorSize) : k % generatorSize);
+		if (m < generatorSize) {
+			return upper ? generator.getUpperBound(generatorAxis[axis], m) : generator.getLowerBound(generatorAxis[axis], m);
+		}
+		final int reversed = (int) (2L * generatorSize - 1 - m);
+		return upper ? generator.getLowerBound(generatorAxis[axis], reversed) : generator.getUpperBound(generatorAxis[axis], reversed);
+	}
+
+	private int unrolled(int index) {
+		return indices == null ? index : indices[index];
+	}
+
+	/**
+	 * @return the position of the given axis at an index of the dimension before excluders are applied
+	 */
+	private double unrolledPosition(int axis, int unrolledIndex) {
+		final int g = axisGenerator[axis];
+		final AxisGenerator generator = generators.get(g);
+		final int generatorSize = generator.getSize();
+		final long run = unrolledIndex / repeats[g];
+		final int index;
+		if (generator.isAlternate()) {
+			final long m = run % (2L * generatorSize);
+			index = (int) (m < generatorSize ? m : 2L * generatorSize - 1 - m);
+		} else {
+			index = (int) (run % generatorSize);
+		}
+		return generator.getPosition(generatorAxis[axis], index);
+	}
+}
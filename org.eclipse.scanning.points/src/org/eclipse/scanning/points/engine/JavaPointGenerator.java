@@ -0,0 +1,464 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.scanning.api.points.IPosition;
+import org.eclipse.scanning.api.points.IndexedPosition;
+import org.eclipse.scanning.api.points.MapPosition;
+import org.eclipse.scanning.api.points.Point;
+import org.eclipse.scanning.api.points.PositionSchema;
+import org.eclipse.scanning.api.points.Scalar;
+import org.eclipse.scanning.api.points.StaticPosition;
+import org.eclipse.scanning.points.PPointGenerator;
+import org.python.core.PyDictionary;
+
+/**
+ * A pure Java equivalent of the Jython {@code CompoundGenerator} wrapped by {@code jython_spg_interface.py}, which
+ * nests {@link AxisGenerator}s, excludes points outside {@link RegionExcluder}s and offsets points with
+ * {@link RandomOffset}s.
+ * <p>
+ * No points are stored: {@link #getPosition(int)} calculates any point in constant time, and {@link #iterator()}
+ * creates each position as it is needed. The size, shape and names are known as soon as the generator is created,
+ * unless excluders have to be applied to find them. The positions of an axis for the whole scan can be calculated in
+ * bulk with {@link #getPositions(String)}.
+ * <p>
+ * The positions created are the same as those of the Jython generator: a {@link StaticPosition} if there are no axes,
+ * a {@link Scalar} for one axis, a {@link Point} for two axes and an {@link IndexedPosition} otherwise.
+ * <p>
+ * This class cannot be serialised to a python dictionary, see {@code AbstractScanPointGenerator#toDict()}.
+ */
+public class JavaPointGenerator implements PPointGenerator {
+
+	private enum Value { POSITION, LOWER, UPPER }
+
+	private final List<AxisGenerator> generators;
+	private final List<RegionExcluder> excluders;
+	private final List<RandomOffset> mutators;
+	private final double duration;
+	private final boolean continuous;
+
+	private final List<Dimension> dimensions = new ArrayList<>();
+	private final List<String> names = new ArrayList<>();
+	private final List<List<String>> dimensionNames = new ArrayList<>();
+
+	/** The schema of the positions of scans of more than two axes, in which the slot of each axis is its index in {@link #names} */
+	private final PositionSchema schema;
+
+	private final int[] shape;
+	private final int size;
+
+	/** The number of times each point of each dimension is repeated, i.e. the product of the sizes of the later ones */
+	private final long[] dimensionRepeats;
+
+	/** The dimension of each axis in {@link #names} */
+	private final int[] axisDimension;
+
+	/** The index of each axis in the axes of its dimension */
+	private final int[] dimensionAxis;
+
+	/** The mutators of each axis, in the order they are applied */
+	private final RandomOffset[][] axisMutators;
+
+	/**
+	 * @param generators
+	 *            the generators to nest, the last being the innermost (i.e. fastest changing)
+	 * @param excluders
+	 *            the excluders, points outside of which are removed. A dimension is created for all of the generators
+	 *            which an excluder acts on
+	 * @param mutators
+	 *            the mutators to apply to every point
+	 * @param duration
+	 *            the exposure time of each point in seconds, or -1 if variable
+	 * @param continuous
+	 *            whether the innermost generator has bounds half a step either side of each point
+	 * @throws IllegalArgumentException
+	 *             if the generators, excluders and mutators are inconsistent or the excluders exclude every point
+	 */
+	public JavaPointGenerator(List<AxisGenerator> generators, List<RegionExcluder> excluders, List<RandomOffset> mutators,
+			double duration, boolean continuous) {
+		if (generators.isEmpty()) {
+			throw new IllegalArgumentException("At least one generator is required");
+		}
+		this.generators = List.copyOf(generators);
+		this.excluders = List.copyOf(excluders);
+		this.mutators = List.copyOf(mutators);
+		this.duration = duration;
+		this.continuous = continuous;
+
+		final Set<String> allAxes = new HashSet<>();
+		for (AxisGenerator generator : generators) {
+			for (String axis : generator.getAxes()) {
+				if (!allAxes.add(axis)) {
+					throw new IllegalArgumentException("Axis names cannot be duplicated: " + axis);
+				}
+			}
+		}
+
+		final List<AxisGenerator> prepared = new ArrayList<>(generators);
+		final List<RegionExcluder> remaining = new ArrayList<>(excluders);
+		restrictLinesToRectangles(prepared, remaining);
+		for (AxisGenerator generator : prepared) {
+			dimensions.add(new Dimension(List.of(generator)));
+		}
+		for (RegionExcluder excluder : remaining) {
+			applyExcluder(excluder);
+		}
+
+		long totalSize = 1;
+		shape = new int[dimensions.size()];
+		for (int d = 0; d < dimensions.size(); d++) {
+			final Dimension dimension = dimensions.get(d);
+			// only the innermost generator has bounds
+			dimension.prepare(continuous && d == dimensions.size() - 1);
+			if (dimension.getSize() == 0) {
+				throw new IllegalArgumentException("Regions would exclude entire scan");
+			}
+			shape[d] = dimension.getSize();
+			totalSize *= dimension.getSize();
+			if (totalSize > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Scan of more than " + Integer.MAX_VALUE + " points is not supported");
+			}
+			names.addAll(dimension.getAxes());
+			dimensionNames.add(List.copyOf(dimension.getAxes()));
+		}
+		size = (int) totalSize;
+		schema = new PositionSchema(dimensionNames);
+
+		dimensionRepeats = new long[dimensions.size()];
+		long repeat = size;
+		for (int d = 0; d < dimensions.size(); d++) {
+			repeat /= dimensions.get(d).getSize();
+			dimensionRepeats[d] = repeat;
+		}
+
+		axisDimension = new int[names.size()];
+		dimensionAxis = new int[names.size()];
+		int axis = 0;
+		for (int d = 0; d < dimensions.size(); d++) {
+			for (int i = 0; i < dimensions.get(d).getAxes().size(); i++) {
+				axisDimension[axis] = d;
+				dimensionAxis[axis++] = i;
+			}
+		}
+
+		axisMutators = new RandomOffset[names.size()][];
+		for (int i = 0; i < names.size(); i++) {
+			final String name = names.get(i);
+			axisMutators[i] = mutators.stream().filter(m -> m.axes().contains(name)).toArray(RandomOffset[]::new);
+		}
+		for (RandomOffset mutator : mutators) {
+			if (!names.containsAll(mutator.axes())) {
+				throw new IllegalArgumentException("Mutator axes " + mutator.axes() + " are not all in the scan axes " + names);
+			}
+		}
+	}
+
+	/**
+	 * If a single unrotated rectangle bounds two lines, the lines are restricted to the rectangle rather than merging
+	 * them into one dimension, as the Jython CompoundGenerator does. This keeps the shape of a grid scan.
+	 */
+	private static void restrictLinesToRectangles(List<AxisGenerator> generators, List<RegionExcluder> excluders) {
+		for (RegionExcluder excluder : List.copyOf(excluders)) {
+			if (excluder.regions().size() != 1 || !(excluder.regions().get(0) instanceof Region.Rectangular rectangle)
+					|| rectangle.angle() != 0) {
+				continue;
+			}
+			final AxisGenerator first = generatorOf(generators, excluder.axes().get(0));
+			final AxisGenerator second = generatorOf(generators, excluder.axes().get(1));
+			if (first != second && first instanceof LineAxisGenerator firstLine && second instanceof LineAxisGenerator secondLine
+					&& firstLine.getAxes().size() == 1 && secondLine.getAxes().size() == 1) {
+				generators.set(generators.indexOf(first), restrict(firstLine, rectangle.xStart(), rectangle.width()));
+				generators.set(generators.indexOf(second), restrict(secondLine, rectangle.yStart(), rectangle.height()));
+				excluders.remove(excluder);
+			}
+		}
+	}
+
+	private static AxisGenerator generatorOf(List<AxisGenerator> generators, String axis) {
+		return generators.stream().filter(g -> g.getAxes().contains(axis)).findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Excluder references axes that have not been provided by generators: " + axis));
+	}
+
+	private static LineAxisGenerator restrict(LineAxisGenerator line, double start, double length) {
+		final double[] positions = new double[line.getSize()];
+		int count = 0;
+		for (int i = 0; i < line.getSize(); i++) {
+			final double position = line.getPosition(0, i);
+			if (position <= length + start && position >= start) {
+				positions[count++] = position;
+			}
+		}
+		if (count == 0) {
+			throw new IllegalArgumentException("Regions would exclude entire scan");
+		}
+		return new LineAxisGenerator(line.getAxes().get(0), positions[0], positions[count - 1], count, line.isAlternate());
+	}
+
+	/**
+	 * Merges the dimensions from the first to the last acted on by the excluder
+	 */
+	private void applyExcluder(RegionExcluder excluder) {
+		int start = -1;
+		int end = -1;
+		for (int d = 0; d < dimensions.size(); d++) {
+			if (dimensions.get(d).getAxes().stream().anyMatch(excluder.axes()::contains)) {
+				if (start < 0) {
+					start = d;
+				}
+				end = d;
+			}
+		}
+		if (start < 0) {
+			throw new IllegalArgumentException("Excluder references axes that have not been provided by generators: " + excluder.axes());
+		}
+		if (start != end) {
+			final List<Dimension> merging = dimensions.subList(start, end + 1);
+			final Dimension merged = Dimension.merge(merging);
+			merging.clear();
+			dimensions.add(start, merged);
+		}
+		dimensions.get(start).applyExcluder(excluder);
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public int[] getShape() {
+		return shape.clone();
+	}
+
+	@Override
+	public int getRank() {
+		return shape.length;
+	}
+
+	@Override
+	public List<String> getNames() {
+		return new ArrayList<>(names);
+	}
+
+	@Override
+	public List<List<String>> getDimensionNames() {
+		return new ArrayList<>(dimensionNames);
+	}
+
+	@Override
+	public IPosition getInitialBounds() {
+		return boundsPosition(0, Value.LOWER);
+	}
+
+	@Override
+	public IPosition getFinalBounds() {
+		return boundsPosition(size - 1, Value.UPPER);
+	}
+
+	private IPosition boundsPosition(int index, Value value) {
+		final Map<String, Object> bounds = new LinkedHashMap<>();
+		for (int axis = 0; axis < names.size(); axis++) {
+			bounds.put(names.get(axis), value(axis, index, value));
+		}
+		return new MapPosition(bounds);
+	}
+
+	/**
+	 * Calculates a point of the scan
+	 *
+	 * @param index
+	 *            the index of the point, from 0 to size - 1
+	 * @return the position of the point
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public IPosition getPosition(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Requested point " + index + " is out of range for " + size + " points");
+		}
+		final int[] indexes = new int[dimensions.size()];
+		for (int d = 0; d < indexes.length; d++) {
+			indexes[d] = dimensionIndex(d, index);
+		}
+
+		final IPosition position;
+		if (names.isEmpty()) {
+			position = new StaticPosition(index);
+		} else if (names.size() == 1) {
+			position = new Scalar<>(names.get(0), indexes[0], value(0, index, Value.POSITION));
+		} else if (names.size() == 2) {
+			// the outer axis is y and the inner axis is x
+			final boolean is2d = indexes.length > 1;
+			final int xIndex = is2d ? indexes[1] : indexes[0];
+			final int yIndex = indexes[0];
+			position = new Point(names.get(1), xIndex, value(1, index, Value.POSITION), names.get(0), yIndex,
+					value(0, index, Value.POSITION), is2d);
+		} else {
+			final double[] values = new double[names.size()];
+			final int[] axisIndexes = new int[names.size()];
+			for (int axis = 0; axis < names.size(); axis++) {
+				values[axis] = value(axis, index, Value.POSITION);
+				axisIndexes[axis] = indexes[axisDimension[axis]];
+			}
+			position = new IndexedPosition(schema, values, axisIndexes);
+		}
+		position.setStepIndex(index);
+		if (duration > 0) {
+			position.setExposureTime(duration);
+		}
+		return position;
+	}
+
+	/**
+	 * Calculates the positions of an axis at every point of the scan
+	 *
+	 * @param axis
+	 *            the name of the axis
+	 * @return an array of the positions, in the order of the points
+	 */
+	public double[] getPositions(String axis) {
+		return values(axis, Value.POSITION);
+	}
+
+	/**
+	 * @return an array of the lower bound of an axis at every point of the scan
+	 */
+	public double[] getLowerBounds(String axis) {
+		return values(axis, Value.LOWER);
+	}
+
+	/**
+	 * @return an array of the upper bound of an axis at every point of the scan
+	 */
+	public double[] getUpperBounds(String axis) {
+		return values(axis, Value.UPPER);
+	}
+
+	private double[] values(String axisName, Value value) {
+		final int axis = names.indexOf(axisName);
+		if (axis < 0) {
+			throw new IllegalArgumentException("Axis " + axisName + " is not in the scan axes " + names);
+		}
+		final double[] values = new double[size];
+		Arrays.parallelSetAll(values, index -> value(axis, index, value));
+		return values;
+	}
+
+	/**
+	 * @return the index of the point in the given dimension, allowing for alternating dimensions
+	 */
+	private int dimensionIndex(int dimension, int index) {
+		final int dimensionSize = dimensions.get(dimension).getSize();
+		final long k = index / dimensionRepeats[dimension];
+		final int dimensionIndex = (int) (k % dimensionSize);
+		return isReversed(dimension, index) ? dimensionSize - dimensionIndex - 1 : dimensionIndex;
+	}
+
+	private boolean isReversed(int dimension, int index) {
+		final long runs = index / dimensionRepeats[dimension] / dimensions.get(dimension).getSize();
+		return dimensions.get(dimension).isAlternate() && runs % 2 == 1;
+	}
+
+	private double value(int axis, int index, Value value) {
+		final int d = axisDimension[axis];
+		final Dimension dimension = dimensions.get(d);
+		final int dimensionIndex = dimensionIndex(d, index);
+
+		double result;
+		if (value == Value.POSITION || d != dimensions.size() - 1) {
+			result = dimension.getPosition(dimensionAxis[axis], dimensionIndex);
+		} else if ((value == Value.LOWER) != isReversed(d, index)) {
+			result = dimension.getLowerBound(dimensionAxis[axis], dimensionIndex);
+		} else {
+			// the upper bound, or the lower bound if the dimension is reversed
+			result = dimension.getUpperBound(dimensionAxis[axis], dimensionIndex);
+		}
+
+		final String name = names.get(axis);
+		for (RandomOffset mutator : axisMutators[axis]) {
+			final double offset = mutator.offset(name, index);
+			result += switch (value) {
+				case POSITION -> offset;
+				case LOWER -> (mutator.offset(name, index - 1L) + offset) / 2;
+				case UPPER -> (mutator.offset(name, index + 1L) + offset) / 2;
+			};
+		}
+		return result;
+	}
+
+	@Override
+	public Iterator<IPosition> iterator() {
+		return new Iterator<>() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public IPosition next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return getPosition(index++);
+			}
+		};
+	}
+
+	public List<AxisGenerator> getGenerators() {
+		return generators;
+	}
+
+	public List<RegionExcluder> getExcluders() {
+		return excluders;
+	}
+
+	public List<RandomOffset> getMutators() {
+		return mutators;
+	}
+
+	public double getDuration() {
+		return duration;
+	}
+
+	public boolean isContinuous() {
+		return continuous;
+	}
+
+	@Override
+	public PyDictionary toDict() {
+		throw new UnsupportedOperationException("A Java point generator cannot be serialised to a python dictionary");
+	}
+
+	@Override
+	public String toString() {
+		return "JavaPointGenerator [generators=" + generators + ", excluders=" + excluders + ", mutators=" + mutators
+				+ ", duration=" + duration + ", continuous=" + continuous + "]";
+	}
+}
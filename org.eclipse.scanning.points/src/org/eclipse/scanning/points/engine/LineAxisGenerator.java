@@ -0,0 +1,73 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.List;
+
+/**
+ * Positions evenly spaced along a straight line in one or more axes, as the scanpointgenerator
+ * {@code LineGenerator}. A line of one point is at the midpoint of start and stop, with its bounds at start and stop.
+ */
+public class LineAxisGenerator extends AxisGenerator {
+
+	private final double[] start;
+
+	private final double[] stop;
+
+	/** The position of index 0 of each axis */
+	private final double[] first;
+
+	private final double[] step;
+
+	public LineAxisGenerator(String axis, double start, double stop, int size, boolean alternate) {
+		this(List.of(axis), new double[] { start }, new double[] { stop }, size, alternate);
+	}
+
+	public LineAxisGenerator(List<String> axes, double[] start, double[] stop, int size, boolean alternate) {
+		super(axes, size, alternate);
+		if (start.length != axes.size() || stop.length != axes.size()) {
+			throw new IllegalArgumentException("Expected start and stop for each of " + axes);
+		}
+		this.start = start.clone();
+		this.stop = stop.clone();
+		first = new double[axes.size()];
+		step = new double[axes.size()];
+		for (int i = 0; i < axes.size(); i++) {
+			step[i] = stop[i] - start[i];
+			if (size > 1) {
+				step[i] /= (size - 1);
+				first[i] = start[i];
+			} else {
+				first[i] = (start[i] + stop[i]) / 2.0;
+			}
+		}
+	}
+
+	public double[] getStart() {
+		return start.clone();
+	}
+
+	public double[] getStop() {
+		return stop.clone();
+	}
+
+	@Override
+	public double getPosition(int axis, double index) {
+		return index * step[axis] + first[axis];
+	}
+}
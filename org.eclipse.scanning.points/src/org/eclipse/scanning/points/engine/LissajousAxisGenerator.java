@@ -0,0 +1,71 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.List;
+
+/**
+ * Positions along a Lissajous curve in two axes, as the scanpointgenerator {@code LissajousGenerator}. Odd numbers of
+ * lobes start at the centre of the box and even numbers at the right hand edge.
+ */
+public class LissajousAxisGenerator extends AxisGenerator {
+
+	private final double xCentre;
+	private final double yCentre;
+	private final double xMax;
+	private final double yMax;
+	private final int xFrequency;
+	private final int yFrequency;
+	private final double phaseDifference;
+	private final double increment;
+
+	/**
+	 * @param axes
+	 *            the names of the x and y axes
+	 * @param centre
+	 *            the centre of the box the curve fills
+	 * @param span
+	 *            the width and height of the box
+	 * @param lobes
+	 *            the number of lobes of the curve
+	 * @param size
+	 *            the number of points
+	 */
+	public LissajousAxisGenerator(List<String> axes, double[] centre, double[] span, int lobes, int size, boolean alternate) {
+		super(axes, size, alternate);
+		if (axes.size() != 2 || centre.length != 2 || span.length != 2) {
+			throw new IllegalArgumentException("Expected centre, span and axes " + axes + " to be 2 dimensional");
+		}
+		xCentre = centre[0];
+		yCentre = centre[1];
+		xMax = span[0] / 2;
+		yMax = span[1] / 2;
+		xFrequency = lobes;
+		yFrequency = lobes + 1;
+		phaseDifference = Math.PI / 2 * (lobes % 2);
+		increment = 2 * Math.PI / size;
+	}
+
+	@Override
+	public double getPosition(int axis, double index) {
+		if (axis == 0) {
+			return xCentre + xMax * Math.sin(xFrequency * increment * index + phaseDifference);
+		}
+		return yCentre + yMax * Math.sin(yFrequency * increment * index);
+	}
+}
@@ -0,0 +1,73 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offsets each point by a pseudo-random amount, as the scanpointgenerator {@code RandomOffsetMutator}.
+ * <p>
+ * The offset is a hash of the point index, axis and seed, so it can be calculated for any point without generating
+ * the points before it. The bounds of a point are offset by the mean of its offset and that of the point before or
+ * after it.
+ *
+ * @param seed
+ *            the seed of the offsets
+ * @param axes
+ *            the axes to offset
+ * @param maxOffsets
+ *            the maximum offset of each axis
+ */
+public record RandomOffset(int seed, List<String> axes, Map<String, Double> maxOffsets) {
+
+	private static final double MAX_HASH = 0xFFFFFFFFL;
+
+	public RandomOffset {
+		if (!maxOffsets.keySet().containsAll(axes)) {
+			throw new IllegalArgumentException("Dimensions of axes " + axes + " and max offset " + maxOffsets + " don't match");
+		}
+		axes = List.copyOf(axes);
+		maxOffsets = Map.copyOf(maxOffsets);
+	}
+
+	/**
+	 * @param axis
+	 *            an axis in {@link #axes()}
+	 * @param index
+	 *            the index of the point in the scan
+	 * @return the offset of the point in the axis
+	 */
+	public double offset(String axis, long index) {
+		long x = (index << 4) + (axis.isEmpty() ? 0 : axis.charAt(0));
+		x ^= (long) seed << 12;
+		// Robert Jenkins' 32 bit hash, as unsigned 32 bit arithmetic
+		x = (x + 0x7ED55D16L) + (x << 12);
+		x &= 0xFFFFFFFFL;
+		x = (x ^ 0xC761C23CL) ^ (x >> 19);
+		x = (x + 0x165667B1L) + (x << 5);
+		x = (x + 0xD3A2646CL) ^ (x << 9);
+		x = (x + 0xFD7046C5L) + (x << 3);
+		x &= 0xFFFFFFFFL;
+		x = (x ^ 0xB55A4F09L) ^ (x >> 16);
+		x &= 0xFFFFFFFFL;
+		// scanpointgenerator rounds the hash to a float32 before scaling it to [-1, 1]
+		final double r = (float) x / MAX_HASH * 2 - 1;
+		return maxOffsets.get(axis) * r;
+	}
+}
@@ -0,0 +1,205 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.Arrays;
+
+/**
+ * A region of interest in two axes, used by a {@link RegionExcluder} to exclude points outside it.
+ * <p>
+ * The implementations are ports of the {@code mask_points} methods of the scanpointgenerator ROIs, including their
+ * treatment of points on the boundary, so that the same points are included as by the python excluders.
+ */
+public interface Region {
+
+	/**
+	 * @return {@code true} if the point is in this region
+	 */
+	boolean contains(double x, double y);
+
+	/**
+	 * As scanpointgenerator {@code CircularROI}
+	 */
+	record Circular(double xCentre, double yCentre, double radius) implements Region {
+		@Override
+		public boolean contains(double x, double y) {
+			final double dx = x - xCentre;
+			final double dy = y - yCentre;
+			return dx * dx + dy * dy <= radius * radius;
+		}
+	}
+
+	/**
+	 * As scanpointgenerator {@code EllipticalROI}, with the angle of the x semi-axis in radians
+	 */
+	record Elliptical(double xCentre, double yCentre, double xSemiAxis, double ySemiAxis, double angle) implements Region {
+		@Override
+		public boolean contains(double x, double y) {
+			double dx = x - xCentre;
+			double dy = y - yCentre;
+			if (angle != 0) {
+				final double phi = -angle;
+				final double tx = dx * Math.cos(phi) - dy * Math.sin(phi);
+				dy = dx * Math.sin(phi) + dy * Math.cos(phi);
+				dx = tx;
+			}
+			return (dx * dx) / (xSemiAxis * xSemiAxis) + (dy * dy) / (ySemiAxis * ySemiAxis) <= 1;
+		}
+	}
+
+	/**
+	 * As scanpointgenerator {@code PointROI}, which only contains points exactly at its position
+	 */
+	record Point(double xPoint, double yPoint) implements Region {
+		@Override
+		public boolean contains(double x, double y) {
+			final double dx = x - xPoint;
+			final double dy = y - yPoint;
+			return dx * dx + dy * dy <= 0;
+		}
+	}
+
+	/**
+	 * As scanpointgenerator {@code PolygonalROI}, using the even-odd rule for complex polygons
+	 */
+	record Polygonal(double[] xPoints, double[] yPoints) implements Region {
+
+		public Polygonal {
+			if (xPoints.length != yPoints.length) {
+				throw new IllegalArgumentException("Point arrays must be the same size");
+			}
+			if (xPoints.length < 3) {
+				throw new IllegalArgumentException("Polygon requires at least 3 vertices");
+			}
+			xPoints = xPoints.clone();
+			yPoints = yPoints.clone();
+		}
+
+		@Override
+		public boolean contains(double x, double y) {
+			boolean inside = false;
+			double v1x = xPoints[xPoints.length - 1];
+			double v1y = yPoints[yPoints.length - 1];
+			for (int i = 0; i < xPoints.length; i++) {
+				final double v2x = xPoints[i];
+				final double v2y = yPoints[i];
+				// skip horizontal edges
+				if (v2y != v1y && ((y < v2y && y >= v1y) || (y < v1y && y >= v2y))) {
+					final double t = (y - v1y) / (v2y - v1y);
+					if (x < v1x + t * (v2x - v1x)) {
+						inside = !inside;
+					}
+				}
+				v1x = v2x;
+				v1y = v2y;
+			}
+			return inside;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Polygonal other && Arrays.equals(xPoints, other.xPoints) && Arrays.equals(yPoints, other.yPoints);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(xPoints) + Arrays.hashCode(yPoints);
+		}
+
+		@Override
+		public String toString() {
+			return "Polygonal [xPoints=" + Arrays.toString(xPoints) + ", yPoints=" + Arrays.toString(yPoints) + "]";
+		}
+	}
+
+	/**
+	 * As scanpointgenerator {@code RectangularROI}, rotated about its start by the angle in radians
+	 */
+	record Rectangular(double xStart, double yStart, double width, double height, double angle) implements Region {
+		@Override
+		public boolean contains(double x, double y) {
+			double dx = x - xStart;
+			double dy = y - yStart;
+			if (angle != 0) {
+				final double phi = -angle;
+				final double rx = dx * Math.cos(phi) - dy * Math.sin(phi);
+				dy = dx * Math.sin(phi) + dy * Math.cos(phi);
+				dx = rx;
+			}
+			return dx >= 0 && dx <= width && dy >= 0 && dy <= height;
+		}
+	}
+
+	/**
+	 * As scanpointgenerator {@code SectorROI}, with angles in radians
+	 */
+	record Sector(double xCentre, double yCentre, double innerRadius, double outerRadius, double startAngle, double endAngle) implements Region {
+
+		private static final double TWO_PI = 2 * Math.PI;
+
+		public Sector {
+			if (innerRadius < 0 || outerRadius < innerRadius || outerRadius <= 0) {
+				throw new IllegalArgumentException("Sector size is invalid");
+			}
+			// scanpointgenerator constrains the angles when the ROI is created and again when masking points
+			final double[] angles = constrainAngles(constrainAngles(new double[] { startAngle, endAngle }));
+			startAngle = angles[0];
+			endAngle = angles[1];
+		}
+
+		/**
+		 * Constrains angles so that the start is in [0, 2pi) and the end is in [start, start + 2pi]
+		 */
+		private static double[] constrainAngles(double[] angles) {
+			final double start = angles[0];
+			double end = angles[1];
+			if (end < start) {
+				end += TWO_PI;
+				if (end < start) {
+					return new double[] { 0, TWO_PI };
+				}
+			}
+			final double sweep = end - start;
+			if (sweep >= TWO_PI) {
+				return new double[] { 0, TWO_PI };
+			}
+			final double constrainedStart = remainder(start + TWO_PI, TWO_PI);
+			return new double[] { constrainedStart, constrainedStart + sweep };
+		}
+
+		@Override
+		public boolean contains(double x, double y) {
+			final double dx = x - xCentre;
+			final double dy = y - yCentre;
+			// scanpointgenerator compares the squared distance with the radii, so the same is done here
+			final double r2 = dx * dx + dy * dy;
+			double phi = remainder(TWO_PI + Math.atan2(dy, dx), TWO_PI);
+			phi -= startAngle + TWO_PI;
+			phi = remainder(phi, TWO_PI);
+			return r2 <= outerRadius && r2 >= innerRadius && phi <= endAngle - startAngle;
+		}
+
+		/**
+		 * The remainder with the sign of the divisor, as the python and numpy {@code %} operator
+		 */
+		private static double remainder(double a, double b) {
+			final double mod = a % b;
+			return mod != 0 && (mod < 0) != (b < 0) ? mod + b : mod;
+		}
+	}
+}
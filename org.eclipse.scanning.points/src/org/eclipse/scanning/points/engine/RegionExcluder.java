@@ -0,0 +1,51 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.List;
+
+/**
+ * Excludes the points which are outside all of a list of regions, as the scanpointgenerator {@code ROIExcluder}.
+ *
+ * @param regions
+ *            the regions, points in any of which are included
+ * @param axes
+ *            the names of the axes the excluder acts on, the first two being the axes of the regions, e.g. [x, y]
+ */
+public record RegionExcluder(List<Region> regions, List<String> axes) {
+
+	public RegionExcluder {
+		if (axes.size() < 2) {
+			throw new IllegalArgumentException("Expected 2 axes for regions, got " + axes);
+		}
+		regions = List.copyOf(regions);
+		axes = List.copyOf(axes);
+	}
+
+	/**
+	 * @return {@code true} if the point is in any of the regions
+	 */
+	public boolean contains(double x, double y) {
+		for (Region region : regions) {
+			if (region.contains(x, y)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
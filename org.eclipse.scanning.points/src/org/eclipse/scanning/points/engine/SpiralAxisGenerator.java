@@ -0,0 +1,69 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.List;
+
+/**
+ * Positions along an Archimedean spiral in two axes, as the scanpointgenerator {@code SpiralGenerator}. The number
+ * of points is determined by the radius and scale.
+ */
+public class SpiralAxisGenerator extends AxisGenerator {
+
+	/** Scale factor of the angle, which is parameterised as alpha * sqrt(t) */
+	private static final double ALPHA = Math.sqrt(4 * Math.PI);
+
+	private final double xCentre;
+	private final double yCentre;
+
+	/** Scale factor of the radius, r = beta * phi */
+	private final double beta;
+
+	/**
+	 * @param axes
+	 *            the names of the x and y axes
+	 * @param centre
+	 *            the centre of the spiral
+	 * @param radius
+	 *            the maximum radius of the spiral
+	 * @param scale
+	 *            the gap between the rings of the spiral
+	 */
+	public SpiralAxisGenerator(List<String> axes, double[] centre, double radius, double scale, boolean alternate) {
+		super(axes, size(radius, scale), alternate);
+		if (axes.size() != 2 || centre.length != 2) {
+			throw new IllegalArgumentException("Expected centre and axes " + axes + " to be 2 dimensional");
+		}
+		xCentre = centre[0];
+		yCentre = centre[1];
+		beta = scale / (2 * Math.PI);
+	}
+
+	private static int size(double radius, double scale) {
+		return (int) Math.pow(radius / (ALPHA * (scale / (2 * Math.PI))), 2) + 1;
+	}
+
+	@Override
+	public double getPosition(int axis, double index) {
+		final double phi = ALPHA * Math.sqrt(index + 0.5);
+		if (axis == 0) {
+			return xCentre + beta * phi * Math.sin(phi);
+		}
+		return yCentre + beta * phi * Math.cos(phi);
+	}
+}
@@ -0,0 +1,35 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.points.engine;
+
+import java.util.List;
+
+/**
+ * Empty points with no axes, repeated a number of times, as the scanpointgenerator {@code StaticPointGenerator}.
+ */
+public class StaticAxisGenerator extends AxisGenerator {
+
+	public StaticAxisGenerator(int size) {
+		super(List.of(), size, false);
+	}
+
+	@Override
+	public double getPosition(int axis, double index) {
+		throw new IndexOutOfBoundsException("A static generator has no axes");
+	}
+}
@@ -17,6 +17,7 @@ import java.util.Map;
 import org.eclipse.scanning.api.points.IMutator;
 import org.eclipse.scanning.jython.JythonObjectFactory;
 import org.eclipse.scanning.points.ScanPointGeneratorFactory;
+import org.eclipse.scanning.points.engine.RandomOffset;
 import org.python.core.PyDictionary;
 import org.python.core.PyObject;
 
@@ -69,4 +70,11 @@ public class RandomOffsetMutator implements IMutator {
 
 		return randomOffsetMutatorFactory.createObject(seed, axes, maxOffset);
 	}
+
+	/**
+	 * @return the equivalent mutator for a {@code JavaPointGenerator}
+	 */
+	public RandomOffset getMutatorAsJavaObject() {
+		return new RandomOffset(getSeed(), getAxes(), getMaxOffsets());
+	}
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ package org.eclipse.scanning.sequencer;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -43,6 +44,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.scanning.api.ILevel;
 import org.eclipse.scanning.api.INameable;
 import org.eclipse.scanning.api.points.IPosition;
+import org.eclipse.scanning.api.scan.DeviceLatency;
 import org.eclipse.scanning.api.scan.LevelRole;
 import org.eclipse.scanning.api.scan.PositionEvent;
 import org.eclipse.scanning.api.scan.ScanningException;
@@ -295,6 +297,86 @@ public class LevelRunnerTest {
 		runner.run(position);
 	}
 
+	@Test
+	public void testDeviceLatenciesAreRecorded() throws Exception {
+		runner.setDevices(asList(level5a, level1a));
+		runner.run(position);
+		runner.run(position);
+
+		final List<DeviceLatency> latencies = runner.getDeviceLatencies();
+		assertEquals(2, latencies.size());
+
+		// Latencies are in level order
+		final DeviceLatency level1Latency = latencies.get(0);
+		assertEquals(LevelRole.MOVE, level1Latency.role());
+		assertEquals(1, level1Latency.level());
+		assertEquals("level1a", level1Latency.deviceName());
+		assertEquals(2, level1Latency.histogram().getTotalCount());
+
+		final DeviceLatency level5Latency = latencies.get(1);
+		assertEquals(5, level5Latency.level());
+		assertEquals("level5a", level5Latency.deviceName());
+		assertEquals(2, level5Latency.histogram().getTotalCount());
+	}
+
+	@Test
+	public void testRunMultipleLevelsOnDependencies() throws Exception {
+		runner.setStartOnDependencies(true);
+		runner.setDevices(asList(level5a, level2a, level5b, level1a, level1b, level2b));
+		runner.run(position);
+
+		// Devices with no dependencies set depend on all lower levels, so are still run in level order
+		final List<ILevel> objectsRun = runner.getTasksRun().stream().map(task -> task.levelObject).collect(toList());
+		assertEquals(6, objectsRun.size());
+		assertTrue(objectsRun.indexOf(level2a) > objectsRun.indexOf(level1a));
+		assertTrue(objectsRun.indexOf(level2a) > objectsRun.indexOf(level1b));
+		assertTrue(objectsRun.indexOf(level5a) > objectsRun.indexOf(level2b));
+
+		final ArgumentCaptor<PositionEvent> levelPerformedCaptor = ArgumentCaptor.forClass(PositionEvent.class);
+		verify(listener, times(3)).levelPerformed(levelPerformedCaptor.capture());
+		assertEquals(asList(1, 2, 5), levelPerformedCaptor.getAllValues().stream().map(PositionEvent::getLevel).collect(toList()));
+	}
+
+	@Test
+	public void testDeviceStartsWhenDependenciesFinish() throws Exception {
+		// level2 depends only on level1a, so should not wait for the slow level1b
+		final SimpleScannable level2 = new SimpleScannable(2, "level2", 21) {
+			@Override
+			public Collection<String> getLevelDependencies() {
+				return asList("level1a");
+			}
+		};
+		level1b.setDelay(1);
+		runner.setStartOnDependencies(true);
+		runner.setDevices(asList(level1a, level1b, level2));
+		runner.run(position);
+
+		final ArgumentCaptor<PositionEvent> levelPerformedCaptor = ArgumentCaptor.forClass(PositionEvent.class);
+		verify(listener, times(2)).levelPerformed(levelPerformedCaptor.capture());
+		assertEquals(asList(2, 1), levelPerformedCaptor.getAllValues().stream().map(PositionEvent::getLevel).collect(toList()));
+	}
+
+	@Test
+	public void testAbortOnDependenciesStopsDependentDevices() throws Exception {
+		level1a.setDelay(2);
+		runner.setStartOnDependencies(true);
+		runner.setDevices(asList(level1a, level2a));
+
+		// abort while level1a is still running, level2a depends on it so should never be started
+		Executors.newSingleThreadScheduledExecutor().schedule(() -> runner.abort(), 500, TimeUnit.MILLISECONDS);
+		try {
+			runner.run(position);
+			fail("Expected to throw an exception due to abort");
+		} catch (InterruptedException e) {
+			// expected
+		}
+
+		Thread.sleep(2000); // give level1a time to finish
+		final List<ILevel> objectsRun = runner.getTasksRun().stream().map(task -> task.levelObject).collect(toList());
+		assertFalse(objectsRun.contains(level2a));
+		verify(listener, never()).levelPerformed(any(PositionEvent.class));
+	}
+
 	@Test
 	public void testCreateEmptyRunner() throws Exception {
 		final IPosition position = mock(IPosition.class);
@@ -66,6 +66,7 @@ import org.eclipse.scanning.api.malcolm.event.MalcolmEvent;
 import org.eclipse.scanning.api.malcolm.event.MalcolmEvent.MalcolmEventType;
 import org.eclipse.scanning.api.malcolm.event.MalcolmStepsCompletedEvent;
 import org.eclipse.scanning.api.points.IPosition;
+import org.eclipse.scanning.api.scan.DeviceLatency;
 import org.eclipse.scanning.api.scan.IFilePathService;
 import org.eclipse.scanning.api.scan.IScanService;
 import org.eclipse.scanning.api.scan.PositionEvent;
@@ -491,6 +492,11 @@ final class AcquisitionDevice extends AbstractRunnableDevice<ScanModel> implemen
 			runners.close();
 			writers.close();
 
+			if (logger.isDebugEnabled()) {
+				getDeviceLatencies().forEach(latency -> logger.debug("{} latency of {} at level {}: {}",
+						latency.role(), latency.deviceName(), latency.level(), latency.histogram()));
+			}
+
 			if (!errorFound && getDeviceState() != DeviceState.ABORTED) {
 				fireEnd(last); // only fire end if finished normally
 			}
@@ -878,6 +884,21 @@ final class AcquisitionDevice extends AbstractRunnableDevice<ScanModel> implemen
 		return positioner;
 	}
 
+	@Override
+	public List<DeviceLatency> getDeviceLatencies() {
+		final List<DeviceLatency> latencies = new ArrayList<>();
+		if (positioner instanceof LevelRunner<?> positionerRunner) {
+			latencies.addAll(positionerRunner.getDeviceLatencies());
+		}
+		if (runners != null) {
+			latencies.addAll(runners.getDeviceLatencies());
+		}
+		if (writers != null) {
+			latencies.addAll(writers.getDeviceLatencies());
+		}
+		return latencies;
+	}
+
 	@Override
 	public void addPositionListener(IPositionListener posListener) {
 		positionListeners.add(posListener);
@@ -11,12 +11,15 @@
  *******************************************************************************/
 package org.eclipse.scanning.sequencer;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -25,12 +28,19 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -42,7 +52,9 @@ import org.eclipse.scanning.api.annotation.scan.LevelEnd;
 import org.eclipse.scanning.api.annotation.scan.LevelStart;
 import org.eclipse.scanning.api.points.IPosition;
 import org.eclipse.scanning.api.points.MapPosition;
+import org.eclipse.scanning.api.scan.DeviceLatency;
 import org.eclipse.scanning.api.scan.IScanService;
+import org.eclipse.scanning.api.scan.LatencyHistogram;
 import org.eclipse.scanning.api.scan.LevelInformation;
 import org.eclipse.scanning.api.scan.LevelRole;
 import org.eclipse.scanning.api.scan.ScanningException;
@@ -57,6 +69,13 @@ import org.slf4j.LoggerFactory;
  *
  * The implementing class provides the Callable which runs the actual task. For instance setting a position.
  *
+ * The time taken by each task is recorded in a {@link LatencyHistogram} for its device and level, see
+ * {@link #getDeviceLatencies()}.
+ *
+ * If {@link #setStartOnDependencies(boolean)} is set, a blocking run does not wait for every device at one level to
+ * finish before starting the next level. Instead each device is started as soon as the devices it depends on (see
+ * {@link ILevel#getLevelDependencies()}) have finished, so that a slow device only holds up the devices that need it.
+ *
  * @author Matthew Gerring
  *
  */
@@ -71,6 +90,9 @@ abstract class LevelRunner<L extends ILevel> {
 
 	private volatile Exception abortException;
 
+	/** The futures of a run started on dependencies, which are cancelled if this runner is aborted */
+	private volatile List<CompletableFuture<?>> outstandingFutures = Collections.emptyList();
+
 	private SortedMap<Integer, List<L>> devicesByLevel;
 	private SortedMap<Integer, AnnotationManager> annotationManagers;
 
@@ -81,6 +103,15 @@ abstract class LevelRunner<L extends ILevel> {
 
 	private boolean cachingEnabled;
 
+	/**
+	 * Whether to start each device as soon as its dependencies have finished rather than waiting for all the
+	 * devices at lower levels.
+	 */
+	private boolean startOnDependencies = Boolean.getBoolean("org.eclipse.scanning.sequencer.startOnDependencies");
+
+	/** The time taken by the task of each device, by level then device name */
+	private final SortedMap<Integer, ConcurrentMap<String, LatencyHistogram>> latencyHistograms = new ConcurrentSkipListMap<>();
+
 	protected LevelRunner(INameable device) {
 		pDelegate = new PositionDelegate(device);
 		threadPool = createThreadPool();
@@ -180,12 +211,16 @@ abstract class LevelRunner<L extends ILevel> {
 
 		try {
 			final int finalLevel = devicesByLevel.isEmpty() ? 0 : devicesByLevel.lastKey();
-			for (Entry<Integer, List<L>> devicesForLevel : devicesByLevel.entrySet()) {
-				checkAborted();
-				final int level = devicesForLevel.getKey();
-				runLevel(level, position, devicesForLevel.getValue(),
-						block || level != finalLevel, // if non-blocking, still block for all but the final level
-						annotationManagersByLevel.get(level));
+			if (block && startOnDependencies) {
+				runLevelsOnDependencies(position, devicesByLevel, annotationManagersByLevel);
+			} else {
+				for (Entry<Integer, List<L>> devicesForLevel : devicesByLevel.entrySet()) {
+					checkAborted();
+					final int level = devicesForLevel.getKey();
+					runLevel(level, position, devicesForLevel.getValue(),
+							block || level != finalLevel, // if non-blocking, still block for all but the final level
+							annotationManagersByLevel.get(level));
+				}
 			}
 
 			pDelegate.firePositionPerformed(finalLevel, position);
@@ -202,7 +237,7 @@ abstract class LevelRunner<L extends ILevel> {
 
 	private void runLevel(final int level, IPosition loc, final List<L> devicesForLevel,
 			boolean block, AnnotationManager annotationManager) throws ScanningException, InterruptedException, ExecutionException {
-		final List<Callable<IPosition>> tasks = createTasks(devicesForLevel, loc);
+		final List<Callable<IPosition>> tasks = createTasks(level, devicesForLevel, loc);
 
 		logger.trace("Invoking LevelStart on {}", devicesForLevel);
 		annotationManager.invoke(LevelStart.class, loc, new LevelInformation(getLevelRole(), level, devicesForLevel));
@@ -261,8 +296,189 @@ abstract class LevelRunner<L extends ILevel> {
 				timeout, level, String.join(", ", (Iterable<String>) timedOutDeviceStrings::iterator));
 	}
 
-	private List<Callable<IPosition>> createTasks(List<L> devices, IPosition location) {
-		return devices.stream().map(obj -> createTask(obj, location)).filter(Objects::nonNull).collect(toList());
+	/**
+	 * Runs all the levels, starting each device as soon as the devices it depends on have finished. The
+	 * {@link LevelStart} annotations of a level are invoked when the first device of the level is ready to start, and
+	 * the {@link LevelEnd} annotations when all the devices of the level have finished.
+	 * <p>
+	 * Each stage checks that the runner has not been aborted before it starts, and aborting the runner cancels the
+	 * stages still to run, so that no more devices are started and this method returns without waiting for the timeout.
+	 */
+	private void runLevelsOnDependencies(IPosition loc, SortedMap<Integer, List<L>> devicesByLevel,
+			SortedMap<Integer, AnnotationManager> annotationManagersByLevel) throws ScanningException, InterruptedException, ExecutionException {
+		logger.debug("running {} tasks for levels {} on dependencies", getLevelRole(), devicesByLevel.keySet());
+
+		final Map<String, CompletableFuture<IPosition>> futuresByDeviceName = new HashMap<>();
+		final Map<L, CompletableFuture<IPosition>> futuresByDevice = new HashMap<>();
+		final List<CompletableFuture<Void>> levelFutures = new ArrayList<>();
+		final List<CompletableFuture<?>> allFutures = new CopyOnWriteArrayList<>();
+		outstandingFutures = allFutures;
+		try {
+			for (Entry<Integer, List<L>> devicesForLevel : devicesByLevel.entrySet()) {
+				checkAborted();
+				final int level = devicesForLevel.getKey();
+				final List<L> devices = devicesForLevel.getValue();
+				final AnnotationManager annotationManager = annotationManagersByLevel.get(level);
+				final LevelInformation levelInformation = new LevelInformation(getLevelRole(), level, devices);
+
+				// the level starts when the dependencies of any of its devices have finished
+				final List<CompletableFuture<Void>> dependencies = devices.stream()
+						.map(device -> getDependencies(device, futuresByDeviceName))
+						.toList();
+				final CompletableFuture<Void> levelStart = CompletableFuture.anyOf(dependencies.toArray(CompletableFuture[]::new))
+						.thenRunAsync(() -> {
+							checkNotAborted();
+							invokeAnnotations(annotationManager, LevelStart.class, loc, levelInformation);
+						}, threadPool);
+				allFutures.add(levelStart);
+
+				final List<CompletableFuture<IPosition>> deviceFutures = new ArrayList<>(devices.size());
+				for (int i = 0; i < devices.size(); i++) {
+					final L device = devices.get(i);
+					final Callable<IPosition> task = createTimedTask(level, device, loc);
+					final CompletableFuture<IPosition> deviceFuture = CompletableFuture.allOf(dependencies.get(i), levelStart)
+							.thenApplyAsync(ignored -> {
+								checkNotAborted();
+								return callTask(task);
+							}, threadPool);
+					deviceFutures.add(deviceFuture);
+					futuresByDevice.put(device, deviceFuture);
+				}
+				for (int i = 0; i < devices.size(); i++) {
+					futuresByDeviceName.put(devices.get(i).getName(), deviceFutures.get(i));
+				}
+
+				allFutures.addAll(deviceFutures);
+
+				final CompletableFuture<Void> levelEnd = CompletableFuture.allOf(deviceFutures.toArray(CompletableFuture[]::new))
+						.thenRunAsync(() -> {
+							checkNotAborted();
+							try {
+								pDelegate.fireLevelPerformed(level, devices, getPosition(loc, deviceFutures));
+							} catch (Exception e) {
+								throw new CompletionException(e);
+							}
+							invokeAnnotations(annotationManager, LevelEnd.class, loc, levelInformation);
+						}, threadPool);
+				levelFutures.add(levelEnd);
+				allFutures.add(levelEnd);
+			}
+			// the runner may have been aborted before the last futures were added, and so not have cancelled them
+			checkAborted();
+
+			try {
+				// each level may take up to the timeout, as when running level by level
+				final long timeoutSeconds = getTimeout() == Long.MAX_VALUE ? Long.MAX_VALUE : getTimeout() * devicesByLevel.size();
+				CompletableFuture.allOf(levelFutures.toArray(CompletableFuture[]::new)).get(timeoutSeconds, TimeUnit.SECONDS);
+			} catch (TimeoutException e) {
+				checkAborted();
+				final String message = String.format("The timeout of %ds per level has been reached waiting for device(s): %s",
+						timeout, futuresByDevice.entrySet().stream()
+								.filter(entry -> !entry.getValue().isDone())
+								.map(entry -> entry.getKey().toString())
+								.collect(joining(", ")));
+				logger.error(message);
+				throw new ScanningException(message);
+			} catch (ExecutionException | CancellationException e) {
+				checkAborted();
+				if (e.getCause() instanceof ScanningException scanningException) {
+					throw scanningException;
+				}
+				throw e;
+			}
+		} finally {
+			outstandingFutures = Collections.emptyList();
+			// if a device failed, timed out or the runner was aborted, make sure no more devices are started
+			allFutures.forEach(future -> future.cancel(true));
+		}
+		logger.debug("Finished performing {} tasks on dependencies", getLevelRole());
+	}
+
+	/**
+	 * Checks that the runner has not been aborted from a stage of {@link #runLevelsOnDependencies}, which can only
+	 * throw unchecked exceptions
+	 */
+	private void checkNotAborted() {
+		final Exception e = abortException;
+		if (e != null) {
+			throw new CompletionException(e);
+		}
+	}
+
+	/**
+	 * @return a future which completes when the devices the given device depends on have finished
+	 */
+	private CompletableFuture<Void> getDependencies(L device, Map<String, CompletableFuture<IPosition>> futuresByDeviceName) {
+		final Collection<String> dependencyNames = device.getLevelDependencies();
+		final List<CompletableFuture<IPosition>> dependencies;
+		if (dependencyNames == null) {
+			// all devices at lower levels
+			dependencies = new ArrayList<>(futuresByDeviceName.values());
+		} else {
+			dependencies = dependencyNames.stream()
+					.map(futuresByDeviceName::get)
+					.filter(Objects::nonNull) // not a device at a lower level
+					.toList();
+		}
+		return CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new));
+	}
+
+	private void invokeAnnotations(AnnotationManager annotationManager, Class<? extends Annotation> annotation,
+			IPosition loc, LevelInformation levelInformation) {
+		try {
+			annotationManager.invoke(annotation, loc, levelInformation);
+		} catch (ScanningException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	private static IPosition callTask(Callable<IPosition> task) {
+		if (task == null) {
+			return null;
+		}
+		try {
+			return task.call();
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	private List<Callable<IPosition>> createTasks(int level, List<L> devices, IPosition location) {
+		return devices.stream().map(obj -> createTimedTask(level, obj, location)).filter(Objects::nonNull).collect(toList());
+	}
+
+	/**
+	 * Creates the task for a device using {@link #createTask(ILevel, IPosition)}, and wraps it to record the time it
+	 * takes in the latency histogram of the device.
+	 *
+	 * @return the task, or <code>null</code> if there is no work to do for the device
+	 */
+	private Callable<IPosition> createTimedTask(int level, L device, IPosition location) {
+		final Callable<IPosition> task = createTask(device, location);
+		if (task == null) {
+			return null;
+		}
+		final LatencyHistogram histogram = latencyHistograms
+				.computeIfAbsent(level, l -> new ConcurrentHashMap<>())
+				.computeIfAbsent(String.valueOf(device.getName()), name -> new LatencyHistogram());
+		return () -> {
+			final long startTime = System.nanoTime();
+			try {
+				return task.call();
+			} finally {
+				histogram.recordValue(System.nanoTime() - startTime);
+			}
+		};
+	}
+
+	/**
+	 * @return the latencies of the tasks run for each device so far, in order of level
+	 */
+	public List<DeviceLatency> getDeviceLatencies() {
+		final List<DeviceLatency> latencies = new ArrayList<>();
+		latencyHistograms.forEach((level, histograms) -> histograms.forEach(
+				(name, histogram) -> latencies.add(new DeviceLatency(getLevelRole(), level, name, histogram))));
+		return latencies;
 	}
 
 	/**
@@ -356,6 +572,7 @@ abstract class LevelRunner<L extends ILevel> {
 			setAbortException(ne);
 		}
 
+		outstandingFutures.forEach(future -> future.cancel(true));
 		doAbort();
 	}
 
@@ -454,7 +671,7 @@ abstract class LevelRunner<L extends ILevel> {
 		pDelegate.removePositionListener(listener);
 	}
 
-	private IPosition getPosition(IPosition position, List<Future<IPosition>> futures) throws InterruptedException, ExecutionException {
+	private IPosition getPosition(IPosition position, List<? extends Future<IPosition>> futures) throws InterruptedException, ExecutionException {
 		final MapPosition mapPosition = new MapPosition();
 		for (Future<IPosition> future : futures) {
 			final IPosition pos = future.get();
@@ -525,4 +742,20 @@ abstract class LevelRunner<L extends ILevel> {
 		this.cachingEnabled = cachingEnabled;
 	}
 
+	/**
+	 * Set whether blocking runs start each device as soon as the devices it depends on have finished, rather than
+	 * when all the devices at lower levels have finished. The default is set by the system property
+	 * {@code org.eclipse.scanning.sequencer.startOnDependencies}.
+	 *
+	 * @param startOnDependencies
+	 *            <code>true</code> to start devices on their dependencies
+	 */
+	public void setStartOnDependencies(boolean startOnDependencies) {
+		this.startOnDependencies = startOnDependencies;
+	}
+
+	public boolean isStartOnDependencies() {
+		return startOnDependencies;
+	}
+
 }
@@ -43,6 +43,20 @@ public final class SolsticeConstants {
 
 	public static final String FIELD_NAME_END_STATION = "end_station";
 
+	/**
+	 * Name of the collection of device latency statistics within the scan metadata collection.
+	 */
+	public static final String GROUP_NAME_DEVICE_LATENCIES = "device_latencies";
+
+	public static final String ATTRIBUTE_NAME_LEVEL = "level";
+
+	public static final String ATTRIBUTE_NAME_STATISTICS = "statistics";
+
+	/**
+	 * The statistics in each device latency field, in order. All but the count are in milliseconds.
+	 */
+	public static final String DEVICE_LATENCY_STATISTICS = "count, mean, p50, p90, p99, max";
+
 	private SolsticeConstants() {
 		// private constructor to prevent instantiation
 	}
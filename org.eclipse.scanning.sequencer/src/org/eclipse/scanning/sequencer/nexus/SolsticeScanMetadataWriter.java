@@ -18,25 +18,40 @@
 
 package org.eclipse.scanning.sequencer.nexus;
 
+import static org.eclipse.scanning.sequencer.nexus.SolsticeConstants.ATTRIBUTE_NAME_LEVEL;
+import static org.eclipse.scanning.sequencer.nexus.SolsticeConstants.ATTRIBUTE_NAME_STATISTICS;
+import static org.eclipse.scanning.sequencer.nexus.SolsticeConstants.DEVICE_LATENCY_STATISTICS;
 import static org.eclipse.scanning.sequencer.nexus.SolsticeConstants.FIELD_NAME_SCAN_AXES;
 import static org.eclipse.scanning.sequencer.nexus.SolsticeConstants.FIELD_NAME_SCAN_MODELS;
 import static org.eclipse.scanning.sequencer.nexus.SolsticeConstants.FIELD_NAME_SCAN_REQUEST;
+import static org.eclipse.scanning.sequencer.nexus.SolsticeConstants.GROUP_NAME_DEVICE_LATENCIES;
 import static org.eclipse.scanning.sequencer.nexus.SolsticeConstants.PROPERTY_NAME_UNIQUE_KEYS_PATH;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.dawnsci.analysis.api.persistence.IMarshallerService;
 import org.eclipse.dawnsci.nexus.INexusDevice;
 import org.eclipse.dawnsci.nexus.NXcollection;
+import org.eclipse.dawnsci.nexus.NexusConstants;
 import org.eclipse.dawnsci.nexus.NexusException;
+import org.eclipse.dawnsci.nexus.NexusNodeFactory;
 import org.eclipse.dawnsci.nexus.NexusScanInfo;
 import org.eclipse.dawnsci.nexus.NexusScanInfo.ScanRole;
 import org.eclipse.dawnsci.nexus.builder.NexusObjectProvider;
 import org.eclipse.dawnsci.nexus.scan.NexusScanMetadataWriter;
+import org.eclipse.january.DatasetException;
+import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.ILazyWriteableDataset;
 import org.eclipse.january.dataset.SliceND;
+import org.eclipse.scanning.api.ILevel;
 import org.eclipse.scanning.api.device.IScanDevice;
 import org.eclipse.scanning.api.event.scan.ScanBean;
 import org.eclipse.scanning.api.event.scan.ScanRequest;
@@ -44,6 +59,9 @@ import org.eclipse.scanning.api.points.IPosition;
 import org.eclipse.scanning.api.points.models.AbstractTwoAxisGridModel;
 import org.eclipse.scanning.api.points.models.CompoundModel;
 import org.eclipse.scanning.api.points.models.IScanPointGeneratorModel;
+import org.eclipse.scanning.api.scan.DeviceLatency;
+import org.eclipse.scanning.api.scan.LatencyHistogram;
+import org.eclipse.scanning.api.scan.LevelRole;
 import org.eclipse.scanning.api.scan.PositionEvent;
 import org.eclipse.scanning.api.scan.ScanningException;
 import org.eclipse.scanning.api.scan.event.IPositionListener;
@@ -61,6 +79,8 @@ import uk.ac.diamond.osgi.services.ServiceProvider;
  * and end times, duration, dead time, and the start and end times for each point.
  * It also and create a unique keys dataset which is written to at the end of each point
  * in the scan, this can be used to track how far the scan has progressed.
+ * At the end of the scan the latency statistics of each device moved, run or written by the scan
+ * are written as diagnostics to the {@value SolsticeConstants#GROUP_NAME_DEVICE_LATENCIES} collection.
  */
 public class SolsticeScanMetadataWriter extends NexusScanMetadataWriter implements IPositionListener, INexusDevice<NXcollection> {
 
@@ -72,6 +92,11 @@ public class SolsticeScanMetadataWriter extends NexusScanMetadataWriter implemen
 
 	private boolean writeAfterMovePerformed = false;
 
+	/**
+	 * The datasets to write the latency statistics of each device to, by role and device name
+	 */
+	private final Map<LevelRole, Map<String, ILazyWriteableDataset>> deviceLatencyDatasets = new EnumMap<>(LevelRole.class);
+
 	public SolsticeScanMetadataWriter(IScanDevice scanDevice, ScanModel scanModel) {
 		this.scanDevice = scanDevice;
 		this.scanModel = scanModel;
@@ -122,9 +147,71 @@ public class SolsticeScanMetadataWriter extends NexusScanMetadataWriter implemen
 			scanMetadataCollection.setField(FIELD_NAME_SCAN_AXES, scanAxes.toArray(String[]::new));
 		}
 
+		scanMetadataCollection.addGroupNode(GROUP_NAME_DEVICE_LATENCIES, createDeviceLatenciesCollection());
+
 		return scanMetadataCollection;
 	}
 
+	/**
+	 * Creates a collection with a subcollection for each role (move, run, write) containing a field for the
+	 * latency statistics of each device. The statistics can only be written at the end of the scan, but
+	 * the fields must be created with the file.
+	 */
+	private NXcollection createDeviceLatenciesCollection() {
+		final NXcollection deviceLatenciesCollection = NexusNodeFactory.createNXcollection();
+		final List<ILevel> scannables = new ArrayList<>();
+		if (scanModel.getScannables() != null) scannables.addAll(scanModel.getScannables());
+		if (scanModel.getMonitorsPerPoint() != null) scannables.addAll(scanModel.getMonitorsPerPoint());
+		final List<ILevel> detectors = scanModel.getDetectors() == null ? List.of() : List.copyOf(scanModel.getDetectors());
+
+		addDeviceLatencyDatasets(deviceLatenciesCollection, LevelRole.MOVE, scannables);
+		addDeviceLatencyDatasets(deviceLatenciesCollection, LevelRole.RUN, detectors);
+		addDeviceLatencyDatasets(deviceLatenciesCollection, LevelRole.WRITE, detectors);
+		return deviceLatenciesCollection;
+	}
+
+	private void addDeviceLatencyDatasets(NXcollection deviceLatenciesCollection, LevelRole role, List<ILevel> devices) {
+		if (devices.isEmpty()) return;
+
+		final NXcollection roleCollection = NexusNodeFactory.createNXcollection();
+		final Map<String, ILazyWriteableDataset> datasets = new HashMap<>();
+		for (ILevel device : devices) {
+			final String name = device.getName();
+			if (name == null || datasets.containsKey(name)) continue;
+			datasets.put(name, roleCollection.initializeLazyDataset(name, 1, Double.class));
+			roleCollection.setAttribute(name, ATTRIBUTE_NAME_LEVEL, device.getLevel());
+			roleCollection.setAttribute(name, ATTRIBUTE_NAME_STATISTICS, DEVICE_LATENCY_STATISTICS);
+			roleCollection.setAttribute(name, NexusConstants.UNITS, "ms");
+		}
+		deviceLatenciesCollection.addGroupNode(role.name().toLowerCase(), roleCollection);
+		deviceLatencyDatasets.put(role, datasets);
+	}
+
+	private void writeDeviceLatencies() {
+		for (DeviceLatency latency : scanDevice.getDeviceLatencies()) {
+			final ILazyWriteableDataset dataset = deviceLatencyDatasets.getOrDefault(latency.role(), Collections.emptyMap())
+					.get(latency.deviceName());
+			if (dataset == null) {
+				logger.debug("No dataset for {} latencies of {}", latency.role(), latency.deviceName());
+				continue;
+			}
+
+			final LatencyHistogram histogram = latency.histogram();
+			final double[] statistics = { histogram.getTotalCount(), toMillis(histogram.getMean()),
+					toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(90)),
+					toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getMax()) };
+			try {
+				dataset.setSlice(null, DatasetFactory.createFromObject(statistics), new int[] { 0 }, new int[] { statistics.length }, null);
+			} catch (DatasetException e) {
+				logger.warn("Could not write {} latencies of {}", latency.role(), latency.deviceName(), e);
+			}
+		}
+	}
+
+	private static double toMillis(double nanos) {
+		return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
 	private List<String> getScanAxes(final IScanPointGeneratorModel scanPathModel) {
 		if (scanPathModel instanceof CompoundModel compoundModel) {
 			return compoundModel.getModels().stream().map(this::getScanAxes).flatMap(List::stream).toList();
@@ -181,6 +268,7 @@ public class SolsticeScanMetadataWriter extends NexusScanMetadataWriter implemen
 
 	@Override
 	public void scanFinished() throws NexusException {
+		writeDeviceLatencies();
 		super.scanFinished();
 		scanDevice.removePositionListener(this);
 	}
@@ -18,6 +18,8 @@ import java.util.List;
 
 import org.eclipse.scanning.api.event.EventConstants;
 
+import com.sun.management.ThreadMXBean;
+
 public class ScanningTestUtils {
 
 	private ScanningTestUtils() {
@@ -52,6 +54,21 @@ public class ScanningTestUtils {
 		}
 	}
 
+	/**
+	 * Measures the memory allocated on the current thread while running the given action, for tests that check how
+	 * much the scanning code allocates. The figure is approximate: it includes anything the JVM allocates on the
+	 * thread, such as during class loading or compilation, so the action should be warmed up first.
+	 * @param action action to run
+	 * @return the number of bytes allocated by the action
+	 */
+	public static long allocatedBytes(Runnable action) {
+		final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long threadId = Thread.currentThread().threadId();
+		final long start = threads.getThreadAllocatedBytes(threadId);
+		action.run();
+		return threads.getThreadAllocatedBytes(threadId) - start;
+	}
+
 	private static boolean recursiveDelete(File parent, String... ext) {
 		List<String> extensions = Arrays.asList(ext);
 		if (parent.exists()) {
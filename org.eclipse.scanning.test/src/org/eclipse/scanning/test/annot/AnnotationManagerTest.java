@@ -36,6 +36,7 @@ import org.eclipse.scanning.api.annotation.scan.PointStart;
 import org.eclipse.scanning.api.annotation.scan.PreConfigure;
 import org.eclipse.scanning.api.annotation.scan.ScanEnd;
 import org.eclipse.scanning.api.annotation.scan.ScanStart;
+import org.eclipse.scanning.api.annotation.scan.WriteComplete;
 import org.eclipse.scanning.api.device.IRunnableDeviceService;
 import org.eclipse.scanning.api.device.IScannableDeviceService;
 import org.eclipse.scanning.api.points.IPointGenerator;
@@ -50,6 +51,7 @@ import org.eclipse.scanning.example.scannable.MockScannableConnector;
 import org.eclipse.scanning.points.PointGeneratorService;
 import org.eclipse.scanning.points.validation.ValidatorService;
 import org.eclipse.scanning.sequencer.RunnableDeviceServiceImpl;
+import org.eclipse.scanning.test.ScanningTestUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -64,7 +66,7 @@ import uk.ac.diamond.osgi.services.ServiceProvider;
  * 1. Basic counts
  * 2. Inheritance
  * 3. Injected arguments, including services, ScanInformation and IPosition instances.
- * 4. Large call size performance per call cycle.
+ * 4. Large call size performance and allocation per call cycle.
  * 5. Calling order test (deviceA before deviceB etc.)
  *
  * @author Matthew Gerring
@@ -431,6 +433,45 @@ public class AnnotationManagerTest {
 		assertTrue(time<10); // These cycles must be fast
 	}
 
+	@Test
+	public void checkAllocationPerCycle() throws Exception {
+		final int size = 10000;
+
+		final AnnotationManager m = new AnnotationManager(null, Map.of(IRunnableDeviceService.class, ServiceProvider.getService(IRunnableDeviceService.class)));
+		final List<ManyMethodsDevice> devices = new ArrayList<>();
+		for (int i = 0; i < 100; i++) devices.add(new ManyMethodsDevice());
+		m.addDevices(devices);
+		m.addContext(mock(ScanInformation.class));
+
+		// The context arrays are created once, as the scan would create them once per point
+		final Object[] noContext = new Object[0];
+		final Object[] context = new Object[] { new Point(0, 10, 0, 20) };
+		final Runnable cycle = () -> {
+			try {
+				m.invoke(LevelStart.class, context);
+				m.invoke(PointStart.class, context);
+				m.invoke(PointEnd.class, context);
+				m.invoke(WriteComplete.class, noContext);
+				m.invoke(LevelEnd.class, context);
+			} catch (ScanningException e) {
+				throw new RuntimeException(e);
+			}
+		};
+		// Warm up, so that the method handles are compiled before allocation is measured
+		for (int i = 0; i < size; i++) cycle.run();
+		assertEquals(context[0], devices.get(0).getLastPosition());
+
+		long start = System.nanoTime();
+		final long bytes = ScanningTestUtils.allocatedBytes(() -> {
+			for (int i = 0; i < size; i++) cycle.run();
+		});
+		long time = System.nanoTime() - start;
+
+		// The figure depends on the JVM and its compilation, so it is reported rather than asserted
+		System.out.println("Each cycle of "+devices.size()+" devices with 14 methods took "+time/size/1000+"us and allocated "+bytes/size+" bytes.");
+		assertEquals(2 * size * 14, devices.get(0).getCalls());
+	}
+
 	private Class<?>[] getFirstMethodArgs(InjectionDevice device, String methodName) {
 		for (Method method : device.getClass().getMethods()) {
 			if (method.getName().equals(methodName)) return method.getParameterTypes();
@@ -0,0 +1,118 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.test.annot;
+
+import org.eclipse.scanning.api.annotation.scan.LevelEnd;
+import org.eclipse.scanning.api.annotation.scan.LevelStart;
+import org.eclipse.scanning.api.annotation.scan.PointEnd;
+import org.eclipse.scanning.api.annotation.scan.PointStart;
+import org.eclipse.scanning.api.annotation.scan.WriteComplete;
+import org.eclipse.scanning.api.device.IRunnableDeviceService;
+import org.eclipse.scanning.api.points.IPosition;
+import org.eclipse.scanning.api.scan.ScanInformation;
+
+/**
+ * A device with many methods for each of the annotations called at every point of a scan, which does not allocate
+ * when they are called.
+ */
+public class ManyMethodsDevice {
+
+	private int calls;
+	private IPosition lastPosition;
+
+	@LevelStart
+	public void levelStart1() {
+		calls++;
+	}
+
+	@LevelStart
+	public void levelStart2(IPosition position) {
+		calls++;
+		lastPosition = position;
+	}
+
+	@LevelStart
+	public void levelStart3(ScanInformation info, IPosition position) {
+		calls++;
+	}
+
+	@PointStart
+	public void pointStart1() {
+		calls++;
+	}
+
+	@PointStart
+	public void pointStart2(IPosition position) {
+		calls++;
+		lastPosition = position;
+	}
+
+	@PointStart
+	public void pointStart3(IPosition position, ScanInformation info) {
+		calls++;
+	}
+
+	@PointStart
+	public void pointStart4(IRunnableDeviceService service, IPosition position, ScanInformation info) {
+		calls++;
+	}
+
+	@PointEnd
+	public void pointEnd1() {
+		calls++;
+	}
+
+	@PointEnd
+	public void pointEnd2(IPosition position) {
+		calls++;
+	}
+
+	@PointEnd
+	public void pointEnd3(ScanInformation info) {
+		calls++;
+	}
+
+	@WriteComplete
+	public void writeComplete1() {
+		calls++;
+	}
+
+	@WriteComplete
+	public void writeComplete2(IPosition position) {
+		calls++;
+	}
+
+	@LevelEnd
+	public void levelEnd1() {
+		calls++;
+	}
+
+	@LevelEnd
+	public void levelEnd2(IPosition position, ScanInformation info) {
+		calls++;
+	}
+
+	public int getCalls() {
+		return calls;
+	}
+
+	public IPosition getLastPosition() {
+		return lastPosition;
+	}
+
+}
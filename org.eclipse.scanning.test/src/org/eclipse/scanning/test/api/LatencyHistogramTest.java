@@ -0,0 +1,104 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.test.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThrows;
+
+import org.eclipse.scanning.api.scan.LatencyHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+	private LatencyHistogram histogram;
+
+	@BeforeEach
+	public void setUp() {
+		histogram = new LatencyHistogram();
+	}
+
+	@Test
+	public void testEmptyHistogram() {
+		assertThat(histogram.getTotalCount(), is(0L));
+		assertThat(histogram.getMean(), is(0.0));
+		assertThat(histogram.getMin(), is(0L));
+		assertThat(histogram.getMax(), is(0L));
+		assertThat(histogram.getValueAtPercentile(99), is(0L));
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		for (long value = 1; value <= 10; value++) {
+			histogram.recordValue(value);
+		}
+		assertThat(histogram.getTotalCount(), is(10L));
+		assertThat(histogram.getMean(), is(5.5));
+		assertThat(histogram.getMin(), is(1L));
+		assertThat(histogram.getMax(), is(10L));
+		assertThat(histogram.getValueAtPercentile(50), is(5L));
+		assertThat(histogram.getValueAtPercentile(90), is(9L));
+		assertThat(histogram.getValueAtPercentile(100), is(10L));
+	}
+
+	@Test
+	public void testPercentilesOfLargeValues() {
+		// 1µs to 1s
+		for (long value = 1; value <= 1_000_000; value++) {
+			histogram.recordValue(value * 1000);
+		}
+		assertThat(histogram.getMean(), is(closeTo(500_000_500.0, 1)));
+		assertPercentile(50, 500_000_000);
+		assertPercentile(90, 900_000_000);
+		assertPercentile(99, 990_000_000);
+		assertThat(histogram.getValueAtPercentile(100), is(1_000_000_000L));
+	}
+
+	private void assertPercentile(double percentile, long exactValue) {
+		// Values are counted in buckets 1/32 the width of their power of two
+		final long value = histogram.getValueAtPercentile(percentile);
+		assertThat(value, is(greaterThanOrEqualTo(exactValue)));
+		assertThat(value, is(lessThanOrEqualTo(exactValue + exactValue / 32)));
+	}
+
+	@Test
+	public void testNegativeValuesAreRecordedAsZero() {
+		histogram.recordValue(-5);
+		assertThat(histogram.getMin(), is(0L));
+		assertThat(histogram.getMax(), is(0L));
+	}
+
+	@Test
+	public void testReset() {
+		histogram.recordValue(100);
+		histogram.reset();
+		assertThat(histogram.getTotalCount(), is(0L));
+		assertThat(histogram.getMax(), is(0L));
+		assertThat(histogram.getValueAtPercentile(50), is(0L));
+	}
+
+	@Test
+	public void testInvalidPercentile() {
+		assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+	}
+
+}
@@ -0,0 +1,76 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.eclipse.scanning.test.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scanning.event.util.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+public class JsonUtilTest {
+
+	@Test
+	public void testPropertyNotPresent() {
+		final String json = "{\"name\":\"scan\",\"point\":0}";
+		assertThat(JsonUtil.removeProperties(json, Arrays.asList("detectors")), is(sameInstance(json)));
+		assertThat(JsonUtil.removeProperties(json, Collections.emptyList()), is(sameInstance(json)));
+		assertThat(JsonUtil.removeProperties(json, null), is(sameInstance(json)));
+	}
+
+	@Test
+	public void testRemoveObjectAndArrayValues() {
+		final String json = "{\"detectors\":{\"mandelbrot\":{\"rows\":[1,2,{\"a\":3}]}},\"name\":\"scan\","
+				+ "\"models\":[{\"name\":\"grid\"}],\"point\":0}";
+		assertThat(JsonUtil.removeProperties(json, Arrays.asList("detectors", "models")),
+				is(equalTo("{\"name\":\"scan\",\"point\":0}")));
+	}
+
+	@Test
+	public void testRemoveLastProperty() {
+		final String json = "{\"name\":\"scan\",\"scanRequest\":{\"detectors\":{}},\"detectors\":[1,2]}";
+		assertThat(JsonUtil.removeProperties(json, Arrays.asList("detectors")),
+				is(equalTo("{\"name\":\"scan\",\"scanRequest\":{}}")));
+	}
+
+	@Test
+	public void testBracesAndNamesInStrings() {
+		final String json = "{\"message\":\"a } with a \\\"detectors\\\": {, in it\",\"detectors\":\"x}\",\"point\":1.5}";
+		assertThat(JsonUtil.removeProperties(json, Arrays.asList("detectors")),
+				is(equalTo("{\"message\":\"a } with a \\\"detectors\\\": {, in it\",\"point\":1.5}")));
+	}
+
+	@Test
+	public void testLargeJson() {
+		final String model = "{\"@type\":\"TwoAxisGridPointsModel\",\"name\":\"Grid\",\"xAxisPoints\":5,\"yAxisPoints\":5}";
+		final String models = String.join(",", Collections.nCopies(10000, model));
+		final String json = "{\"scanRequest\":{\"detectors\":[" + models + "],\"models\":[" + models + "]},\"point\":0}";
+
+		final List<String> properties = Arrays.asList("detectors");
+		assertThat(JsonUtil.removeProperties(json, properties),
+				is(equalTo("{\"scanRequest\":{\"models\":[" + models + "]},\"point\":0}")));
+	}
+
+}
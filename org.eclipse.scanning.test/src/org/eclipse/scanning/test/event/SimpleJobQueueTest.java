@@ -24,6 +24,7 @@ import static org.hamcrest.Matchers.any;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -52,6 +53,8 @@ import org.eclipse.scanning.api.event.queue.QueueCommandBean.Command;
 import org.eclipse.scanning.api.event.queue.QueueStatus;
 import org.eclipse.scanning.api.event.status.Status;
 import org.eclipse.scanning.api.event.status.StatusBean;
+import org.eclipse.scanning.event.JobQueueImpl;
+import org.eclipse.scanning.event.JobQueueMetrics;
 import org.eclipse.scanning.test.ScanningTestUtils;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -201,6 +204,23 @@ public class SimpleJobQueueTest extends AbstractJobQueueTest {
 		processes.forEach(wrap(process -> verify(process).start()));
 	}
 
+	@Test
+	public void testIdleConsumerWakesOnSubmission() throws Exception {
+		startJobQueue();
+		Thread.sleep(100); // let the consumer thread find the queue empty and wait for a submission
+
+		final StatusBean statusBean = new StatusBean("bean");
+		final IBeanProcess<StatusBean> process = submitBeanAndSetupMockProcess(statusBean);
+
+		// the consumer should be signalled rather than waiting until it next checks the queue, after 1 second
+		verify(process, timeout(500)).start();
+
+		final JobQueueMetrics metrics = ((JobQueueImpl<StatusBean>) jobQueue).getMetrics();
+		assertThat(metrics.getJobsSubmitted(), is(1L));
+		assertThat(metrics.getJobsStarted(), is(1L));
+		assertThat(metrics.getMaxDispatchLatency(), is(lessThan(500.0)));
+	}
+
 	@Test
 	public void testLimitingManyReturnedBeans() throws Exception {
 		// Send 5 beans to the Queue
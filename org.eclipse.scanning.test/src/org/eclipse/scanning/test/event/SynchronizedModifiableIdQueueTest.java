@@ -21,6 +21,7 @@ package org.eclipse.scanning.test.event;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -51,6 +52,9 @@ import org.eclipse.scanning.connector.jms.JmsConnectorService;
 import org.eclipse.scanning.event.queue.IPersistentModifiableIdQueue;
 import org.eclipse.scanning.event.queue.SynchronizedModifiableIdQueue;
 import org.eclipse.scanning.test.ServiceTestHelper;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.type.StringDataType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -292,7 +296,7 @@ public class SynchronizedModifiableIdQueueTest {
 		bean.setUniqueId("two");
 		assertThat(queue.contains(bean), is(true));
 
-		queue.replace(bean);
+		assertThat(queue.replace(bean), is(true));
 		assertThat(queue.contains(bean), is(true));
 		assertThat(queue.remove(), is(equalTo(beanCopies.get(0))));
 		StatusBean bean2 = queue.remove();
@@ -300,6 +304,12 @@ public class SynchronizedModifiableIdQueueTest {
 		assertThat(bean2, is(sameInstance(bean)));
 	}
 
+	@Test
+	public void testReplace_notInQueue() {
+		assertThat(queue.replace(createBean("six")), is(false));
+		assertThat(queue, hasSize(5));
+	}
+
 	@Test
 	public void testMoveDown() {
 		StatusBean bean = createBean("three");
@@ -352,6 +362,124 @@ public class SynchronizedModifiableIdQueueTest {
 		assertThat(queue.getElements(), is(equalTo(Arrays.asList(scan1, scan2))));
 	}
 
+	@Test
+	public void testGetElementsWithStatus() {
+		final StatusBean three = createBean("three");
+		three.setStatus(Status.RUNNING);
+		queue.replace(three);
+		final StatusBean one = createBean("one");
+		one.setStatus(Status.PAUSED);
+		queue.replace(one);
+		queue.moveUp(three);
+
+		assertThat(getIds(queue.getElementsWithStatus(Status::isActive)), contains("one", "three"));
+		assertThat(getIds(queue.getElementsWithStatus(status -> status == Status.SUBMITTED)), contains("two", "four", "five"));
+
+		queue.remove(one);
+		assertThat(getIds(queue.getElementsWithStatus(Status::isActive)), contains("three"));
+		assertThat(queue.getElementsWithStatus(Status::isFinal), is(empty()));
+	}
+
+	@Test
+	public void testGetElementsWithStatusChangedInPlace() {
+		final StatusBean two = createBean("two");
+		two.setStatus(Status.RUNNING);
+		queue.replace(two);
+		assertThat(getIds(queue.getElementsWithStatus(Status::isActive)), contains("two"));
+
+		// a bean changed in place is not re-indexed, but is no longer returned if its status doesn't match
+		two.setStatus(Status.FAILED);
+		assertThat(queue.getElementsWithStatus(Status::isActive), is(empty()));
+
+		// the new status is indexed when the bean is replaced, as by the job queue when the status is published
+		final StatusBean updatedTwo = createBean("two");
+		updatedTwo.setStatus(Status.FAILED);
+		queue.replace(updatedTwo);
+		assertThat(getIds(queue.getElementsWithStatus(Status::isFinal)), contains("two"));
+	}
+
+	@Test
+	public void testGetElementsSubmittedBefore() {
+		queue.clear();
+		for (String name : Arrays.asList("one", "two", "three", "four")) {
+			final StatusBean bean = createBean(name);
+			bean.setSubmissionTime(1000L * queue.size());
+			queue.add(bean);
+		}
+		queue.moveDown(createBean("one"));
+
+		assertThat(getIds(queue.getElementsSubmittedBefore(2000)), contains("two", "one"));
+		assertThat(queue.getElementsSubmittedBefore(0), is(empty()));
+		assertThat(queue.getElementsSubmittedBefore(Long.MAX_VALUE), hasSize(4));
+	}
+
+	@Test
+	public void testIndexesRebuiltOnLoad() throws Exception {
+		final StatusBean two = createBean("two");
+		two.setStatus(Status.RUNNING);
+		queue.replace(two);
+		queue.close();
+		createQueue();
+
+		assertThat(getIds(queue.getElementsWithStatus(Status::isActive)), contains("two"));
+		queue.moveUp(createBean("five"));
+		assertThat(getIds(queue), contains("one", "two", "three", "five", "four"));
+		queue.add(createBean("six"));
+		assertThat(getIds(queue), contains("one", "two", "three", "five", "four", "six"));
+	}
+
+	@Test
+	public void testIteratorRemoveUpdatesIndexes() {
+		synchronized (queue) {
+			final Iterator<StatusBean> iter = queue.iterator();
+			iter.next();
+			iter.next();
+			iter.remove();
+		}
+		assertThat(getIds(queue), contains("one", "three", "four", "five"));
+		assertThat(getIds(queue.getElementsWithStatus(status -> status == Status.SUBMITTED)), contains("one", "three", "four", "five"));
+		assertThat(queue.moveUp(createBean("two")), is(false));
+	}
+
+	@Test
+	public void testPersistenceLargeBean() throws Exception {
+		// beans with large JSON representations are compressed
+		final StatusBean bean = createBean("large");
+		bean.setMessage(String.join(",", Collections.nCopies(10000, "a message")));
+		queue.add(bean);
+		final List<StatusBean> beans = queue.getElements();
+		queue.close();
+
+		createQueue();
+		assertThat(queue.getElements(), is(equalTo(beans)));
+		assertThat(queue.getElements().get(5).getMessage(), is(equalTo(bean.getMessage())));
+	}
+
+	@Test
+	public void testLegacyQueueConverted() throws Exception {
+		final List<StatusBean> beans = queue.getElements();
+		queue.clear();
+		queue.close();
+
+		// write the beans as JSON strings, as previous versions of the queue did
+		final MVStore store = MVStore.open(storeFilename);
+		final MVMap.Builder<String, String> builder = new MVMap.Builder<>();
+		builder.setKeyType(StringDataType.INSTANCE);
+		builder.setValueType(StringDataType.INSTANCE);
+		final MVMap<String, String> legacyBeansById = store.openMap(QUEUE_NAME, builder);
+		final MVMap<Integer, String> idsByQueuePosition = store.openMap(QUEUE_NAME + "-posmap");
+		for (int i = 0; i < beans.size(); i++) {
+			legacyBeansById.put(beans.get(i).getUniqueId(), eventConnectorService.marshal(beans.get(i)));
+			idsByQueuePosition.put(i + 1, beans.get(i).getUniqueId());
+		}
+		store.close();
+
+		createQueue();
+		assertThat(queue.getElements(), is(equalTo(beans)));
+		queue.add(createBean("six"));
+		assertThat(getIds(queue), contains("one", "two", "three", "four", "five", "six"));
+	}
+
 	private ScanBean getScanBean() {
 		AxialStepModel stepModel = new AxialStepModel("energy", 10, 20, 2);
 		TwoAxisGridPointsModel gridModel = new TwoAxisGridPointsModel("x", "y", 10, 20);
@@ -0,0 +1,135 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.test.points;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.eclipse.dawnsci.analysis.api.persistence.IMarshallerService;
+import org.eclipse.dawnsci.json.MarshallerService;
+import org.eclipse.scanning.api.points.IPosition;
+import org.eclipse.scanning.api.points.IndexedPosition;
+import org.eclipse.scanning.api.points.MapPosition;
+import org.eclipse.scanning.api.points.PositionSchema;
+import org.eclipse.scanning.points.classregistry.ScanningAPIClassRegistry;
+import org.eclipse.scanning.points.serialization.PointsModelMarshaller;
+import org.eclipse.scanning.test.ScanningTestUtils;
+import org.junit.jupiter.api.Test;
+
+class IndexedPositionTest {
+
+	private static final PositionSchema SCHEMA = new PositionSchema(List.of(List.of("T"), List.of("y", "x")));
+
+	private static IndexedPosition createIndexedPosition(int step) {
+		final IndexedPosition position = new IndexedPosition(SCHEMA);
+		position.set(SCHEMA.getSlot("T"), 290 + step, step);
+		position.set(SCHEMA.getSlot("y"), 2.5, 3);
+		position.set(SCHEMA.getSlot("x"), 1.5, 3);
+		position.setStepIndex(step);
+		return position;
+	}
+
+	private static MapPosition createMapPosition(int step) {
+		final MapPosition position = new MapPosition();
+		position.put("T", step, 290.0 + step);
+		position.put("y", 3, 2.5);
+		position.put("x", 3, 1.5);
+		position.setStepIndex(step);
+		position.setDimensionNames(SCHEMA.getDimensionNames());
+		return position;
+	}
+
+	@Test
+	void testSameAsMapPosition() {
+		final IndexedPosition indexed = createIndexedPosition(4);
+		final MapPosition map = createMapPosition(4);
+
+		assertEquals(map, indexed);
+		assertEquals(indexed, map);
+		assertEquals(map.hashCode(), indexed.hashCode());
+		assertEquals(map.toString(), indexed.toString());
+		assertEquals(map.getNames(), indexed.getNames());
+		assertEquals(map.getValues(), indexed.getValues());
+		assertEquals(map.getIndices(), indexed.getIndices());
+		assertEquals(map.getDimensionNames(), indexed.getDimensionNames());
+		assertEquals(2, indexed.getScanRank());
+		assertEquals(4, indexed.getIndex(0));
+		assertEquals(3, indexed.getIndex(1));
+		assertEquals(294.0, indexed.getDouble("T"), 0);
+		assertNull(indexed.get("z"));
+		assertEquals(-1, indexed.getIndex("z"));
+	}
+
+	@Test
+	void testCompound() {
+		final PositionSchema parentSchema = new PositionSchema(List.of(List.of("energy")));
+		final IndexedPosition parent = new IndexedPosition(parentSchema, new double[] { 8.5 }, new int[] { 2 });
+		final IndexedPosition child = createIndexedPosition(4);
+
+		final IPosition compound = child.compound(parent);
+		assertInstanceOf(IndexedPosition.class, compound);
+		assertEquals(createMapPosition(4).compound(new MapPosition("energy", 2, 8.5)), compound);
+		assertEquals(List.of("energy", "T", "y", "x"), compound.getNames());
+		assertEquals(List.of(List.of("energy"), List.of("T"), List.of("y", "x")), compound.getDimensionNames());
+		assertEquals(4, compound.getStepIndex());
+
+		// the compound schema is reused for every position of the scan
+		assertSame(((IndexedPosition) compound).getSchema(), ((IndexedPosition) createIndexedPosition(5).compound(parent)).getSchema());
+	}
+
+	@Test
+	void testSerialization() throws Exception {
+		final IMarshallerService marshaller = new MarshallerService(Arrays.asList(new ScanningAPIClassRegistry()),
+				Arrays.asList(new PointsModelMarshaller()));
+		final IndexedPosition position = createIndexedPosition(7);
+
+		final String json = marshaller.marshal(position);
+		final IPosition deserialized = marshaller.unmarshal(json, IPosition.class);
+		assertEquals(position, deserialized);
+		assertEquals(position.getDimensionNames(), deserialized.getDimensionNames());
+	}
+
+	@Test
+	void testAllocation() {
+		final int size = 1_000_000;
+		final long mapBytes = allocatedBytes(size, IndexedPositionTest::createMapPosition);
+		final long indexedBytes = allocatedBytes(size, IndexedPositionTest::createIndexedPosition);
+		System.out.println("MapPosition allocated " + mapBytes / size + " bytes per point");
+		System.out.println("IndexedPosition allocated " + indexedBytes / size + " bytes per point");
+		assertTrue(indexedBytes < mapBytes, "IndexedPosition allocated more than MapPosition");
+	}
+
+	private static long allocatedBytes(int size, IntFunction<IPosition> factory) {
+		final int[] names = new int[1];
+		final long bytes = ScanningTestUtils.allocatedBytes(() -> {
+			for (int i = 0; i < size; i++) {
+				names[0] += factory.apply(i).getNames().size();
+			}
+		});
+		assertEquals(3 * size, names[0]);
+		return bytes;
+	}
+
+}
@@ -0,0 +1,248 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.eclipse.scanning.test.points;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.dawnsci.analysis.api.roi.IROI;
+import org.eclipse.dawnsci.analysis.dataset.roi.CircularROI;
+import org.eclipse.dawnsci.analysis.dataset.roi.EllipticalROI;
+import org.eclipse.dawnsci.analysis.dataset.roi.PointROI;
+import org.eclipse.dawnsci.analysis.dataset.roi.PolygonalROI;
+import org.eclipse.dawnsci.analysis.dataset.roi.RectangularROI;
+import org.eclipse.dawnsci.analysis.dataset.roi.SectorROI;
+import org.eclipse.scanning.api.points.IPointGenerator;
+import org.eclipse.scanning.api.points.IPosition;
+import org.eclipse.scanning.api.points.models.AbstractTwoAxisGridModel.Orientation;
+import org.eclipse.scanning.api.points.models.AxialArrayModel;
+import org.eclipse.scanning.api.points.models.AxialStepModel;
+import org.eclipse.scanning.api.points.models.BoundingBox;
+import org.eclipse.scanning.api.points.models.CompoundModel;
+import org.eclipse.scanning.api.points.models.ScanRegion;
+import org.eclipse.scanning.api.points.models.StaticModel;
+import org.eclipse.scanning.api.points.models.TwoAxisGridPointsModel;
+import org.eclipse.scanning.api.points.models.TwoAxisGridPointsRandomOffsetModel;
+import org.eclipse.scanning.api.points.models.TwoAxisLissajousModel;
+import org.eclipse.scanning.api.points.models.TwoAxisPtychographyModel;
+import org.eclipse.scanning.api.points.models.TwoAxisSpiralModel;
+import org.eclipse.scanning.points.AbstractScanPointGenerator;
+import org.eclipse.scanning.points.engine.JavaPointGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the Java engine generates the same points as the Jython generators
+ */
+class JavaPointGeneratorTest extends AbstractGeneratorTest {
+
+	private static final double TOLERANCE = 1e-10;
+
+	private <T> IPointGenerator<T> createJavaGenerator(T model) throws Exception {
+		System.setProperty(AbstractScanPointGenerator.JAVA_ENGINE_PROPERTY, "true");
+		try {
+			final IPointGenerator<T> generator = pointGeneratorService.createGenerator(model);
+			assertInstanceOf(JavaPointGenerator.class, ((AbstractScanPointGenerator<?>) generator).getPointGenerator());
+			return generator;
+		} finally {
+			System.clearProperty(AbstractScanPointGenerator.JAVA_ENGINE_PROPERTY);
+		}
+	}
+
+	private <T> void checkSamePoints(T model) throws Exception {
+		final IPointGenerator<T> jython = pointGeneratorService.createGenerator(model);
+		final IPointGenerator<T> java = createJavaGenerator(model);
+
+		assertEquals(jython.size(), java.size());
+		assertEquals(jython.getRank(), java.getRank());
+		assertArrayEquals(jython.getShape(), java.getShape());
+		assertEquals(jython.getNames(), java.getNames());
+		checkSamePosition(((AbstractScanPointGenerator<?>) jython).initialBounds(), ((AbstractScanPointGenerator<?>) java).initialBounds());
+		checkSamePosition(((AbstractScanPointGenerator<?>) jython).finalBounds(), ((AbstractScanPointGenerator<?>) java).finalBounds());
+
+		for (Iterator<IPosition> it1 = jython.iterator(), it2 = java.iterator(); it1.hasNext() || it2.hasNext();) {
+			final IPosition expected = it1.next();
+			final IPosition actual = it2.next();
+			checkSamePosition(expected, actual);
+			assertEquals(expected.getStepIndex(), actual.getStepIndex());
+			assertEquals(expected.getIndices(), actual.getIndices());
+			assertEquals(expected.getDimensionNames(), actual.getDimensionNames());
+			assertEquals(expected.getExposureTime(), actual.getExposureTime(), TOLERANCE);
+		}
+	}
+
+	private void checkSamePosition(IPosition expected, IPosition actual) {
+		assertEquals(expected.getNames(), actual.getNames());
+		for (String name : expected.getNames()) {
+			assertEquals(expected.getDouble(name), actual.getDouble(name), TOLERANCE, name);
+		}
+	}
+
+	private static BoundingBox box() {
+		return new BoundingBox(-2, -1, 4, 6);
+	}
+
+	@Test
+	void testStep() throws Exception {
+		checkSamePoints(new AxialStepModel("x", 0, 5, 0.5));
+	}
+
+	@Test
+	void testArray() throws Exception {
+		checkSamePoints(new AxialArrayModel("x", 1.0, 2.5, 3.0, 7.0));
+	}
+
+	@Test
+	void testStatic() throws Exception {
+		checkSamePoints(new StaticModel(7));
+	}
+
+	@Test
+	void testGrid() throws Exception {
+		final TwoAxisGridPointsModel model = new TwoAxisGridPointsModel("x", "y", 5, 7);
+		model.setBoundingBox(box());
+		checkSamePoints(model);
+	}
+
+	@Test
+	void testAlternatingVerticalGrid() throws Exception {
+		final TwoAxisGridPointsModel model = new TwoAxisGridPointsModel("x", "y", 5, 7);
+		model.setBoundingBox(box());
+		model.setAlternating(true);
+		model.setOrientation(Orientation.VERTICAL);
+		checkSamePoints(model);
+	}
+
+	@Test
+	void testRandomOffsetGrid() throws Exception {
+		final TwoAxisGridPointsRandomOffsetModel model = new TwoAxisGridPointsRandomOffsetModel("x", "y");
+		model.setxAxisPoints(6);
+		model.setyAxisPoints(4);
+		model.setBoundingBox(box());
+		model.setSeed(10);
+		model.setOffset(25);
+		checkSamePoints(model);
+	}
+
+	@Test
+	void testPtychography() throws Exception {
+		final TwoAxisPtychographyModel model = new TwoAxisPtychographyModel();
+		model.setBoundingBox(box());
+		checkSamePoints(model);
+	}
+
+	@Test
+	void testLissajous() throws Exception {
+		final TwoAxisLissajousModel model = new TwoAxisLissajousModel();
+		model.setBoundingBox(box());
+		checkSamePoints(model);
+	}
+
+	@Test
+	void testSpiral() throws Exception {
+		final TwoAxisSpiralModel model = new TwoAxisSpiralModel("x", "y");
+		model.setBoundingBox(box());
+		checkSamePoints(model);
+	}
+
+	private static TwoAxisGridPointsModel regionGrid() {
+		final TwoAxisGridPointsModel grid = new TwoAxisGridPointsModel("x", "y", 20, 20);
+		grid.setBoundingBox(box());
+		grid.setAlternating(true);
+		return grid;
+	}
+
+	private void checkSamePointsInRegion(IROI roi) throws Exception {
+		final AxialStepModel temperature = new AxialStepModel("T", 290, 295, 1);
+		temperature.setAlternating(true);
+		final CompoundModel model = new CompoundModel(temperature, regionGrid());
+		model.setRegions(Arrays.asList(new ScanRegion(roi, List.of("x", "y"))));
+		checkSamePoints(model);
+	}
+
+	@Test
+	void testCompoundWithRegion() throws Exception {
+		checkSamePointsInRegion(new CircularROI(2, 0, 2));
+	}
+
+	@Test
+	void testCompoundWithRotatedRectangle() throws Exception {
+		checkSamePointsInRegion(new RectangularROI(-1, 0, 3, 2, Math.PI / 6));
+	}
+
+	@Test
+	void testCompoundWithEllipse() throws Exception {
+		final EllipticalROI ellipse = new EllipticalROI();
+		ellipse.setPoint(0, 2);
+		ellipse.setAngle(0.5);
+		ellipse.setSemiAxes(new double[] { 2, 1.5 });
+		checkSamePointsInRegion(ellipse);
+	}
+
+	@Test
+	void testCompoundWithPolygon() throws Exception {
+		final PolygonalROI diamond = new PolygonalROI(new double[] { 0, -1 });
+		diamond.insertPoint(new double[] { 2, 2 });
+		diamond.insertPoint(new double[] { 0, 5 });
+		diamond.insertPoint(new double[] { -2, 2 });
+		checkSamePointsInRegion(diamond);
+	}
+
+	@Test
+	void testCompoundWithSector() throws Exception {
+		final SectorROI sector = new SectorROI();
+		sector.setPoint(new double[] { 0, 1 });
+		sector.setRadii(0.5, 3);
+		sector.setAngles(0.3, 2.5);
+		checkSamePointsInRegion(sector);
+	}
+
+	@Test
+	void testCompoundWithPoint() throws Exception {
+		// a point region only contains a grid point exactly at its position
+		final IPosition gridPoint = pointGeneratorService.createGenerator(regionGrid()).getFirstPoint();
+		checkSamePointsInRegion(new PointROI(gridPoint.getDouble("x"), gridPoint.getDouble("y")));
+	}
+
+	@Test
+	void testLargeCompoundTimings() throws Exception {
+		final CompoundModel model = new CompoundModel();
+		for (int i = 0; i < 20; i++) {
+			model.addModel(new AxialStepModel("Temperature" + i, 290, 291, 1));
+		}
+
+		long start = System.currentTimeMillis();
+		final IPointGenerator<CompoundModel> scan = createJavaGenerator(model);
+		assertEquals(1 << 20, scan.size());
+		long stage1 = System.currentTimeMillis();
+		System.out.println("Java generator of size " + scan.size() + " created in " + (stage1 - start) + " ms");
+
+		int size = 0;
+		for (Iterator<IPosition> it = scan.iterator(); it.hasNext(); it.next()) {
+			size++;
+		}
+		long stage2 = System.currentTimeMillis();
+		System.out.println("Iterated over " + size + " points in " + (stage2 - stage1) + " ms");
+		assertEquals(scan.size(), size);
+	}
+
+}
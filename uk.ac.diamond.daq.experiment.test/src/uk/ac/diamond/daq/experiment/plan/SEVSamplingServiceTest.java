@@ -0,0 +1,185 @@
+package uk.ac.diamond.daq.experiment.plan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import gda.device.scannable.ScannablePositionChangeEvent;
+import uk.ac.diamond.daq.experiment.api.plan.SEVListener;
+import uk.ac.diamond.daq.experiment.plan.SEVSamplingService.SamplingStatistics;
+
+public class SEVSamplingServiceTest {
+
+	private ScheduledExecutorService samplingExecutor;
+	private ExecutorService deliveryExecutor;
+	private SEVSamplingService service;
+
+	private final AtomicInteger reads = new AtomicInteger();
+	private volatile double signal;
+	private ExternalSourceWrapper scannable;
+
+	@Before
+	public void setUp() {
+		samplingExecutor = Executors.newSingleThreadScheduledExecutor();
+		deliveryExecutor = Executors.newSingleThreadExecutor();
+		// once a scannable pushes its position it is effectively not polled again
+		service = new SEVSamplingService(samplingExecutor, deliveryExecutor, 1, 60_000);
+		scannable = new ExternalSourceWrapper(() -> {
+			reads.incrementAndGet();
+			return signal;
+		}, "sensor");
+	}
+
+	@After
+	public void tearDown() {
+		samplingExecutor.shutdownNow();
+		deliveryExecutor.shutdownNow();
+	}
+
+	@Test
+	public void identicalScannablesAreSampledOnce() throws InterruptedException {
+		final SampleEnvironmentVariable sev1 = new SampleEnvironmentVariable(scannable, 0.1, service);
+		final SampleEnvironmentVariable sev2 = new SampleEnvironmentVariable(scannable, 0.1, service);
+		final RecordingSEVListener listener1 = new RecordingSEVListener(1);
+		final RecordingSEVListener listener2 = new RecordingSEVListener(1);
+		sev1.addListener(listener1);
+		sev2.addListener(listener2);
+		assertEquals(1, service.getSampledCount());
+
+		signal = 5;
+		assertTrue(listener1.await());
+		assertTrue(listener2.await());
+		assertEquals(5, listener1.signals.get(0), 0);
+		assertEquals(5, listener2.signals.get(0), 0);
+
+		sev1.removeListener(listener1);
+		assertEquals(1, service.getSampledCount());
+		sev2.removeListener(listener2);
+		assertEquals(0, service.getSampledCount());
+		assertNull(sev2.getSamplingStatistics());
+	}
+
+	@Test
+	public void listenersAreNotCalledOnSamplingThread() throws Exception {
+		final SampleEnvironmentVariable sev = new SampleEnvironmentVariable(scannable, 0.1, service);
+		final Thread samplingThread = samplingExecutor.submit(Thread::currentThread).get();
+		final RecordingSEVListener listener = new RecordingSEVListener(1);
+		sev.addListener(listener);
+		signal = 1;
+		assertTrue(listener.await());
+		assertNotNull(listener.thread);
+		assertNotEquals(samplingThread, listener.thread);
+	}
+
+	@Test
+	public void pushedPositionsAreUsed() throws InterruptedException {
+		final SampleEnvironmentVariable sev = new SampleEnvironmentVariable(scannable, 0.1, service);
+		final RecordingSEVListener listener = new RecordingSEVListener(3);
+		sev.addListener(listener);
+		scannable.notifyIObservers(scannable, new ScannablePositionChangeEvent(1.0));
+		final int readsAfterPush = reads.get();
+		scannable.notifyIObservers(scannable, new ScannablePositionChangeEvent(2.0));
+		scannable.notifyIObservers(scannable, new ScannablePositionChangeEvent(3.0));
+		assertTrue(listener.await());
+		assertEquals(List.of(1.0, 2.0, 3.0), listener.signals);
+
+		// polling has switched to the fallback period, so the scannable is not read again
+		Thread.sleep(20);
+		assertEquals(readsAfterPush, reads.get());
+		final SamplingStatistics statistics = sev.getSamplingStatistics();
+		assertEquals(3, statistics.pushedSamples());
+		assertTrue(statistics.samples() >= 3);
+	}
+
+	@Test
+	public void slowReadDoesNotHoldUpPushedPositions() throws InterruptedException {
+		final AtomicBoolean block = new AtomicBoolean();
+		final CountDownLatch reading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final ExternalSourceWrapper slowScannable = new ExternalSourceWrapper(() -> {
+			if (block.get()) {
+				reading.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return 0;
+		}, "slow");
+		final SampleEnvironmentVariable sev = new SampleEnvironmentVariable(slowScannable, 0.1, service);
+		block.set(true);
+		final RecordingSEVListener listener = new RecordingSEVListener(1);
+		sev.addListener(listener);
+		assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+		// a poll is blocked in a read, but the pushed position is passed on anyway
+		final Thread pusher = new Thread(() -> slowScannable.notifyIObservers(slowScannable, new ScannablePositionChangeEvent(1.0)));
+		pusher.start();
+		try {
+			assertTrue(listener.await());
+			assertEquals(List.of(1.0), listener.signals);
+		} finally {
+			release.countDown();
+			pusher.join(5000);
+		}
+	}
+
+	@Test
+	public void samplingJitterIsReported() throws InterruptedException {
+		final SampleEnvironmentVariable sev = new SampleEnvironmentVariable(scannable, 0.1, service);
+		sev.addListener(new RecordingSEVListener(1));
+		Thread.sleep(50);
+		final SamplingStatistics statistics = sev.getSamplingStatistics();
+		assertTrue(statistics.samples() > 1);
+		assertEquals(0, statistics.pushedSamples());
+		assertTrue(statistics.meanJitterMs() >= 0);
+		assertTrue(statistics.maxJitterMs() >= statistics.meanJitterMs());
+	}
+
+	/**
+	 * Records the signals it receives and the thread it receives them on
+	 */
+	private static class RecordingSEVListener implements SEVListener {
+
+		private final List<Double> signals = new CopyOnWriteArrayList<>();
+		private final CountDownLatch latch;
+		private volatile Thread thread;
+
+		private RecordingSEVListener(int expectedSignals) {
+			latch = new CountDownLatch(expectedSignals);
+		}
+
+		@Override
+		public void signalChanged(double signal) {
+			thread = Thread.currentThread();
+			signals.add(signal);
+			latch.countDown();
+		}
+
+		private boolean await() throws InterruptedException {
+			return latch.await(5, TimeUnit.SECONDS);
+		}
+
+		@Override
+		public String getSampleEnvironmentName() {
+			return null;
+		}
+	}
+}
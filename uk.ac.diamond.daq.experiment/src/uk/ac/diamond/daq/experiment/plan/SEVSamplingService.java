@@ -0,0 +1,302 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package uk.ac.diamond.daq.experiment.plan;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gda.configuration.properties.LocalProperties;
+import gda.device.Scannable;
+import gda.device.scannable.ScannablePositionChangeEvent;
+import gda.observable.IObserver;
+import uk.ac.diamond.daq.concurrent.ExecutorFactory;
+
+/**
+ * Samples the {@link Scannable}s of {@link SampleEnvironmentVariable}s on a small shared thread pool, rather than a
+ * thread per SEV.
+ * <p>
+ * Each scannable is sampled once however many SEVs are subscribed to it, and every sample is passed to all of them.
+ * Scannables are polled at a fixed period until they notify their observers of a new position with a
+ * {@link ScannablePositionChangeEvent} (as EPICS monitored scannables do), after which the positions they push are used
+ * and they are only polled at a slower fallback period, in case an update is missed.
+ * <p>
+ * The delay of each poll after the time it was scheduled for is recorded in the {@link SamplingStatistics} of the
+ * scannable, which shows whether the pool is keeping up.
+ */
+public final class SEVSamplingService {
+
+	private static final Logger logger = LoggerFactory.getLogger(SEVSamplingService.class);
+
+	/** Number of threads used to sample all scannables */
+	public static final String SAMPLING_THREADS_PROPERTY = "gda.experiment.sev.sampling.threads";
+
+	/** Number of threads used to pass samples on to the listeners of all SEVs */
+	public static final String DELIVERY_THREADS_PROPERTY = "gda.experiment.sev.delivery.threads";
+
+	/** Period in milliseconds at which scannables which do not push their positions are polled */
+	public static final String SAMPLING_PERIOD_PROPERTY = "gda.experiment.sev.sampling.period.ms";
+
+	/** Period in milliseconds at which scannables which push their positions are also polled */
+	public static final String PUSH_FALLBACK_PERIOD_PROPERTY = "gda.experiment.sev.push.fallback.period.ms";
+
+	private static final class Holder {
+		static final SEVSamplingService INSTANCE = new SEVSamplingService(
+				ExecutorFactory.scheduled(LocalProperties.getInt(SAMPLING_THREADS_PROPERTY, 2), "SEVSampling"),
+				ExecutorFactory.threadPool(LocalProperties.getInt(DELIVERY_THREADS_PROPERTY, 2), "SEVDelivery"),
+				LocalProperties.getInt(SAMPLING_PERIOD_PROPERTY, 1),
+				LocalProperties.getInt(PUSH_FALLBACK_PERIOD_PROPERTY, 1000));
+	}
+
+	/**
+	 * Statistics of the sampling of a scannable
+	 *
+	 * @param samples
+	 *            the number of samples taken, by polling or pushed by the scannable
+	 * @param pushedSamples
+	 *            the number of samples pushed by the scannable
+	 * @param meanJitterMs
+	 *            the mean delay of a poll after the time it was scheduled for
+	 * @param maxJitterMs
+	 *            the maximum delay of a poll after the time it was scheduled for
+	 */
+	public record SamplingStatistics(long samples, long pushedSamples, double meanJitterMs, double maxJitterMs) {}
+
+	private final ScheduledExecutorService samplingExecutor;
+
+	private final Executor deliveryExecutor;
+
+	private final long samplingPeriodMs;
+
+	private final long pushFallbackPeriodMs;
+
+	private final Map<Scannable, Sampler> samplers = new ConcurrentHashMap<>();
+
+	SEVSamplingService(ScheduledExecutorService samplingExecutor, Executor deliveryExecutor, long samplingPeriodMs,
+			long pushFallbackPeriodMs) {
+		if (samplingPeriodMs <= 0 || pushFallbackPeriodMs <= 0) {
+			throw new IllegalArgumentException("Sampling periods must be positive");
+		}
+		this.samplingExecutor = samplingExecutor;
+		this.deliveryExecutor = deliveryExecutor;
+		this.samplingPeriodMs = samplingPeriodMs;
+		this.pushFallbackPeriodMs = pushFallbackPeriodMs;
+	}
+
+	/**
+	 * @return the service shared by all SEVs
+	 */
+	public static SEVSamplingService getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Passes samples of the scannable to the consumer, starting to sample it if it is not already sampled. The consumer
+	 * is called on a sampling thread, so must return quickly: see {@link #getDeliveryExecutor()}.
+	 */
+	public void subscribe(Scannable scannable, DoubleConsumer consumer) {
+		samplers.compute(scannable, (key, sampler) -> {
+			if (sampler == null) {
+				sampler = new Sampler(scannable);
+				sampler.consumers.add(consumer);
+				sampler.start();
+			} else {
+				sampler.consumers.add(consumer);
+			}
+			return sampler;
+		});
+	}
+
+	/**
+	 * Stops passing samples of the scannable to the consumer, and stops sampling it if there are no other consumers
+	 */
+	public void unsubscribe(Scannable scannable, DoubleConsumer consumer) {
+		samplers.computeIfPresent(scannable, (key, sampler) -> {
+			sampler.consumers.remove(consumer);
+			if (sampler.consumers.isEmpty()) {
+				sampler.stop();
+				return null;
+			}
+			return sampler;
+		});
+	}
+
+	/**
+	 * @return the statistics of the sampling of the scannable, or {@code null} if it is not being sampled
+	 */
+	public SamplingStatistics getStatistics(Scannable scannable) {
+		final Sampler sampler = samplers.get(scannable);
+		return sampler == null ? null : sampler.getStatistics();
+	}
+
+	/**
+	 * @return the number of scannables being sampled
+	 */
+	public int getSampledCount() {
+		return samplers.size();
+	}
+
+	/**
+	 * @return the executor on which consumers should call listeners, so that a slow listener does not delay sampling
+	 */
+	public Executor getDeliveryExecutor() {
+		return deliveryExecutor;
+	}
+
+	/**
+	 * Samples one scannable for all its consumers
+	 */
+	private final class Sampler implements IObserver {
+
+		private final Scannable scannable;
+
+		private final Set<DoubleConsumer> consumers = new CopyOnWriteArraySet<>();
+
+		private ScheduledFuture<?> pollTask;
+
+		/** Incremented when polls are rescheduled or stopped, so that a poll which is already waiting is skipped */
+		private long generation;
+
+		private boolean pushed;
+
+		/** Whether the last read failed. Only used by polls, which do not overlap */
+		private volatile boolean failing;
+
+		private long periodNanos;
+
+		private long firstPollNanos;
+
+		/** Number of polls since the period was set */
+		private long polls;
+
+		private long totalPolls;
+
+		private long samples;
+
+		private long pushedSamples;
+
+		private long totalJitterNanos;
+
+		private long maxJitterNanos;
+
+		private Sampler(Scannable scannable) {
+			this.scannable = scannable;
+		}
+
+		private synchronized void start() {
+			scannable.addIObserver(this);
+			schedulePolls(samplingPeriodMs, 0);
+		}
+
+		private synchronized void stop() {
+			scannable.deleteIObserver(this);
+			pollTask.cancel(false);
+			generation++;
+			logger.debug("Stopped sampling '{}': {}", scannable.getName(), getStatistics());
+		}
+
+		private void schedulePolls(long periodMs, long initialDelayMs) {
+			if (pollTask != null) {
+				pollTask.cancel(false);
+			}
+			final long pollGeneration = ++generation;
+			periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMs);
+			firstPollNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelayMs);
+			polls = 0;
+			pollTask = samplingExecutor.scheduleAtFixedRate(() -> poll(pollGeneration), initialDelayMs, periodMs, TimeUnit.MILLISECONDS);
+		}
+
+		/**
+		 * Reads the scannable without holding the lock, so that a slow read does not hold up pushed positions
+		 */
+		private void poll(long pollGeneration) {
+			final long pushedBefore;
+			synchronized (this) {
+				if (pollGeneration != generation) {
+					return;
+				}
+				// the executor runs polls which are late as soon as it can, so the nth poll is always due at the same time
+				final long jitter = Math.max(0, System.nanoTime() - firstPollNanos - polls++ * periodNanos);
+				totalPolls++;
+				totalJitterNanos += jitter;
+				maxJitterNanos = Math.max(maxJitterNanos, jitter);
+				pushedBefore = pushedSamples;
+			}
+			final double position;
+			try {
+				position = ((Number) scannable.getPosition()).doubleValue();
+			} catch (Exception e) {
+				if (!failing) {
+					logger.error("Could not sample '{}'", scannable.getName(), e);
+					failing = true;
+				}
+				return;
+			}
+			if (failing) {
+				logger.info("Sampling '{}' again", scannable.getName());
+				failing = false;
+			}
+			synchronized (this) {
+				// if a position was pushed or sampling stopped during the read, the position read may be out of date
+				if (pollGeneration == generation && pushedSamples == pushedBefore) {
+					publish(position);
+				}
+			}
+		}
+
+		@Override
+		public synchronized void update(Object source, Object arg) {
+			if (arg instanceof ScannablePositionChangeEvent event && event.newPosition instanceof Number position) {
+				if (!pushed) {
+					pushed = true;
+					logger.debug("'{}' pushes its position, polling every {} ms", scannable.getName(), pushFallbackPeriodMs);
+					schedulePolls(pushFallbackPeriodMs, pushFallbackPeriodMs);
+				}
+				pushedSamples++;
+				publish(position.doubleValue());
+			}
+		}
+
+		/** Must be called holding the lock, so that samples are passed on one at a time */
+		private void publish(double position) {
+			samples++;
+			for (DoubleConsumer consumer : consumers) {
+				try {
+					consumer.accept(position);
+				} catch (Exception e) {
+					logger.error("Error passing sample of '{}' to {}", scannable.getName(), consumer, e);
+				}
+			}
+		}
+
+		private synchronized SamplingStatistics getStatistics() {
+			final double meanJitterNanos = totalPolls == 0 ? 0 : (double) totalJitterNanos / totalPolls;
+			return new SamplingStatistics(samples, pushedSamples, meanJitterNanos / 1e6, maxJitterNanos / 1e6);
+		}
+	}
+}
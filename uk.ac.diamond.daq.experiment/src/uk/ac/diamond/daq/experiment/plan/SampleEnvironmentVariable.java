@@ -18,11 +18,12 @@
 
 package uk.ac.diamond.daq.experiment.plan;
 
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleConsumer;
 import java.util.function.DoubleSupplier;
 
 import org.slf4j.Logger;
@@ -34,11 +35,14 @@ import gda.factory.FindableBase;
 import uk.ac.diamond.daq.experiment.api.ExperimentException;
 import uk.ac.diamond.daq.experiment.api.plan.ISampleEnvironmentVariable;
 import uk.ac.diamond.daq.experiment.api.plan.SEVListener;
+import uk.ac.diamond.daq.experiment.plan.SEVSamplingService.SamplingStatistics;
 
 /**
- * Instances of this class will poll a {@link Scannable} at a specified frequency, and
+ * Instances of this class will sample a {@link Scannable} using the {@link SEVSamplingService}, and
  * when the signal changes significantly (i.e. change >= tolerance), will notify its {@link SEVListener}s.
  * It will stop sampling if there are no listeners registered.
+ * <p>
+ * Listeners are notified of each change in order, on a delivery thread of the service rather than the sampling thread.
  *
  */
 public class SampleEnvironmentVariable extends FindableBase implements ISampleEnvironmentVariable {
@@ -49,19 +53,28 @@ public class SampleEnvironmentVariable extends FindableBase implements ISampleEn
 
 	private Scannable externalSource;
 	private Set<SEVListener> listeners;
-	private boolean enabled;
+	private volatile boolean enabled;
 	private double lastPosition;
 	private double tolerance;
 
+	private final SEVSamplingService samplingService;
+	private final DoubleConsumer sampleConsumer = this::sampled;
 
-	private ScheduledExecutorService executorService;
+	/** Signals waiting to be passed to the listeners */
+	private final Queue<Double> signals = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean delivering = new AtomicBoolean();
 
 	public SampleEnvironmentVariable(Scannable scannable) {
 		this(scannable, DEFAULT_TOLERANCE);
 	}
 
 	public SampleEnvironmentVariable(Scannable scannable, double tolerance) {
+		this(scannable, tolerance, SEVSamplingService.getInstance());
+	}
+
+	SampleEnvironmentVariable(Scannable scannable, double tolerance, SEVSamplingService samplingService) {
 		this.externalSource = scannable;
+		this.samplingService = samplingService;
 		setName(scannable.getName());
 		this.lastPosition = read();
 		this.tolerance = tolerance;
@@ -82,20 +95,43 @@ public class SampleEnvironmentVariable extends FindableBase implements ISampleEn
 			logger.info("No listeners registered to this SEV. Disabling.");
 			return;
 		}
-		executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
-			Thread thread = new Thread(runnable);
-			thread.setName("Sample Environment Variable");
-			thread.setDaemon(true);
-			return thread;
-		});
-
-		executorService.scheduleAtFixedRate(()->{
-			double newPosition = read();
-			if (Math.abs(lastPosition - newPosition) >= tolerance) {
-				listeners.forEach(listener -> listener.signalChanged(newPosition));
-				lastPosition = newPosition;
+		samplingService.subscribe(externalSource, sampleConsumer);
+	}
+
+	/**
+	 * Called on a sampling thread with each sample of the scannable
+	 */
+	private void sampled(double newPosition) {
+		if (Math.abs(lastPosition - newPosition) >= tolerance) {
+			lastPosition = newPosition;
+			signals.add(newPosition);
+			scheduleDelivery();
+		}
+	}
+
+	private void scheduleDelivery() {
+		if (delivering.compareAndSet(false, true)) {
+			samplingService.getDeliveryExecutor().execute(this::deliver);
+		}
+	}
+
+	private void deliver() {
+		Double signal;
+		while ((signal = signals.poll()) != null) {
+			final double newPosition = signal;
+			for (SEVListener listener : listeners) {
+				try {
+					listener.signalChanged(newPosition);
+				} catch (Exception e) {
+					logger.error("Error passing signal {} from SEV '{}' to {}", newPosition, getName(), listener, e);
+				}
 			}
-		}, 0, 1, TimeUnit.MILLISECONDS);
+		}
+		delivering.set(false);
+		// a signal may have been added while delivering, which could not schedule its own delivery
+		if (!signals.isEmpty()) {
+			scheduleDelivery();
+		}
 	}
 
 	@Override
@@ -118,9 +154,8 @@ public class SampleEnvironmentVariable extends FindableBase implements ISampleEn
 		this.enabled = enabled;
 		if (enabled) begin();
 		else {
-			if (executorService != null) {
-				executorService.shutdown();
-			}
+			samplingService.unsubscribe(externalSource, sampleConsumer);
+			signals.clear();
 		}
 	}
 
@@ -138,6 +173,13 @@ public class SampleEnvironmentVariable extends FindableBase implements ISampleEn
 		}
 	}
 
+	/**
+	 * @return the statistics of the sampling of the scannable, or {@code null} if it is not being sampled
+	 */
+	public SamplingStatistics getSamplingStatistics() {
+		return samplingService.getStatistics(externalSource);
+	}
+
 	@Override
 	public Set<SEVListener> getListeners() {
 		return listeners;
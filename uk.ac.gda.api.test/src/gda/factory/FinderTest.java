@@ -27,12 +27,16 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -191,6 +195,52 @@ class FinderTest {
 		assertThat(findables.get(0).getName(), is("findable1"));
 	}
 
+	@Test
+	void immutableFactoriesAreIndexedOnce() throws FactoryException {
+		Factory factory = createImmutableFactory(new SomeFindable("findable1"), new SomeOtherFindable("findable2"));
+		Finder.addFactory(factory);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(Finder.getFindablesOfType(SomeFindable.class).keySet(), containsInAnyOrder("findable1"));
+			assertThat(Finder.listLocalFindablesOfType(Interface3.class).get(0).getName(), is("findable2"));
+			assertThat(Finder.find("findable2").getName(), is("findable2"));
+		}
+
+		verify(factory, times(1)).getFindablesOfType(Findable.class);
+		verify(factory, times(0)).getFindablesOfType(SomeFindable.class);
+		verify(factory, times(0)).getFindable("findable2");
+	}
+
+	@Test
+	void indexIsRebuiltWhenFactoryAdded() {
+		Finder.addFactory(createImmutableFactory(new SomeFindable("findable1")));
+		assertThat(Finder.listFindablesOfType(SomeFindable.class).size(), is(1));
+
+		Finder.addFactory(createImmutableFactory(new SomeFindable("findable2")));
+		assertThat(Finder.getFindablesOfType(SomeFindable.class).keySet(), containsInAnyOrder("findable1", "findable2"));
+
+		Finder.removeAllFactories();
+		assertThat(Finder.listFindablesOfType(SomeFindable.class).isEmpty(), is(true));
+	}
+
+	@Test
+	void indexedFindablesCanBeModifiedByCaller() {
+		Finder.addFactory(createImmutableFactory(new SomeFindable("findable1")));
+		Finder.getFindablesOfType(SomeFindable.class).clear();
+		Finder.listFindablesOfType(SomeFindable.class).clear();
+		assertThat(Finder.getFindablesOfType(SomeFindable.class).size(), is(1));
+	}
+
+	private Factory createImmutableFactory(Findable... findables) {
+		Map<String, Findable> findablesByName = Arrays.stream(findables)
+				.collect(Collectors.toMap(Findable::getName, Function.identity()));
+		Factory factory = mock(Factory.class);
+		when(factory.isLocal()).thenReturn(true);
+		when(factory.isImmutable()).thenReturn(true);
+		when(factory.getFindablesOfType(Findable.class)).thenReturn(findablesByName);
+		return factory;
+	}
+
 	private void prepareFactoryForSingletonTests() {
 		SingletonService singleton = new SingletonService("singleton");
 		Findable notSingleton1 = new SomeOtherFindable("notASingleton1");
@@ -49,11 +49,38 @@ public interface DataWriter {
 	 */
 	void addData(IScanDataPoint newData) throws Exception;
 
+	/**
+	 * Adds a point as {@link #addData(IScanDataPoint)}, and calls the given callback once the point has been written
+	 * to file. A writer that returns before the point is in the file (e.g. one writing on another thread) must
+	 * override this to call the callback once it has written the point. The callback is not called if the point
+	 * cannot be written.
+	 * <p>
+	 * The default implementation calls the callback when {@link #addData(IScanDataPoint)} returns.
+	 *
+	 * @param newData
+	 *            the point
+	 * @param pointWritten
+	 *            called once the point has been written
+	 * @throws Exception
+	 */
+	default void addData(IScanDataPoint newData, Runnable pointWritten) throws Exception {
+		addData(newData);
+		pointWritten.run();
+	}
+
 	/**
 	 * Called when data collection has been completed
 	 */
 	void completeCollection() throws Exception;
 
+	/**
+	 * Called instead of {@link #completeCollection()} if the scan fails, so that the writer can stop any threads
+	 * still writing data. Data not yet written may be discarded.
+	 */
+	default void abortCollection() {
+		// do nothing by default, implementations may override
+	}
+
 	/**
 	 * Get the absFilePath for this scan
 	 *
@@ -86,4 +86,14 @@ public interface Factory extends Configurable {
 	 * @return whether this factory contains local objects
 	 */
 	boolean isLocal();
+
+	/**
+	 * Indicates whether the objects provided by this factory are fixed when it is created, so that the {@link Finder}
+	 * can index them once rather than asking this factory for every lookup.
+	 *
+	 * @return whether the contents of this factory never change
+	 */
+	default boolean isImmutable() {
+		return false;
+	}
 }
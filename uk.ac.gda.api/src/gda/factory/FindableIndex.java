@@ -0,0 +1,116 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.factory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable snapshot of the {@link Findable}s provided by a set of {@link Factory}s whose contents never change
+ * (see {@link Factory#isImmutable()}). It is used by the {@link Finder} to avoid asking every factory, and so searching
+ * every Spring bean, each time findables are looked up by name or type.
+ * <p>
+ * Lookups by name are a single map lookup. The findables of each type are found by searching the snapshot the first
+ * time that type is requested and cached for later requests.
+ */
+final class FindableIndex {
+
+	/** All the findables by name, including aliases, with the first factory providing a name taking precedence */
+	private final Map<String, Findable> findablesByName;
+
+	/** The findables provided by each factory, in the order the factories were added */
+	private final List<Map<String, Findable>> findablesByFactory;
+
+	private final ConcurrentMap<Class<?>, Map<String, Findable>> findablesByType = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, List<Findable>> findableListsByType = new ConcurrentHashMap<>();
+
+	private FindableIndex(List<Map<String, Findable>> findablesByFactory) {
+		this.findablesByFactory = findablesByFactory;
+		final Map<String, Findable> byName = new HashMap<>();
+		for (Map<String, Findable> findables : findablesByFactory) {
+			findables.forEach(byName::putIfAbsent);
+		}
+		findablesByName = Collections.unmodifiableMap(byName);
+	}
+
+	/**
+	 * Creates an index of the given factories, if possible
+	 *
+	 * @param factories
+	 *            the factories to index, in the order they were added to the {@link Finder}
+	 * @return the index, or <code>null</code> if any of the factories is not immutable
+	 */
+	static FindableIndex of(Collection<Factory> factories) {
+		final List<Map<String, Findable>> findablesByFactory = new ArrayList<>(factories.size());
+		for (Factory factory : factories) {
+			if (!factory.isImmutable()) {
+				return null;
+			}
+			findablesByFactory.add(Map.copyOf(factory.getFindablesOfType(Findable.class)));
+		}
+		return new FindableIndex(findablesByFactory);
+	}
+
+	@SuppressWarnings("unchecked")
+	<T extends Findable> T find(String name) {
+		return (T) findablesByName.get(name);
+	}
+
+	/**
+	 * @return an unmodifiable map of the findables of the given type by name. If factories provide different objects
+	 *         with the same name the one from the factory added last is included, as it is when the factories are
+	 *         searched individually.
+	 */
+	@SuppressWarnings("unchecked") // This is safe because only instances of T are added to the map
+	<T extends Findable> Map<String, T> getFindablesOfType(Class<T> clazz) {
+		return (Map<String, T>) findablesByType.computeIfAbsent(clazz, type -> {
+			final Map<String, Findable> matching = new HashMap<>();
+			for (Map<String, Findable> findables : findablesByFactory) {
+				findables.forEach((name, findable) -> {
+					if (type.isInstance(findable)) {
+						matching.put(name, findable);
+					}
+				});
+			}
+			return Collections.unmodifiableMap(matching);
+		});
+	}
+
+	/**
+	 * @return an unmodifiable list of the values of {@link #getFindablesOfType(Class)}
+	 */
+	@SuppressWarnings("unchecked") // This is safe because only instances of T are added to the list
+	<T extends Findable> List<T> listFindablesOfType(Class<T> clazz) {
+		return (List<T>) findableListsByType.computeIfAbsent(clazz,
+				type -> List.copyOf(getFindablesOfType(clazz).values()));
+	}
+
+	@Override
+	public String toString() {
+		return "FindableIndex [findables=" + findablesByName.size() + ", types=" + findablesByType.size() + "]";
+	}
+
+}
@@ -66,6 +66,9 @@ import gda.util.Version;
  * }
  * </code>
  * </pre>
+ * <p>
+ * The objects in {@link Factory#isImmutable() immutable} factories, such as the Spring application context, are indexed
+ * when first needed so that repeated lookups by name or type do not search every object.
  */
 public enum Finder {
 	INSTANCE;
@@ -80,6 +83,16 @@ public enum Finder {
 	private final Set<Factory> remoteFactories = new CopyOnWriteArraySet<>();
 	private final Set<Factory> localFactories = new CopyOnWriteArraySet<>();
 
+	/** Guards building and discarding the indexes */
+	private final Object indexLock = new Object();
+
+	/**
+	 * Indexes of the local factories and of all factories, built when first needed and discarded (set to null) when
+	 * factories are added or removed. Empty if any of the factories indexed is not immutable.
+	 */
+	private volatile Optional<FindableIndex> localIndex;
+	private volatile Optional<FindableIndex> allIndex;
+
 	/**
 	 * Return a named object from any of the factories known to the finder.
 	 *
@@ -127,11 +140,20 @@ public enum Finder {
 	private static <T extends Findable> T findObjectByName(String name, boolean warn) {
 		T findable = null;
 
-		for (Factory factory : INSTANCE.localFactories) {
-			findable = findObjectByNameInFactory(factory, name, warn);
+		final FindableIndex index = INSTANCE.getIndex(true);
+		if (index != null) {
+			findable = index.find(name);
 			if (findable != null) {
+				logger.trace("Found '{}' in {}", name, index);
 				return findable;
 			}
+		} else {
+			for (Factory factory : INSTANCE.localFactories) {
+				findable = findObjectByNameInFactory(factory, name, warn);
+				if (findable != null) {
+					return findable;
+				}
+			}
 		}
 
 		for (Factory factory : INSTANCE.remoteFactories) {
@@ -188,6 +210,7 @@ public enum Finder {
 			INSTANCE.remoteFactories.add(factory);
 		}
 
+		INSTANCE.clearIndexes();
 		logger.debug("Added factory '{}' now have {} factories", factory, INSTANCE.allFactories.size());
 	}
 
@@ -195,9 +218,43 @@ public enum Finder {
 		INSTANCE.allFactories.clear();
 		INSTANCE.localFactories.clear();
 		INSTANCE.remoteFactories.clear();
+		INSTANCE.clearIndexes();
 		logger.debug("Cleared factories");
 	}
 
+	private void clearIndexes() {
+		synchronized (indexLock) {
+			localIndex = null;
+			allIndex = null;
+		}
+	}
+
+	/**
+	 * Gets the index of the local or all factories, building it if necessary
+	 *
+	 * @param localOnly
+	 *            True for the index of the local factories
+	 * @return the index, or null if the factories cannot be indexed
+	 */
+	private FindableIndex getIndex(boolean localOnly) {
+		final Optional<FindableIndex> index = localOnly ? localIndex : allIndex;
+		if (index != null) {
+			return index.orElse(null);
+		}
+		synchronized (indexLock) {
+			if (localOnly) {
+				if (localIndex == null) {
+					localIndex = Optional.ofNullable(FindableIndex.of(localFactories));
+				}
+				return localIndex.orElse(null);
+			}
+			if (allIndex == null) {
+				allIndex = Optional.ofNullable(FindableIndex.of(allFactories));
+			}
+			return allIndex.orElse(null);
+		}
+	}
+
 	/**
 	 * List all the interfaces available on the Finder. This method is aimed at users of the scripting environment for
 	 * searching for available hardware by using the 'list' command.
@@ -272,6 +329,10 @@ public enum Finder {
 	 * @return a map of matching {@code Findable}s, with the object names as keys and the objects as values
 	 */
 	private static <T extends Findable> Map<String, T> getFindablesOfType(Class<T> clazz, boolean local) {
+		final FindableIndex index = INSTANCE.getIndex(local);
+		if (index != null) {
+			return new HashMap<>(index.getFindablesOfType(clazz));
+		}
 		Map<String, T> findables = new HashMap<>();
 		for (Factory factory : getFactoriesToSearch(local)) {
 			findables.putAll(factory.getFindablesOfType(clazz));
@@ -311,6 +372,10 @@ public enum Finder {
 	 * @return a list of matching {@code Findable}s
 	 */
 	private static <T extends Findable> List<T> listFindablesOfType(Class<T> clazz, boolean local) {
+		final FindableIndex index = INSTANCE.getIndex(local);
+		if (index != null) {
+			return new ArrayList<>(index.listFindablesOfType(clazz));
+		}
 		return new ArrayList<>(getFindablesOfType(clazz, local).values());
 	}
 
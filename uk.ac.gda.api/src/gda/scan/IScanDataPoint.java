@@ -18,6 +18,7 @@
 
 package gda.scan;
 
+import java.util.Arrays;
 import java.util.List;
 
 import gda.device.Detector;
@@ -160,6 +161,22 @@ public interface IScanDataPoint {
 	 */
 	Double[] getAllValuesAsDoubles() throws IllegalArgumentException, IndexOutOfBoundsException;
 
+	/**
+	 * Returns the values held by this ScanDataPoint of Scannables, Monitors and Detectors as primitive doubles. This
+	 * avoids boxing each value for consumers that only need numbers.
+	 *
+	 * @return an array of the same length as {@link #getAllValuesAsDoubles()}. Any field that cannot be converted to a
+	 *         double is {@link Double#NaN}. Implementations may return their own copy of the values, which should not
+	 *         be modified.
+	 * @throws IllegalArgumentException
+	 *             if the fields convert to the wrong number of values
+	 */
+	default double[] getAllValuesAsPrimitiveDoubles() throws IllegalArgumentException {
+		return Arrays.stream(getAllValuesAsDoubles())
+				.mapToDouble(value -> value == null ? Double.NaN : value)
+				.toArray();
+	}
+
 	/**
 	 * Just returns array of detector data.
 	 *
@@ -0,0 +1,159 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package uk.ac.gda.client.liveplot;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.DoubleDataset;
+import org.junit.Test;
+
+public class LiveLineTest {
+
+	@Test
+	public void testAddInOrder() {
+		final LiveLine line = new LiveLine();
+		for (int i = 0; i < 100; i++) {
+			line.add(i, 2 * i);
+		}
+		assertEquals(100, line.size());
+		final LiveLine.Views views = line.getViews();
+		assertEquals(100, views.x().getSize());
+		assertEquals(100, views.y().getSize());
+		assertEquals(99, views.x().getDouble(99), 0);
+		assertEquals(198, views.y().getDouble(99), 0);
+	}
+
+	@Test
+	public void testAddOutOfOrder() {
+		final LiveLine line = new LiveLine();
+		line.add(3, 30);
+		line.add(1, 10);
+		line.add(2, 20);
+		line.add(0, 0);
+		assertArrayEquals(new double[] { 0, 1, 2, 3 }, values(line.getViews().x()), 0);
+		assertArrayEquals(new double[] { 0, 10, 20, 30 }, values(line.getViews().y()), 0);
+	}
+
+	@Test
+	public void testPointsWithSameXKeepTheirOrder() {
+		final LiveLine line = new LiveLine();
+		line.add(1, 1);
+		line.add(2, 2);
+		line.add(1, 3);
+		line.add(Double.NaN, 4);
+		assertArrayEquals(new double[] { 1, 1, 2, Double.NaN }, values(line.getViews().x()), 0);
+		assertArrayEquals(new double[] { 1, 3, 2, 4 }, values(line.getViews().y()), 0);
+	}
+
+	@Test
+	public void testViewsAreNotChangedByAddingPoints() {
+		final LiveLine line = new LiveLine();
+		line.add(1, 10);
+		line.add(3, 30);
+		final LiveLine.Views views = line.getViews();
+		line.add(2, 20);
+		line.add(4, 40);
+		assertArrayEquals(new double[] { 1, 3 }, values(views.x()), 0);
+		assertArrayEquals(new double[] { 10, 30 }, values(views.y()), 0);
+		assertArrayEquals(new double[] { 1, 2, 3, 4 }, values(line.getViews().x()), 0);
+	}
+
+	@Test
+	public void testViewsMatchWhilePointsAreAdded() throws InterruptedException {
+		final LiveLine line = new LiveLine();
+		final Thread adder = new Thread(() -> {
+			for (int i = 0; i < 20_000; i++) {
+				// every other point is inserted before the end
+				final double x = i % 2 == 0 ? i : i - 1.5;
+				line.add(x, x);
+			}
+		});
+		adder.start();
+		while (adder.isAlive()) {
+			final LiveLine.Views views = line.getViews();
+			assertEquals(views.x().getSize(), views.y().getSize());
+			assertArrayEquals(values(views.x()), values(views.y()), 0);
+		}
+		adder.join();
+	}
+
+	@Test
+	public void testSetPointsSortsByX() {
+		final LiveLine line = new LiveLine();
+		line.add(5, 5);
+		line.setPoints(DatasetFactory.createFromObject(new double[] { 2, 0, 1, 0 }),
+				DatasetFactory.createFromObject(new double[] { 20, 1, 10, 2 }));
+		assertEquals(4, line.size());
+		assertArrayEquals(new double[] { 0, 0, 1, 2 }, values(line.getViews().x()), 0);
+		assertArrayEquals(new double[] { 1, 2, 10, 20 }, values(line.getViews().y()), 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetPointsOfDifferentSizes() {
+		new LiveLine().setPoints(DatasetFactory.zeros(2), DatasetFactory.zeros(3));
+	}
+
+	/**
+	 * Times a long live scan, taking views of the line every 100 points as the plot updates would. Adding each point
+	 * used to copy the whole line, which took minutes for a scan of this length.
+	 */
+	@Test
+	public void testLongScan() {
+		final int points = 100_000;
+		final Random random = new Random(0);
+		final LiveLine line = new LiveLine();
+		long start = System.nanoTime();
+		for (int i = 0; i < points; i++) {
+			line.add(i, random.nextDouble());
+			if (i % 100 == 0) {
+				line.getViews();
+			}
+		}
+		final long inOrderMs = (System.nanoTime() - start) / 1_000_000;
+
+		// each point is inserted at the start, so has to move all the others
+		final int reversedPoints = points / 10;
+		final LiveLine reversed = new LiveLine();
+		start = System.nanoTime();
+		for (int i = reversedPoints; i > 0; i--) {
+			reversed.add(i, random.nextDouble());
+		}
+		final long reversedMs = (System.nanoTime() - start) / 1_000_000;
+
+		System.out.println("Added " + points + " points in order in " + inOrderMs + " ms and " + reversedPoints + " points in reverse order in " + reversedMs + " ms");
+		assertEquals(points, line.size());
+		final double[] x = values(reversed.getViews().x());
+		for (int i = 1; i < x.length; i++) {
+			assertTrue(x[i] > x[i - 1]);
+		}
+	}
+
+	private static double[] values(DoubleDataset dataset) {
+		final double[] values = new double[dataset.getSize()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = dataset.getDouble(i);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,188 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package uk.ac.gda.client.liveplot;
+
+import java.util.Arrays;
+
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.DoubleDataset;
+import org.eclipse.january.dataset.Slice;
+
+/**
+ * The x and y values of a line of a live plot, kept in increasing order of x.
+ * <p>
+ * The values are held in buffers whose capacity is doubled when they are full, so that adding the points of a scan in
+ * order of x costs amortised O(1) per point and a point out of order is inserted in place after a binary search. The
+ * datasets returned by {@link #getViews()} are views of the buffers, which are not copied.
+ * <p>
+ * Points within a view that has been returned are never changed: if a point has to be inserted before the end of
+ * the line after a view has been returned, the values are first copied to new buffers. All the methods are
+ * synchronized, as points are added by the scan plotting thread and views are taken by the plot update thread.
+ */
+class LiveLine {
+
+	/**
+	 * Views of the x and y values of the line, which always have the same size
+	 */
+	record Views(DoubleDataset x, DoubleDataset y) {}
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private DoubleDataset xBuffer;
+	private DoubleDataset yBuffer;
+	private int size;
+
+	/** Whether views of the current buffers have been returned */
+	private boolean shared;
+
+	LiveLine() {
+		clear();
+	}
+
+	synchronized void clear() {
+		xBuffer = DatasetFactory.zeros(DoubleDataset.class, INITIAL_CAPACITY);
+		yBuffer = DatasetFactory.zeros(DoubleDataset.class, INITIAL_CAPACITY);
+		size = 0;
+		shared = false;
+	}
+
+	synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Adds a point, after any points with the same or a smaller x. A point with an x of NaN is added at the end.
+	 */
+	synchronized void add(double x, double y) {
+		if (size == 0 || !(x < xBuffer.getData()[size - 1])) {
+			ensureCapacity(size + 1, false);
+			xBuffer.getData()[size] = x;
+			yBuffer.getData()[size] = y;
+		} else {
+			final int index = upperBound(x);
+			ensureCapacity(size + 1, shared);
+			final double[] xs = xBuffer.getData();
+			final double[] ys = yBuffer.getData();
+			System.arraycopy(xs, index, xs, index + 1, size - index);
+			System.arraycopy(ys, index, ys, index + 1, size - index);
+			xs[index] = x;
+			ys[index] = y;
+		}
+		size++;
+	}
+
+	/**
+	 * Replaces the points of the line with the given values, sorted by x. Points with the same x are kept in the order
+	 * they were given.
+	 *
+	 * @param x
+	 *            the x values
+	 * @param y
+	 *            the y values, of the same size as x
+	 */
+	synchronized void setPoints(Dataset x, Dataset y) {
+		final int length = x.getSize();
+		if (y.getSize() != length) {
+			throw new IllegalArgumentException("x and y must have the same size, not " + length + " and " + y.getSize());
+		}
+		final double[] xs = new double[length];
+		final double[] ys = new double[length];
+		boolean sorted = true;
+		for (int i = 0; i < length; i++) {
+			xs[i] = x.getDouble(i);
+			ys[i] = y.getDouble(i);
+			sorted &= i == 0 || xs[i] >= xs[i - 1];
+		}
+		if (!sorted) {
+			sortByX(xs, ys);
+		}
+		xBuffer = copyOf(xs, length, Math.max(length, INITIAL_CAPACITY));
+		yBuffer = copyOf(ys, length, Math.max(length, INITIAL_CAPACITY));
+		size = length;
+		shared = false;
+	}
+
+	/**
+	 * @return views of the x values, in increasing order, and the y values, in the order of the x values, taken
+	 *         together so that they hold the same points
+	 */
+	synchronized Views getViews() {
+		shared = true;
+		final Slice slice = new Slice(size);
+		return new Views((DoubleDataset) xBuffer.getSliceView(slice), (DoubleDataset) yBuffer.getSliceView(slice));
+	}
+
+	/**
+	 * @return the index of the first point with an x greater than the given one
+	 */
+	private int upperBound(double x) {
+		final double[] xs = xBuffer.getData();
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (xs[mid] <= x) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Makes sure the buffers can hold the given number of points, doubling their capacity if not
+	 *
+	 * @param copy
+	 *            whether to copy to new buffers even if the current ones are large enough
+	 */
+	private void ensureCapacity(int capacity, boolean copy) {
+		final int currentCapacity = xBuffer.getSize();
+		if (capacity > currentCapacity || copy) {
+			final int newCapacity = capacity > currentCapacity ? Math.max(capacity, 2 * currentCapacity) : currentCapacity;
+			xBuffer = copyOf(xBuffer.getData(), size, newCapacity);
+			yBuffer = copyOf(yBuffer.getData(), size, newCapacity);
+			shared = false;
+		}
+	}
+
+	private static DoubleDataset copyOf(double[] values, int length, int capacity) {
+		final DoubleDataset buffer = DatasetFactory.zeros(DoubleDataset.class, capacity);
+		System.arraycopy(values, 0, buffer.getData(), 0, length);
+		return buffer;
+	}
+
+	/**
+	 * Sorts the points by x with a stable merge sort of their indices
+	 */
+	private static void sortByX(double[] xs, double[] ys) {
+		final Integer[] order = new Integer[xs.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Double.compare(xs[a], xs[b])); // NaN is sorted last
+		final double[] xCopy = xs.clone();
+		final double[] yCopy = ys.clone();
+		for (int i = 0; i < order.length; i++) {
+			xs[i] = xCopy[order[i]];
+			ys[i] = yCopy[order[i]];
+		}
+	}
+}
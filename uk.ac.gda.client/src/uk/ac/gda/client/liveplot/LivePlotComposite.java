@@ -960,6 +960,8 @@ class LiveData {
 
 	private int number = 0;
 	private LiveDataArchive archive; // data and appearance
+	private final LiveLine line = new LiveLine(); // the data of the archive, which grows as points are added
+	private volatile boolean lineChanged; // whether the line has changed since the data of the archive was set
 	private String name; // a mix of the name of the group of plots (scan number) and the name of the line (column header)
 	private String archiveFilename = null; // the file created by the archive() method and read by unarchive()
 	private int which = 0;
@@ -1000,7 +1002,8 @@ class LiveData {
 
 	public void setArchive(LiveDataArchive archive) {
 		this.archive = archive;
-
+		if (archive != null)
+			setLineFromArchive();
 	}
 
 	public AxisSpec getyAxisSpec() {
@@ -1023,7 +1026,20 @@ class LiveData {
 		return name;
 	}
 
+	/**
+	 * @return the archive, whose data are views of the line taken when this is called
+	 */
 	public LiveDataArchive getArchive() {
+		if (archive != null && lineChanged) {
+			// clear the flag first so that a point added while the views are taken is not missed
+			lineChanged = false;
+			final LiveLine.Views views = line.getViews();
+			final AxisValues xAxis = new AxisValues();
+			xAxis.setValues(views.x());
+			final DoubleDataset yds = views.y();
+			yds.setName(name);
+			archive.setData(xAxis, yds);
+		}
 		return archive;
 	}
 
@@ -1092,27 +1108,22 @@ class LiveData {
 	public void setsPointsForLine(DoubleDataset xData, DoubleDataset yData, String archiveFolder) {
 		unarchive(archiveFolder);
 		// we need ensure AxisValues are all increasing
-		double[] xdata = xData.getData().clone();
-		double[] ydata = yData.getData().clone();
-
-		if (xdata.length == ydata.length) {
-			for (int i = xdata.length - 1; i > 1; i--) {
-				for (int j = 0; j < i; j++) {
-					if (xdata[j] > xdata[i]) {
-						double tmp = xdata[i];
-						xdata[i] = xdata[j];
-						xdata[j] = tmp;
-						tmp = ydata[i];
-						ydata[i] = ydata[j];
-						ydata[j] = tmp;
-					}
-				}
-			}
-			DoubleDataset dds = DatasetFactory.createFromObject(DoubleDataset.class, ydata);
-			dds.setName(name);
-			archive.setData(new AxisValues(xdata), DatasetFactory.createFromObject(DoubleDataset.class, ydata));
-			number = archive.getxAxis().size();
+		if (xData.getSize() == yData.getSize()) {
+			line.setPoints(xData, yData);
+			lineChanged = true;
+			number = line.size();
+		}
+	}
+
+	private void setLineFromArchive() {
+		final DoubleDataset x = archive.getxAxis().toDataset();
+		if (x == null || x.getSize() == 0) {
+			line.clear();
+		} else {
+			line.setPoints(x, archive.getyVals());
 		}
+		lineChanged = false; // the archive already holds the data
+		number = line.size();
 	}
 
 	protected Plot1DAppearance getAppearanceCopy(String archiveFolder) {
@@ -1144,7 +1155,7 @@ class LiveData {
 					Object obj = objIn.readObject();
 					if (!(obj instanceof LiveDataArchive)) return; // From scan data view, cannot deal with
 					archive = (LiveDataArchive) obj;
-					number = archive.getxAxis().size();
+					setLineFromArchive();
 					archiveFilename = null;
 				} finally {
 					if(archiveFilename==null && !Files.deleteIfExists(Paths.get(archiveFilenameCopy))) {
@@ -1178,6 +1189,8 @@ class LiveData {
 				LivePlotComposite.getStyle(which), LivePlotComposite.getLineWidth(), name);
 		archive = new LiveDataArchive(appearance, DatasetFactory.zeros(DoubleDataset.class, 1), new AxisValues());
 		archiveFilename=null;
+		line.clear();
+		lineChanged = false;
 	}
 
 	private Color getLineColor(String lineLabel, int lineNumber) {
@@ -1214,7 +1227,13 @@ class LiveData {
 		try(var fOut = new FileOutputStream(tempFile);
 			var objOut = new ObjectOutputStream(fOut)) {
 
-			objOut.writeObject(archive);
+			// write copies of the data rather than views of the line, which may be larger
+			final LiveLine.Views views = line.getViews();
+			final AxisValues xAxis = new AxisValues();
+			xAxis.setValues(views.x().getSlice());
+			final DoubleDataset yds = (DoubleDataset) views.y().getSlice();
+			yds.setName(name);
+			objOut.writeObject(new LiveDataArchive(archive.getAppearance(), yds, xAxis));
 			objOut.flush();
 			objOut.reset(); // without which OutOfMemoryException eventually thrown
 		}
@@ -1248,80 +1267,9 @@ class LiveData {
 	 * Values in AxisValues must always go from min to max.
 	 */
 	void addPointToLine(double x, double y) {
-		// get existing 'old' values
-		DoubleDataset dataset = archive.getxAxis().toDataset();
-		double[] xvalsOld = dataset != null ? dataset.getData() : new double[0];
-		double[] yvalsOld = archive.getyVals().getData();
-		double[] yvalsNew = null;
-		double[] xvalsNew = null;
-		int oldLength = xvalsOld.length;
-
-		if (oldLength == 0) {
-			// first point
-			yvalsNew = new double[] { y };
-			xvalsNew = new double[] { x };
-		}
-		else {
-			// not first so copy old to new before adding to end or inserting
-			yvalsNew = Arrays.copyOf(yvalsOld, oldLength + 1);
-			xvalsNew = Arrays.copyOf(xvalsOld, oldLength + 1);
-			copyOldToNew(x, y, xvalsOld, yvalsNew, xvalsNew, oldLength);
-		}
-
-		// create new AxisValues and DataSet
-		final DoubleDataset yds = DatasetFactory.createFromObject(DoubleDataset.class, yvalsNew);
-		yds.setName(name);
-		archive.setData(new AxisValues(xvalsNew), yds);
-		number = xvalsNew.length;
-	}
-
-	private static void copyOldToNew(double x,
-										double y,
-										double[] xvalsOld,
-										double[] yvalsNew,
-										double[] xvalsNew,
-										int oldLength) {
-
-		if (x >= xvalsNew[oldLength - 1]) {
-			// add to the end
-			xvalsNew[oldLength] = x;
-			yvalsNew[oldLength] = y;
-		}
-		else {
-			// insert at correct point
-			boolean added = false;
-			for (int xIndex = 0; xIndex < oldLength; xIndex++) {
-				if (x < xvalsOld[xIndex]) {
-					added = shiftAndInsert(x, y, yvalsNew, xvalsNew, oldLength, xIndex);
-					break;
-				}
-			}
-			if (!added) {
-				logger.warn("Cannot find point to insert the new point - should not happen");
-			}
-		}
-	}
-
-	private static boolean shiftAndInsert(double x,
-											double y,
-											double[] yvalsNew,
-											double[] xvalsNew,
-											int oldLength,
-											int xIndex) {
-		boolean added;
-		// shift and insert
-		// find position in x axis at which to insert the new value ( x values must increase through the
-		// array)
-		// shift existing values up by 1 to make space to insert the new value
-		// if x_index = 1 and old_length = 10 this will shift items 1 to 2 for 9 elements and insert the
-		// new val at 0
-		int length = oldLength - xIndex;
-		System.arraycopy(xvalsNew, xIndex, xvalsNew, xIndex + 1, length);
-		System.arraycopy(yvalsNew, xIndex, yvalsNew, xIndex + 1, length);
-		yvalsNew[xIndex] = y;
-		xvalsNew[xIndex] = x;
-		added = true;
-		return added;
+		line.add(x, y);
+		lineChanged = true;
+		number = line.size();
 	}
 }
 
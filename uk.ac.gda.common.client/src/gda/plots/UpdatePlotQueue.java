@@ -19,7 +19,9 @@
 
 package gda.plots;
 
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.slf4j.Logger;
@@ -27,9 +29,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Queue decoupling requests for scan plot updates to the actual update thread.
- */
-/**
- *
+ * <p>
+ * Requests for a plot which is already waiting to be updated are dropped, as the update will show the data at the
+ * time it is made, so each plot is updated at most once per plot period however quickly points arrive.
  */
 public class UpdatePlotQueue {
 	private static final Logger logger = LoggerFactory.getLogger(UpdatePlotQueue.class);
@@ -37,6 +39,7 @@ public class UpdatePlotQueue {
 	private static final String THREAD_NAME = UpdatePlotQueue.class.getSimpleName();
 
 	private final BlockingQueue<XYDataHandler> items = new LinkedBlockingQueue<>();
+	private final Set<XYDataHandler> pending = ConcurrentHashMap.newKeySet(); // plots in the queue
 	private final Thread thread;
 	private int plotPeriodMs = 250;
 
@@ -49,19 +52,23 @@ public class UpdatePlotQueue {
 
 
 	/**
-	 * Add a request for an update to the queue
+	 * Add a request for an update to the queue, unless the plot is already waiting to be updated
 	 *
 	 * @param simplePlot
 	 */
 	public void update(XYDataHandler simplePlot) {
-		items.add(simplePlot);
-		logger.trace("Added update plot request '{}' to queue", simplePlot);
+		if (pending.add(simplePlot)) {
+			items.add(simplePlot);
+			logger.trace("Added update plot request '{}' to queue", simplePlot);
+		}
 	}
 
 	private void runPlotQueueUpdates() {
 		while (!Thread.currentThread().isInterrupted()) {
 			try {
 				XYDataHandler item = items.take();
+				// remove before updating so that a point added during the update requests another
+				pending.remove(item);
 				item.onUpdate(false);
 				Thread.sleep(plotPeriodMs);
 			} catch (InterruptedException e) {
@@ -260,6 +260,12 @@ public final class LocalProperties {
 	 */
 	public static final String GDA_SCAN_MULTITHREADED_SCANDATA_POINT_PIPElINE_LENGTH = "gda.scan.multithreadedScanDataPointPipeline.length";
 
+	/**
+	 * How a gda.scan.MultithreadedScanDataPointPipeline limits the number of ScanDataPoints it holds: UNBOUNDED (the default), BLOCKING or ADAPTIVE.
+	 * Unless UNBOUNDED, the limit is set by {@link #GDA_SCAN_MULTITHREADED_SCANDATA_POINT_PIPElINE_LENGTH}.
+	 */
+	public static final String GDA_SCAN_MULTITHREADED_SCANDATA_POINT_PIPELINE_BACK_PRESSURE = "gda.scan.multithreadedScanDataPointPipeline.backPressure";
+
 	/**
 	 * The number of ScanDataPoints that can be in a gda.scan.MultithreadedScanDataPointPipeline before it starts blocking new requests. i.e. the number of
 	 * points 'behind' the collection completed points can get.
@@ -0,0 +1,210 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package gda.data.scan.datawriter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncScanPointWriterTest {
+
+	private final List<Integer> pointsWritten = new CopyOnWriteArrayList<>();
+
+	private final AtomicInteger flushCount = new AtomicInteger();
+
+	/** A point written by running it */
+	@FunctionalInterface
+	private interface Task {
+		void run() throws Exception;
+	}
+
+	private AsyncScanPointWriter<Task> newWriter(int queueSize, long flushIntervalMs, AsyncScanPointWriter.Flusher flusher) {
+		return new AsyncScanPointWriter<>("test", queueSize, flushIntervalMs, points -> {
+			for (Task task : points) {
+				task.run();
+			}
+		}, flusher);
+	}
+
+	@Test
+	void testPointsAreWrittenInOrderBeforeClose() throws Exception {
+		final AsyncScanPointWriter<Task> writer = newWriter(4, 0, flushCount::incrementAndGet);
+		for (int i = 0; i < 100; i++) {
+			final int pointNumber = i;
+			writer.submit(() -> {
+				Thread.sleep(1);
+				pointsWritten.add(pointNumber);
+			});
+		}
+		writer.close();
+
+		assertThat(pointsWritten, contains(IntStream.range(0, 100).boxed().toArray()));
+		assertThat(flushCount.get(), is(greaterThanOrEqualTo(1)));
+	}
+
+	@Test
+	void testSubmitDoesNotWaitForWrite() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		try (AsyncScanPointWriter<Task> writer = newWriter(4, 0, flushCount::incrementAndGet)) {
+			writer.submit(latch::await);
+			writer.submit(() -> pointsWritten.add(1));
+			assertThat(pointsWritten.isEmpty(), is(true));
+			latch.countDown();
+		}
+		assertThat(pointsWritten, contains(1));
+	}
+
+	@Test
+	void testFlushInterval() throws Exception {
+		try (AsyncScanPointWriter<Task> writer = newWriter(4, TimeUnit.HOURS.toMillis(1), flushCount::incrementAndGet)) {
+			for (int i = 0; i < 10; i++) {
+				writer.submit(() -> pointsWritten.add(0));
+			}
+		}
+		assertThat(pointsWritten.size(), is(10));
+		assertThat(flushCount.get(), is(1)); // only when closed
+	}
+
+	@Test
+	void testPointsAreFlushedWhenNoMorePointsArrive() throws Exception {
+		try (AsyncScanPointWriter<Task> writer = newWriter(4, 100, flushCount::incrementAndGet)) {
+			writer.submit(() -> pointsWritten.add(0));
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (flushCount.get() == 0 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(flushCount.get(), is(1));
+		}
+		assertThat(pointsWritten, contains(0));
+	}
+
+	@Test
+	void testAbortStopsWriterThread() throws Exception {
+		final AtomicReference<Thread> writerThread = new AtomicReference<>();
+		final CountDownLatch writing = new CountDownLatch(1);
+		final AsyncScanPointWriter<Task> writer = newWriter(4, 0, flushCount::incrementAndGet);
+		writer.submit(() -> {
+			writerThread.set(Thread.currentThread());
+			writing.countDown();
+			new CountDownLatch(1).await(); // never completes unless interrupted
+		});
+		writer.submit(() -> pointsWritten.add(1));
+		writing.await();
+
+		writer.abort();
+		writerThread.get().join(TimeUnit.SECONDS.toMillis(5));
+
+		assertThat(writerThread.get().isAlive(), is(false));
+		assertThat(pointsWritten.isEmpty(), is(true));
+		assertThrows(IllegalStateException.class, () -> writer.submit(() -> pointsWritten.add(2)));
+	}
+
+	@Test
+	void testErrorIsThrownFromClose() throws Exception {
+		final Exception error = new Exception("Write failed");
+		final AsyncScanPointWriter<Task> writer = newWriter(4, 0, flushCount::incrementAndGet);
+		writer.submit(() -> {
+			throw error;
+		});
+		assertThat(assertThrows(Exception.class, writer::close), is(sameInstance(error)));
+	}
+
+	@Test
+	void testErrorIsThrownFromSubmit() throws Exception {
+		final Exception error = new Exception("Write failed");
+		final AsyncScanPointWriter<Task> writer = newWriter(1, 0, flushCount::incrementAndGet);
+		writer.submit(() -> {
+			throw error;
+		});
+		final Exception thrown = assertThrows(Exception.class, () -> {
+			for (int i = 0; i < 100; i++) {
+				writer.submit(() -> pointsWritten.add(0));
+				Thread.sleep(10);
+			}
+		});
+		assertThat(thrown, is(sameInstance(error)));
+		assertThat(pointsWritten.isEmpty(), is(true));
+		assertThrows(Exception.class, writer::close);
+	}
+
+	@Test
+	void testCallbackIsCalledAfterFlush() throws Exception {
+		final List<String> events = new CopyOnWriteArrayList<>();
+		try (AsyncScanPointWriter<Task> writer = newWriter(4, TimeUnit.HOURS.toMillis(1), () -> events.add("flush"))) {
+			writer.submit(() -> events.add("write"), () -> events.add("written"));
+		}
+		assertThat(events, contains("write", "flush", "written"));
+	}
+
+	@Test
+	void testCallbackIsNotCalledIfWriteFails() throws Exception {
+		final AtomicInteger callbackCount = new AtomicInteger();
+		final AsyncScanPointWriter<Task> writer = newWriter(4, 0, flushCount::incrementAndGet);
+		writer.submit(() -> {
+			throw new Exception("Write failed");
+		}, callbackCount::incrementAndGet);
+		assertThrows(Exception.class, writer::close);
+		assertThat(callbackCount.get(), is(0));
+	}
+
+	@Test
+	void testWaitingPointsAreWrittenTogether() throws Exception {
+		final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AsyncScanPointWriter<Integer> writer = new AsyncScanPointWriter<>("test", 10, 0, points -> {
+			latch.await();
+			batchSizes.add(points.size());
+		}, flushCount::incrementAndGet);
+		writer.submit(0);
+		Thread.sleep(100); // let the writer thread take the first point
+		for (int i = 1; i < 6; i++) {
+			writer.submit(i);
+		}
+		latch.countDown();
+		writer.close();
+
+		assertThat(batchSizes, contains(1, 5));
+	}
+
+	@Test
+	void testCloseAfterAbortDoesNotThrow() throws Exception {
+		final CountDownLatch writing = new CountDownLatch(1);
+		final AsyncScanPointWriter<Task> writer = newWriter(4, 0, flushCount::incrementAndGet);
+		writer.submit(() -> {
+			writing.countDown();
+			new CountDownLatch(1).await(); // never completes unless interrupted
+		});
+		writing.await();
+
+		writer.abort();
+		writer.close();
+	}
+}
@@ -0,0 +1,116 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.data.swmr;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.january.dataset.DatasetFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gda.data.swmr.SwmrDatasetFollower.AppendedFrames;
+
+public class SwmrDatasetFollowerTest {
+
+	private static final String PATH = "/entry/instrument/detector/data";
+
+	private SwmrFileReader reader;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		reader = mock(SwmrFileReader.class);
+		when(reader.datasetExists(PATH)).thenReturn(true);
+		when(reader.readDataset(eq(PATH), any(), any(), any()))
+				.thenAnswer(invocation -> DatasetFactory.zeros((int[]) invocation.getArgument(2)));
+	}
+
+	@Test
+	public void testOnlyNewFramesAreRead() throws Exception {
+		final SwmrDatasetFollower follower = new SwmrDatasetFollower(reader);
+		follower.follow("data", PATH);
+
+		when(reader.getCurrentShape(PATH)).thenReturn(new int[] { 3, 4 });
+		List<AppendedFrames> frames = follower.poll();
+		assertEquals(1, frames.size());
+		assertEquals(0, frames.get(0).firstFrame());
+		assertArrayEquals(new int[] { 3, 4 }, frames.get(0).data().getShape());
+		assertEquals("data", frames.get(0).data().getName());
+
+		when(reader.getCurrentShape(PATH)).thenReturn(new int[] { 5, 4 });
+		frames = follower.poll();
+		assertEquals(1, frames.size());
+		assertEquals(3, frames.get(0).firstFrame());
+		assertEquals(2, frames.get(0).getNumFrames());
+		verify(reader).readDataset(PATH, new int[] { 3, 0 }, new int[] { 2, 4 }, new int[] { 1, 1 });
+
+		// no new frames
+		assertTrue(follower.poll().isEmpty());
+		assertEquals(5, follower.getFramesRead("data"));
+	}
+
+	@Test
+	public void testFramesAreReadInBoundedBlocks() throws Exception {
+		final SwmrDatasetFollower follower = new SwmrDatasetFollower(reader, 4);
+		follower.follow("data", PATH);
+		when(reader.getCurrentShape(PATH)).thenReturn(new int[] { 10 });
+
+		final List<AppendedFrames> frames = follower.poll();
+		assertEquals(3, frames.size());
+		assertEquals(0, frames.get(0).firstFrame());
+		assertEquals(4, frames.get(1).firstFrame());
+		assertEquals(8, frames.get(2).firstFrame());
+		assertEquals(2, frames.get(2).getNumFrames());
+	}
+
+	@Test
+	public void testMissingDatasetIsSkippedUntilCreated() throws Exception {
+		final SwmrDatasetFollower follower = new SwmrDatasetFollower(reader);
+		follower.follow("data", PATH);
+		when(reader.datasetExists(PATH)).thenReturn(false);
+
+		assertEquals(0, follower.poll(frames -> {}));
+		verify(reader, never()).getCurrentShape(PATH);
+
+		when(reader.datasetExists(PATH)).thenReturn(true);
+		when(reader.getCurrentShape(PATH)).thenReturn(new int[] { 2 });
+		assertEquals(2, follower.poll(frames -> {}));
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		final SwmrDatasetFollower follower = new SwmrDatasetFollower(reader);
+		follower.follow("data", PATH);
+		when(reader.getCurrentShape(PATH)).thenReturn(new int[] { 2 });
+		assertEquals(2, follower.poll(frames -> {}));
+
+		follower.reset();
+		assertEquals(0, follower.getFramesRead("data"));
+		assertEquals(2, follower.poll(frames -> {}));
+	}
+}
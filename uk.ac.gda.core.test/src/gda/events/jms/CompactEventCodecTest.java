@@ -0,0 +1,98 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import gda.device.scannable.ScannablePositionChangeEvent;
+import gda.device.scannable.ScannableStatus;
+
+public class CompactEventCodecTest {
+
+	private final EventCodec codec = EventCodecs.forName(CompactEventCodec.NAME);
+
+	private Object roundTrip(Serializable value) throws Exception {
+		return codec.decode(codec.encode(value));
+	}
+
+	@Test
+	public void testScalarsRoundTrip() throws Exception {
+		assertEquals(1.5, roundTrip(1.5));
+		assertEquals(42, roundTrip(42));
+		assertEquals(42L, roundTrip(42L));
+		assertEquals(Boolean.TRUE, roundTrip(true));
+		assertEquals("position å", roundTrip("position å"));
+		assertNull(roundTrip(null));
+	}
+
+	@Test
+	public void testArraysRoundTrip() throws Exception {
+		final double[] doubles = { 1.0, -2.5, Double.NaN };
+		assertArrayEquals(doubles, (double[]) roundTrip(doubles));
+		final Double[] boxed = { 1.0, 2.0 };
+		assertArrayEquals(boxed, (Double[]) roundTrip(boxed));
+		final Double[] withNull = { 1.0, null };
+		assertArrayEquals(withNull, (Double[]) roundTrip(withNull));
+	}
+
+	@Test
+	public void testScannableEventsRoundTrip() throws Exception {
+		assertSame(ScannableStatus.BUSY, roundTrip(ScannableStatus.BUSY));
+		final ScannablePositionChangeEvent event = new ScannablePositionChangeEvent(3.25);
+		assertEquals(event, roundTrip(event));
+		final ScannablePositionChangeEvent arrayEvent = new ScannablePositionChangeEvent(new double[] { 1, 2 });
+		assertArrayEquals(new double[] { 1, 2 }, (double[]) ((ScannablePositionChangeEvent) roundTrip(arrayEvent)).newPosition);
+	}
+
+	@Test
+	public void testPositionEventIsSmallerThanJavaSerialization() throws Exception {
+		final ScannablePositionChangeEvent event = new ScannablePositionChangeEvent(3.25);
+		final int compactSize = codec.encode(event).length;
+		final int javaSize = EventCodecs.forName(JavaSerializationCodec.NAME).encode(event).length;
+		assertTrue(compactSize * 10 < javaSize, "Compact size " + compactSize + " is not much less than " + javaSize);
+	}
+
+	@Test
+	public void testOtherObjectsAreSerialized() throws Exception {
+		final ArrayList<String> list = new ArrayList<>(List.of("a", "b"));
+		assertEquals(list, roundTrip(list));
+	}
+
+	@Test
+	public void testCompressionRoundTrip() throws Exception {
+		final double[] values = new double[10_000];
+		Arrays.fill(values, 7.0);
+		final byte[] encoded = codec.encode(values);
+		final byte[] compressed = EventCodecs.compress(encoded);
+		assertTrue(compressed.length < encoded.length / 10);
+		assertArrayEquals(values, (double[]) codec.decode(EventCodecs.decompress(compressed)));
+	}
+
+}
@@ -0,0 +1,141 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import gda.device.scannable.ScannablePositionChangeEvent;
+import gda.device.scannable.ScannableStatus;
+
+public class EventCoalescerTest {
+
+	private record Batch(String sourceName, List<Serializable> events) {}
+
+	private final List<Batch> sent = new ArrayList<>();
+
+	private ScheduledExecutorService scheduler;
+
+	private EventCoalescer coalescer;
+
+	@BeforeEach
+	public void setUp() {
+		scheduler = mock(ScheduledExecutorService.class);
+		coalescer = new EventCoalescer(50, List.of("x", "y"), scheduler, (source, events, timestamp) -> sent.add(new Batch(source, events)));
+	}
+
+	/** Ends all the windows scheduled so far */
+	private void endWindows() {
+		final ArgumentCaptor<Runnable> flushes = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler, atLeastOnce()).schedule(flushes.capture(), eq(50L), eq(TimeUnit.MILLISECONDS));
+		flushes.getAllValues().forEach(Runnable::run);
+	}
+
+	@Test
+	public void testOnlyLatestEventOfEachClassIsSent() {
+		coalescer.add("x", ScannableStatus.BUSY);
+		for (int i = 0; i < 100; i++) {
+			coalescer.add("x", new ScannablePositionChangeEvent((double) i));
+		}
+		coalescer.add("x", ScannableStatus.IDLE);
+		assertTrue(sent.isEmpty());
+
+		endWindows();
+
+		assertEquals(1, sent.size());
+		assertEquals(List.of(new ScannablePositionChangeEvent(99.0), ScannableStatus.IDLE), sent.get(0).events());
+		assertEquals(100, coalescer.getDroppedEvents());
+	}
+
+	@Test
+	public void testSourcesAreCoalescedSeparately() {
+		coalescer.add("x", 1.0);
+		coalescer.add("y", 2.0);
+		coalescer.add("x", 3.0);
+		verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any());
+
+		endWindows();
+
+		assertEquals(List.of(new Batch("x", List.of(3.0)), new Batch("y", List.of(2.0))), sent);
+	}
+
+	@Test
+	public void testNewWindowStartsAfterFlush() {
+		coalescer.add("x", 1.0);
+		endWindows();
+		coalescer.add("x", 2.0);
+		verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any());
+		coalescer.flushAll();
+		assertEquals(List.of(new Batch("x", List.of(1.0)), new Batch("x", List.of(2.0))), sent);
+	}
+
+	@Test
+	public void testNullEventsAreKept() {
+		coalescer.add("x", null);
+		coalescer.add("x", "message");
+		coalescer.flushAll();
+		assertEquals(2, sent.get(0).events().size());
+	}
+
+	@Test
+	public void testOnlyNamedSourcesAreCoalesced() {
+		final EventCoalescer named = new EventCoalescer(50, List.of("x", "x"), scheduler, (source, events, timestamp) -> {});
+		assertTrue(named.coalesces("x"));
+		assertFalse(named.coalesces("y"));
+		assertFalse(new EventCoalescer(50, List.of(), scheduler, (source, events, timestamp) -> {}).coalesces("y"));
+	}
+
+	@Test
+	public void testCloseStopsSchedulerAndSendsPendingEvents() throws InterruptedException {
+		when(scheduler.awaitTermination(anyLong(), any())).thenReturn(true);
+		coalescer.add("x", 1.0);
+		coalescer.close();
+		final InOrder inOrder = inOrder(scheduler);
+		inOrder.verify(scheduler).shutdownNow();
+		inOrder.verify(scheduler).awaitTermination(anyLong(), any());
+		assertEquals(List.of(new Batch("x", List.of(1.0))), sent);
+
+		// once closed, events are sent immediately rather than scheduled
+		coalescer.add("x", 2.0);
+		verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any());
+		assertEquals(List.of(new Batch("x", List.of(1.0)), new Batch("x", List.of(2.0))), sent);
+	}
+
+}
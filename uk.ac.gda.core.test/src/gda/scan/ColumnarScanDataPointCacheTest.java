@@ -0,0 +1,178 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.scan;
+
+import static gda.scan.ScanDataPointProvider.getPoint;
+import static gda.scan.ScanDataPointProvider.getPointWithDuplicatedHeader;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.DoubleBuffer;
+import java.util.List;
+
+import org.eclipse.january.dataset.IDataset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ColumnarScanDataPointCacheTest {
+
+	private ColumnarScanDataPointCache cache;
+
+	@BeforeEach
+	public void setup() {
+		cache = new ColumnarScanDataPointCache();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testNormalOperation(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 3, List.of(0.1), List.of(3.1)));
+		cache.update(null, getPoint(1, 3, List.of(0.2), List.of(3.2)));
+		cache.update(null, getPoint(2, 3, List.of(0.3), List.of(3.3)));
+		assertThat(cache.getPositionsFor("scan0"), contains(0.1, 0.2, 0.3));
+		assertThat(cache.getPositionsFor("det0"), contains(3.1, 3.2, 3.3));
+		assertEquals(3, cache.getNumberOfPoints());
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testColumnsGrowBeyondNumberOfPoints(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		final int points = 1000;
+		for (int i = 0; i < points; i++) {
+			// Scan reports fewer points than it produces
+			cache.update(null, getPoint(i, 1, List.of((double) i), List.of((double) -i)));
+		}
+		final List<Double> positions = cache.getPositionsFor("scan0");
+		assertEquals(points, positions.size());
+		assertEquals(999.0, positions.get(999));
+		assertEquals(-999.0, cache.getBufferFor("det0").get(999));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testViewsAreUnchangedByLaterPoints(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 3, List.of(0.1), List.of(3.1)));
+		cache.update(null, getPoint(1, 3, List.of(0.2), List.of(3.2)));
+		final DoubleBuffer buffer = cache.getBufferFor("scan0");
+		final IDataset dataset = cache.getDatasetFor("scan0");
+		final List<Double> list = cache.getPositionsFor("scan0");
+
+		cache.update(null, getPoint(2, 3, List.of(0.3), List.of(3.3)));
+
+		assertEquals(2, buffer.remaining());
+		assertArrayEquals(new int[] { 2 }, dataset.getShape());
+		assertEquals(0.2, dataset.getDouble(1));
+		assertEquals("scan0", dataset.getName());
+		assertThat(list, contains(0.1, 0.2));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testGetPositionsSince(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 3, List.of(0.1), List.of(3.1)));
+		cache.update(null, getPoint(1, 3, List.of(0.2), List.of(3.2)));
+		assertArrayEquals(new double[] { 0.1, 0.2 }, cache.getPositionsSince("scan0", 0));
+		cache.update(null, getPoint(2, 3, List.of(0.3), List.of(3.3)));
+		assertArrayEquals(new double[] { 3.3 }, cache.getPositionsSince("det0", 2));
+		assertArrayEquals(new double[0], cache.getPositionsSince("det0", 3));
+		assertThrows(IndexOutOfBoundsException.class, () -> cache.getPositionsSince("det0", 4));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testNewScanClearsCache(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 2, List.of(0.1), List.of(3.1)));
+		cache.update(null, getPoint(1, 2, List.of(0.2), List.of(3.2)));
+		cache.update(null, getPoint(0, 2, List.of(5.1), emptyList()));
+		assertThat(cache.getPositionsFor("scan0"), contains(5.1));
+		assertThrows(IllegalArgumentException.class, () -> cache.getPositionsFor("det0"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testChangingNumberOfScannablesThrows(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 3, List.of(0.1), List.of(3.1)));
+		assertThrows(IllegalArgumentException.class,
+				() -> cache.update(null, getPoint(1, 3, List.of(0.2), emptyList())));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testMoreScannablesThanCachedThrows(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 3, List.of(0.1), List.of(3.1)));
+		assertThrows(IllegalArgumentException.class,
+				() -> cache.update(null, getPoint(1, 3, List.of(0.2, 0.5), List.of(3.2))));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testPointWithDuplicatedHeader(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPointWithDuplicatedHeader(0, 3, List.of(0.1), List.of(3.1)));
+		cache.update(null, getPointWithDuplicatedHeader(1, 3, List.of(0.2, 0.5), List.of(3.2)));
+		assertThat(cache.getPositionsFor("scan"), contains(0.1, 0.2));
+		assertThat(cache.getPositionsFor("det0"), contains(3.1, 3.2));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testPointWithDuplicatedHeaderAndMissingColumn(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 3, List.of(0.1, 1.1), List.of(3.1)));
+		// scan0 is duplicated and scan1 is missing, so the point has enough values but not for every column
+		final ScanDataPoint point = (ScanDataPoint) getPoint(1, 3, List.of(0.2, 0.5, 0.7), List.of(3.2));
+		point.setScannableHeader(new String[] { "scan0", "scan0", "scan0" });
+		cache.update(null, point);
+		assertThat(cache.getPositionsFor("scan0"), contains(0.1, 0.2));
+		assertThat(cache.getPositionsFor("scan1"), contains(1.1, Double.NaN));
+		assertThat(cache.getPositionsFor("det0"), contains(3.1, 3.2));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testMissingScannableNameThrows(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 3, List.of(0.1), List.of(3.1)));
+		assertThrows(IllegalArgumentException.class, () -> cache.getPositionsFor(null));
+		assertThrows(IllegalArgumentException.class, () -> cache.getPositionsFor("missing scannable"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testStringValuedScannablePosition(boolean offHeap) throws Exception {
+		cache.setOffHeap(offHeap);
+		cache.update(null, getPoint(0, 2, List.of(0.1, "foo"), emptyList()));
+		cache.update(null, getPoint(1, 2, List.of(0.2, "bar"), emptyList()));
+		assertThat(cache.getPositionsFor("scan0"), contains(0.1, 0.2));
+		assertThat(cache.getPositionsFor("scan1"), contains(Double.NaN, Double.NaN)); // Strings replaced by NaN
+	}
+
+}
@@ -21,13 +21,20 @@ package gda.scan;
 import static gda.jython.InterfaceProvider.setJythonServerNotiferForTesting;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +51,7 @@ import gda.device.DeviceException;
 import gda.device.Scannable;
 import gda.device.scannable.PositionCallableProvider;
 import gda.jython.IJythonServerNotifer;
+import gda.scan.MultithreadedScanDataPointPipeline.BackPressure;
 
 //Uses MockFactory to create scannables, so must be lenient with unused stubbing
 @ExtendWith(MockitoExtension.class)
@@ -114,8 +122,9 @@ public class MultithreadedScanDataPointPipelineTest {
 	private Callable<Object> callabledetb3;
 
 	@BeforeEach
-	public void setUp() {
+	public void setUp() throws Exception {
 		mockDataWriter = mock(DataWriter.class);
+		doCallRealMethod().when(mockDataWriter).addData(any(), any()); // calls addData(point)
 		mockScan = mock(ScanBase.class);
 		configurePipeline();
 		mockJythonServerNotifer = mock(IJythonServerNotifer.class);
@@ -360,6 +369,95 @@ public class MultithreadedScanDataPointPipelineTest {
 		}
 	}
 
+	private void testPutBlocksWhenPipelineFull(BackPressure backPressure) throws Exception {
+		pipeline.shutdown(true);
+		pipeline = new MultithreadedScanDataPointPipeline(new ScanDataPointPublisher(mockDataWriter, mockScan, i -> {}), 10, 2,
+				"scan-name", backPressure);
+		final CountDownLatch writerReleased = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			writerReleased.await();
+			return null;
+		}).when(mockDataWriter).addData(any());
+		configureMockScannablesAndDetectors();
+
+		// The first point is taken by the broadcaster thread and blocks in the writer, the second fills the pipeline
+		pipeline.put(createScanDataPoint());
+		pipeline.put(createScanDataPoint());
+		final ScanDataPoint point3 = createScanDataPoint();
+		final Thread scanThread = new Thread(new ScanLikeRun(point3, createScanDataPoint(), null));
+		scanThread.start();
+		scanThread.join(500);
+		assertFalse("put should block while the pipeline is full", reached1);
+
+		writerReleased.countDown();
+		scanThread.join(TimeUnit.SECONDS.toMillis(5));
+		assertTrue(reached2);
+		if (caughtException != null) throw caughtException;
+		verify(mockDataWriter).addData(point3);
+		assertEquals(4, pipeline.getMetrics().getPointsPublished());
+	}
+
+	@Test
+	public void testPutBlocksWhenBlockingPipelineFull() throws Exception {
+		testPutBlocksWhenPipelineFull(BackPressure.BLOCKING);
+	}
+
+	@Test
+	public void testPutBlocksWhenAdaptivePipelineFull() throws Exception {
+		testPutBlocksWhenPipelineFull(BackPressure.ADAPTIVE);
+	}
+
+	@Test
+	public void testMetricsRecordedForPublishedPoints() throws Exception {
+		configureMockScannablesAndDetectors();
+		pipeline.put(createScanDataPoint());
+		pipeline.put(createScanDataPoint());
+		pipeline.shutdown(true);
+
+		final ScanDataPointPipelineMetricsMXBean metrics = pipeline.getMetrics();
+		assertEquals(2, metrics.getPointsAdded());
+		assertEquals(2, metrics.getPointsPublished());
+		assertEquals(0, metrics.getPointsInPipeline());
+		assertEquals("UNBOUNDED", metrics.getBackPressure());
+	}
+
+	@Test
+	public void testMetricsCountPointsDiscardedAfterException() throws Exception {
+		final CountDownLatch writerReleased = new CountDownLatch(1);
+		final DeviceException expected = new DeviceException("expected");
+		doAnswer(invocation -> {
+			writerReleased.await();
+			throw expected;
+		}).when(mockDataWriter).addData(any());
+		configureMockScannablesAndDetectors();
+
+		// The first point blocks in the writer and then fails, so the two queued behind it are discarded
+		pipeline.put(createScanDataPoint());
+		pipeline.put(createScanDataPoint());
+		pipeline.put(createScanDataPoint());
+		writerReleased.countDown();
+
+		try {
+			pipeline.shutdown(true);
+			fail("DeviceException expected");
+		} catch (final Exception e) {
+			// expected
+		}
+
+		final ScanDataPointPipelineMetricsMXBean metrics = pipeline.getMetrics();
+		assertEquals(3, metrics.getPointsAdded());
+		assertEquals(0, metrics.getPointsPublished());
+		assertEquals(0, metrics.getPointsInPipeline());
+	}
+
+	@Test
+	public void testBackPressureFromString() {
+		assertEquals(BackPressure.UNBOUNDED, BackPressure.fromString(null));
+		assertEquals(BackPressure.BLOCKING, BackPressure.fromString(" blocking"));
+		assertEquals(BackPressure.ADAPTIVE, BackPressure.fromString("ADAPTIVE"));
+		assertEquals(BackPressure.UNBOUNDED, BackPressure.fromString("unknown"));
+	}
+
 	class ScanLikeRun implements Runnable {
 
 		private final ScanDataPoint _point1;
@@ -22,10 +22,18 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -126,4 +134,69 @@ class ScanDataPointTest {
 		assertThat(sdp.toString(), is(equalTo("ScanDataPoint [point=0/-1, scan=]")));
 	}
 
+	@Test
+	void testAsPrimitiveDoubles() {
+		assertArrayEquals(new double[] { 1, 2, 3, 4, 5, 6, 7, 1, 2, 3, 4, 5, 6 }, sdp.getAllValuesAsPrimitiveDoubles());
+		assertThat(sdp.getAllValuesAsDoubles(), is(equalTo(new Double[] { 1., 2., 3., 4., 5., 6., 7., 1., 2., 3., 4., 5., 6. })));
+	}
+
+	@Test
+	void testNonNumericValues() {
+		final ScanDataPoint point = new ScanDataPoint();
+		point.setScannableHeader(new String[] { "number", "text" });
+		point.setScannablePositions(List.of(1.5, "text"), new String[][] { { "%f" }, { "%s" } });
+		assertArrayEquals(new double[] { 1.5, Double.NaN }, point.getAllValuesAsPrimitiveDoubles());
+		assertThat(point.getAllValuesAsDoubles(), is(equalTo(new Double[] { 1.5, null })));
+	}
+
+	@Test
+	void testValuesRecalculatedWhenPositionsReplaced() {
+		final ScanDataPoint point = new ScanDataPoint();
+		point.setScannableHeader(new String[] { "x" });
+		point.setScannablePositions(List.of(1.0), new String[][] { { "%f" } });
+		assertArrayEquals(new double[] { 1 }, point.getAllValuesAsPrimitiveDoubles());
+		point.setScannablePositions(List.of(2.0));
+		assertArrayEquals(new double[] { 2 }, point.getAllValuesAsPrimitiveDoubles());
+	}
+
+	@Test
+	void testPointsInScanShareSchema() throws Exception {
+		final ScanDataPoint other = createScanDataPoint();
+		assertThat(other.getSchema(), is(sameInstance(sdp.getSchema())));
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(other);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			final ScanDataPoint received = (ScanDataPoint) in.readObject();
+			assertThat(received.getSchema(), is(sameInstance(sdp.getSchema())));
+			assertThat(received.getHeaderString(), is(equalTo(sdp.getHeaderString())));
+		}
+	}
+
+	@Test
+	void testSchemaChangedByAddingAfterItWasCreated() {
+		final ScanDataPointSchema schema = sdp.getSchema();
+		final Scannable scannable4 = mock(ScannableMotor.class);
+		when(scannable4.getInputNames()).thenReturn(new String[] { "s4_I1" });
+		when(scannable4.getExtraNames()).thenReturn(new String[] {});
+		when(scannable4.getName()).thenReturn("scannable4");
+		sdp.addScannable(scannable4);
+		sdp.addScannablePosition(8.0, new String[] { "%5.1g" });
+		assertThat(schema.getScannableHeader().size(), is(7));
+		assertThat(sdp.getSchema().getScannableHeader().size(), is(8));
+		assertArrayEquals(new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 1, 2, 3, 4, 5, 6 }, sdp.getAllValuesAsPrimitiveDoubles());
+	}
+
+	@Test
+	void testSharedSchemaCannotBeChangedThroughFormats() throws Exception {
+		final ScanDataPoint other = createScanDataPoint();
+		other.getSchema().getScannableFormats().get(0)[0] = "%s";
+		other.getSchema().getDetectorFormats().get(0)[0] = "%s";
+		other.getScannableFormats()[0][0] = "%s";
+		assertThat(sdp.getSchema().getScannableFormat(0)[0], is(equalTo("%5.1g")));
+		assertThat(sdp.getSchema().getDetectorFormats().get(0)[0], is(equalTo("%2d")));
+		assertThat(sdp.toFormattedString(), is(equalTo("    1	    2	    3	    4	    5	    6	    7	    1.0	    2.0	    3.0	    4.0	    5.0	    6.0")));
+	}
 }
@@ -0,0 +1,292 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package gda.data.scan.datawriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.ac.diamond.daq.concurrent.ExecutorFactory;
+
+/**
+ * Writes scan points to a file on a dedicated thread, so that slow writes and flushes (e.g. to a shared filesystem) do
+ * not hold up the scan.
+ * <p>
+ * Points are passed to the writer thread through a bounded queue, so the scan is only held up if the writer falls a
+ * whole queue behind. The writer thread takes all the points waiting in the queue at once and passes them in order to
+ * a {@link BatchWriter}, which may merge consecutive points into one write. It then flushes the file if the flush
+ * interval has passed, so that SWMR readers see the new points. Points written within the interval are flushed once
+ * no more points have arrived for the flush interval, so that they are seen even if the scan is slow or paused, and
+ * when the writer is closed. The callback given with a point is called once the point has been flushed.
+ * <p>
+ * If writing a point fails, the remaining points are discarded and the exception is thrown from the next call to
+ * {@link #submit(Object)} or from {@link #close()}. If the scan ends without {@link #close()} being called,
+ * {@link #abort()} must be called to stop the writer thread.
+ *
+ * @param <P> the class of the points written
+ */
+class AsyncScanPointWriter<P> implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncScanPointWriter.class);
+
+	/**
+	 * Writes consecutive scan points
+	 */
+	@FunctionalInterface
+	interface BatchWriter<P> {
+		void write(List<P> points) throws Exception;
+	}
+
+	/**
+	 * Flushes the file written to
+	 */
+	@FunctionalInterface
+	interface Flusher {
+		void flush() throws Exception;
+	}
+
+	/**
+	 * A point waiting to be written, and the callback to call once it has been flushed, which may be <code>null</code>
+	 */
+	private record QueuedPoint<P>(P point, Runnable written) {}
+
+	/** Added to the queue by {@link #close()} to stop the writer thread once it has written all the points before it */
+	private final QueuedPoint<P> endOfScan = new QueuedPoint<>(null, null);
+
+	private final BlockingQueue<QueuedPoint<P>> queue;
+
+	private final long flushIntervalNanos;
+
+	private final BatchWriter<P> batchWriter;
+
+	private final Flusher flusher;
+
+	private final ExecutorService executor;
+
+	private final Future<?> writerFuture;
+
+	private volatile Exception failure;
+
+	/** Only accessed by the writer thread */
+	private long lastFlushNanos = System.nanoTime();
+
+	/** <code>true</code> if points have been written since the file was last flushed. Only accessed by the writer thread */
+	private boolean unflushed = false;
+
+	/** Callbacks of the points written since the file was last flushed. Only accessed by the writer thread */
+	private final List<Runnable> unflushedCallbacks = new ArrayList<>();
+
+	private volatile boolean closed = false;
+
+	private volatile boolean aborted = false;
+
+	/**
+	 * @param name
+	 *            name of the writer thread
+	 * @param queueSize
+	 *            maximum number of points waiting to be written
+	 * @param flushIntervalMs
+	 *            minimum time between flushes in milliseconds, or 0 to flush after each group of points written
+	 * @param batchWriter
+	 *            writes the points taken from the queue together
+	 * @param flusher
+	 *            flushes the file
+	 */
+	AsyncScanPointWriter(String name, int queueSize, long flushIntervalMs, BatchWriter<P> batchWriter, Flusher flusher) {
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+		this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+		this.batchWriter = batchWriter;
+		this.flusher = flusher;
+		this.executor = ExecutorFactory.singleThread(name);
+		this.writerFuture = executor.submit(this::writePoints);
+	}
+
+	/**
+	 * Queues a point to be written, waiting if the queue is full
+	 *
+	 * @param point
+	 *            the point to write
+	 * @throws Exception
+	 *             if writing an earlier point failed
+	 */
+	void submit(P point) throws Exception {
+		submit(point, null);
+	}
+
+	/**
+	 * Queues a point to be written, waiting if the queue is full
+	 *
+	 * @param point
+	 *            the point to write
+	 * @param written
+	 *            called on the writer thread once the point has been written and the file flushed, may be
+	 *            <code>null</code>. It is not called if the point is not written.
+	 * @throws Exception
+	 *             if writing an earlier point failed
+	 */
+	void submit(P point, Runnable written) throws Exception {
+		if (closed) {
+			throw new IllegalStateException("Cannot write a point after the end of the scan");
+		}
+		throwIfFailed();
+		final QueuedPoint<P> queuedPoint = new QueuedPoint<>(point, written);
+		while (!queue.offer(queuedPoint, 1, TimeUnit.SECONDS)) {
+			// wake up now and then in case the writer thread has failed and stopped taking points
+			throwIfFailed();
+		}
+	}
+
+	/**
+	 * Waits for all the points queued to be written and flushed, and stops the writer thread. Does nothing if the
+	 * writer has been {@link #abort() aborted}.
+	 *
+	 * @throws Exception
+	 *             if writing any point failed
+	 */
+	@Override
+	public void close() throws Exception {
+		if (aborted) {
+			return;
+		}
+		if (closed) {
+			throwIfFailed();
+			return;
+		}
+		closed = true;
+		try {
+			if (failure == null) {
+				queue.put(endOfScan);
+			}
+			writerFuture.get();
+		} catch (ExecutionException e) {
+			// the writer loop catches everything, so this is unexpected
+			logger.error("Writer thread ended unexpectedly", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		throwIfFailed();
+	}
+
+	/**
+	 * Stops the writer thread without waiting for the points queued to be written, which are discarded. Used instead of
+	 * {@link #close()} when the scan fails or is aborted.
+	 */
+	void abort() {
+		aborted = true;
+		closed = true;
+		final int discarded = queue.size();
+		queue.clear();
+		executor.shutdownNow();
+		logger.debug("Writer aborted, {} point(s) not written", discarded);
+	}
+
+	private void throwIfFailed() throws Exception {
+		final Exception e = failure;
+		if (e != null) {
+			throw e;
+		}
+	}
+
+	private void writePoints() {
+		final List<QueuedPoint<P>> batch = new ArrayList<>();
+		final List<P> points = new ArrayList<>();
+		try {
+			while (true) {
+				// wait indefinitely only once all the points written have been flushed
+				final QueuedPoint<P> next = unflushed ? queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS) : queue.take();
+				if (next == null) {
+					// no points have arrived for the flush interval
+					flush(System.nanoTime());
+					continue;
+				}
+				batch.add(next);
+				queue.drainTo(batch);
+
+				boolean endOfScanReached = false;
+				for (QueuedPoint<P> queuedPoint : batch) {
+					if (queuedPoint == endOfScan) {
+						endOfScanReached = true;
+						break;
+					}
+					points.add(queuedPoint.point());
+					if (queuedPoint.written() != null) {
+						unflushedCallbacks.add(queuedPoint.written());
+					}
+				}
+				if (!points.isEmpty()) {
+					logger.trace("Writing {} point(s)", points.size());
+					batchWriter.write(points);
+					unflushed = true;
+				}
+				batch.clear();
+				points.clear();
+
+				if (endOfScanReached) {
+					if (unflushed) {
+						flush(System.nanoTime());
+					}
+					return;
+				}
+				flushIfDue();
+			}
+		} catch (InterruptedException e) {
+			// an interrupt from abort() is not a failure to write
+			if (!aborted) {
+				failure = e;
+			}
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			if (aborted) {
+				logger.debug("Error writing scan point after the writer was aborted", e);
+			} else {
+				logger.error("Error writing scan point", e);
+				failure = e;
+			}
+			queue.clear();
+		}
+	}
+
+	private void flushIfDue() throws Exception {
+		final long now = System.nanoTime();
+		if (now - lastFlushNanos >= flushIntervalNanos) {
+			flush(now);
+		}
+	}
+
+	private void flush(long now) throws Exception {
+		flusher.flush();
+		lastFlushNanos = now;
+		unflushed = false;
+		for (Runnable callback : unflushedCallbacks) {
+			try {
+				callback.run();
+			} catch (RuntimeException e) {
+				logger.error("Error notifying that a point has been written", e);
+			}
+		}
+		unflushedCallbacks.clear();
+	}
+}
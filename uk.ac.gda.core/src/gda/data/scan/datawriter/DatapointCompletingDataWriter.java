@@ -58,12 +58,17 @@ public class DatapointCompletingDataWriter extends DataWriterBase {
 
 	@Override
 	public void addData(IScanDataPoint point) throws Exception {
+		addData(point, () -> {});
+	}
+
+	@Override
+	public void addData(IScanDataPoint point, Runnable pointWritten) throws Exception {
 		throwException();
 		if (pointContainsCallablePosition(point)) {
-			DatapointCompleterTask task = new DatapointCompleterTask(sink, point);
+			DatapointCompleterTask task = new DatapointCompleterTask(sink, point, pointWritten);
 			datapointCompleterSingleThreadpool.execute(task);
 		} else {
-			sink.addData(point);
+			sink.addData(point, pointWritten);
 		}
 	}
 
@@ -115,6 +120,12 @@ public class DatapointCompletingDataWriter extends DataWriterBase {
 		sink.completeCollection();
 	}
 
+	@Override
+	public void abortCollection() {
+		shutdownNow();
+		sink.abortCollection();
+	}
+
 	@Override
 	public String getCurrentFileName() {
 		return sink.getCurrentFileName();
@@ -160,9 +171,12 @@ public class DatapointCompletingDataWriter extends DataWriterBase {
 
 		private final DataWriter taskSink;
 
-		public DatapointCompleterTask(DataWriter sink, IScanDataPoint point) {
+		private final Runnable pointWritten;
+
+		public DatapointCompleterTask(DataWriter sink, IScanDataPoint point, Runnable pointWritten) {
 			this.taskSink = sink;
 			this.point = point;
+			this.pointWritten = pointWritten;
 		}
 
 		@Override
@@ -182,7 +196,7 @@ public class DatapointCompletingDataWriter extends DataWriterBase {
 			}
 			try {
 				logger.info("Writing queued data point {}", point.getCurrentPointNumber());
-				taskSink.addData(point);
+				taskSink.addData(point, pointWritten);
 			} catch (Exception e) {
 				setExceptionAndShutdownNow(e);
 			}
@@ -708,7 +708,7 @@ public class NexusDataWriter extends DataWriterBase implements INexusDataWriter
 			if (makeData) {
 				// create an attribute for the current node
 				NexusGroupData data = tree.getData();
-				if (data != null && data.getBuffer() != null) {
+				if (data != null && data.hasData()) {
 					INexusTree parent = tree.getParentNode();
 					Node node;
 					if (isSDS(parent.getNxClass(), parent.getParentNode() != null)) {
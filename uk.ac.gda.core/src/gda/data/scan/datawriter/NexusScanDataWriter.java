@@ -133,6 +133,30 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 	 */
 	public static final String PROPERTY_NAME_CREATE_FILE_AT_SCAN_START = "gda.nexus.createFileAtScanStart";
 
+	/**
+	 * Boolean property specifying whether to write each point to the nexus file on a separate writer thread, so that
+	 * {@link #addData(IScanDataPoint)} returns as soon as the point has been queued. Scannable positions of consecutive
+	 * points waiting to be written are written to each dataset together. The callback given to
+	 * {@link #addData(IScanDataPoint, Runnable)} is called once the point has been written and the file flushed. An
+	 * error writing a point is thrown from the next call to {@link #addData(IScanDataPoint)} or from
+	 * {@link #completeCollection()}, which waits for all the points to be written.
+	 */
+	public static final String PROPERTY_NAME_ASYNC_WRITE = "gda.nexus.asyncWrite";
+
+	/**
+	 * Integer property specifying the maximum number of points waiting to be written when
+	 * {@link #PROPERTY_NAME_ASYNC_WRITE} is set. {@link #addData(IScanDataPoint)} blocks when this many points are
+	 * waiting. The default is {@value #DEFAULT_ASYNC_WRITE_QUEUE_SIZE}.
+	 */
+	public static final String PROPERTY_NAME_ASYNC_WRITE_QUEUE_SIZE = "gda.nexus.asyncWriteQueueSize";
+
+	/**
+	 * Integer property specifying the minimum time in milliseconds between flushes of the nexus file when
+	 * {@link #PROPERTY_NAME_ASYNC_WRITE} is set, so that SWMR readers see new points. 0 flushes after every group of
+	 * points written. The default is {@value #DEFAULT_FLUSH_INTERVAL_MS}.
+	 */
+	public static final String PROPERTY_NAME_FLUSH_INTERVAL_MS = "gda.nexus.flushIntervalMs";
+
 	public static final String FIELD_NAME_BEAMLINE = "beamline";
 	public static final String FIELD_NAME_END_STATION = "end_station";
 
@@ -143,6 +167,10 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 	public static final String METADATA_ENTRY_NAME_INSTRUMENT = "instrument";
 	private static final String DEFAULT_BEAMLINE_NAME = "base";
 
+	private static final int DEFAULT_ASYNC_WRITE_QUEUE_SIZE = 16;
+
+	private static final int DEFAULT_FLUSH_INTERVAL_MS = 1000;
+
 	private static final Logger logger = LoggerFactory.getLogger(NexusScanDataWriter.class);
 
 	private final String beamlineName;
@@ -191,6 +219,12 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 
 	private MeasurementGroupWriter measurementGroupWriter;
 
+	/** Writes points on a separate thread if {@link #PROPERTY_NAME_ASYNC_WRITE} is set, created with the file */
+	private AsyncScanPointWriter<PointToWrite> asyncWriter = null;
+
+	/** A point queued to be written by {@link #asyncWriter} */
+	private record PointToWrite(IScanDataPoint point, int pointNumber, SliceND scanSlice) {}
+
 	// capture start_time on data writer instance creation.
 	private final ZonedDateTime startTime = ZonedDateTime.now().truncatedTo(ChronoUnit.MILLIS);
 
@@ -307,6 +341,11 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 
 	@Override
 	public void addData(IScanDataPoint point) throws Exception {
+		addData(point, () -> {});
+	}
+
+	@Override
+	public void addData(IScanDataPoint point, Runnable pointWritten) throws Exception {
 		currentPointNumber++;
 
 		if (currentPointNumber != point.getCurrentPointNumber()) {
@@ -342,10 +381,19 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 			}
 
 			// write the data for this point into the nexus file
+			final int pointNumber = currentPointNumber;
+			final SliceND scanSlice;
 			try {
-				writePoint(point);
+				scanSlice = createScanSlice(getScanPosition(point));
 			} catch (Exception e) {
-				throw new GDAException("Could not write scan point " + currentPointNumber, e);
+				throw new GDAException("Could not write scan point " + pointNumber, e);
+			}
+			if (asyncWriter != null) {
+				// throws the exception if writing an earlier point has failed
+				asyncWriter.submit(new PointToWrite(point, pointNumber, scanSlice), pointWritten);
+			} else {
+				writePoint(point, pointNumber, scanSlice);
+				pointWritten.run();
 			}
 		} finally {
 			super.addData(point);
@@ -384,6 +432,20 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 		nexusScanFile.createNexusFile(false, useSwmr); // TODO, set async to true, see DAQ-3124
 
 		logger.debug("Nexus file created: {}", getNexusFileName());
+
+		if (LocalProperties.check(PROPERTY_NAME_ASYNC_WRITE, false)) {
+			asyncWriter = new AsyncScanPointWriter("NexusScanDataWriter-" + scanNumber,
+					LocalProperties.getInt(PROPERTY_NAME_ASYNC_WRITE_QUEUE_SIZE, DEFAULT_ASYNC_WRITE_QUEUE_SIZE),
+					LocalProperties.getInt(PROPERTY_NAME_FLUSH_INTERVAL_MS, DEFAULT_FLUSH_INTERVAL_MS),
+					this::writePoints, this::flushFile);
+		}
+	}
+
+	private void flushFile() throws NexusException {
+		final int code = nexusScanFile.flush();
+		if (code < 0) {
+			logger.warn("Problem flushing nexus file, error code = {}", code);
+		}
 	}
 
 	private NexusScanModel createNexusScanModel() throws NexusException {
@@ -744,21 +806,104 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 		return List.of(entryMetadata, instrumentMetadata);
 	}
 
-	private void writePoint(IScanDataPoint point) throws Exception {
-		logger.debug("Writing scan data for point number: {}", currentPointNumber);
-		final int[] scanPosition = getScanPosition(point);
-		final SliceND sliceND = createScanSlice(scanPosition);
+	private void writePoint(IScanDataPoint point, int pointNumber, SliceND sliceND) throws GDAException {
+		logger.debug("Writing scan data for point number: {}", pointNumber);
+		try {
+			writeScannables(point, pointNumber, sliceND);
+			writeDetectors(point, pointNumber, sliceND);
+			writeScanPointMetadata(pointNumber, sliceND);
+		} catch (Exception e) {
+			throw new GDAException("Could not write scan point " + pointNumber, e);
+		}
+		logger.debug("Finished writing scan data for point number: {}", pointNumber);
+	}
+
+	/**
+	 * Writes points taken from the queue of the {@link #asyncWriter}. The scannable positions of each run of points
+	 * that are consecutive in the last scan dimension are written together.
+	 */
+	private void writePoints(List<PointToWrite> points) throws GDAException {
+		int runStart = 0;
+		for (int i = 1; i <= points.size(); i++) {
+			if (i == points.size() || !isNextInSlab(points.get(i - 1).scanSlice(), points.get(i).scanSlice())) {
+				writePointRun(points.subList(runStart, i));
+				runStart = i;
+			}
+		}
+	}
+
+	private boolean isNextInSlab(SliceND previous, SliceND next) {
+		final int[] previousStart = previous.getStart();
+		final int[] nextStart = next.getStart();
+		final int lastDim = nextStart.length - 1;
+		if (lastDim < 0) {
+			return false; // scalar scan shape
+		}
+		for (int dim = 0; dim < lastDim; dim++) {
+			if (nextStart[dim] != previousStart[dim]) {
+				return false;
+			}
+		}
+		return nextStart[lastDim] == previousStart[lastDim] + 1;
+	}
 
-		writeScannables(point, sliceND);
-		writeDetectors(point, sliceND);
-		writeScanPointMetadata(point, sliceND);
+	private void writePointRun(List<PointToWrite> run) throws GDAException {
+		final PointToWrite first = run.get(0);
+		final PointToWrite last = run.get(run.size() - 1);
+		if (run.size() == 1) {
+			writePoint(first.point(), first.pointNumber(), first.scanSlice());
+			return;
+		}
+
+		logger.debug("Writing scan data for point numbers: {} to {}", first.pointNumber(), last.pointNumber());
+		try {
+			writeScannables(run, new SliceND(first.scanSlice().getSourceShape(),
+					first.scanSlice().getStart(), last.scanSlice().getStop(), null));
+		} catch (Exception e) {
+			throw new GDAException("Could not write scan points " + first.pointNumber() + " to " + last.pointNumber(), e);
+		}
+		for (PointToWrite pointToWrite : run) {
+			try {
+				writeDetectors(pointToWrite.point(), pointToWrite.pointNumber(), pointToWrite.scanSlice());
+				writeScanPointMetadata(pointToWrite.pointNumber(), pointToWrite.scanSlice());
+			} catch (Exception e) {
+				throw new GDAException("Could not write scan point " + pointToWrite.pointNumber(), e);
+			}
+		}
+		logger.debug("Finished writing scan data for point numbers: {} to {}", first.pointNumber(), last.pointNumber());
+	}
+
+	private void writeScannables(List<PointToWrite> run, SliceND scanSlab) throws Exception {
+		final List<String> scannableNames = run.get(0).point().getScannableNames();
+		for (PointToWrite pointToWrite : run) {
+			if (!pointToWrite.point().getScannableNames().equals(scannableNames)) {
+				throw new NexusException("Scannables of point " + pointToWrite.pointNumber() + " differ from the previous point");
+			}
+			if (pointToWrite.point().getScannablePositions().size() != scannableNames.size()) {
+				throw new NexusException("Scannables name and position list have different sizes");
+			}
+		}
 
-		logger.debug("Finished writing scan data for point number: {}", currentPointNumber);
+		for (int i = 0; i < scannableNames.size(); i++) {
+			final String scannableName = scannableNames.get(i);
+			if (nexusDevices.get(scannableName) instanceof AbstractScannableNexusDevice<?> scannableNexusDevice) {
+				logger.debug("Writing scannable: {}", scannableName);
+				final int scannableIndex = i;
+				scannableNexusDevice.writePositions(run.stream()
+						.map(pointToWrite -> pointToWrite.point().getScannablePositions().get(scannableIndex))
+						.toList(), scanSlab);
+			} else {
+				for (PointToWrite pointToWrite : run) {
+					writeScannablePosition(scannableName, pointToWrite.point().getScannablePositions().get(i),
+							pointToWrite.scanSlice());
+				}
+			}
+		}
 	}
 
-	private void writeScannables(IScanDataPoint point, final SliceND sliceND) throws Exception {
+	private void writeScannables(IScanDataPoint point, int pointNumber, final SliceND sliceND) throws Exception {
 		// note, this includes scannables that are being scanned and those that aren't (i.e. monitors)
-		logger.debug("Writing scannables for point number: {}", currentPointNumber);
+		logger.debug("Writing scannables for point number: {}", pointNumber);
 		final List<String> scannableNames = point.getScannableNames();
 		final List<Object> scannablePositions = point.getScannablePositions();
 		if (scannableNames.size() != scannablePositions.size()) {
@@ -768,7 +913,7 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 		for (int i = 0; i < scannableNames.size(); i++) {
 			writeScannablePosition(scannableNames.get(i), scannablePositions.get(i), sliceND);
 		}
-		logger.debug("Finished writing scannables for point number: {}", currentPointNumber);
+		logger.debug("Finished writing scannables for point number: {}", pointNumber);
 	}
 
 	private SliceND createScanSlice(final int[] scanPosition) {
@@ -778,15 +923,15 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 		return new SliceND(scanShape, start, stop, null);
 	}
 
-	private void writeScanPointMetadata(IScanDataPoint point, final SliceND scanSlice) {
+	private void writeScanPointMetadata(int pointNumber, final SliceND scanSlice) {
 		// writes unique keys
-		logger.debug("Writing scan point metadata for point number: {}", currentPointNumber);
-		scanMetadataWriter.writePosition(scanSlice, currentPointNumber);
+		logger.debug("Writing scan point metadata for point number: {}", pointNumber);
+		scanMetadataWriter.writePosition(scanSlice, pointNumber);
 
 		// write point start and point end at the same time, as we only get called once per point
 		scanMetadataWriter.pointStarted(scanSlice);
 		scanMetadataWriter.pointFinished(scanSlice);
-		logger.debug("Finished writing scan point metadata for point number: {}", currentPointNumber);
+		logger.debug("Finished writing scan point metadata for point number: {}", pointNumber);
 	}
 
 	private int[] getScanPosition(IScanDataPoint point) throws NexusException {
@@ -814,8 +959,8 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 		}
 	}
 
-	private void writeDetectors(IScanDataPoint point, final SliceND scanSlice) throws Exception {
-		logger.debug("Writing detectors for point number: {}", currentPointNumber);
+	private void writeDetectors(IScanDataPoint point, int pointNumber, final SliceND scanSlice) throws Exception {
+		logger.debug("Writing detectors for point number: {}", pointNumber);
 		final List<String> detectorNames = point.getDetectorNames();
 		if (detectorNames.size() != point.getDetectorData().size()) {
 			throw new NexusException("Detector name and data lists have different sizes");
@@ -824,7 +969,7 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 		for (String detectorName : detectorNames) {
 			writeDetector(point, detectorName, scanSlice);
 		}
-		logger.debug("Finished writing detectors for point number: {}", currentPointNumber);
+		logger.debug("Finished writing detectors for point number: {}", pointNumber);
 	}
 
 	private void writeDetector(IScanDataPoint point, String detectorName, final SliceND scanSlice)
@@ -844,14 +989,31 @@ public class NexusScanDataWriter extends DataWriterBase implements INexusDataWri
 		return point.getDetectorData().get(detectorIndex);
 	}
 
+	@Override
+	public void abortCollection() {
+		if (asyncWriter != null) {
+			logger.debug("abortCollection() called for file: {}", getNexusFileName());
+			asyncWriter.abort();
+		}
+	}
+
 	@Override
 	public void completeCollection() throws Exception {
 		try {
 			if (nexusScanFile != null) {
 				logger.debug("completeCollection() called for file: {}", nexusScanFile.getFilePath());
 			}
-			// call scanEnd on all the devices
+			// wait for the points still being written
 			Exception exception = null;
+			if (asyncWriter != null) {
+				try {
+					asyncWriter.close();
+				} catch (Exception e) {
+					exception = e;
+				}
+			}
+
+			// call scanEnd on all the devices
 			for (INexusDevice<?> nexusDevice : nexusDevices.values()) {
 				try {
 					if (nexusDevice instanceof IWritableNexusDevice writableNexusDevice) {
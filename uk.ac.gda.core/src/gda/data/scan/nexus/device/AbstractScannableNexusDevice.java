@@ -23,6 +23,7 @@ import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.partitioningBy;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -44,6 +45,7 @@ import org.eclipse.dawnsci.nexus.NexusScanInfo.NexusRole;
 import org.eclipse.dawnsci.nexus.NexusUtils;
 import org.eclipse.dawnsci.nexus.builder.NexusObjectProvider;
 import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.DatasetUtils;
 import org.eclipse.january.dataset.IDataset;
 import org.eclipse.january.dataset.ILazyDataset;
 import org.eclipse.january.dataset.ILazyWriteableDataset;
@@ -441,6 +443,63 @@ public abstract class AbstractScannableNexusDevice<N extends NXobject> extends A
 		}
 	}
 
+	/**
+	 * Write the given positions of consecutive points with one write to each dataset.
+	 * If any field of a position is not a single value, each position is written separately instead.
+	 * @param positions the positions to write, in the order of the points in the slab
+	 * @param scanSlab the scan slice containing all the points, which must be contiguous in the last dimension
+	 * @throws NexusException if the positions cannot be written for any reason
+	 */
+	public void writePositions(List<Object> positions, SliceND scanSlab) throws NexusException {
+		try {
+			final List<Object[]> positionArrays = new ArrayList<>(positions.size());
+			for (Object position : positions) {
+				positionArrays.add(getPositionArray(position));
+			}
+
+			final List<Dataset> fieldValues = new ArrayList<>(fieldDataNodes.size());
+			int fieldIndex = 0;
+			for (DataNode dataNode : fieldDataNodes.values()) {
+				final String fieldName = dataNode.getWriteableDataset().getName();
+				final Dataset[] pointValues = new Dataset[positionArrays.size()];
+				for (int i = 0; i < pointValues.length; i++) {
+					final Object[] positionArray = positionArrays.get(i);
+					checkPositionArrayLength(positionArray);
+					final Dataset value = DatasetUtils.convertToDataset(
+							NexusUtils.createFromObject(positionArray[fieldIndex], fieldName));
+					if (value.getSize() != 1) {
+						writeEachPositionArray(positionArrays, scanSlab);
+						return;
+					}
+					pointValues[i] = value.reshape(1);
+				}
+				fieldValues.add(DatasetUtils.concatenate(pointValues, 0).reshape(scanSlab.getShape()));
+				fieldIndex++;
+			}
+
+			final Iterator<Dataset> valueIter = fieldValues.iterator();
+			for (DataNode dataNode : fieldDataNodes.values()) {
+				dataNode.getWriteableDataset().setSlice(null, valueIter.next(), scanSlab);
+			}
+		} catch(NexusException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new NexusException("Could not write positions " + Arrays.toString(scanSlab.getStart())
+					+ " to " + Arrays.toString(scanSlab.getStop()), e);
+		}
+	}
+
+	private void writeEachPositionArray(List<Object[]> positionArrays, SliceND scanSlab) throws Exception {
+		final int lastDim = scanSlab.getStart().length - 1;
+		for (int i = 0; i < positionArrays.size(); i++) {
+			final int[] start = scanSlab.getStart().clone();
+			start[lastDim] += i;
+			final int[] stop = Arrays.stream(start).map(pos -> pos + 1).toArray();
+			writePositionArray(positionArrays.get(i),
+					new SliceND(scanSlab.getSourceShape(), scanSlab.getMaxShape(), start, stop, null));
+		}
+	}
+
 	@Override
 	public String[] getFieldNames() {
 		return fieldDataNodes.keySet().toArray(String[]::new);
@@ -453,11 +512,18 @@ public abstract class AbstractScannableNexusDevice<N extends NXobject> extends A
 	 * @throws Exception if the position cannot be written for any reason
 	 */
 	private void writeActualPosition(Object actualPosition, SliceND scanSlice) throws Exception {
-		final Object[] positionArray = getPositionArray(actualPosition);
+		writePositionArray(getPositionArray(actualPosition), scanSlice);
+	}
+
+	private void checkPositionArrayLength(Object[] positionArray) throws NexusException {
 		if (positionArray.length < fieldDataNodes.size()) {
 			throw new NexusException(MessageFormat.format("getPosition() of ''{0}'' must be an array of length at least: {1}",
 					getName(), fieldDataNodes.size()));
 		}
+	}
+
+	private void writePositionArray(Object[] positionArray, SliceND scanSlice) throws Exception {
+		checkPositionArrayLength(positionArray);
 
 		// write the actual position (potentially multi-valued)
 		final Iterator<DataNode> iter = fieldDataNodes.values().iterator();
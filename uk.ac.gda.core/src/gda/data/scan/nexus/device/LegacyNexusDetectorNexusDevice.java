@@ -224,7 +224,7 @@ public class LegacyNexusDetectorNexusDevice extends AbstractDetectorNexusDeviceA
 			if (makeData) {
 				// create an attribute for the current node
 				NexusGroupData data = tree.getData();
-				if (data != null && data.getBuffer() != null) {
+				if (data != null && data.hasData()) {
 					INexusTree parent = tree.getParentNode();
 					Node node;
 					if (isSDS(parent.getNxClass(), parent.getParentNode() != null)) {
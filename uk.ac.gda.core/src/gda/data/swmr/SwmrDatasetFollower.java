@@ -0,0 +1,212 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.data.swmr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.dawnsci.nexus.NexusException;
+import org.eclipse.january.dataset.Dataset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Follows datasets in a SWMR hdf file as they grow, reading only the frames appended since the last call to
+ * {@link #poll(Consumer)}. Frames are counted along the first dimension of each dataset, and each dataset is followed
+ * independently, so the datasets do not need to grow at the same rate.
+ * <p>
+ * This makes the cost of live processing proportional to the amount of new data, rather than to the size of the
+ * file as when re-reading from the first frame using {@link SwmrFileReader#readDatasets(int[], int[], int[])}. To
+ * bound the memory used when a consumer falls a long way behind, at most {@code maxFramesPerRead} frames of a dataset
+ * are read at a time; the remaining frames are read in further blocks in the same call to {@link #poll(Consumer)}.
+ *
+ * <pre>
+ * SwmrDatasetFollower follower = swmrFileReader.createFollower();
+ * while (scanRunning) {
+ * 	follower.poll(frames -&gt; process(frames.label(), frames.firstFrame(), frames.data()));
+ * 	Thread.sleep(100);
+ * }
+ * </pre>
+ *
+ * This class is not thread-safe; each follower should be polled from a single thread.
+ */
+public class SwmrDatasetFollower {
+	private static final Logger logger = LoggerFactory.getLogger(SwmrDatasetFollower.class);
+
+	/**
+	 * A block of frames appended to a dataset
+	 *
+	 * @param label
+	 *            label of the dataset, as given to {@link SwmrDatasetFollower#follow(String, String)}
+	 * @param firstFrame
+	 *            index in the dataset of the first frame in the block
+	 * @param data
+	 *            the frames, with the frames along the first dimension
+	 */
+	public record AppendedFrames(String label, int firstFrame, Dataset data) {
+
+		public int getNumFrames() {
+			return data.getShapeRef()[0];
+		}
+	}
+
+	private static final class FollowedDataset {
+		private final String path;
+		private boolean exists;
+		private int framesRead;
+
+		FollowedDataset(String path) {
+			this.path = path;
+		}
+	}
+
+	private final SwmrFileReader reader;
+
+	private final int maxFramesPerRead;
+
+	private final Map<String, FollowedDataset> datasets = new LinkedHashMap<>();
+
+	/**
+	 * Creates a follower which reads all new frames of a dataset at once
+	 */
+	public SwmrDatasetFollower(SwmrFileReader reader) {
+		this(reader, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param reader
+	 *            reader for the file containing the datasets, which must be open before polling
+	 * @param maxFramesPerRead
+	 *            maximum number of frames of a dataset to read at a time
+	 */
+	public SwmrDatasetFollower(SwmrFileReader reader, int maxFramesPerRead) {
+		if (maxFramesPerRead < 1) {
+			throw new IllegalArgumentException("Maximum frames per read must be at least 1: " + maxFramesPerRead);
+		}
+		this.reader = reader;
+		this.maxFramesPerRead = maxFramesPerRead;
+	}
+
+	/**
+	 * Starts following a dataset from its first frame
+	 *
+	 * @param label
+	 *            label for the dataset, used to name the datasets read
+	 * @param path
+	 *            full path to the dataset in the file
+	 */
+	public void follow(String label, String path) {
+		datasets.put(label, new FollowedDataset(path));
+	}
+
+	/**
+	 * Starts following all the datasets set up to be read by the {@link SwmrFileReader}
+	 */
+	public void followAll() {
+		reader.getDatasetsToRead().forEach(this::follow);
+	}
+
+	/**
+	 * @return the number of frames of the dataset with the given label read so far
+	 */
+	public int getFramesRead(String label) {
+		final FollowedDataset dataset = datasets.get(label);
+		if (dataset == null) {
+			throw new IllegalArgumentException("Dataset " + label + " is not being followed");
+		}
+		return dataset.framesRead;
+	}
+
+	/**
+	 * Makes the next call to {@link #poll(Consumer)} read all datasets from their first frame again, e.g. when a new
+	 * file has been opened
+	 */
+	public void reset() {
+		for (FollowedDataset dataset : datasets.values()) {
+			dataset.exists = false;
+			dataset.framesRead = 0;
+		}
+	}
+
+	/**
+	 * Reads the frames appended to each followed dataset since the last call and passes them to the given consumer,
+	 * in order for each dataset. Datasets that do not exist in the file yet are skipped.
+	 *
+	 * @param consumer
+	 *            called for each block of new frames
+	 * @return the total number of new frames read, across all datasets
+	 * @throws NexusException
+	 *             if the datasets cannot be read
+	 */
+	public int poll(Consumer<AppendedFrames> consumer) throws NexusException {
+		int totalFramesRead = 0;
+		for (Map.Entry<String, FollowedDataset> entry : datasets.entrySet()) {
+			totalFramesRead += poll(entry.getKey(), entry.getValue(), consumer);
+		}
+		return totalFramesRead;
+	}
+
+	/**
+	 * Reads the frames appended to each followed dataset since the last call
+	 *
+	 * @return the new frames, in order for each dataset
+	 * @throws NexusException
+	 *             if the datasets cannot be read
+	 * @see #poll(Consumer)
+	 */
+	public List<AppendedFrames> poll() throws NexusException {
+		final List<AppendedFrames> appendedFrames = new ArrayList<>();
+		poll(appendedFrames::add);
+		return appendedFrames;
+	}
+
+	private int poll(String label, FollowedDataset dataset, Consumer<AppendedFrames> consumer) throws NexusException {
+		if (!dataset.exists) {
+			// once a dataset has been created it cannot be removed from a SWMR file, so only check until it exists
+			if (!reader.datasetExists(dataset.path)) {
+				logger.trace("Dataset {} does not exist yet", dataset.path);
+				return 0;
+			}
+			dataset.exists = true;
+		}
+
+		final int[] currentShape = reader.getCurrentShape(dataset.path);
+		final int availableFrames = currentShape.length == 0 ? 0 : currentShape[0];
+		final int firstFrame = dataset.framesRead;
+		while (dataset.framesRead < availableFrames) {
+			final int numFrames = Math.min(availableFrames - dataset.framesRead, maxFramesPerRead);
+			final int[] start = new int[currentShape.length];
+			start[0] = dataset.framesRead;
+			final int[] shape = currentShape.clone();
+			shape[0] = numFrames;
+			final int[] step = new int[currentShape.length];
+			Arrays.fill(step, 1);
+
+			final Dataset data = reader.readDataset(dataset.path, start, shape, step);
+			data.setName(label);
+			dataset.framesRead += numFrames;
+			consumer.accept(new AppendedFrames(label, start[0], data));
+		}
+		return dataset.framesRead - firstFrame;
+	}
+}
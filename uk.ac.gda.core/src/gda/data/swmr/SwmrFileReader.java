@@ -20,7 +20,7 @@ package gda.data.swmr;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,7 +45,7 @@ public class SwmrFileReader {
 	private HDF5File hdfFile;
 
 	/** Names of data in be read from the HDF file : This is map from 'user readable' data label to full path to the dataset in the file. */
-	private Map<String, String> dataToRead = new HashMap<String, String>();
+	private Map<String, String> dataToRead = new LinkedHashMap<String, String>();
 
 	public SwmrFileReader() {
 	}
@@ -58,6 +58,24 @@ public class SwmrFileReader {
 		dataToRead.clear();
 	}
 
+	/**
+	 * @return map from data label to full path of the datasets to be read
+	 */
+	public Map<String, String> getDatasetsToRead() {
+		return Collections.unmodifiableMap(dataToRead);
+	}
+
+	/**
+	 * Create a {@link SwmrDatasetFollower} which reads only the new frames of the datasets to be read each time it is
+	 * polled.
+	 * @return follower for all the datasets currently in 'dataToRead'
+	 */
+	public SwmrDatasetFollower createFollower() {
+		final SwmrDatasetFollower follower = new SwmrDatasetFollower(this);
+		follower.followAll();
+		return follower;
+	}
+
 	public void openFile(String filename) throws ScanFileHolderException {
 		this.filename = filename;
 		hdfFile = HDF5FileFactory.acquireFile(filename, false, true);
@@ -127,7 +145,7 @@ public class SwmrFileReader {
 		return datasets;
 	}
 
-	private boolean datasetExists(String name) throws NexusException {
+	boolean datasetExists(String name) throws NexusException {
 		try {
 			return HDF5Utils.hasDataset(filename, name);
 		} catch (ScanFileHolderException e) {
@@ -0,0 +1,182 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntToDoubleFunction;
+
+import gda.device.scannable.ScannablePositionChangeEvent;
+import gda.device.scannable.ScannableStatus;
+import gda.util.Serializer;
+
+/**
+ * An {@link EventCodec} with a compact binary form for the most common GDA events: numbers, strings, arrays of
+ * doubles, {@link ScannableStatus} and {@link ScannablePositionChangeEvent}s containing any of these. Each value is
+ * written as a one byte type tag followed by its data. Any other event is written with a tag followed by its Java
+ * serialized form, so this codec can encode any event.
+ * <p>
+ * A position event for a scannable with a single double position is 10 bytes, rather than several hundred when Java
+ * serialized.
+ */
+public class CompactEventCodec implements EventCodec {
+
+	public static final String NAME = "compact";
+
+	// Type tags. These are part of the message format so must not be changed or reused.
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte DOUBLE = 2;
+	private static final byte INTEGER = 3;
+	private static final byte LONG = 4;
+	private static final byte BOOLEAN = 5;
+	private static final byte DOUBLE_ARRAY = 6;
+	private static final byte BOXED_DOUBLE_ARRAY = 7;
+	private static final byte SCANNABLE_STATUS = 8;
+	private static final byte POSITION_CHANGE_EVENT = 9;
+	private static final byte SERIALIZED = 127;
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public byte[] encode(Serializable event) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			write(out, event);
+		}
+		return bytes.toByteArray();
+	}
+
+	private void write(DataOutputStream out, Serializable value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String string) {
+			final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+			out.writeByte(STRING);
+			out.writeInt(utf8.length);
+			out.write(utf8);
+		} else if (value instanceof Double d) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(d);
+		} else if (value instanceof Integer i) {
+			out.writeByte(INTEGER);
+			out.writeInt(i);
+		} else if (value instanceof Long l) {
+			out.writeByte(LONG);
+			out.writeLong(l);
+		} else if (value instanceof Boolean b) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean(b);
+		} else if (value instanceof double[] doubles) {
+			out.writeByte(DOUBLE_ARRAY);
+			writeDoubles(out, doubles.length, i -> doubles[i]);
+		} else if (value instanceof Double[] doubles && !containsNull(doubles)) {
+			out.writeByte(BOXED_DOUBLE_ARRAY);
+			writeDoubles(out, doubles.length, i -> doubles[i]);
+		} else if (value instanceof ScannableStatus status) {
+			out.writeByte(SCANNABLE_STATUS);
+			out.writeUTF(status.name());
+		} else if (value.getClass() == ScannablePositionChangeEvent.class) {
+			out.writeByte(POSITION_CHANGE_EVENT);
+			write(out, ((ScannablePositionChangeEvent) value).newPosition);
+		} else {
+			final byte[] serialized = Serializer.toByte(value);
+			out.writeByte(SERIALIZED);
+			out.writeInt(serialized.length);
+			out.write(serialized);
+		}
+	}
+
+	private static boolean containsNull(Object[] array) {
+		for (Object element : array) {
+			if (element == null) return true;
+		}
+		return false;
+	}
+
+	private static void writeDoubles(DataOutputStream out, int length, IntToDoubleFunction elements) throws IOException {
+		out.writeInt(length);
+		for (int i = 0; i < length; i++) {
+			out.writeDouble(elements.applyAsDouble(i));
+		}
+	}
+
+	@Override
+	public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+			return read(in);
+		}
+	}
+
+	private Serializable read(DataInputStream in) throws IOException, ClassNotFoundException {
+		final byte tag = in.readByte();
+		switch (tag) {
+			case NULL:
+				return null;
+			case STRING:
+				return new String(readBytes(in), StandardCharsets.UTF_8);
+			case DOUBLE:
+				return in.readDouble();
+			case INTEGER:
+				return in.readInt();
+			case LONG:
+				return in.readLong();
+			case BOOLEAN:
+				return in.readBoolean();
+			case DOUBLE_ARRAY: {
+				final double[] doubles = new double[in.readInt()];
+				for (int i = 0; i < doubles.length; i++) {
+					doubles[i] = in.readDouble();
+				}
+				return doubles;
+			}
+			case BOXED_DOUBLE_ARRAY: {
+				final Double[] doubles = new Double[in.readInt()];
+				for (int i = 0; i < doubles.length; i++) {
+					doubles[i] = in.readDouble();
+				}
+				return doubles;
+			}
+			case SCANNABLE_STATUS:
+				return ScannableStatus.valueOf(in.readUTF());
+			case POSITION_CHANGE_EVENT:
+				return new ScannablePositionChangeEvent(read(in));
+			case SERIALIZED:
+				return (Serializable) Serializer.toObject(readBytes(in));
+			default:
+				throw new StreamCorruptedException("Unknown type tag in compact event: " + tag);
+		}
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		final byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+}
@@ -0,0 +1,49 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Several events from the same source sent together in one JMS message. A {@link JmsEventReceiver} passes the events
+ * to its subscribers one at a time, in order, so subscribers never see the batch itself.
+ */
+public final class EventBatch implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final ArrayList<Serializable> events;
+
+	public EventBatch(List<? extends Serializable> events) {
+		this.events = new ArrayList<>(events);
+	}
+
+	public List<Serializable> getEvents() {
+		return Collections.unmodifiableList(events);
+	}
+
+	@Override
+	public String toString() {
+		return "EventBatch [events=" + events + "]";
+	}
+
+}
@@ -0,0 +1,198 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the events published by a source for a short window, keeping only the latest event of each class, and then
+ * passes the remaining events on to be sent together.
+ * <p>
+ * This is intended for sources such as motors which publish position and status events far faster than observers can
+ * use them. Intermediate events are dropped, but the last event of each class published by a source is always sent,
+ * so observers still see final positions and states. Events are passed on in the order of their latest occurrence.
+ */
+class EventCoalescer {
+
+	private static final Logger logger = LoggerFactory.getLogger(EventCoalescer.class);
+
+	/** Time to wait for a window which is ending to be sent when closing */
+	private static final long CLOSE_TIMEOUT_MS = 5000;
+
+	/**
+	 * Receives the events to be sent for a source when its window ends
+	 */
+	@FunctionalInterface
+	interface BatchSender {
+		/**
+		 * @param sourceName
+		 *            the source of the events
+		 * @param events
+		 *            the events to send, in order, at least one
+		 * @param firstEventTimestamp
+		 *            the time the first event in the window was published
+		 */
+		void send(String sourceName, List<Serializable> events, long firstEventTimestamp);
+	}
+
+	/** Events published by a source in the current window */
+	private static final class PendingEvents {
+		private final long firstEventTimestamp = System.currentTimeMillis();
+		private final Map<Class<?>, Serializable> latestByClass = new LinkedHashMap<>();
+	}
+
+	private final long windowMs;
+
+	/** The sources to coalesce events from */
+	private final Set<String> sourceNames;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final BatchSender sender;
+
+	/** Sources with events waiting to be sent. Guarded by this */
+	private final Map<String, PendingEvents> pending = new HashMap<>();
+
+	private final LongAdder droppedEvents = new LongAdder();
+
+	/** Whether {@link #close()} has been called. Guarded by this */
+	private boolean closed;
+
+	/**
+	 * @param windowMs
+	 *            time to hold events from a source before sending them
+	 * @param sourceNames
+	 *            the sources to coalesce events from. Events from other sources are not coalesced, as they may not be
+	 *            safe to drop (e.g. terminal output sent as Strings)
+	 * @param scheduler
+	 *            used to end windows
+	 * @param sender
+	 *            called to send the events from each window
+	 */
+	EventCoalescer(long windowMs, Collection<String> sourceNames, ScheduledExecutorService scheduler, BatchSender sender) {
+		if (windowMs <= 0) {
+			throw new IllegalArgumentException("Coalescing window must be positive: " + windowMs);
+		}
+		this.windowMs = windowMs;
+		this.sourceNames = Set.copyOf(sourceNames);
+		this.scheduler = scheduler;
+		this.sender = sender;
+	}
+
+	/**
+	 * @return <code>true</code> if events from the given source should be passed to {@link #add(String, Serializable)}
+	 */
+	boolean coalesces(String sourceName) {
+		return sourceNames.contains(sourceName);
+	}
+
+	/**
+	 * Adds an event to be sent at the end of the current window for its source, replacing any earlier event of the
+	 * same class in the window. Starts a new window if there is none. Once closed, events are sent immediately.
+	 */
+	void add(String sourceName, Serializable event) {
+		final Class<?> eventClass = event == null ? Void.class : event.getClass();
+		synchronized (this) {
+			if (closed) {
+				sender.send(sourceName, Collections.singletonList(event), System.currentTimeMillis());
+				return;
+			}
+			PendingEvents events = pending.get(sourceName);
+			if (events == null) {
+				events = new PendingEvents();
+				pending.put(sourceName, events);
+				scheduler.schedule(() -> flush(sourceName), windowMs, TimeUnit.MILLISECONDS);
+			}
+			// Remove before adding so events are ordered by their latest occurrence
+			if (events.latestByClass.containsKey(eventClass)) {
+				events.latestByClass.remove(eventClass);
+				droppedEvents.increment();
+			}
+			events.latestByClass.put(eventClass, event);
+		}
+	}
+
+	private void flush(String sourceName) {
+		final PendingEvents events;
+		synchronized (this) {
+			events = pending.remove(sourceName);
+		}
+		if (events != null) {
+			sender.send(sourceName, new ArrayList<>(events.latestByClass.values()), events.firstEventTimestamp);
+		}
+	}
+
+	/**
+	 * Sends the events waiting for all sources immediately, e.g. before closing
+	 */
+	void flushAll() {
+		final List<String> sources;
+		synchronized (this) {
+			sources = new ArrayList<>(pending.keySet());
+		}
+		sources.forEach(this::flush);
+	}
+
+	/**
+	 * Stops the scheduler, waiting for any window which is ending to be sent, and then sends the events waiting for all
+	 * sources. The scheduler must not be used by anything else.
+	 */
+	void close() {
+		synchronized (this) {
+			closed = true;
+		}
+		// windows not yet ended are flushed below rather than by the scheduler
+		scheduler.shutdownNow();
+		try {
+			if (!scheduler.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+				logger.warn("Timed out waiting for coalesced events to be sent");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flushAll();
+	}
+
+	/**
+	 * @return the number of events that have been replaced by a later event of the same class and not sent
+	 */
+	long getDroppedEvents() {
+		return droppedEvents.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "EventCoalescer [windowMs=" + windowMs + ", sourceNames=" + sourceNames + "]";
+	}
+
+}
@@ -0,0 +1,41 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Converts events to and from the bytes sent in the body of a JMS message. The name of the codec used to encode an
+ * event is sent with it, so that the receiver can decode events whichever codec the sender is configured to use.
+ *
+ * @see EventCodecs
+ */
+public interface EventCodec {
+
+	/**
+	 * @return the name identifying this codec in the messages it encodes
+	 */
+	String getName();
+
+	byte[] encode(Serializable event) throws IOException;
+
+	Object decode(byte[] data) throws IOException, ClassNotFoundException;
+
+}
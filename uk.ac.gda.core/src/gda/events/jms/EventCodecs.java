@@ -0,0 +1,82 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The {@link EventCodec}s known to the JMS event dispatcher and receiver, and compression of encoded events.
+ */
+public final class EventCodecs {
+
+	private static final Map<String, EventCodec> CODECS = new ConcurrentHashMap<>();
+
+	static {
+		register(new JavaSerializationCodec());
+		register(new CompactEventCodec());
+	}
+
+	private EventCodecs() {
+		// static access only
+	}
+
+	/**
+	 * Adds a codec, replacing any existing codec with the same name. Codecs must be registered in both the sending
+	 * and receiving processes.
+	 */
+	public static void register(EventCodec codec) {
+		CODECS.put(codec.getName(), codec);
+	}
+
+	/**
+	 * @return the codec with the given name, or <code>null</code> if there is none
+	 */
+	public static EventCodec forName(String name) {
+		return name == null ? null : CODECS.get(name);
+	}
+
+	/**
+	 * Compresses an encoded event. This is worthwhile for large events such as arrays or images, where the time to
+	 * compress is less than the time saved sending them through the broker.
+	 */
+	public static byte[] compress(byte[] data) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4);
+		final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+			out.write(data);
+		} finally {
+			deflater.end();
+		}
+		return bytes.toByteArray();
+	}
+
+	public static byte[] decompress(byte[] data) throws IOException {
+		try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+			return in.readAllBytes();
+		}
+	}
+
+}
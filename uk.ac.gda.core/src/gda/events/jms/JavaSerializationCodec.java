@@ -0,0 +1,49 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import gda.util.Serializer;
+
+/**
+ * An {@link EventCodec} using Java serialization, via the GDA {@link Serializer} which can see the classes of all
+ * events. This can encode any event.
+ */
+public class JavaSerializationCodec implements EventCodec {
+
+	public static final String NAME = "java";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public byte[] encode(Serializable event) throws IOException {
+		return Serializer.toByte(event);
+	}
+
+	@Override
+	public Object decode(byte[] data) throws IOException, ClassNotFoundException {
+		return Serializer.toObject(data);
+	}
+
+}
@@ -39,6 +39,12 @@ public abstract class JmsClient implements Closeable {
 
 	protected static final String TOPIC_PREFIX = "gda.event.";
 
+	/** Message property holding the name of the {@link EventCodec} used to encode the body of a BytesMessage */
+	protected static final String CODEC_PROPERTY = "gdaEventCodec";
+
+	/** Message property set if the body of a BytesMessage has been compressed after encoding */
+	protected static final String COMPRESSED_PROPERTY = "gdaEventCompressed";
+
 	protected final Session session;
 
 	protected JmsClient() {
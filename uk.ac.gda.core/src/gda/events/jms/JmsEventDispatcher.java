@@ -24,11 +24,17 @@ import static javax.jms.DeliveryMode.NON_PERSISTENT;
 import java.io.IOException;
 import java.io.NotSerializableException;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import javax.jms.BytesMessage;
 import javax.jms.JMSException;
+import javax.jms.Message;
 import javax.jms.MessageProducer;
 import javax.jms.ObjectMessage;
 import javax.jms.Topic;
@@ -56,15 +62,84 @@ public class JmsEventDispatcher extends JmsClient implements EventDispatcher {
 	/** If an event being dispatched is older than this value a warning will be logged */
 	private static final long QUEUE_TIME_WARNING_MS = 1000L; // 1 sec
 
+	/** Time to wait for queued events to be sent when closing */
+	private static final long CLOSE_TIMEOUT_MS = 5000L;
+
 	/** The time after which undelivered events will be discarded */
 	private static final long MESSAGE_EXPIRATION_TIME_MS = LocalProperties.getAsInt("gda.events.jms.eventTimeToLiveMilliSeconds", 15 * 60 * 1000); // 15 mins
 
+	/**
+	 * Name of the {@link EventCodec} used to encode events, sent as BytesMessages. The default, "object", sends
+	 * events Java serialized in ObjectMessages which can also be received by older clients.
+	 */
+	private static final String CODEC_NAME = LocalProperties.get("gda.events.jms.codec", "object");
+
+	/** Encoded events larger than this are compressed. Default is 64 kB */
+	private static final int COMPRESSION_THRESHOLD_BYTES = LocalProperties.getAsInt("gda.events.jms.compressionThreshold", 64 * 1024);
+
+	/**
+	 * If positive, events are held for this many milliseconds and only the latest event of each class from a source is
+	 * sent, with the events from each source sent together in one message. Default is 0 which sends every event as it
+	 * is published.
+	 */
+	private static final long COALESCE_WINDOW_MS = LocalProperties.getAsInt("gda.events.jms.coalesceWindowMs", 0);
+
+	/**
+	 * The sources to coalesce events from if coalescing is enabled. Events from other sources are sent as they are
+	 * published. Default is none, so coalescing is only enabled if sources are listed.
+	 */
+	private static final String[] COALESCE_SOURCES = LocalProperties.getStringArray("gda.events.jms.coalesceSources");
+
+	/** The codec used to encode events, or null to send ObjectMessages */
+	private final EventCodec codec;
+
+	private final JmsEventMetrics metrics = new JmsEventMetrics("dispatcher");
+
 	/** Map to cache MessageProducers for performance */
 	private final ConcurrentMap<String, MessageProducer> sourceToPublisherMap = new ConcurrentHashMap<>();
 
 	/** The ExecutorService executing the dispatch task */
 	private final ExecutorService executorService = ExecutorFactory.singleThread(JmsEventDispatcher.class.getSimpleName());
 
+	/** Holds events from high rate sources, or null if coalescing is disabled */
+	private final EventCoalescer coalescer;
+
+	public JmsEventDispatcher() {
+		codec = EventCodecs.forName(CODEC_NAME);
+		if (codec == null && !CODEC_NAME.equals("object")) {
+			logger.warn("Unknown event codec '{}' - events will be sent as ObjectMessages", CODEC_NAME);
+		}
+		if (COALESCE_WINDOW_MS > 0 && COALESCE_SOURCES.length == 0) {
+			logger.warn("Events are not coalesced as no sources are set in gda.events.jms.coalesceSources");
+			coalescer = null;
+		} else if (COALESCE_WINDOW_MS > 0) {
+			coalescer = new EventCoalescer(COALESCE_WINDOW_MS, Arrays.asList(COALESCE_SOURCES),
+					ExecutorFactory.scheduled(1, "JmsEventCoalescer"), this::dispatchBatch);
+			logger.info("Coalescing events: {}", coalescer);
+		} else {
+			coalescer = null;
+		}
+		metrics.register();
+	}
+
+	@Override
+	public void close() {
+		if (coalescer != null) {
+			coalescer.close();
+		}
+		// send the events already queued before the session is closed
+		executorService.shutdown();
+		try {
+			if (!executorService.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+				logger.warn("Timed out waiting for events to be sent, {} not sent", executorService.shutdownNow().size());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		metrics.unregister();
+		super.close();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -85,11 +160,32 @@ public class JmsEventDispatcher extends JmsClient implements EventDispatcher {
 			throw new IllegalArgumentException(new NotSerializableException(message.getClass().getName()));
 		}
 
+		if (coalescer != null && coalescer.coalesces(sourceName)) {
+			coalescer.add(sourceName, (Serializable) message);
+			return;
+		}
+
 		// Build the event object
 		final OutgoingEvent event = new OutgoingEvent(sourceName, (Serializable) message);
 
-		// Queue the message for dispatch. Use execute not submit to allow uncaught exception handling to work.
-		executorService.execute(new SendMessageRunnable(event));
+		dispatch(event);
+	}
+
+	private void dispatch(OutgoingEvent event) {
+		try {
+			// Queue the message for dispatch. Use execute not submit to allow uncaught exception handling to work.
+			executorService.execute(new SendMessageRunnable(event));
+		} catch (RejectedExecutionException e) {
+			logger.debug("Dispatcher is closed, not sending event from '{}'", event.sourceName);
+		}
+	}
+
+	/**
+	 * Queues the events from a coalescing window for dispatch, in an {@link EventBatch} if there is more than one
+	 */
+	private void dispatchBatch(String sourceName, List<Serializable> events, long firstEventTimestamp) {
+		final Serializable message = events.size() == 1 ? events.get(0) : new EventBatch(events);
+		dispatch(new OutgoingEvent(sourceName, message, firstEventTimestamp));
 	}
 
 	/**
@@ -103,9 +199,13 @@ public class JmsEventDispatcher extends JmsClient implements EventDispatcher {
 		private final long timestamp;
 
 		public OutgoingEvent(String sourceName, Serializable message) {
+			this(sourceName, message, System.currentTimeMillis());
+		}
+
+		public OutgoingEvent(String sourceName, Serializable message, long timestamp) {
 			this.sourceName = sourceName;
 			this.message = message;
-			this.timestamp = System.currentTimeMillis();
+			this.timestamp = timestamp;
 		}
 
 		public String getSourceName() {
@@ -137,8 +237,9 @@ public class JmsEventDispatcher extends JmsClient implements EventDispatcher {
 		}
 
 		/**
-		 * This actually sends the event. It serializes the event message object using the {@link Serializer}. This is then
-		 * placed into a JMS {@link ObjectMessage} and sent. The topic used is determined from the sourceName in the event.
+		 * This actually sends the event. If an {@link EventCodec} is configured the event message object is encoded with it
+		 * and placed into a JMS {@link BytesMessage}, otherwise it is serialized using the {@link Serializer} and placed
+		 * into a JMS {@link ObjectMessage}. The topic used is determined from the sourceName in the event.
 		 */
 		@Override
 		public void run() {
@@ -160,21 +261,40 @@ public class JmsEventDispatcher extends JmsClient implements EventDispatcher {
 				// Get the publisher
 				final MessageProducer publisher = getPublisher(sourceName);
 
-				// Serialize the message - here we used the GDA Serializer as it can see the required classes
-				// ActiveMQ could serialize for us but then ActiveMQ needs to be able to see all the classes
-				// we might want to deserialize into.
-				final byte[] serializedObject = Serializer.toByte(message);
+				final Message jmsMessage;
+				final int size;
+				if (codec == null) {
+					// Serialize the message - here we used the GDA Serializer as it can see the required classes
+					// ActiveMQ could serialize for us but then ActiveMQ needs to be able to see all the classes
+					// we might want to deserialize into.
+					final byte[] serializedObject = Serializer.toByte(message);
+					size = serializedObject.length;
+					// Make a object message containing the serialized message object
+					jmsMessage = session.createObjectMessage(serializedObject);
+				} else {
+					// Encode the message and send the bytes directly, avoiding serializing them again
+					byte[] encoded = codec.encode(message);
+					final boolean compress = encoded.length > COMPRESSION_THRESHOLD_BYTES;
+					if (compress) {
+						encoded = EventCodecs.compress(encoded);
+					}
+					size = encoded.length;
+					final BytesMessage bytesMessage = session.createBytesMessage();
+					bytesMessage.writeBytes(encoded);
+					bytesMessage.setStringProperty(CODEC_PROPERTY, codec.getName());
+					bytesMessage.setBooleanProperty(COMPRESSED_PROPERTY, compress);
+					jmsMessage = bytesMessage;
+				}
 				// Check the size of the object to be sent is reasonable
-				if (serializedObject.length > SERIALIZED_OBJECT_SIZE_WARNING_BYTES) {
-					logger.warn("Sending large object. '{}' is {} bytes.", message, serializedObject.length);
+				if (size > SERIALIZED_OBJECT_SIZE_WARNING_BYTES) {
+					logger.warn("Sending large object. '{}' is {} bytes.", message, size);
 				}
-				// Make a object message containing the serialized message object
-				final ObjectMessage objectMessage = session.createObjectMessage(serializedObject);
 				// Add a sending timestamp to message - approximately when the event happened
-				objectMessage.setJMSTimestamp(timestamp);
+				jmsMessage.setJMSTimestamp(timestamp);
 
 				// Send the message
-				publisher.send(objectMessage);
+				publisher.send(jmsMessage);
+				metrics.record(sourceName, size, System.currentTimeMillis() - timestamp);
 
 			// Catch RuntimeException here as it used to wrap JMSException
 			} catch (RuntimeException e) {
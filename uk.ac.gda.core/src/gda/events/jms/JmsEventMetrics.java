@@ -0,0 +1,104 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.eclipse.scanning.api.metrics.AbstractMetrics;
+import org.eclipse.scanning.api.metrics.TimingStatistics;
+
+/**
+ * Per-topic counters of the events sent or received by a {@link JmsEventDispatcher} or {@link JmsEventReceiver},
+ * registered with the platform MBean server for the lifetime of the dispatcher or receiver.
+ */
+public class JmsEventMetrics extends AbstractMetrics implements JmsEventMetricsMXBean {
+
+	private static class TopicCounters {
+		private final LongAdder bytes = new LongAdder();
+		private final LongAccumulator maxBytes = new LongAccumulator(Math::max, 0);
+		private final TimingStatistics latency = new TimingStatistics();
+	}
+
+	private final ConcurrentMap<String, TopicCounters> topics = new ConcurrentHashMap<>();
+
+	public JmsEventMetrics(String name) {
+		super("gda.events", "JmsEvents", name);
+	}
+
+	/**
+	 * Records an event sent or received
+	 *
+	 * @param topic
+	 *            the topic of the event
+	 * @param bytes
+	 *            the size of the message payload as sent, i.e. after any compression
+	 * @param latencyMillis
+	 *            the latency of the event, see {@link #getMeanLatencies()}
+	 */
+	public void record(String topic, int bytes, long latencyMillis) {
+		final TopicCounters counters = topics.computeIfAbsent(topic, key -> new TopicCounters());
+		counters.bytes.add(bytes);
+		counters.maxBytes.accumulate(bytes);
+		counters.latency.record(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+	}
+
+	private <T> Map<String, T> collect(Function<TopicCounters, T> counter) {
+		final Map<String, T> values = new TreeMap<>();
+		topics.forEach((topic, counters) -> values.put(topic, counter.apply(counters)));
+		return values;
+	}
+
+	@Override
+	public String getName() {
+		return super.getName();
+	}
+
+	@Override
+	public Map<String, Long> getMessageCounts() {
+		return collect(counters -> counters.latency.getCount());
+	}
+
+	@Override
+	public Map<String, Long> getByteCounts() {
+		return collect(counters -> counters.bytes.sum());
+	}
+
+	@Override
+	public Map<String, Long> getMaxMessageSizes() {
+		return collect(counters -> counters.maxBytes.get());
+	}
+
+	@Override
+	public Map<String, Double> getMeanLatencies() {
+		return collect(counters -> counters.latency.getMeanMillis());
+	}
+
+	@Override
+	public Map<String, Long> getMaxLatencies() {
+		return collect(counters -> (long) counters.latency.getMaxMillis());
+	}
+
+}
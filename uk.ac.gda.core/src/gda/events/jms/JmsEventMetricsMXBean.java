@@ -0,0 +1,46 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.events.jms;
+
+import java.util.Map;
+
+/**
+ * JMX view of the number, size and latency of events sent or received on each topic by a JMS event dispatcher or
+ * receiver. Sizes are in bytes and latencies in milliseconds. The size of an event is the size of its message
+ * payload as sent to the broker, i.e. after compression, so dispatchers and receivers report the same sizes.
+ */
+public interface JmsEventMetricsMXBean {
+
+	String getName();
+
+	Map<String, Long> getMessageCounts();
+
+	Map<String, Long> getByteCounts();
+
+	Map<String, Long> getMaxMessageSizes();
+
+	/**
+	 * @return for a dispatcher, the time from an event being published to it being sent to the broker; for a
+	 *         receiver, the age of an event when it was received
+	 */
+	Map<String, Double> getMeanLatencies();
+
+	Map<String, Long> getMaxLatencies();
+
+}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import javax.jms.BytesMessage;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageConsumer;
@@ -38,7 +39,6 @@ import gda.configuration.properties.LocalProperties;
 import gda.events.EventReceiver;
 import gda.events.EventSubscriber;
 import gda.jython.logging.PythonException;
-import gda.util.Serializer;
 
 /**
  * An {@link EventReceiver} that receives messages using JMS. This class was significantly rewritten as part of DAQ-515
@@ -66,6 +66,12 @@ public class JmsEventReceiver extends JmsClient implements EventReceiver {
 	 */
 	private final List<MessageConsumer> consumers = new CopyOnWriteArrayList<>();
 
+	private final JmsEventMetrics metrics = new JmsEventMetrics("receiver");
+
+	public JmsEventReceiver() {
+		metrics.register();
+	}
+
 	@Override
 	public void subscribe(final EventSubscriber eventSubscriber, final String name) {
 		try {
@@ -88,7 +94,9 @@ public class JmsEventReceiver extends JmsClient implements EventReceiver {
 
 	/**
 	 * This handles messages received from JMS. It checks the message is valid, deserializes it and pushes it out to
-	 * subscribers.
+	 * subscribers. Messages can be either {@link BytesMessage}s encoded with the {@link EventCodec} named in the
+	 * message, or {@link ObjectMessage}s containing a Java serialized object as sent by older dispatchers. The events in
+	 * an {@link EventBatch} are passed to subscribers individually.
 	 */
 	private class MessageDispatcher implements MessageListener {
 
@@ -102,36 +110,51 @@ public class JmsEventReceiver extends JmsClient implements EventReceiver {
 
 		@Override
 		public void onMessage(final Message message) {
-			// If its not a ObjectMessage fail
-			if (!(message instanceof ObjectMessage)) {
-				logger.error("Received unexpected message: '{}' on topic '{}'", message, topic);
-				return; // We can't handle this message
-			}
-			// It is a ObjectMessage so cast it
-			final ObjectMessage objectMessage = (ObjectMessage) message;
-
 			// Get the data out of the message
-			final Object serializedObject;
+			byte[] body;
+			final int size; // as sent, i.e. before decompression, to match the size recorded by the dispatcher
+			final EventCodec codec;
 			final long sendingTimestamp;
 			try {
-				// Get the serialized object back out of the message
-				serializedObject = objectMessage.getObject();
+				if (message instanceof BytesMessage bytesMessage) {
+					body = new byte[(int) bytesMessage.getBodyLength()];
+					bytesMessage.readBytes(body);
+					size = body.length;
+					final String codecName = bytesMessage.getStringProperty(CODEC_PROPERTY);
+					codec = EventCodecs.forName(codecName);
+					if (codec == null) {
+						logger.error("Received a message on topic '{}' with unknown codec '{}'", topic, codecName);
+						return; // We can't handle this case
+					}
+					if (bytesMessage.getBooleanProperty(COMPRESSED_PROPERTY)) {
+						body = EventCodecs.decompress(body);
+					}
+				} else if (message instanceof ObjectMessage objectMessage) {
+					// Get the serialized object back out of the message
+					final Object serializedObject = objectMessage.getObject();
+					if (!(serializedObject instanceof byte[] bytes)) {
+						logger.error("Received a message on topic '{}' that was not a serialized object", topic);
+						return; // We can't handle this case
+					}
+					body = bytes;
+					size = body.length;
+					codec = EventCodecs.forName(JavaSerializationCodec.NAME);
+				} else {
+					logger.error("Received unexpected message: '{}' on topic '{}'", message, topic);
+					return; // We can't handle this message
+				}
 
 				// Get the sending timestamp
-				sendingTimestamp = objectMessage.getJMSTimestamp();
-			} catch (JMSException e) {
+				sendingTimestamp = message.getJMSTimestamp();
+			} catch (JMSException | IOException e) {
 				logger.error("Error handling received message: '{}' on topic '{}'", message, topic, e);
 				return; // We can't continue
 			}
 
-			if (!(serializedObject instanceof byte[])) {
-				logger.error("Received a message on topic '{}' that was not a serialized object", topic);
-				return; // We can't handle this case
-			}
-			// Deserialize back to the actual message object - Using the GDA serializer which can see the classes
+			// Decode back to the actual message object - the Java codec uses the GDA serializer which can see the classes
 			Object messageObject;
 			try {
-				messageObject = Serializer.toObject((byte[]) serializedObject);
+				messageObject = codec.decode(body);
 			} catch (ClassNotFoundException | IOException e) {
 				logger.error("Error deserializing received message: '{}' on topic '{}'", message, topic, e);
 				return; // We can't handle this case
@@ -142,13 +165,18 @@ public class JmsEventReceiver extends JmsClient implements EventReceiver {
 
 			// Warn about receiving old messages. This suggests a communication issue or very high message rate.
 			final long messageAgeMillis = System.currentTimeMillis() - sendingTimestamp;
+			metrics.record(topic, size, messageAgeMillis);
 			if (messageAgeMillis > MESSAGE_AGE_WARNING_MILLS) {
 				logger.warn("Message received on topic '{}' is older than {} ms. Age is: {} ms", topic, MESSAGE_AGE_WARNING_MILLS, messageAgeMillis);
 			}
 
 			// Inform subscribers with timing to identify slow events handling
 			final long startInfomingTimestamp = System.currentTimeMillis();
-			eventSubscriber.inform(messageObject);
+			if (messageObject instanceof EventBatch batch) {
+				batch.getEvents().forEach(eventSubscriber::inform);
+			} else {
+				eventSubscriber.inform(messageObject);
+			}
 			final long timeToInformMills = System.currentTimeMillis() - startInfomingTimestamp;
 			if (timeToInformMills > INFORMING_TIME_WARNING_MILLS) {
 				// This is the total time for all subscribers to handle this message. Can detect slow events when
@@ -171,6 +199,7 @@ public class JmsEventReceiver extends JmsClient implements EventReceiver {
 				logger.error("Error closing connection", e);
 			}
 		}
+		metrics.unregister();
 	}
 
 }
@@ -22,6 +22,7 @@ package gda.jython;
 import static java.nio.file.Files.isDirectory;
 import static java.util.Arrays.asList;
 import static java.util.Collections.newSetFromMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static uk.ac.gda.common.util.EclipseUtils.PLATFORM_BUNDLE_PREFIX;
 import static uk.ac.gda.common.util.EclipseUtils.URI_SEPARATOR;
@@ -38,12 +39,18 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.Platform;
@@ -76,6 +83,7 @@ import gda.jython.logging.PythonException;
 import gda.jython.translator.NoopTranslator;
 import gda.jython.translator.Translator;
 import uk.ac.diamond.daq.classloading.GDAClassLoaderService;
+import uk.ac.diamond.daq.concurrent.ExecutorFactory;
 import uk.ac.gda.common.util.EclipseUtils;
 
 /**
@@ -88,6 +96,13 @@ import uk.ac.gda.common.util.EclipseUtils;
  */
 public class GDAJythonInterpreter {
 	private static final String PROTECT_SCANNABLE_PROPERTY = "gda.jython.protectScannables";
+	/**
+	 * Property to start the interpreter more quickly: compiled scripts are kept while their sources are unchanged,
+	 * installed bundles are added to the Jython package manager in the background until Jython first needs them, and
+	 * Scannables are added to the namespace together. As compiled scripts are written to the script folders this
+	 * should not be used where the script folders are shared with other users.
+	 */
+	private static final String FAST_STARTUP_PROPERTY = "gda.jython.fastStartup";
 	private static final Logger logger = LoggerFactory.getLogger(GDAJythonInterpreter.class);
 	private static final String JYTHON_BUNDLE_PATH = "uk.ac.diamond.jython";
 	private static final String UTF_8 = "UTF-8";
@@ -119,6 +134,14 @@ public class GDAJythonInterpreter {
 
 	private static final String BUNDLES_ROOT;
 
+	private static final boolean FAST_STARTUP = LocalProperties.check(FAST_STARTUP_PROPERTY, false);
+
+	/** Time taken by each phase of starting the interpreter, in the order they ran, reported when initialised */
+	private static final Map<String, Long> startupPhaseMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	/** Completes when the installed bundles have been added to the Jython package manager */
+	private static final Future<?> bundlesAdded;
+
 
 	/**
 	 * Static initializer bock to set all the static parameters on the PySystemState class
@@ -177,13 +200,21 @@ public class GDAJythonInterpreter {
 		} else {
 			BUNDLES_ROOT = sysProps.getProperty("osgi.syspath");
 		}
-		iterateInstalledBundles();
+		if (FAST_STARTUP) {
+			final ExecutorService executor = ExecutorFactory.singleThread("JythonBundleScanner");
+			bundlesAdded = executor.submit(GDAJythonInterpreter::iterateInstalledBundles);
+			executor.shutdown();
+		} else {
+			iterateInstalledBundles();
+			bundlesAdded = CompletableFuture.completedFuture(null);
+		}
 	}
 
 	public GDAJythonInterpreter(final ScriptPaths scriptPaths) {
 		jythonScriptPaths = scriptPaths;
 
 		logger.info("Adding GDA package locations to Jython path...");
+		final Stopwatch timer = Stopwatch.createStarted();
 
 		// Obtain script projects from extension point
 		GDAJythonScriptApi jythonScriptApiManager = new GDAJythonScriptApi();
@@ -197,7 +228,7 @@ public class GDAJythonInterpreter {
 			pss.setClassLoader(classLoader);
 			pss.setdefaultencoding(UTF_8);		// cannot be done before Py.setSystemState
 			// Restricted permissions cause issues in shared (writable) deployments (CVE-2013-2027 Jython 2.7.2)
-			pss.dont_write_bytecode = true;
+			pss.dont_write_bytecode = !FAST_STARTUP;
 			Py.defaultSystemState = pss;
 		} catch (Exception e) {
 			if (e instanceof PyException) {
@@ -250,6 +281,8 @@ public class GDAJythonInterpreter {
 			// append the folders where standard scripts will be located to jython path
 			// by this point _jythonScriptPaths should contain a List of these folder paths
 
+			recordStartupPhase("script projects", timer);
+
 			logger.info("clearing old Jython class files...");
 			// Remove any previously compiled Jython class files from the script folders
 			for (ScriptProject scriptProject : jythonScriptPaths.getProjects()) {
@@ -265,13 +298,14 @@ public class GDAJythonInterpreter {
 							scriptProject.getName());
 
 					if (!pss.path.contains(scriptFolderName)) {
-						removeAllJythonClassFiles(new File(scriptFolderName.getString()));
+						removeJythonClassFiles(new File(scriptFolderName.getString()), FAST_STARTUP);
 						pss.path.append(scriptFolderName);
 					}
 				} catch (Exception e) {
 					logger.error("Error while setting up script paths, {} scripts will not be accessible", scriptProject.getPath(), e);
 				}
 			}
+			recordStartupPhase("script paths", timer);
 		}
 
 		// Log the sys.path in jython so where things will be loaded from
@@ -292,6 +326,7 @@ public class GDAJythonInterpreter {
 
 		// Get instance of interactive console
 		interactiveConsole = new GDAInteractiveConsole(mod.__dict__, pss);
+		recordStartupPhase("console", timer);
 
 		logger.info("Jython configured");
 	}
@@ -322,9 +357,30 @@ public class GDAJythonInterpreter {
 					}
 				});
 		timer.stop();
+		startupPhaseMillis.put("bundles", timer.elapsed(MILLISECONDS));
 		logger.info("Adding bundles to Jython state took {} seconds", timer.elapsed(SECONDS));
 	}
 
+	/**
+	 * Waits for the installed bundles to be added to the Jython package manager, which must be done before Java
+	 * packages are imported
+	 */
+	private static void awaitInstalledBundles() throws InterruptedException {
+		try {
+			bundlesAdded.get();
+		} catch (ExecutionException e) {
+			logger.error("Error adding bundles to Jython state, Java packages may not be importable", e.getCause());
+		}
+	}
+
+	/**
+	 * Records the time taken by a phase of startup and restarts the timer for the next phase
+	 */
+	private static void recordStartupPhase(String phase, Stopwatch timer) {
+		startupPhaseMillis.put(phase, timer.elapsed(MILLISECONDS));
+		timer.reset().start();
+	}
+
 	/**
 	 * Configure the Jython interpreter, import standard modules, alias commands and inject objects into the namespace.
 	 */
@@ -343,6 +399,10 @@ public class GDAJythonInterpreter {
 				// give Jython the reference to this wrapper object
 				interactiveConsole.set("GDAJythonInterpreter", this);
 
+				final Stopwatch timer = Stopwatch.createStarted();
+				awaitInstalledBundles();
+				recordStartupPhase("waiting for bundles", timer);
+
 				// standard imports
 				logger.info("performing standard Jython interpreter imports...");
 				interactiveConsole.runsource("import java");
@@ -416,6 +476,7 @@ public class GDAJythonInterpreter {
 				translator.addAliasedVarargCommand("timescan");
 				translator.addAliasedCommand("staticscan");
 				translator.addAliasedCommand("lastScanDataPoint");
+				recordStartupPhase("imports", timer);
 
 				// define a function that can check a java object for a field or method called
 				// __doc__ and print it out
@@ -443,7 +504,10 @@ public class GDAJythonInterpreter {
 					""");
 
 				initialiseLoggingRedirection();
+				recordStartupPhase("logging", timer);
 				populateNamespace();
+				recordStartupPhase("namespace", timer);
+				logStartupPhases();
 
 			} catch (Exception ex) {
 				logger.error("GDAJythonInterpreter: error while initialising", ex);
@@ -491,16 +555,31 @@ public class GDAJythonInterpreter {
 
 		final Map<String, Scannable> nameToScannable = Finder.getFindablesOfType(Scannable.class);
 		var protect = LocalProperties.check(PROTECT_SCANNABLE_PROPERTY);
-		nameToScannable.forEach((name, scannable) -> {
-			placeInJythonNamespace(name, scannable);
+		if (FAST_STARTUP && interactiveConsole.getLocals() instanceof GdaGlobals globals) {
+			globals.setAll(nameToScannable);
 			if (protect) {
-				overwriteLock.protect(name);
+				overwriteLock.protect(nameToScannable.keySet().toArray(String[]::new));
 			}
-		});
+		} else {
+			nameToScannable.forEach((name, scannable) -> {
+				placeInJythonNamespace(name, scannable);
+				if (protect) {
+					overwriteLock.protect(name);
+				}
+			});
+		}
 
 		logger.info("Finished populating Jython namespace, added {} Scannables", nameToScannable.size());
 	}
 
+	private static void logStartupPhases() {
+		synchronized (startupPhaseMillis) {
+			final long total = startupPhaseMillis.values().stream().mapToLong(Long::longValue).sum();
+			logger.info("Jython startup took {} ms (fast startup {}): {}", total, FAST_STARTUP ? "enabled" : "disabled",
+					startupPhaseMillis);
+		}
+	}
+
 	/**
 	 * Translates and then runs the given file through the Jython interpreter.
 	 *
@@ -627,7 +706,7 @@ public class GDAJythonInterpreter {
 	}
 
 	/**
-	 * Recursively moves through a directory and removes all Jython class files. This should be done during the
+	 * Recursively moves through a directory and removes Jython class files. This should be done during the
 	 * initialise stage to ensure that a restart forces all Jython bytecode to be refreshed.
 	 * <p>
 	 * This shouldn't really be needed, and in future Jython releases may not be a problem. But for now it solves an
@@ -635,14 +714,16 @@ public class GDAJythonInterpreter {
 	 * are in use rather than the latest ones.
 	 *
 	 * @param dir
+	 * @param staleOnly
+	 *            if true only class files older than their source file, or without a source file, are removed
 	 */
-	private void removeAllJythonClassFiles(File dir) {
+	private void removeJythonClassFiles(File dir, boolean staleOnly) {
 		String pyClassSuffix = "$py.class";
 		try {
 			Files.walkFileTree(dir.toPath(), new SimpleFileVisitor<Path>() {
 				@Override
 				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-					if (file.toString().endsWith(pyClassSuffix)) {
+					if (file.toString().endsWith(pyClassSuffix) && (!staleOnly || isStale(file, attrs))) {
 						try {
 							Files.delete(file);
 						} catch (IOException e) {
@@ -652,6 +733,17 @@ public class GDAJythonInterpreter {
 					return FileVisitResult.CONTINUE;
 				}
 
+				private boolean isStale(Path classFile, BasicFileAttributes attrs) {
+					final String fileName = classFile.getFileName().toString();
+					final Path source = classFile.resolveSibling(fileName.substring(0, fileName.length() - pyClassSuffix.length()) + ".py");
+					try {
+						return Files.getLastModifiedTime(source).compareTo(attrs.lastModifiedTime()) > 0;
+					} catch (IOException e) {
+						// The source has been removed or can't be read
+						return true;
+					}
+				}
+
 				@Override
 				public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
 					logger.warn("Could not visit {} due to {}", file, exc.getClass().getSimpleName());
@@ -802,6 +894,22 @@ public class GDAJythonInterpreter {
 			super.__setitem__(key, value);
 		}
 
+		/**
+		 * Adds several Java objects to the globals, skipping any protected names
+		 */
+		private void setAll(Map<String, ?> objects) {
+			int skipped = 0;
+			for (Entry<String, ?> entry : objects.entrySet()) {
+				if (overwriting.isProtected(entry.getKey())) {
+					logger.warn("Not adding '{}' to Jython namespace as the name is protected", entry.getKey());
+					skipped++;
+				} else {
+					super.__setitem__(entry.getKey(), Py.java2py(entry.getValue()));
+				}
+			}
+			logger.debug("Added {} objects to Jython namespace", objects.size() - skipped);
+		}
+
 		@Override
 		public void __delitem__(String key) {
 			if (overwriting.isProtected(key)) {
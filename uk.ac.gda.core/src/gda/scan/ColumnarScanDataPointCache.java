@@ -0,0 +1,344 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.scan;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.DoubleDataset;
+import org.eclipse.january.dataset.IDataset;
+import org.eclipse.january.dataset.Slice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of all the data from scan data points which stores each field as a column of primitive doubles rather than
+ * as a list of boxed values. Columns are pre-sized from the number of points in the scan and grow by doubling if the
+ * scan turns out to be longer.
+ * <p>
+ * As columns are only ever appended to, the views returned by {@link #getBufferFor(String)} and
+ * {@link #getDatasetFor(String)} share storage with the cache without copying and remain valid as later points are
+ * added. Clients updating a display during a scan can use {@link #getPositionsSince(String, int)} to fetch only the
+ * values they have not seen.
+ * <p>
+ * Columns may optionally be stored off-heap in direct buffers (see {@link #setOffHeap(boolean)}) to keep very long
+ * scans out of the garbage collected heap. In that case {@link #getDatasetFor(String)} has to copy the data.
+ * <p>
+ * Note: this class stores values as returned by {@link IScanDataPoint#getAllValuesAsPrimitiveDoubles()}. Any value that
+ * cannot be converted to a double is stored as {@link Double#NaN}.
+ *
+ * @see ScanDataPointCache
+ * @since GDA 9.20
+ */
+public class ColumnarScanDataPointCache extends DataPointCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(ColumnarScanDataPointCache.class);
+
+	/** Capacity used when the number of points in the scan is not known */
+	private static final int MIN_CAPACITY = 64;
+
+	/**
+	 * Append only column of doubles. Written to by a single thread (the one delivering scan data points) and read by
+	 * any other. The size is published after the value is written so that readers always see complete values.
+	 */
+	private abstract static class Column {
+		protected volatile int size;
+
+		abstract void add(double value);
+
+		/** @return read-only view of the first {@code length} values starting at {@code from} */
+		abstract DoubleBuffer view(int from, int length);
+
+		abstract IDataset dataset(int length);
+
+		int size() {
+			return size;
+		}
+
+		protected static int grownCapacity(int capacity) {
+			if (capacity >= Integer.MAX_VALUE / 2) {
+				throw new IllegalStateException("Data point cache column cannot grow beyond " + capacity + " points");
+			}
+			return capacity * 2;
+		}
+	}
+
+	/** Column stored in a {@link DoubleDataset} so that it can be exposed as a dataset without copying */
+	private static class HeapColumn extends Column {
+		private volatile DoubleDataset dataset;
+
+		HeapColumn(int capacity) {
+			dataset = DatasetFactory.zeros(DoubleDataset.class, capacity);
+		}
+
+		@Override
+		void add(double value) {
+			double[] data = dataset.getData();
+			if (size == data.length) {
+				final DoubleDataset grown = DatasetFactory.zeros(DoubleDataset.class, grownCapacity(data.length));
+				System.arraycopy(data, 0, grown.getData(), 0, size);
+				dataset = grown;
+				data = grown.getData();
+			}
+			data[size] = value;
+			size++; // NOSONAR only one thread writes
+		}
+
+		@Override
+		DoubleBuffer view(int from, int length) {
+			return DoubleBuffer.wrap(dataset.getData(), from, length).slice().asReadOnlyBuffer();
+		}
+
+		@Override
+		IDataset dataset(int length) {
+			return dataset.getSliceView(new Slice(0, length));
+		}
+	}
+
+	/** Column stored in a direct buffer outside the Java heap */
+	private static class DirectColumn extends Column {
+		private volatile DoubleBuffer buffer;
+
+		DirectColumn(int capacity) {
+			buffer = allocate(capacity);
+		}
+
+		private static DoubleBuffer allocate(int capacity) {
+			return ByteBuffer.allocateDirect(capacity * Double.BYTES).asDoubleBuffer();
+		}
+
+		@Override
+		void add(double value) {
+			DoubleBuffer data = buffer;
+			if (size == data.capacity()) {
+				final DoubleBuffer grown = allocate(grownCapacity(data.capacity()));
+				grown.put(data.duplicate().position(0).limit(size));
+				buffer = grown;
+				data = grown;
+			}
+			data.put(size, value);
+			size++; // NOSONAR only one thread writes
+		}
+
+		@Override
+		DoubleBuffer view(int from, int length) {
+			return buffer.duplicate().position(from).limit(from + length).slice().asReadOnlyBuffer();
+		}
+
+		@Override
+		IDataset dataset(int length) {
+			final double[] data = new double[length];
+			view(0, length).get(data);
+			return DatasetFactory.createFromObject(data);
+		}
+	}
+
+	/** Unmodifiable list of boxed values which reads through to a snapshot of a column */
+	private static class ColumnList extends AbstractList<Double> implements RandomAccess {
+		private final DoubleBuffer values;
+
+		ColumnList(DoubleBuffer values) {
+			this.values = values;
+		}
+
+		@Override
+		public Double get(int index) {
+			if (index < 0 || index >= values.limit()) {
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + values.limit());
+			}
+			return values.get(index);
+		}
+
+		@Override
+		public int size() {
+			return values.limit();
+		}
+	}
+
+	/** Whether new columns should be allocated off-heap */
+	private boolean offHeap = false;
+
+	/** Columns in the order of the scannable then detector header. Replaced at the start of each scan */
+	private volatile Map<String, Column> columns = new LinkedHashMap<>();
+
+	/** The columns in header order to avoid iterating the map for each point */
+	private volatile Column[] columnArray = new Column[0];
+
+	@Override
+	protected void initialise(IScanDataPoint sdp) {
+		logger.debug("Initialising cache...");
+
+		final int capacity = Math.max(sdp.getNumberOfPoints(), MIN_CAPACITY);
+		final Map<String, Column> newColumns = new LinkedHashMap<>();
+		Stream.concat(Arrays.stream(sdp.getScannableHeader()), sdp.getDetectorHeader().stream())
+			.forEach(name -> newColumns.computeIfAbsent(name, n -> createColumn(capacity)));
+
+		columnArray = newColumns.values().toArray(Column[]::new);
+		columns = newColumns;
+		logger.debug("Cache initialised. Size is {} columns x {} points{}", columnArray.length, capacity,
+				offHeap ? " off-heap" : "");
+	}
+
+	private Column createColumn(int capacity) {
+		return offHeap ? new DirectColumn(capacity) : new HeapColumn(capacity);
+	}
+
+	@Override
+	protected void addDataPoint(IScanDataPoint sdp) {
+		final double[] positions = sdp.getAllValuesAsPrimitiveDoubles();
+		final Column[] current = columnArray;
+		if (positions.length == current.length) {
+			for (int i = 0; i < positions.length; i++) {
+				current[i].add(positions[i]);
+			}
+		} else {
+			addDataPointWithDifferentHeader(sdp, positions);
+		}
+		logger.trace("Added point {} of {} to cache", sdp.getCurrentPointNumber(), sdp.getNumberOfPoints());
+	}
+
+	/**
+	 * Adds a point whose header does not match the columns of the cache. This is allowed only if the extra values come
+	 * from duplicated names (e.g. the same scannable in two groups in the scan command), in which case the first value
+	 * for a name is cached as in {@link ScanDataPointCache}.
+	 */
+	private void addDataPointWithDifferentHeader(IScanDataPoint sdp, double[] positions) {
+		final String[] pointNames = Stream.concat(Arrays.stream(sdp.getScannableHeader()),
+				sdp.getDetectorHeader().stream()).toArray(String[]::new);
+		if (positions.length < columnArray.length || pointNames.length != positions.length
+				|| !columns.keySet().containsAll(Arrays.asList(pointNames))) {
+			throw new IllegalArgumentException("Cache won't work SDP contains different number of positions than expected."
+					+ " cacheSize=" + columnArray.length
+					+ " pointSize=" + positions.length
+					+ " cacheNames=" + columns.keySet()
+					+ " pointNames=" + Arrays.toString(pointNames));
+		}
+		logger.warn("SDP contains different number of positions than expected. cacheSize={}, pointSize={}, cacheNames={}, pointNames={}",
+				columnArray.length, positions.length, columns.keySet(), pointNames);
+
+		final Map<String, Double> values = new LinkedHashMap<>();
+		for (int i = 0; i < pointNames.length; i++) {
+			values.putIfAbsent(pointNames[i], positions[i]);
+		}
+		// a column for a name missing from the point is given NaN, as for a value which is not a number
+		columns.forEach((name, column) -> column.add(values.getOrDefault(name, Double.NaN)));
+	}
+
+	private Column getColumn(String scannableName) {
+		final Column column = columns.get(scannableName);
+		if (column == null) {
+			logger.debug("Name '{}' not found in data point cache. Fields found: {}", scannableName, columns.keySet());
+			throw new IllegalArgumentException(scannableName + " not found in data point cache");
+		}
+		return column;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned list is an unmodifiable view of the values cached when this was called. Values are boxed as they
+	 * are read from the list.
+	 */
+	@Override
+	public List<Double> getPositionsFor(String scannableName) {
+		logger.trace("Getting positions for: {}", scannableName);
+		return new ColumnList(getBufferFor(scannableName));
+	}
+
+	/**
+	 * Get a read-only view of the values for the given field without copying them. The view contains the values cached
+	 * when this was called and is not affected by points added later.
+	 *
+	 * @param scannableName
+	 *            The field name for which to extract data
+	 * @return buffer with position 0 and limit the number of cached values
+	 */
+	public DoubleBuffer getBufferFor(String scannableName) {
+		final Column column = getColumn(scannableName);
+		final int size = column.size(); // read size before data
+		return column.view(0, size);
+	}
+
+	/**
+	 * Get the values for the given field as a 1D dataset. If the cache is on-heap the dataset is a view of the cached
+	 * data and is not copied.
+	 *
+	 * @param scannableName
+	 *            The field name for which to extract data
+	 * @return dataset of the values cached when this was called
+	 */
+	public IDataset getDatasetFor(String scannableName) {
+		final Column column = getColumn(scannableName);
+		final int size = column.size();
+		final IDataset dataset = column.dataset(size);
+		dataset.setName(scannableName);
+		return dataset;
+	}
+
+	/**
+	 * Get the values for the given field that have been added since the given index. This allows clients to follow a
+	 * scan without fetching the whole of a column for every point.
+	 *
+	 * @param scannableName
+	 *            The field name for which to extract data
+	 * @param fromIndex
+	 *            index of the first value to return, usually the number of values the client already has
+	 * @return the values from {@code fromIndex} up to the number of points cached, which may be empty
+	 */
+	public double[] getPositionsSince(String scannableName, int fromIndex) {
+		final Column column = getColumn(scannableName);
+		final int size = column.size();
+		if (fromIndex < 0 || fromIndex > size) {
+			throw new IndexOutOfBoundsException("Index " + fromIndex + " out of bounds for length " + size);
+		}
+		final double[] values = new double[size - fromIndex];
+		column.view(fromIndex, values.length).get(values);
+		return values;
+	}
+
+	/**
+	 * @return the number of points cached for the current scan
+	 */
+	public int getNumberOfPoints() {
+		// the last column is the last to be written for each point
+		final Column[] current = columnArray;
+		return current.length == 0 ? 0 : current[current.length - 1].size();
+	}
+
+	public boolean isOffHeap() {
+		return offHeap;
+	}
+
+	/**
+	 * @param offHeap
+	 *            <code>true</code> to store columns in direct buffers outside the Java heap. Takes effect from the
+	 *            next scan.
+	 */
+	public void setOffHeap(boolean offHeap) {
+		this.offHeap = offHeap;
+	}
+}
@@ -32,19 +32,60 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gda.data.scan.datawriter.DataWriter;
 import gda.device.DeviceException;
+import gda.scan.ScanDataPointPipelineMetrics.Stage;
 
 /**
  * An implementation of {@link ScanDataPointPipeline} that computes ScanDataPoints and broadcasts them using internally
  * managed threads.
+ * <p>
+ * By default the pipeline will accept any number of points. A {@link BackPressure} mode may be chosen to limit the
+ * number of points held to the requested pipeline length, so that a scan collecting faster than its points can be
+ * written is slowed down rather than filling the heap.
  */
 public class MultithreadedScanDataPointPipeline implements ScanDataPointPipeline {
 
+	/**
+	 * How {@link MultithreadedScanDataPointPipeline#put(IScanDataPoint)} behaves when the pipeline is full
+	 */
+	public enum BackPressure {
+		/**
+		 * The pipeline has no limit and put never blocks
+		 */
+		UNBOUNDED,
+		/**
+		 * put blocks until there is room for one more point in the pipeline
+		 */
+		BLOCKING,
+		/**
+		 * Once the pipeline is full, put blocks until it has drained to half its length. This lets the scan and the
+		 * broadcaster run for longer periods without waiting on each other than with {@link #BLOCKING}.
+		 */
+		ADAPTIVE;
+
+		/**
+		 * @return the BackPressure named (case insensitively) by the given string, or {@link #UNBOUNDED} if it is
+		 *         <code>null</code> or not recognised
+		 */
+		public static BackPressure fromString(String name) {
+			if (name == null) return UNBOUNDED;
+			try {
+				return valueOf(name.trim().toUpperCase());
+			} catch (IllegalArgumentException e) {
+				logger.warn("Unknown pipeline back pressure mode '{}', using {}", name, UNBOUNDED);
+				return UNBOUNDED;
+			}
+		}
+	}
+
 	public class ScannableSpecificExecutorService{
 
 		private ExecutorService executor;
@@ -120,41 +161,91 @@ public class MultithreadedScanDataPointPipeline implements ScanDataPointPipeline
 
 	private ScanDataPointPublisher broadcaster;
 
+	private final BackPressure backPressure;
+
 	/**
-	 * Creates a new MultithreadedScanDataPointPipeline and starts it up to accept points.
+	 * The number of points in the pipeline at which an {@link BackPressure#ADAPTIVE} pipeline starts blocking
+	 */
+	private final int highWaterMark;
+
+	/**
+	 * The number of points an {@link BackPressure#ADAPTIVE} pipeline drains to before it stops blocking
+	 */
+	private final int lowWaterMark;
+
+	private final ScanDataPointPipelineMetrics metrics;
+
+	private final Lock drainLock = new ReentrantLock();
+
+	private final Condition pointCompleted = drainLock.newCondition();
+
+	/**
+	 * Creates a new MultithreadedScanDataPointPipeline with no limit on its length and starts it up to accept points.
 	 *
 	 * @param broadcaster
 	 * @param positionCallableThreadPoolSize
 	 *            the number of threads used to process Callables
 	 * @param scanDataPointPipelineLength
-	 *            the number of points allowed in the Pipeline concurrently.
+	 *            ignored as the pipeline is unbounded
 	 */
 	public MultithreadedScanDataPointPipeline(ScanDataPointPublisher broadcaster, int positionCallableThreadPoolSize,
 			int scanDataPointPipelineLength, String scanName) {
+		this(broadcaster, positionCallableThreadPoolSize, scanDataPointPipelineLength, scanName, BackPressure.UNBOUNDED);
+	}
+
+	/**
+	 * Creates a new MultithreadedScanDataPointPipeline and starts it up to accept points.
+	 *
+	 * @param broadcaster
+	 * @param positionCallableThreadPoolSize
+	 *            the number of threads used to process Callables
+	 * @param scanDataPointPipelineLength
+	 *            the number of points allowed in the Pipeline concurrently, unless backPressure is
+	 *            {@link BackPressure#UNBOUNDED}
+	 * @param backPressure
+	 *            how {@link #put(IScanDataPoint)} behaves when the pipeline is full
+	 */
+	public MultithreadedScanDataPointPipeline(ScanDataPointPublisher broadcaster, int positionCallableThreadPoolSize,
+			int scanDataPointPipelineLength, String scanName, BackPressure backPressure) {
 
 		this.broadcaster = broadcaster;
+		this.backPressure = backPressure;
 
-		if (scanDataPointPipelineLength == 0) {
+		if (scanDataPointPipelineLength <= 0) {
 			logger.warn("A zero length pipeline was requested but this would be unable to accept ScanDataPoints. A pipeline of length one has been created instead");
 			scanDataPointPipelineLength = 1;
 		}
-		// TODO: Remove this configuration as it now unused
-		logger.info("MultithreadedScanDataPointPipeline is ignoring the request to create a fixed length queue and is creating one with indefinite length");
+		highWaterMark = scanDataPointPipelineLength;
+		lowWaterMark = scanDataPointPipelineLength / 2;
+		if (backPressure == BackPressure.UNBOUNDED) {
+			logger.info("MultithreadedScanDataPointPipeline is creating a queue with indefinite length");
+		} else {
+			logger.info("MultithreadedScanDataPointPipeline is creating a pipeline of length {} with {} back pressure",
+					scanDataPointPipelineLength, backPressure);
+		}
+		metrics = new ScanDataPointPipelineMetrics(scanName, backPressure.name(),
+				backPressure == BackPressure.UNBOUNDED ? -1 : scanDataPointPipelineLength);
+		metrics.register();
+
 		NamedThreadFactory threadFactory = new NamedThreadFactory(
 				" scan-" + scanName + "-MSDPP.positionCallableService-%d of " + positionCallableThreadPoolSize);
 		if (positionCallableThreadPoolSize > 0) {
 			positionCallableService = new ScannableSpecificExecutorService(positionCallableThreadPoolSize, threadFactory);
 		} // else leave it null.
 
-		/**
-		 * Uses a ThreadPoolExecutor with a custom queue designed to block rather than throw a RejectedExecutionException if
-		 * the thread is busy and queue is full. The total number of points in the Pipeline is the number of points in the
-		 * workQueue plus the one being worked on in the single thread.
-		 * @param positionCallableService
+		/*
+		 * When blocking, uses a ThreadPoolExecutor with a custom queue designed to block rather than throw a
+		 * RejectedExecutionException if the thread is busy and queue is full. The total number of points in the
+		 * Pipeline is the number of points in the workQueue plus the one being worked on in the single thread.
 		 */
-		BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<Runnable>();
+		final BlockingQueue<Runnable> workQueue;
+		if (backPressure == BackPressure.BLOCKING) {
+			workQueue = new ArrayBlockingQueueWithBlockingOffer<>(Math.max(1, scanDataPointPipelineLength - 1));
+		} else {
+			workQueue = new LinkedBlockingQueue<>();
+		}
 		broadcasterQueue = new NoExceptionThreadPoolExecutor(workQueue,
-				new NamedThreadFactory(" scan-" + scanName + "-MSDPP.broadcaster"), positionCallableService )  ;
+				new NamedThreadFactory(" scan-" + scanName + "-MSDPP.broadcaster"), positionCallableService, metrics);
 	}
 
 	/**
@@ -180,18 +271,67 @@ public class MultithreadedScanDataPointPipeline implements ScanDataPointPipeline
 			convertPositionCallablesToFutures(point);
 		}
 
+		final long putStart = System.nanoTime();
+		if (backPressure == BackPressure.ADAPTIVE) {
+			waitForPipelineToDrain();
+		}
+		metrics.pointAdded();
 		try {
-			broadcasterQueue.submit(new ScanDataPointPopulatorAndPublisher(getBroadcaster(),point));
+			// With BLOCKING back pressure this blocks until there is room in the queue
+			broadcasterQueue.submit(new ScanDataPointPopulatorAndPublisher(getBroadcaster(), point, metrics, this::signalPointCompleted));
 		} catch (RejectedExecutionException e) {
+			metrics.pointRemoved(false);
 			if (broadcasterQueue.isShutdown()) {
 				throw new DeviceException(
 						"Could not add new point to MultithreadedScanDataPointPipeline as it is shutdown.", e);
 			}
 			throw e;
 		}
+		metrics.record(Stage.BACK_PRESSURE, System.nanoTime() - putStart);
 		logger.debug("'{}' added to executor", point);
 	}
 
+	/**
+	 * If the pipeline is full, blocks until it has drained to the low water mark or has been shutdown
+	 */
+	private void waitForPipelineToDrain() throws DeviceException {
+		if (metrics.getPointsInPipeline() < highWaterMark) return;
+
+		logger.debug("Pipeline full with {} points, waiting for it to drain to {}", metrics.getPointsInPipeline(), lowWaterMark);
+		drainLock.lock();
+		try {
+			while (metrics.getPointsInPipeline() > lowWaterMark && !broadcasterQueue.isShutdown()) {
+				pointCompleted.await(100, TimeUnit.MILLISECONDS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DeviceException("Interrupted while waiting for space in MultithreadedScanDataPointPipeline", e);
+		} finally {
+			drainLock.unlock();
+		}
+	}
+
+	private void signalPointCompleted() {
+		if (backPressure != BackPressure.ADAPTIVE) return;
+		drainLock.lock();
+		try {
+			pointCompleted.signalAll();
+		} finally {
+			drainLock.unlock();
+		}
+	}
+
+	public BackPressure getBackPressure() {
+		return backPressure;
+	}
+
+	/**
+	 * @return the timings collected by this pipeline
+	 */
+	public ScanDataPointPipelineMetricsMXBean getMetrics() {
+		return metrics;
+	}
+
 	private void convertPositionCallablesToFutures(IScanDataPoint point)  {
 		point.setScannablePositions(convertPositionCallablesToFutures(point.getPositions()));
 		point.setDetectorData(convertPositionCallablesToFutures(point.getDetectorData()));
@@ -211,6 +351,15 @@ public class MultithreadedScanDataPointPipeline implements ScanDataPointPipeline
 	 */
 	@Override
 	public void shutdown(boolean waitForProcessingCompletion) throws Exception {
+		try {
+			shutdownPipeline(waitForProcessingCompletion);
+		} finally {
+			logger.info("Pipeline metrics: {}", metrics);
+			metrics.unregister();
+		}
+	}
+
+	private void shutdownPipeline(boolean waitForProcessingCompletion) throws Exception {
 
 		try {
 			broadcasterQueue.shutdown();//do not allow any more tasks are to be added
@@ -223,7 +372,13 @@ public class MultithreadedScanDataPointPipeline implements ScanDataPointPipeline
 
 			//check for an existing exception as the code below may itself lead to an
 			//interrupted exception which we can ignore as we cause it
-			checkForException();
+			try {
+				checkForException();
+			} catch (Exception e) {
+				// the broadcaster is not shut down below, so the data writer must not be left writing points
+				getBroadcaster().abort();
+				throw e;
+			}
 
 
 			// 2. Force shutdown
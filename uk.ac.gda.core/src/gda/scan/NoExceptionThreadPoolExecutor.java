@@ -18,6 +18,7 @@
 
 package gda.scan;
 
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -40,9 +41,22 @@ public class NoExceptionThreadPoolExecutor extends ThreadPoolExecutor {
 
 	private ScannableSpecificExecutorService positionCallableService;
 
+	private final ScanDataPointPipelineMetrics metrics;
+
 	public NoExceptionThreadPoolExecutor(BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory, ScannableSpecificExecutorService positionCallableService) {
+		this(workQueue, threadFactory, positionCallableService, null);
+	}
+
+	/**
+	 * @param metrics
+	 *            if not <code>null</code>, the tasks discarded by {@link #shutdownNow()} are removed from its count
+	 *            of points in the pipeline
+	 */
+	public NoExceptionThreadPoolExecutor(BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory,
+			ScannableSpecificExecutorService positionCallableService, ScanDataPointPipelineMetrics metrics) {
 		super(1, 1, 0L, TimeUnit.MILLISECONDS, workQueue, threadFactory);
 		this.positionCallableService = positionCallableService;
+		this.metrics = metrics;
 	}
 
 	public void raiseExceptionIfSeen() throws Exception {
@@ -55,6 +69,15 @@ public class NoExceptionThreadPoolExecutor extends ThreadPoolExecutor {
 
 	private Exception exceptionRaisedInTask = null;
 
+	@Override
+	public List<Runnable> shutdownNow() {
+		final List<Runnable> dumpedTasks = super.shutdownNow();
+		if (metrics != null && !dumpedTasks.isEmpty()) {
+			metrics.pointsDiscarded(dumpedTasks.size());
+		}
+		return dumpedTasks;
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Override
 	protected void afterExecute(Runnable r, Throwable t) {
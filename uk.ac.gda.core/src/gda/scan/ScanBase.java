@@ -67,6 +67,7 @@ import gda.jython.InterfaceProvider;
 import gda.jython.JythonServer.JythonServerThread;
 import gda.jython.JythonStatus;
 import gda.jython.ScriptBase;
+import gda.scan.MultithreadedScanDataPointPipeline.BackPressure;
 import gda.scan.ScanEvent.EventType;
 import gda.scan.ScanInformation.ScanInformationBuilder;
 import gda.util.OSCommandRunner;
@@ -606,14 +607,16 @@ public abstract class ScanBase implements NestableScan {
 			estimatedPointsToComputeSimultaneousely = (float) getPositionCallableThreadPoolSize()
 					/ (float) numberOfScannablesThatCanProvidePositionCallables();
 		}
-		logger.info("Creating MultithreadedScanDataPointPipeline which can hold {} points before blocking"
+		final BackPressure backPressure = BackPressure.fromString(
+				LocalProperties.get(LocalProperties.GDA_SCAN_MULTITHREADED_SCANDATA_POINT_PIPELINE_BACK_PRESSURE));
+		logger.info("Creating MultithreadedScanDataPointPipeline which can hold {} points before blocking ({} back pressure)"
 						+ ", and that will on average process {} points simultaneously using {} threads.",
-				getScanDataPointQueueLength(), estimatedPointsToComputeSimultaneousely,
+				getScanDataPointQueueLength(), backPressure, estimatedPointsToComputeSimultaneousely,
 				getPositionCallableThreadPoolSize());
 
 		scanDataPointPipeline = new MultithreadedScanDataPointPipeline(
 				new ScanDataPointPublisher(dataWriter, this, point -> sendJsonScanMessage(EventType.UPDATED, point)),
-				getPositionCallableThreadPoolSize(), getScanDataPointQueueLength(), getName());
+				getPositionCallableThreadPoolSize(), getScanDataPointQueueLength(), getName(), backPressure);
 	}
 
 	@Override
@@ -23,11 +23,15 @@ import static gda.scan.ScanBase.handleZeroInputExtraNameDevice;
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.joining;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -84,9 +88,23 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	private List<Object> detectorData = new ArrayList<>();
 
 	/**
-	 * The expanded header names for detectors in which the names are composed as detector name plus its element name.
+	 * The header names and formatting information of the scannables and detectors. This is the same for every point in
+	 * a scan, so is interned and shared between them. While the point is being built, changes are made to
+	 * {@link #schemaBuilder} and the schema is only created when it is next needed.
+	 * <ul>
+	 * <li>The expanded header names for detectors in which the names are composed as detector name plus its element
+	 * name.</li>
+	 * <li>Formatting information for the detector data. If an element is "" or null then do not format that in the
+	 * output.</li>
+	 * <li>The expanded header names for scannable position in which the names are composed of the scannable name plus
+	 * its element name, i.e. scannable's InputNames and ExtraNames</li>
+	 * <li>Formatting information for the scannable positions - used in the toString method.</li>
+	 * </ul>
 	 */
-	private List<String> detectorHeader = new ArrayList<>();
+	private ScanDataPointSchema schema = ScanDataPointSchema.EMPTY;
+
+	/** Changes to the schema not yet applied, or null if there are none */
+	private transient ScanDataPointSchema.Builder schemaBuilder;
 
 	/**
 	 * The {@link gda.device.Detector} detectors that participate in the scan.
@@ -94,18 +112,6 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	 */
 	private final transient List<Detector> detectors = new ArrayList<>();
 
-	/**
-	 * Formatting information for the scannable positions - used in the toString method. If an element is "" or null
-	 * then do not format that in the output.
-	 */
-	private List<String[]> detectorFormats = new ArrayList<>();
-
-	/**
-	 * The expanded header names for scannable position in which the names are composed of the scannable name plus its
-	 * element name, i.e. scannable's InputNames and ExtraNames
-	 */
-	private List<String> scannableHeader = new ArrayList<>();
-
 	/**
 	 * The current positions of the scannables. Each element represents the scannable in the corresponding element of
 	 * the 'scannables' List;
@@ -118,11 +124,6 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	 */
 	private transient List<IScanObject> scanObjects = new ArrayList<>();
 
-	/**
-	 * Formatting information for the scannable positions - used in the toString method.
-	 */
-	private List<String[]> scannableFormats = new ArrayList<>();
-
 	/**
 	 * The {@link gda.device.Scannable} scannables that participate in the scan.
 	 * Note, this will be null once the point has been deserialized, i.e. on the client
@@ -145,7 +146,10 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	private boolean hasChild = false;
 
 	// cached values
-	private Double[] allValuesAsDoubles=null;
+	private double[] allValues = null;
+	/** Indices in allValues of fields that could not be converted to a double */
+	private BitSet nonNumericValues = null;
+	private transient Double[] allValuesAsDoubles = null;
 	private String delimitedString = null;
 
 	private boolean suppressHeader = false;
@@ -220,7 +224,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 			if (format == null || format.length == 0) {
 				format = new String[] { "%s" };
 			}
-			detectorFormats.add(format);
+			updateSchema(builder -> builder.addDetectorFormat(format));
 		}
 	}
 
@@ -235,20 +239,21 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	}
 
 	protected void setDetectorData(List<Object> newData, List<String[]> formats) {
-		this.detectorData = newData;
-		detectorFormats = new ArrayList<>(formats);
+		setDetectorData(newData);
+		updateSchema(builder -> builder.detectorFormats(formats));
 	}
 
 	@Override
 	public void setDetectorData(List<Object> newData) {
 		this.detectorData = newData;
+		clearCachedValues();
 	}
 
 	@Override
 	public void addScannablePosition(Object data, String[] format) {
 		if (data != null) {
 			scannablePositions.add(data);
-			scannableFormats.add(format);
+			updateSchema(builder -> builder.addScannableFormat(format));
 		}
 	}
 
@@ -263,7 +268,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 		setScannablePositions(positions);
 
 		Objects.requireNonNull(formats);
-		this.scannableFormats = new ArrayList<>(Arrays.asList(formats));
+		updateSchema(builder -> builder.scannableFormats(Arrays.asList(formats)));
 	}
 
 	@Override
@@ -273,9 +278,9 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 		scanInfo = newInfo.build();
 		String[] extraNames = det.getExtraNames();
 		if (extraNames != null && extraNames.length > 0) {
-			detectorHeader.addAll(Arrays.asList(extraNames));
+			updateSchema(builder -> builder.addDetectorHeader(Arrays.asList(extraNames)));
 		} else {
-			detectorHeader.add(det.getName());
+			updateSchema(builder -> builder.addDetectorHeader(Arrays.asList(det.getName())));
 		}
 		detectors.add(det);
 	}
@@ -285,8 +290,8 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 		scanInfo = ScanInformationBuilder.from(scanInfo)
 				.scannableNames((String[]) ArrayUtils.add(scanInfo.getScannableNames(), scannable.getName()))
 				.build();
-		scannableHeader.addAll(Arrays.asList(scannable.getInputNames()));
-		scannableHeader.addAll(Arrays.asList(scannable.getExtraNames()));
+		updateSchema(builder -> builder.addScannableHeader(
+				Stream.concat(Arrays.stream(scannable.getInputNames()), Arrays.stream(scannable.getExtraNames())).toList()));
 		scannables.add(scannable);
 	}
 
@@ -313,12 +318,155 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	@Override
 	public Double[] getAllValuesAsDoubles() throws IllegalArgumentException, IndexOutOfBoundsException {
 		if (allValuesAsDoubles == null) {
-			allValuesAsDoubles = Stream.concat(Arrays.stream(getPositionsAsDoubles()), Arrays.stream(getDetectorDataAsDoubles()))
-					.toArray(Double[]::new);
+			final double[] values = getAllValuesAsPrimitiveDoubles();
+			final Double[] boxedValues = new Double[values.length];
+			for (int i = 0; i < values.length; i++) {
+				boxedValues[i] = nonNumericValues.get(i) ? null : values[i];
+			}
+			allValuesAsDoubles = boxedValues;
 		}
 		return allValuesAsDoubles;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The values are converted once and cached. The array returned is the cached copy and must not be modified.
+	 */
+	@Override
+	public double[] getAllValuesAsPrimitiveDoubles() throws IllegalArgumentException {
+		if (allValues == null) {
+			final ValuesBuilder values = new ValuesBuilder(getSchema().getNumberOfFields());
+
+			final int numberOfPositionFields = getSchema().getScannableHeader().size();
+			if (scannablePositions.isEmpty() && numberOfPositionFields != 0) {
+				throw new IllegalArgumentException("Unexpected empty position list");
+			}
+			for (Object position : scannablePositions) {
+				values.add(position, false);
+			}
+			if (values.size() != numberOfPositionFields) {
+				throw new IllegalArgumentException(String.format("Position data does not hold the expected number of fields: positionArr.length %d, positionHearder.size = %d", values.size(), numberOfPositionFields));
+			}
+
+			for (int i = 0; i < detectorData.size(); i++) {
+				final int start = values.size();
+				values.add(detectorData.get(i), true);
+				// in the case that the detector has no extract names (so would be written by NexusDataWriter.writeGenericDetector) but an array value
+				// we only have one header entry for the detector, so we return a null, indicating to not write this field
+				if (values.size() - start > 1 && detectors != null && detectors.size() > i && detectors.get(i).getExtraNames().length == 0) {
+					values.truncate(start);
+					values.addNonNumeric();
+				}
+			}
+			final int numberOfDetectorFields = values.size() - numberOfPositionFields;
+			if (numberOfDetectorFields != getSchema().getDetectorHeader().size()) {
+				throw new IllegalArgumentException("Detector data does not hold the expected number of fields actual:" + numberOfDetectorFields + " expected:" + getSchema().getDetectorHeader().size());
+			}
+
+			nonNumericValues = values.nonNumeric;
+			allValues = values.toArray();
+		}
+		return allValues;
+	}
+
+	/**
+	 * Converts positions and detector data to primitive doubles. Common numeric types are converted directly, anything
+	 * else is converted by {@link DetectorDataWrapper} or as {@link PlottableDetectorData}.
+	 */
+	private static class ValuesBuilder {
+		private double[] values;
+		private final BitSet nonNumeric = new BitSet();
+		private int size = 0;
+
+		ValuesBuilder(int expectedSize) {
+			values = new double[expectedSize];
+		}
+
+		void add(Object data, boolean isDetectorData) {
+			if (isDetectorData && data instanceof PlottableDetectorData plottable) {
+				addAll(plottable.getDoubleVals());
+			} else if (data instanceof Number number) {
+				add(number.doubleValue());
+			} else if (data instanceof double[] array) {
+				for (double value : array) add(value);
+			} else if (data instanceof int[] array) {
+				for (int value : array) add(value);
+			} else {
+				addAll(new DetectorDataWrapper(data).getDoubleVals());
+			}
+		}
+
+		private void addAll(Double[] boxedValues) {
+			for (Double value : boxedValues) {
+				if (value == null) {
+					addNonNumeric();
+				} else {
+					add(value);
+				}
+			}
+		}
+
+		void add(double value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, Math.max(8, size * 2));
+			}
+			values[size++] = value;
+		}
+
+		void addNonNumeric() {
+			nonNumeric.set(size);
+			add(Double.NaN);
+		}
+
+		void truncate(int newSize) {
+			nonNumeric.clear(newSize, Math.max(newSize, size));
+			size = newSize;
+		}
+
+		int size() {
+			return size;
+		}
+
+		double[] toArray() {
+			return size == values.length ? values : Arrays.copyOf(values, size);
+		}
+	}
+
+	private void clearCachedValues() {
+		allValues = null;
+		nonNumericValues = null;
+		allValuesAsDoubles = null;
+	}
+
+	/**
+	 * @return the header names and formats of the fields of this point, shared with other points in the same scan
+	 */
+	public synchronized ScanDataPointSchema getSchema() {
+		if (schemaBuilder != null) {
+			schema = schemaBuilder.build();
+			schemaBuilder = null;
+		}
+		return schema;
+	}
+
+	/**
+	 * Applies a change to the schema. Synchronized with {@link #getSchema()} as the point may be read by other threads
+	 * (e.g. the scan data point pipeline) while it is still being built.
+	 */
+	private synchronized void updateSchema(Consumer<ScanDataPointSchema.Builder> change) {
+		if (schemaBuilder == null) {
+			schemaBuilder = schema.toBuilder();
+		}
+		change.accept(schemaBuilder);
+	}
+
+	private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+		// points of a scan are sent one at a time, so make sure they share a schema once deserialized
+		getSchema();
+		out.defaultWriteObject();
+	}
+
 	@Override
 	public Double[] getDetectorDataAsDoubles() {
 		final List<Object> detectorData = getDetectorData();
@@ -348,7 +496,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 
 	@Override
 	public List<String> getDetectorHeader() {
-		return unmodifiableList(detectorHeader);
+		return getSchema().getDetectorHeader();
 	}
 
 	@Override
@@ -413,9 +561,9 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 
 	@Override
 	public String getDelimitedHeaderString() {
-		String header = String.join(DELIMITER, scannableHeader);
-		if (!detectorHeader.isEmpty()) {
-			header += DELIMITER + String.join(DELIMITER, detectorHeader);
+		String header = String.join(DELIMITER, getSchema().getScannableHeader());
+		if (!getSchema().getDetectorHeader().isEmpty()) {
+			header += DELIMITER + String.join(DELIMITER, getSchema().getDetectorHeader());
 		}
 		return header.trim();
 	}
@@ -429,7 +577,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 
 	private String[] getFormattedPositionForScannableIndex(int index) {
 		final Object position = scannablePositions.get(index);
-		final String[] formats = scannableFormats.get(index);
+		final String[] formats = getSchema().getScannableFormat(index);
 		try {
 			return ScannableUtils.getFormattedCurrentPositionArray(position, formats.length, formats);
 		} catch (DeviceException e) {
@@ -439,6 +587,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	}
 
 	private String createStringFromAllDetectorData() {
+		final List<String[]> detectorFormats = getSchema().getDetectorFormats();
 		return IntStream.range(0, detectorData.size())
 				.mapToObj(i -> createStringFromDetectorData(detectorData.get(i), detectorFormats.get(i)))
 				.collect(joining(DELIMITER));
@@ -489,7 +638,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 
 	@Override
 	public List<String> getPositionHeader() {
-		return unmodifiableList(scannableHeader);
+		return getSchema().getScannableHeader();
 	}
 
 	@Override
@@ -533,7 +682,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	@Override
 	public String[] getPositionsAsFormattedStrings() {
 		final Double[] positionArr = getPositionsAsDoubles();
-		final String[] formats = scannableFormats.stream()
+		final String[] formats = getSchema().getScannableFormats().stream()
 				.flatMap(Arrays::stream)
 				.toArray(String[]::new);
 
@@ -744,7 +893,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 
 	@Override
 	public String[][] getScannableFormats() {
-		return scannableFormats.toArray(String[][]::new);
+		return getSchema().getScannableFormats().toArray(String[][]::new);
 	}
 
 	@Override
@@ -753,22 +902,24 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	}
 
 	public void setScannableFormats(List<String[]> scannableFormats) {
-		this.scannableFormats = new ArrayList<>(scannableFormats);
+		updateSchema(builder -> builder.scannableFormats(scannableFormats));
 	}
 
 	@Override
 	public void setDetectorHeader(String[] detectorHeader) {
-		this.detectorHeader = new ArrayList<>(Arrays.asList(detectorHeader));
+		updateSchema(builder -> builder.detectorHeader(Arrays.asList(detectorHeader)));
+		clearCachedValues();
 	}
 
 	@Override
 	public String[] getScannableHeader() {
-		return scannableHeader.toArray(String[]::new);
+		return getSchema().getScannableHeader().toArray(String[]::new);
 	}
 
 	@Override
 	public void setScannableHeader(String[] scannableHeader) {
-		this.scannableHeader = new ArrayList<>(Arrays.asList(scannableHeader));
+		updateSchema(builder -> builder.scannableHeader(Arrays.asList(scannableHeader)));
+		clearCachedValues();
 	}
 
 	@Override
@@ -780,6 +931,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	public void setScannablePositions(List<Object> scannablePositions) {
 		Objects.requireNonNull(scannablePositions);
 		this.scannablePositions = scannablePositions;
+		clearCachedValues();
 	}
 
 	@Override
@@ -794,7 +946,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 
 	@Override
 	public String[][] getDetectorFormats() {
-		return detectorFormats.toArray(String[][]::new);
+		return getSchema().getDetectorFormats().toArray(String[][]::new);
 	}
 
 	@Override
@@ -803,7 +955,7 @@ public class ScanDataPoint implements Serializable, IScanDataPoint {
 	}
 
 	public void setDetectorFormats(List<String[]> detectorFormats) {
-		this.detectorFormats = new ArrayList<>(detectorFormats);
+		updateSchema(builder -> builder.detectorFormats(detectorFormats));
 	}
 
 	@Override
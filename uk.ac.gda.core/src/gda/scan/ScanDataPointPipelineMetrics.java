@@ -0,0 +1,196 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.scan;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scanning.api.metrics.AbstractMetrics;
+import org.eclipse.scanning.api.metrics.TimingStatistics;
+
+/**
+ * Collects per-stage timings for a {@link MultithreadedScanDataPointPipeline} so that it is possible to see where
+ * points are piling up. An instance is registered with the platform MBean server for the lifetime of its pipeline.
+ */
+public class ScanDataPointPipelineMetrics extends AbstractMetrics implements ScanDataPointPipelineMetricsMXBean {
+
+	/**
+	 * The stages a point passes through in the pipeline
+	 */
+	public enum Stage {
+		/** The scan thread is blocked in put() waiting for space in the pipeline */
+		BACK_PRESSURE,
+		/** The point is waiting in the queue for the broadcaster thread */
+		QUEUED,
+		/** The broadcaster is waiting for position Callables and populating the point with their results */
+		POPULATION,
+		/** The point is being written and broadcast */
+		PUBLICATION
+	}
+
+	private final String backPressure;
+
+	private final int capacity;
+
+	private final TimingStatistics[] timers = new TimingStatistics[Stage.values().length];
+
+	private final LongAdder pointsAdded = new LongAdder();
+
+	private final LongAdder pointsPublished = new LongAdder();
+
+	private final AtomicInteger pointsInPipeline = new AtomicInteger();
+
+	private final AtomicInteger maxPointsInPipeline = new AtomicInteger();
+
+	public ScanDataPointPipelineMetrics(String scanName, String backPressure, int capacity) {
+		super("gda.scan", "ScanDataPointPipeline", scanName);
+		this.backPressure = backPressure;
+		this.capacity = capacity;
+		for (Stage stage : Stage.values()) {
+			timers[stage.ordinal()] = new TimingStatistics();
+		}
+	}
+
+	public void record(Stage stage, long nanos) {
+		timers[stage.ordinal()].record(nanos);
+	}
+
+	/**
+	 * Records that a point has entered the pipeline
+	 *
+	 * @return the number of points now in the pipeline
+	 */
+	public int pointAdded() {
+		pointsAdded.increment();
+		final int inPipeline = pointsInPipeline.incrementAndGet();
+		maxPointsInPipeline.accumulateAndGet(inPipeline, Math::max);
+		return inPipeline;
+	}
+
+	/**
+	 * Records that a point has left the pipeline, whether or not it was successfully published
+	 *
+	 * @param published
+	 *            <code>true</code> if the point was published
+	 * @return the number of points remaining in the pipeline
+	 */
+	public int pointRemoved(boolean published) {
+		if (published) {
+			pointsPublished.increment();
+		}
+		return pointsInPipeline.decrementAndGet();
+	}
+
+	/**
+	 * Records that points have been discarded from the pipeline without being run, e.g. by
+	 * {@link java.util.concurrent.ExecutorService#shutdownNow()}
+	 *
+	 * @param count
+	 *            the number of points discarded
+	 * @return the number of points remaining in the pipeline
+	 */
+	public int pointsDiscarded(int count) {
+		return pointsInPipeline.addAndGet(-count);
+	}
+
+	@Override
+	public String getScanName() {
+		return getName();
+	}
+
+	@Override
+	public String getBackPressure() {
+		return backPressure;
+	}
+
+	@Override
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Override
+	public long getPointsAdded() {
+		return pointsAdded.sum();
+	}
+
+	@Override
+	public long getPointsPublished() {
+		return pointsPublished.sum();
+	}
+
+	@Override
+	public int getPointsInPipeline() {
+		return pointsInPipeline.get();
+	}
+
+	@Override
+	public int getMaxPointsInPipeline() {
+		return maxPointsInPipeline.get();
+	}
+
+	@Override
+	public double getMeanBackPressureTime() {
+		return timers[Stage.BACK_PRESSURE.ordinal()].getMeanMillis();
+	}
+
+	@Override
+	public double getMaxBackPressureTime() {
+		return timers[Stage.BACK_PRESSURE.ordinal()].getMaxMillis();
+	}
+
+	@Override
+	public double getMeanQueuedTime() {
+		return timers[Stage.QUEUED.ordinal()].getMeanMillis();
+	}
+
+	@Override
+	public double getMaxQueuedTime() {
+		return timers[Stage.QUEUED.ordinal()].getMaxMillis();
+	}
+
+	@Override
+	public double getMeanPopulationTime() {
+		return timers[Stage.POPULATION.ordinal()].getMeanMillis();
+	}
+
+	@Override
+	public double getMaxPopulationTime() {
+		return timers[Stage.POPULATION.ordinal()].getMaxMillis();
+	}
+
+	@Override
+	public double getMeanPublicationTime() {
+		return timers[Stage.PUBLICATION.ordinal()].getMeanMillis();
+	}
+
+	@Override
+	public double getMaxPublicationTime() {
+		return timers[Stage.PUBLICATION.ordinal()].getMaxMillis();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s [points=%d/%d, maxInPipeline=%d, backPressure=%.2f/%.2fms, queued=%.2f/%.2fms,"
+				+ " population=%.2f/%.2fms, publication=%.2f/%.2fms (mean/max)]",
+				getScanName(), getPointsPublished(), getPointsAdded(), getMaxPointsInPipeline(),
+				getMeanBackPressureTime(), getMaxBackPressureTime(), getMeanQueuedTime(), getMaxQueuedTime(),
+				getMeanPopulationTime(), getMaxPopulationTime(), getMeanPublicationTime(), getMaxPublicationTime());
+	}
+
+}
@@ -0,0 +1,75 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.scan;
+
+/**
+ * JMX view of the per-stage timings collected by a {@link MultithreadedScanDataPointPipeline}. All times are in
+ * milliseconds.
+ */
+public interface ScanDataPointPipelineMetricsMXBean {
+
+	String getScanName();
+
+	String getBackPressure();
+
+	int getCapacity();
+
+	long getPointsAdded();
+
+	long getPointsPublished();
+
+	/**
+	 * @return the number of points added to the pipeline that have not yet been published
+	 */
+	int getPointsInPipeline();
+
+	/**
+	 * @return the highest number of points that have been in the pipeline at the same time
+	 */
+	int getMaxPointsInPipeline();
+
+	/**
+	 * @return time spent by the scan thread blocked in {@link ScanDataPointPipeline#put(IScanDataPoint)}
+	 */
+	double getMeanBackPressureTime();
+
+	double getMaxBackPressureTime();
+
+	/**
+	 * @return time a point spends waiting in the queue before the broadcaster thread starts work on it
+	 */
+	double getMeanQueuedTime();
+
+	double getMaxQueuedTime();
+
+	/**
+	 * @return time spent waiting for position Callables to return and populating the point with their results
+	 */
+	double getMeanPopulationTime();
+
+	double getMaxPopulationTime();
+
+	/**
+	 * @return time spent writing and broadcasting populated points
+	 */
+	double getMeanPublicationTime();
+
+	double getMaxPublicationTime();
+
+}
@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gda.device.DeviceException;
+import gda.scan.ScanDataPointPipelineMetrics.Stage;
 
 public class ScanDataPointPopulatorAndPublisher implements Callable<Void> {
 
@@ -37,26 +38,74 @@ public class ScanDataPointPopulatorAndPublisher implements Callable<Void> {
 
 	private ScanDataPointPublisher broadcaster;
 
+	private final ScanDataPointPipelineMetrics metrics;
+
+	private final Runnable completionCallback;
+
+	private final long createdTime;
+
 	public ScanDataPointPopulatorAndPublisher(ScanDataPointPublisher broadcaster, IScanDataPoint point) {
+		this(broadcaster, point, null, null);
+	}
+
+	/**
+	 * @param broadcaster
+	 * @param point
+	 * @param metrics
+	 *            records the time spent in each stage, may be <code>null</code>
+	 * @param completionCallback
+	 *            run once the point has left the pipeline whether or not it was published, may be <code>null</code>
+	 */
+	public ScanDataPointPopulatorAndPublisher(ScanDataPointPublisher broadcaster, IScanDataPoint point,
+			ScanDataPointPipelineMetrics metrics, Runnable completionCallback) {
 		this.broadcaster = broadcaster;
 		this.point = point;
+		this.metrics = metrics;
+		this.completionCallback = completionCallback;
+		this.createdTime = System.nanoTime();
 		logger.debug("'{}': created", point);
 	}
 
 	@Override
 	public Void call() throws Exception {
 		logger.debug("'{}': running", point);
-
-		convertPositionFuturesToPositions(point);
-		logger.trace("'{}': futures converted", point);
-
-		logger.debug("'{}' publishing", point);
-		broadcaster.publish(point);
-		logger.debug("'{}' published", point);
-
+		boolean published = false;
+		try {
+			long stageStart = record(Stage.QUEUED, createdTime);
+
+			convertPositionFuturesToPositions(point);
+			logger.trace("'{}': futures converted", point);
+			stageStart = record(Stage.POPULATION, stageStart);
+
+			logger.debug("'{}' publishing", point);
+			broadcaster.publish(point);
+			logger.debug("'{}' published", point);
+			record(Stage.PUBLICATION, stageStart);
+			published = true;
+		} finally {
+			if (metrics != null) {
+				metrics.pointRemoved(published);
+			}
+			if (completionCallback != null) {
+				completionCallback.run();
+			}
+		}
 		return null;
 	}
 
+	/**
+	 * Records the time since the given start time against the stage
+	 *
+	 * @return the end time of the stage, which is the start time of the next
+	 */
+	private long record(Stage stage, long stageStart) {
+		final long now = System.nanoTime();
+		if (metrics != null) {
+			metrics.record(stage, now - stageStart);
+		}
+		return now;
+	}
+
 	private void convertPositionFuturesToPositions(IScanDataPoint point) throws Exception {
 		point.setScannablePositions(convertFuturesToResults(point.getScannableNames(), point.getScannablePositions()));
 		point.setDetectorData(convertFuturesToResults(point.getDetectorNames(), point.getDetectorData()));
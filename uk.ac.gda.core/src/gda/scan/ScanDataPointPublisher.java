@@ -46,8 +46,11 @@ public class ScanDataPointPublisher {
 	}
 
 	protected void publish(IScanDataPoint point) throws Exception {
+		// Send update event once the data has been written and flushed to file, which may be after
+		// addData returns if the data writer writes on another thread
+		final int pointNumber = point.getCurrentPointNumber();
 		synchronized(dataWriter) {
-			dataWriter.addData(point);
+			dataWriter.addData(point, () -> pointWrittenCallback.accept(pointNumber));
 		}
 
 		// update the filename (if this was the first data point and so
@@ -56,9 +59,6 @@ public class ScanDataPointPublisher {
 
 		// notify IObservers of this scan (e.g. GUI panels)
 		getJythonServerNotifer().notifyServer(dataSourceForObservers, point);
-
-		// Send update event now that data has been written and flushed to file
-		pointWrittenCallback.accept(point.getCurrentPointNumber());
 	}
 
 	public DataWriter getDataWriter() {
@@ -75,4 +75,13 @@ public class ScanDataPointPublisher {
 			throw new DeviceException("problem shutting down datawriter: " + e.getMessage(),e);
 		}
 	}
+
+	/**
+	 * Stops the data writer without completing the collection, if the scan has failed
+	 */
+	public void abort() {
+		// not synchronized on the data writer, as it may be held by a thread waiting to add a point
+		logger.debug("Calling data writer abort collection from SDPPL");
+		dataWriter.abortCollection();
+	}
 }
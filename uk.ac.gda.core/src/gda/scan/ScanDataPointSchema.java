@@ -0,0 +1,260 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.scan;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The header names and output formats of the fields in a {@link ScanDataPoint}. These are the same for every point in
+ * a scan, so rather than each point holding its own copies, points share an interned instance of this class.
+ * <p>
+ * Instances are immutable. While a point is being built its header names and formats are added to a {@link Builder},
+ * which creates the schema once when the point is complete. {@link Builder#build()} and {@link #intern()} return the
+ * canonical instance with the same content, and schemas are interned as they are deserialized so that points
+ * received by a client share a schema as well.
+ */
+public final class ScanDataPointSchema implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Number of distinct schemas to remember, enough for all the scans that may be running or plotted at once */
+	private static final int INTERNED_SCHEMA_LIMIT = 64;
+
+	private static final Map<ScanDataPointSchema, ScanDataPointSchema> interned = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ScanDataPointSchema, ScanDataPointSchema> eldest) {
+			return size() > INTERNED_SCHEMA_LIMIT;
+		}
+	};
+
+	public static final ScanDataPointSchema EMPTY = new ScanDataPointSchema(List.of(), List.of(), List.of(), List.of()).intern();
+
+	private final List<String> scannableHeader;
+
+	private final List<String> detectorHeader;
+
+	/** Formats for each scannable position. An element may be null */
+	private final List<String[]> scannableFormats;
+
+	/** Formats for each detector's data. An element may be null */
+	private final List<String[]> detectorFormats;
+
+	private final int hashCode;
+
+	private transient boolean isInterned;
+
+	private ScanDataPointSchema(List<String> scannableHeader, List<String> detectorHeader,
+			List<String[]> scannableFormats, List<String[]> detectorFormats) {
+		this.scannableHeader = scannableHeader;
+		this.detectorHeader = detectorHeader;
+		this.scannableFormats = scannableFormats;
+		this.detectorFormats = detectorFormats;
+		this.hashCode = computeHashCode();
+	}
+
+	private static <T> List<T> copyOf(Collection<T> values) {
+		// List.copyOf does not allow null elements
+		return unmodifiableList(new ArrayList<>(values));
+	}
+
+	/** Formats are copied so that the schema cannot be changed through arrays passed in or returned */
+	private static String[] copyOfFormat(String[] format) {
+		return format == null ? null : format.clone();
+	}
+
+	/**
+	 * @return a builder holding the header names and formats of this schema
+	 */
+	public Builder toBuilder() {
+		return new Builder(this);
+	}
+
+	/**
+	 * Collects the header names and formats of a point as its scannables and detectors are added to it. Appending to a
+	 * builder does not copy what has been added already, so a point is built in time proportional to its number of
+	 * fields.
+	 */
+	public static final class Builder {
+
+		private final List<String> scannableHeader;
+
+		private final List<String> detectorHeader;
+
+		private final List<String[]> scannableFormats;
+
+		private final List<String[]> detectorFormats;
+
+		private Builder(ScanDataPointSchema schema) {
+			scannableHeader = new ArrayList<>(schema.scannableHeader);
+			detectorHeader = new ArrayList<>(schema.detectorHeader);
+			scannableFormats = new ArrayList<>(schema.scannableFormats);
+			detectorFormats = new ArrayList<>(schema.detectorFormats);
+		}
+
+		public Builder addScannableHeader(Collection<String> names) {
+			scannableHeader.addAll(names);
+			return this;
+		}
+
+		public Builder addDetectorHeader(Collection<String> names) {
+			detectorHeader.addAll(names);
+			return this;
+		}
+
+		public Builder addScannableFormat(String[] format) {
+			scannableFormats.add(copyOfFormat(format));
+			return this;
+		}
+
+		public Builder addDetectorFormat(String[] format) {
+			detectorFormats.add(copyOfFormat(format));
+			return this;
+		}
+
+		public Builder scannableHeader(Collection<String> names) {
+			scannableHeader.clear();
+			return addScannableHeader(names);
+		}
+
+		public Builder detectorHeader(Collection<String> names) {
+			detectorHeader.clear();
+			return addDetectorHeader(names);
+		}
+
+		public Builder scannableFormats(Collection<String[]> formats) {
+			scannableFormats.clear();
+			formats.forEach(this::addScannableFormat);
+			return this;
+		}
+
+		public Builder detectorFormats(Collection<String[]> formats) {
+			detectorFormats.clear();
+			formats.forEach(this::addDetectorFormat);
+			return this;
+		}
+
+		/**
+		 * @return the canonical schema with the header names and formats added to this builder
+		 */
+		public ScanDataPointSchema build() {
+			return new ScanDataPointSchema(copyOf(scannableHeader), copyOf(detectorHeader), copyOf(scannableFormats),
+					copyOf(detectorFormats)).intern();
+		}
+	}
+
+	/**
+	 * @return the canonical schema with the same content as this one
+	 */
+	public ScanDataPointSchema intern() {
+		if (isInterned) return this;
+		synchronized (interned) {
+			final ScanDataPointSchema existing = interned.putIfAbsent(this, this);
+			if (existing != null) return existing;
+		}
+		isInterned = true;
+		return this;
+	}
+
+	private Object readResolve() {
+		return intern();
+	}
+
+	public List<String> getScannableHeader() {
+		return scannableHeader;
+	}
+
+	public List<String> getDetectorHeader() {
+		return detectorHeader;
+	}
+
+	/**
+	 * @return copies of the formats of the scannable positions, as the schema is shared between points
+	 */
+	public List<String[]> getScannableFormats() {
+		return copyOfFormats(scannableFormats);
+	}
+
+	/**
+	 * @param index index of the scannable
+	 * @return a copy of the formats of the scannable's position, or null if it has none
+	 */
+	public String[] getScannableFormat(int index) {
+		return copyOfFormat(scannableFormats.get(index));
+	}
+
+	/**
+	 * @return copies of the formats of the detector data, as the schema is shared between points
+	 */
+	public List<String[]> getDetectorFormats() {
+		return copyOfFormats(detectorFormats);
+	}
+
+	private static List<String[]> copyOfFormats(List<String[]> formats) {
+		return formats.stream().map(ScanDataPointSchema::copyOfFormat).toList();
+	}
+
+	/**
+	 * @return the number of values in a point, i.e. the size of the scannable and detector headers
+	 */
+	public int getNumberOfFields() {
+		return scannableHeader.size() + detectorHeader.size();
+	}
+
+	private int computeHashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + scannableHeader.hashCode();
+		result = prime * result + detectorHeader.hashCode();
+		result = prime * result + Arrays.deepHashCode(scannableFormats.toArray());
+		result = prime * result + Arrays.deepHashCode(detectorFormats.toArray());
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		final ScanDataPointSchema other = (ScanDataPointSchema) obj;
+		return hashCode == other.hashCode
+				&& scannableHeader.equals(other.scannableHeader)
+				&& detectorHeader.equals(other.detectorHeader)
+				&& Arrays.deepEquals(scannableFormats.toArray(), other.scannableFormats.toArray())
+				&& Arrays.deepEquals(detectorFormats.toArray(), other.detectorFormats.toArray());
+	}
+
+	@Override
+	public String toString() {
+		return "ScanDataPointSchema [scannableHeader=" + scannableHeader + ", detectorHeader=" + detectorHeader + "]";
+	}
+}
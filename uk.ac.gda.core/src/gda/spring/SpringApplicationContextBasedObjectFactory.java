@@ -94,4 +94,10 @@ public class SpringApplicationContextBasedObjectFactory extends FactoryBase {
 		return true;
 	}
 
+	@Override
+	public boolean isImmutable() {
+		// All the findables are found when this is created and more cannot be added
+		return true;
+	}
+
 }
@@ -22,6 +22,7 @@ import gda.device.detector.mythen.data.MythenDataFileUtils.FileType;
 import gda.util.TestUtils;
 
 import java.io.File;
+import java.util.Arrays;
 
 import org.springframework.util.StopWatch;
 
@@ -32,6 +33,9 @@ public class DataLoadAlgorithmExperiment {
 	
 	private static final String TEST_FILE = "Si_15keV_5.dat";
 	
+	/** Number of copies of the test file loaded together, to simulate loading all the files from a scan */
+	private static final int NUM_FILES_IN_SET = 50;
+	
 	abstract static class Algorithm {
 		
 		String name;
@@ -89,12 +93,32 @@ public class DataLoadAlgorithmExperiment {
 			}
 		};
 		
+		Algorithm loadByMappingFile = new Algorithm(
+			"loadByMappingFile") {
+			@Override
+			public void run() throws Exception {
+				MythenDataFileUtils.loadByMappingFile(filename, FileType.PROCESSED);
+			}
+		};
+		
+		final String[] filenames = new String[NUM_FILES_IN_SET];
+		Arrays.fill(filenames, filename);
+		Algorithm loadFileSetUsingCurrentAlgorithm = new Algorithm(
+			"loadFileSetUsingCurrentAlgorithm") {
+			@Override
+			public void run() throws Exception {
+				MythenDataFileUtils.readMythenProcessedDataFiles(filenames);
+			}
+		};
+		
 		Algorithm[] algorithms = new Algorithm[] {
 			loadUsingCurrentAlgorithm,
 			loadByUsingSplit,
 			loadByUsingStreamTokenizer,
 			loadByReadingFileContentAndUsingSplit,
-			loadByReadingFileContentAndUsingStreamTokenizer
+			loadByReadingFileContentAndUsingStreamTokenizer,
+			loadByMappingFile,
+			loadFileSetUsingCurrentAlgorithm
 		};
 		
 		for (Algorithm a : algorithms) {
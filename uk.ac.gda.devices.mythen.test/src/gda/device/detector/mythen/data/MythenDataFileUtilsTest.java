@@ -21,8 +21,13 @@ package gda.device.detector.mythen.data;
 import static gda.device.detector.mythen.data.MythenDataFileUtils.getDataSubset;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
+import gda.device.detector.mythen.data.MythenDataFileUtils.FileType;
+
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -83,6 +88,64 @@ public class MythenDataFileUtilsTest {
 		}
 	}
 	
+	@Test
+	public void testMappedFileIsLoadedTheSameAsWithStreamTokenizer() throws Exception {
+		File file = new File("testfiles/gda/device/detector/mythen/data/Si_15keV_5.dat");
+		double[][] expected = MythenDataFileUtils.loadByUsingStreamTokenizer(file.getAbsolutePath(), FileType.PROCESSED);
+		double[][] data = MythenDataFileUtils.loadByMappingFile(file.getAbsolutePath(), FileType.PROCESSED);
+		assertTrue("Data loaded from mapped file is different", Arrays.deepEquals(expected, data));
+	}
+	
+	@Test
+	public void testGetDataFromBufferParsesAllNumberFormats() throws Exception {
+		String contents = "# comment line\n" +
+			"1.5e2 -3 0.001\n" +
+			"+7.25E-3 12345678901234567890.5 0.1 # trailing comment\n" +
+			"1e300 -0.0 4.9e-324\r\n";
+		double[][] data = MythenDataFileUtils.getDataFromBuffer(ByteBuffer.wrap(contents.getBytes(StandardCharsets.US_ASCII)), FileType.PROCESSED);
+		
+		assertEquals(3, data.length);
+		assertArrayEquals(new double[] {150, -3, 0.001}, data[0], 0);
+		assertArrayEquals(new double[] {0.00725, 12345678901234567890.5, 0.1}, data[1], 0);
+		assertArrayEquals(new double[] {1e300, -0.0, 4.9e-324}, data[2], 0);
+	}
+	
+	@Test
+	public void testGetDataFromBufferWithChannels() throws Exception {
+		String contents = "10.083837 2415 49 0\n10.087837 2410 49 1\n";
+		double[][] data = MythenDataFileUtils.getDataFromBuffer(ByteBuffer.wrap(contents.getBytes(StandardCharsets.US_ASCII)), FileType.PROCESSED_WITH_CHANNELS);
+		
+		assertEquals(2, data.length);
+		assertArrayEquals(new double[] {10.087837, 2410, 49, 1}, data[1], 0);
+	}
+	
+	@Test(expected = IOException.class)
+	public void testGetDataFromBufferWithIncompleteLine() throws Exception {
+		String contents = "10.083837 2415 49\n10.087837 2410\n";
+		MythenDataFileUtils.getDataFromBuffer(ByteBuffer.wrap(contents.getBytes(StandardCharsets.US_ASCII)), FileType.PROCESSED);
+	}
+	
+	@Test
+	public void testBinMythenDataFlat() {
+		double[][][] input = {
+			{{1.05, 10}, {1.15, 20}, {1.19, 30}, {1.45, 5}},
+			{{1.01, 40}, {1.35, 50}},
+		};
+		BinnedMythenData binned = MythenDataFileUtils.binMythenDataFlat(input, 0.1);
+		
+		assertEquals(2, binned.getNumDatasets());
+		assertEquals(5, binned.getNumBins());
+		assertEquals(1.0, binned.binStartAngles()[0], 1e-9);
+		assertEquals(10, binned.getCount(0, 0), 0);
+		assertEquals(30, binned.getCount(0, 1), 0);
+		assertEquals(0, binned.getCount(0, 2), 0);
+		assertEquals(5, binned.getCount(0, 4), 0);
+		assertEquals(40, binned.getCount(1, 0), 0);
+		assertEquals(50, binned.getCount(1, 3), 0);
+		
+		assertTrue(Arrays.deepEquals(binned.toArray(), MythenDataFileUtils.binMythenData(input, 0.1)));
+	}
+	
 	@Test
 	public void testGetDataSubset() {
 		double[][] singleDataset = {
@@ -0,0 +1,59 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.device.detector.mythen.data;
+
+/**
+ * Mythen datasets binned by angle, as produced by {@link MythenDataFileUtils#binMythenDataFlat(double[][][], double)}.
+ * All the datasets have the same bins, and their counts are held in a single array, one dataset after another.
+ *
+ * @param binStartAngles
+ *            the start angle of each bin
+ * @param counts
+ *            the maximum count in each bin of each dataset, with the count for bin {@code b} of dataset {@code d} at
+ *            index {@code d * binStartAngles.length + b}
+ */
+public record BinnedMythenData(double[] binStartAngles, double[] counts) {
+
+	public int getNumBins() {
+		return binStartAngles.length;
+	}
+
+	public int getNumDatasets() {
+		return binStartAngles.length == 0 ? 0 : counts.length / binStartAngles.length;
+	}
+
+	public double getCount(int dataset, int bin) {
+		return counts[dataset * binStartAngles.length + bin];
+	}
+
+	/**
+	 * @return array of datasets; each dataset is an array of (bin start angle, count) arrays
+	 */
+	public double[][][] toArray() {
+		final int numBins = getNumBins();
+		final double[][][] data = new double[getNumDatasets()][numBins][];
+		for (int dataset = 0; dataset < data.length; dataset++) {
+			for (int bin = 0; bin < numBins; bin++) {
+				data[dataset][bin] = new double[] { binStartAngles[bin], getCount(dataset, bin) };
+			}
+		}
+		return data;
+	}
+
+}
@@ -26,11 +26,20 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StreamTokenizer;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Vector;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -45,6 +54,19 @@ public class MythenDataFileUtils {
 	@SuppressWarnings("unused")
 	private static final Logger logger = LoggerFactory.getLogger(MythenDataFileUtils.class);
 
+	/**
+	 * Work-stealing pool for loading files, shared by all callers. The number of threads is bounded as loading many
+	 * files is limited by the file system rather than the number of processors.
+	 */
+	private static final ForkJoinPool FILE_LOADING_POOL = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), 8));
+
+	/** Powers of ten which can be represented exactly as doubles */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+			1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/** Largest integer below which all integers can be represented exactly as doubles */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
 	/**
 	 * Reads the specified Mythen processed data files.
 	 *
@@ -53,35 +75,23 @@ public class MythenDataFileUtils {
 	 * @return 3D double array of data
 	 */
 	public static double[][][] readMythenProcessedDataFiles(String filenames[]) {
-		// 3D array of data; will be filled in by tasks (one task per file to be loaded)
+		// 3D array of data; will be filled in from the results of the tasks (one task per file to be loaded)
 		final double[][][] data = new double[filenames.length][][];
 
-		// thread pool for loading files
-		// 4 threads seems to give good results
-		ExecutorService executor = Executors.newFixedThreadPool(4);
-
-		// create and execute a task for each file to be loaded
-		for (int i = 0; i < filenames.length; i++) {
-			final int index = i;
-			final String filename = filenames[i];
-			Runnable r = new Runnable() {
-				@Override
-				public void run() {
-					data[index] = readMythenProcessedDataFile(filename, false);
-				}
-
-			};
-			executor.execute(r);
-		}
-
-		// wait until executor has shut down
-		executor.shutdown();
+		final List<Callable<double[][]>> tasks = Arrays.stream(filenames)
+				.<Callable<double[][]>>map(filename -> () -> readMythenProcessedDataFile(filename, false))
+				.toList();
 		try {
-			boolean terminated = executor.awaitTermination(1, TimeUnit.MINUTES);
-			if (!terminated) {
-				throw new Exception("Timed out waiting for files to load");
+			final List<Future<double[][]>> results = FILE_LOADING_POOL.invokeAll(tasks, 1, TimeUnit.MINUTES);
+			for (int i = 0; i < data.length; i++) {
+				data[i] = results.get(i).get();
 			}
-		} catch (Exception e) {
+		} catch (CancellationException e) {
+			throw new RuntimeException("Unable to load data", new Exception("Timed out waiting for files to load", e));
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Unable to load data", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw new RuntimeException("Unable to load data", e);
 		}
 
@@ -97,7 +107,7 @@ public class MythenDataFileUtils {
 	 */
 	public static double[][] readMythenRawDataFile(String filename) {
 		try {
-			return loadByUsingStreamTokenizer(filename, FileType.RAW);
+			return loadByMappingFile(filename, FileType.RAW);
 		} catch (IOException e) {
 			throw new RuntimeException("Unable to load Mythen raw data file", e);
 		}
@@ -113,16 +123,160 @@ public class MythenDataFileUtils {
 	public static double[][] readMythenProcessedDataFile(String filename, boolean hasChannelInfo) {
 		try {
 			if(!hasChannelInfo)
-				return loadByUsingStreamTokenizer(filename, FileType.PROCESSED);
+				return loadByMappingFile(filename, FileType.PROCESSED);
 			else
-				return loadByUsingStreamTokenizer(filename, FileType.PROCESSED_WITH_CHANNELS);
+				return loadByMappingFile(filename, FileType.PROCESSED_WITH_CHANNELS);
 		} catch (IOException e) {
 			throw new RuntimeException("Unable to load Mythen processed data file", e);
 		}
 	}
 
 	public enum FileType {
-		RAW, PROCESSED, PROCESSED_WITH_CHANNELS
+		RAW(2), PROCESSED(3), PROCESSED_WITH_CHANNELS(4);
+
+		private final int columns;
+
+		private FileType(int columns) {
+			this.columns = columns;
+		}
+
+		/**
+		 * @return the number of values on each line of a file of this type
+		 */
+		public int getColumns() {
+			return columns;
+		}
+	}
+
+	/**
+	 * Loads a file by mapping it into memory and parsing the numbers directly from the mapped bytes.
+	 */
+	protected static double[][] loadByMappingFile(String filename, FileType type) throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			return getDataFromBuffer(channel.map(MapMode.READ_ONLY, 0, channel.size()), type);
+		}
+	}
+
+	/**
+	 * Parses whitespace separated numbers from the given buffer, with lines starting with {@code #} treated as
+	 * comments. The numbers are parsed without creating any objects, other than the arrays returned.
+	 */
+	protected static double[][] getDataFromBuffer(ByteBuffer buffer, FileType type) throws IOException {
+		final int columns = type.getColumns();
+		// Each value takes at least two bytes including the separator
+		double[] values = new double[Math.min(buffer.remaining() / 2, 64 * 1024) + columns];
+		int count = 0;
+		while (skipToNumber(buffer)) {
+			if (count == values.length) {
+				values = Arrays.copyOf(values, count * 2);
+			}
+			values[count++] = parseDouble(buffer);
+		}
+		if (count % columns != 0) {
+			throw new IOException(String.format("Expected %d values on each line but found %d values in total", columns, count));
+		}
+		final double[][] data = new double[count / columns][];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = Arrays.copyOfRange(values, i * columns, (i + 1) * columns);
+		}
+		return data;
+	}
+
+	/**
+	 * Moves the position of the buffer past any whitespace and comments
+	 *
+	 * @return true if there is a number at the position of the buffer, false if the end of the buffer was reached
+	 */
+	private static boolean skipToNumber(ByteBuffer buffer) {
+		while (buffer.hasRemaining()) {
+			final byte b = buffer.get(buffer.position());
+			if (b == '#') {
+				while (buffer.hasRemaining() && buffer.get() != '\n') {
+					// Skip to end of comment
+				}
+			} else if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+				buffer.get();
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Parses a decimal number, with optional sign and exponent, at the position of the buffer and moves the position
+	 * past it. Numbers which can be converted exactly (up to 15 significant digits and with small exponents) are
+	 * converted directly; others are passed to {@link Double#parseDouble(String)}.
+	 */
+	private static double parseDouble(ByteBuffer buffer) throws IOException {
+		final int start = buffer.position();
+		boolean negative = false;
+		byte b = buffer.get(start);
+		if (b == '-' || b == '+') {
+			negative = b == '-';
+			buffer.get();
+		}
+		long mantissa = 0;
+		int exponent = 0;
+		int digits = 0;
+		boolean exact = true;
+		boolean fraction = false;
+		boolean anyDigits = false;
+		while (buffer.hasRemaining()) {
+			b = buffer.get(buffer.position());
+			if (b >= '0' && b <= '9') {
+				anyDigits = true;
+				if (digits < 18) {
+					mantissa = mantissa * 10 + (b - '0');
+					if (mantissa != 0) {
+						digits++;
+					}
+					if (fraction) {
+						exponent--;
+					}
+				} else {
+					if (b != '0') {
+						exact = false;
+					}
+					if (!fraction) {
+						exponent++;
+					}
+				}
+			} else if (b == '.' && !fraction) {
+				fraction = true;
+			} else {
+				break;
+			}
+			buffer.get();
+		}
+		if (!anyDigits) {
+			throw new IOException(String.format("Invalid number at byte %d", start));
+		}
+		if (buffer.hasRemaining() && (buffer.get(buffer.position()) == 'e' || buffer.get(buffer.position()) == 'E')) {
+			buffer.get();
+			boolean negativeExponent = false;
+			if (buffer.hasRemaining() && (buffer.get(buffer.position()) == '-' || buffer.get(buffer.position()) == '+')) {
+				negativeExponent = buffer.get() == '-';
+			}
+			int exponentValue = 0;
+			while (buffer.hasRemaining() && buffer.get(buffer.position()) >= '0' && buffer.get(buffer.position()) <= '9') {
+				exponentValue = Math.min(exponentValue * 10 + (buffer.get() - '0'), 10000);
+			}
+			exponent += negativeExponent ? -exponentValue : exponentValue;
+		}
+
+		if (exact && mantissa <= MAX_EXACT_MANTISSA && Math.abs(exponent) < POWERS_OF_TEN.length) {
+			final double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+			return negative ? -value : value;
+		}
+		// Rare case where the value may need rounding
+		final byte[] bytes = new byte[buffer.position() - start];
+		buffer.get(start, bytes);
+		try {
+			return Double.parseDouble(new String(bytes, StandardCharsets.US_ASCII));
+		} catch (NumberFormatException e) {
+			throw new IOException(String.format("Invalid number at byte %d", start), e);
+		}
 	}
 
 	protected static double[][] loadByUsingSplit(String filename) throws IOException {
@@ -211,7 +365,30 @@ public class MythenDataFileUtils {
 		return FileCopyUtils.copyToString(br);
 	}
 
+	/**
+	 * Bins Mythen data by angle, keeping the maximum count in each bin.
+	 *
+	 * @param input
+	 *            array of datasets; each dataset is an array of (angle, count, ...) arrays
+	 * @param binSize
+	 *            the width of each bin in degrees
+	 * @return array of datasets; each dataset is an array of (bin start angle, count) arrays
+	 * @see #binMythenDataFlat(double[][][], double)
+	 */
 	public static double[][][] binMythenData(double[][][] input, double binSize) {
+		return binMythenDataFlat(input, binSize).toArray();
+	}
+
+	/**
+	 * Bins Mythen data by angle, keeping the maximum count in each bin, into flat arrays of angles and counts.
+	 *
+	 * @param input
+	 *            array of datasets; each dataset is an array of (angle, count, ...) arrays
+	 * @param binSize
+	 *            the width of each bin in degrees
+	 * @return the binned data
+	 */
+	public static BinnedMythenData binMythenDataFlat(double[][][] input, double binSize) {
 
 		// Find min/max angle
 		double minAngle = Double.POSITIVE_INFINITY;
@@ -230,41 +407,23 @@ public class MythenDataFileUtils {
 
 		final int numDatasets = input.length;
 
-		// Create binned data array
-		double[][][] binnedData = new double[numDatasets][][];
-
-		// Create array for each dataset
-		for (int dataset = 0; dataset < numDatasets; dataset++) {
-			binnedData[dataset] = new double[numBins][];
-		}
-
-		// Within each dataset, create array for each bin
-		// Iterate through bins first, then datasets, for efficiency (only calculate a bin's start angle once)
+		// Start angle of each bin
+		final double[] binStartAngles = new double[numBins];
 		for (int bin = 0; bin < numBins; bin++) {
-			final double binStartAngle = (bin + minBinNum) * binSize;
-			for (int dataset = 0; dataset < numDatasets; dataset++) {
-				binnedData[dataset][bin] = new double[] { binStartAngle, 0 };
-			}
+			binStartAngles[bin] = (bin + minBinNum) * binSize;
 		}
 
-		// Bin data
+		// Bin data, into a single array holding each dataset's bins in turn
+		final double[] counts = new double[numDatasets * numBins];
 		for (int dataset = 0; dataset < numDatasets; dataset++) {
-			// logger.debug(String.format("Dataset %d of %d", dataset+1, numDatasets));
-			final double[][] inputDataset = input[dataset];
-			for (double[] channel : inputDataset) {
-				final double angle = channel[0];
-				final int binNumForAngle = (int) Math.floor(angle / binSize);
-				final int binIndexForAngle = binNumForAngle - minBinNum;
-				final double[] binForAngle = binnedData[dataset][binIndexForAngle];
-
-				final double count = channel[1];
-				// logger.debug(String.format("%.16f ÷ %.1f = %.16f => %d/%d\tcount=%.0f", angle, binSize,
-				// (angle/binSize), binNumForAngle, binIndexForAngle, count));
-				binForAngle[1] = Math.max(binForAngle[1], count);
+			final int offset = dataset * numBins - minBinNum;
+			for (double[] channel : input[dataset]) {
+				final int binIndexForAngle = offset + (int) Math.floor(channel[0] / binSize);
+				counts[binIndexForAngle] = Math.max(counts[binIndexForAngle], channel[1]);
 			}
 		}
 
-		return binnedData;
+		return new BinnedMythenData(binStartAngles, counts);
 	}
 
 	/**
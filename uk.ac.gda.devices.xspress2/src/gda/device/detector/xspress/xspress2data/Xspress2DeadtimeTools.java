@@ -87,14 +87,33 @@ public class Xspress2DeadtimeTools {
 	 * @return dtc factors ( >=1 )
 	 */
 	public double[] calculateDeadtimeCorrectionFactors(double[] totalEvents, double[] tfgResetCounts, double[] time, DetectorDeadTimeElement dtcParams, double deadtimeEnergy) {
-		Double processDeadTimeAllEvent = calculateDetectorProcessDeadTimeAllEvent(dtcParams, deadtimeEnergy);
-		Double processDeadTimeInWindowEvent = calculateDetectorProcessDeadTimeInWindowEvent(dtcParams, deadtimeEnergy);
 		double[] factors = new double[totalEvents.length];
-		for(int i=0; i<factors.length; i++) {
-			Double factor = dtc((long)totalEvents[i], (long)tfgResetCounts[i], (long)time[i], processDeadTimeAllEvent,processDeadTimeInWindowEvent);
+		calculateDeadtimeCorrectionFactors(totalEvents, tfgResetCounts, time, 0, 1, dtcParams, deadtimeEnergy, factors);
+		return factors;
+	}
+
+	/**
+	 * Calculate DTC factor values for one detector element from arrays holding the scaler values of several
+	 * elements frame by frame (i.e. the data of a dataset with shape [num frames, num elements]). The factors
+	 * are written to the same positions of the factors array, so the factors for all elements can be calculated
+	 * without copying the values of each element into separate arrays.
+	 *
+	 * @param totalEvents
+	 * @param tfgResetCounts
+	 * @param time
+	 * @param element index of the detector element
+	 * @param numElements number of detector elements in each frame
+	 * @param dtcParams
+	 * @param deadtimeEnergy
+	 * @param factors array to write the dtc factors ( >=1 ) into
+	 */
+	public void calculateDeadtimeCorrectionFactors(double[] totalEvents, double[] tfgResetCounts, double[] time, int element, int numElements, DetectorDeadTimeElement dtcParams, double deadtimeEnergy, double[] factors) {
+		double processDeadTimeAllEvent = calculateDetectorProcessDeadTimeAllEvent(dtcParams, deadtimeEnergy);
+		double processDeadTimeInWindowEvent = calculateDetectorProcessDeadTimeInWindowEvent(dtcParams, deadtimeEnergy);
+		for(int i=element; i<factors.length; i+=numElements) {
+			double factor = dtc((long)totalEvents[i], (long)tfgResetCounts[i], (long)time[i], processDeadTimeAllEvent,processDeadTimeInWindowEvent);
 			factors[i] = sanitiseDTCFactor(factor);
 		}
-		return factors;
 	}
 
 	private double calculateDetectorProcessDeadTimeAllEvent(DetectorDeadTimeElement detectorDte, Double deadtimeEnergy) {
@@ -109,8 +128,8 @@ public class Xspress2DeadtimeTools {
 	 * @param dtcFactor
 	 * @return
 	 */
-	private double sanitiseDTCFactor(Double dtcFactor) {
-		if (dtcFactor.isNaN() || dtcFactor.isInfinite()) {
+	private double sanitiseDTCFactor(double dtcFactor) {
+		if (Double.isNaN(dtcFactor) || Double.isInfinite(dtcFactor)) {
 			return 1.0;
 		}
 		return dtcFactor;
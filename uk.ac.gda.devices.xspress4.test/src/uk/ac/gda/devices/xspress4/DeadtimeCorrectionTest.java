@@ -20,6 +20,7 @@ package uk.ac.gda.devices.xspress4;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assume.assumeThat;
 
@@ -128,6 +129,42 @@ public class DeadtimeCorrectionTest extends TestBase {
 		}
 	}
 
+	@Test
+	public void testDtcFactorsForSeveralChannels() throws DeviceException {
+		int numChannels = 3;
+		XspressDeadTimeParameters dtParams = new XspressDeadTimeParameters();
+		for(int i=0; i<numChannels; i++) {
+			dtParams.addDetectorDeadTimeElement(getDeadtimeParameters());
+		}
+
+		// Each channel has the same scaler values, scaled by a different amount
+		long[][] scalerVals = getScalerValues();
+		int numFrames = scalerVals.length;
+		List<Dataset> scalerList = new ArrayList<>();
+		for(int scaler : new int[] {2, 1, 0, 0}) {
+			Dataset scalerData = DatasetFactory.zeros(DoubleDataset.class, numFrames, numChannels);
+			for(int frame=0; frame<numFrames; frame++) {
+				for(int channel=0; channel<numChannels; channel++) {
+					scalerData.set(scaler == 2 ? scalerVals[frame][scaler] : scalerVals[frame][scaler] * (channel + 1) / numChannels, frame, channel);
+				}
+			}
+			scalerList.add(scalerData);
+		}
+
+		XspressDataProvider dataProvider = new XspressDataProvider();
+		Dataset dtcValues = dataProvider.calculateDtcFactors(scalerList, dtParams, 10.0);
+		assertArrayEquals(new int[] {numFrames, numChannels}, dtcValues.getShape());
+
+		Xspress2DeadtimeTools dtcCalculationTools = new Xspress2DeadtimeTools();
+		for(int channel=0; channel<numChannels; channel++) {
+			for(int frame=0; frame<numFrames; frame++) {
+				double expected = dtcCalculationTools.calculateDeadtimeCorrectionFactor(scalerList.get(3).getLong(frame, channel),
+						scalerList.get(1).getLong(frame, channel), scalerList.get(0).getLong(frame, channel), dtParams.getDetectorDT(channel), 10.0);
+				assertEquals("DTC factor for channel "+channel+" frame "+frame+" is not correct", expected, dtcValues.getDouble(frame, channel), 1e-12);
+			}
+		}
+	}
+
 	@Test
 	public void testDtcFromNexus() throws NexusException, DatasetException, DeviceException {
 
@@ -29,8 +29,6 @@ import org.eclipse.january.dataset.Dataset;
 import org.eclipse.january.dataset.DatasetFactory;
 import org.eclipse.january.dataset.DatasetUtils;
 import org.eclipse.january.dataset.DoubleDataset;
-import org.eclipse.january.dataset.IDataset;
-import org.eclipse.january.dataset.SliceND;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +44,7 @@ public class XspressDataProvider {
 
 	private Xspress4Controller xspressController;
 	private SwmrFileReader fileReader;
+	private XspressFrameCursor frameCursor;
 
 	private String pathToAttributeDataGroup = "/entry/instrument/NDAttributes/";
 	private String scalerDataNameFormat = "Chan%02dSca%d";
@@ -61,14 +60,17 @@ public class XspressDataProvider {
 
 	public void setTwoDHdfData(boolean dataIsTwoD) {
 		this.twoDHdfData = dataIsTwoD;
+		frameCursor = null;
 	}
 
 	public void setFileReader(SwmrFileReader fileReader) {
 		this.fileReader = fileReader;
+		frameCursor = null;
 	}
 
 	public void setXspressController(Xspress4Controller xspressController) {
 		this.xspressController = xspressController;
+		frameCursor = null;
 	}
 
 	public void openFile(String filename) throws ScanFileHolderException {
@@ -80,6 +82,9 @@ public class XspressDataProvider {
 		if (!fileReader.isFileOpen()) {
 			logger.debug("Opening detector hdf file {} for reading...", filename);
 			fileReader.openFile(filename);
+			if (frameCursor != null) {
+				frameCursor.reset();
+			}
 		}
 	}
 
@@ -90,6 +95,30 @@ public class XspressDataProvider {
 		}
 	}
 
+	/**
+	 * @return cursor used to read blocks of frames from the SWMR file, created from the current dataset name formats
+	 * the first time it is needed.
+	 */
+	public XspressFrameCursor getFrameCursor() {
+		if (frameCursor == null) {
+			int numScalers = xspressController.getNumScalers();
+			int numElements = xspressController.getNumElements();
+			int numPaths = twoDHdfData ? 1 : numElements;
+			String[][] scalerPaths = new String[numScalers][numPaths];
+			for (int j = 0; j < numScalers; j++) {
+				for (int i = 0; i < numPaths; i++) {
+					scalerPaths[j][i] = twoDHdfData ? getScalerDataPath(j) : getScalerDataPath(i, j);
+				}
+			}
+			String[] dtcFactorPaths = new String[numPaths];
+			for (int i = 0; i < numPaths; i++) {
+				dtcFactorPaths[i] = getDtcFactorDataPath(i);
+			}
+			frameCursor = new XspressFrameCursor(fileReader, numElements, twoDHdfData, scalerPaths, dtcFactorPaths);
+		}
+		return frameCursor;
+	}
+
 	/**
 	 * @return Number of frames available to read in the Swmr hdf file
 	 * @see {@link SwmrFileReader#getNumAvailableFrames()}
@@ -112,6 +141,7 @@ public class XspressDataProvider {
 		if (!useSwmrReading) {
 			logger.debug("Not using Swmr - clearing file reader");
 			fileReader = null;
+			frameCursor = null;
 			return;
 		}
 
@@ -134,6 +164,7 @@ public class XspressDataProvider {
 
 		logger.debug("Creating new Swmr file reader");
 		fileReader = new SwmrFileReader();
+		frameCursor = null;
 
 		logger.debug("Datasets to be read : ");
 		datasetNames.forEach(n -> {
@@ -180,40 +211,8 @@ public class XspressDataProvider {
 	 * @throws NexusException
 	 */
 	private List<Dataset> getScalerDataFromSwmr(int lowFrame, int highFrame) throws NexusException {
-		int[] start = new int[] { lowFrame };
-		int[] shape = new int[] { highFrame - lowFrame + 1 };
-		int[] step = new int[] { 1 };
-
-		int numFrames = shape[0];
 		logger.info("Getting scaler values from SWMR file for frames {} to {}", lowFrame, highFrame);
-
-		int numScalers = xspressController.getNumScalers();
-		int numChannels = xspressController.getNumElements();
-
-		// Read shape of the first dataset and see if scaler data is stored in 2d blocks
-		int[] dataShape = fileReader.getCurrentShape(pathToAttributeDataGroup+datasetNames.get(0));
-		boolean dataIsTwoD = dataShape.length == 2;
-
-		logger.debug("Reading data two dimension scaler datasets : {}", dataIsTwoD);
-
-		List<Dataset> allDatasets = new ArrayList<>();
-		for(int j=0; j<numScalers; j++) {
-			Dataset dataForChannel;
-			if (dataIsTwoD) {
-				dataForChannel = fileReader.readDataset(getScalerDataPath(j), new int[] {lowFrame, 0}, new int[] {numFrames, numChannels}, new int[] {1,1});
-			} else {
-				dataForChannel = DatasetFactory.zeros(numFrames, numChannels);
-				// Read scaler type across all channels into 2d dataset
-				for(int i=0; i<xspressController.getNumElements(); i++) {
-					String scalerDataPath = getScalerDataPath(i, j);
-					Dataset scalerData = fileReader.readDataset(scalerDataPath, start, shape, step);
-					scalerData.setShape(numFrames, 1);
-					dataForChannel.setSlice(scalerData, new int[] {0, i}, new int[] {numFrames, i+1}, null);
-				}
-			}
-			allDatasets.add(dataForChannel);
-		}
-		return allDatasets;
+		return getFrameCursor().readScalerData(lowFrame, highFrame);
 	}
 
 	/**
@@ -238,13 +237,14 @@ public class XspressDataProvider {
 		// Re-organise the data : to the expected format (list of datasets, shape = [numFrames, numChannels])
 		for (int i = 0; i < xspressController.getNumScalers(); i++) {
 			// Each dataset has one type of scalar value for all detector channels
-			Dataset scalerData = DatasetFactory.zeros(numFrames, numChannels);
+			DoubleDataset scalerData = DatasetFactory.zeros(DoubleDataset.class, numFrames, numChannels);
+			double[] values = scalerData.getData();
 
 			// loop over detector channels and frame and set the dataset values
 			for(int chan=0; chan<numChannels; chan++) {
-				double[][] scalerValues = scalerValuesForChannel.get(chan);
-				for(int frame=0; frame<numFrames; frame++) {
-					scalerData.set(scalerValues[i][frame], frame, chan);
+				double[] scalerValues = scalerValuesForChannel.get(chan)[i];
+				for(int frame=0, index=chan; frame<numFrames; frame++, index+=numChannels) {
+					values[index] = scalerValues[frame];
 				}
 			}
 			datasets.add(scalerData);
@@ -316,26 +316,7 @@ public class XspressDataProvider {
 	 */
 	private Dataset getDtcDataFromSwmr(int lowFrame, int highFrame) throws NexusException{
 		logger.info("Getting DTC factor values from SWMR file for frames {} to {}", lowFrame, highFrame);
-		int numFrames = highFrame - lowFrame + 1;
-		if (twoDHdfData) {
-			return fileReader.readDataset(getDtcFactorDataPath(0), new int[] {lowFrame, 0}, new int[] {numFrames, xspressController.getNumElements()}, new int[] {1,1});
-		} else {
-			int[] start = {lowFrame};
-			int[] shape = {numFrames};
-			int[] step = {1};
-			Dataset dataForChannel = DatasetFactory.zeros(numFrames, xspressController.getNumElements());
-			for(int i=0; i<xspressController.getNumElements(); i++) {
-				String dataPath = getDtcFactorDataPath(i);
-				Dataset scalerData = fileReader.readDataset(dataPath, start, shape, step);
-				if (scalerData == null) {
-					logger.warn("DTC data {} is not present in Hdf file- replacing with 1s", dataPath);
-					scalerData = DatasetFactory.ones(numFrames, 1);
-				}
-				scalerData.setShape(numFrames, 1);
-				dataForChannel.setSlice(scalerData, new int[] {0, i}, new int[] {numFrames, i+1}, null);
-			}
-			return dataForChannel;
-		}
+		return getFrameCursor().readDtcFactorData(lowFrame, highFrame);
 	}
 
 	/**
@@ -367,35 +348,35 @@ public class XspressDataProvider {
 		}
 
 		int numFrames = scalerData.get(0).getShape()[0];
-		Dataset dtcData = DatasetFactory.zeros(numFrames, numChannels);
+		DoubleDataset dtcData = DatasetFactory.zeros(DoubleDataset.class, numFrames, numChannels);
 
 		Xspress2DeadtimeTools deadtimeTools = new Xspress2DeadtimeTools();
 
+		// Get the data arrays for all channels from datasets, and calculate the values for each channel in place
+		double[] tfgCycles = getData(scalerData.get(0));
+		double[] tfgResets = getData(scalerData.get(1));
+		double[] totalCounts = getData(scalerData.get(3));
+		double[] dtcValues = dtcData.getData();
 		for(int channel = 0; channel<numChannels; channel++) {
 			DetectorDeadTimeElement dtcParams = deadTimeParameters.getDetectorDT(channel);
-			// Get the data arrays from datasets
-			SliceND slice = new SliceND(scalerData.get(0).getShape(), new int[] {0, channel}, new int[] {numFrames, channel+1}, new int[] {1,1});
-			double[] tfgCycles = getDataset(scalerData.get(0), slice).getData();
-			double[] tfgResets = getDataset(scalerData.get(1), slice).getData();
-			double[] totalCounts = getDataset(scalerData.get(3), slice).getData();
-
-			double[] dtcValues = deadtimeTools.calculateDeadtimeCorrectionFactors(totalCounts, tfgResets, tfgCycles, dtcParams, dtcEnergyKev);
-			Dataset dtcValuesDataset = DatasetFactory.createFromObject(DoubleDataset.class, dtcValues, dtcValues.length, 1);
-
-			dtcData.setSlice(dtcValuesDataset, new int[] {0, channel}, new int[] {numFrames, channel+1}, new int[] {1,1});
+			deadtimeTools.calculateDeadtimeCorrectionFactors(totalCounts, tfgResets, tfgCycles, channel, numChannels, dtcParams, dtcEnergyKev, dtcValues);
 		}
 
 		return dtcData;
 	}
 
 	/**
-	 * Take slice from dataset and convert to DoubleDataset
+	 * Convert dataset to DoubleDataset and return its values, in row-major order
 	 * @param dataset
-	 * @param slice
-	 * @return
+	 * @return array of values
 	 */
-	private DoubleDataset getDataset(IDataset dataset, SliceND slice) {
-		return DatasetUtils.cast(DoubleDataset.class, dataset.getSlice(slice));
+	private double[] getData(Dataset dataset) {
+		DoubleDataset doubleDataset = DatasetUtils.cast(DoubleDataset.class, dataset);
+		if (doubleDataset.getStrides() != null || doubleDataset.getOffset() != 0) {
+			// view of another dataset - copy to get array of just the values in the view
+			doubleDataset = (DoubleDataset) doubleDataset.getSlice();
+		}
+		return doubleDataset.getData();
 	}
 
 	/**
@@ -444,6 +425,7 @@ public class XspressDataProvider {
 	 */
 	public void setPathToAttributeDataGroup(String pathToAttributeDataGroup) {
 		this.pathToAttributeDataGroup = pathToAttributeDataGroup;
+		frameCursor = null;
 	}
 
 	public String getPathToAttributeDataGroup() {
@@ -456,6 +438,7 @@ public class XspressDataProvider {
 	 */
 	public void setScalerDataNameFormat(String scalerDataNameFormat) {
 		this.scalerDataNameFormat = scalerDataNameFormat;
+		frameCursor = null;
 	}
 
 	public String getScalerDataNameFormat() {
@@ -468,6 +451,7 @@ public class XspressDataProvider {
 	 */
 	public void setDtcFactorDataNameFormat(String dtcFactorDataNameFormat) {
 		this.dtcFactorDataNameFormat = dtcFactorDataNameFormat;
+		frameCursor = null;
 	}
 
 	public String getDtcFactorDataNameFormat() {
@@ -0,0 +1,173 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+package uk.ac.gda.devices.detector.xspress4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dawnsci.nexus.NexusException;
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.DoubleDataset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gda.data.swmr.SwmrFileReader;
+
+/**
+ * Reads successive blocks of frames of scaler and DTC factor data for all detector elements from an Xspress SWMR hdf
+ * file.
+ * <p>
+ * The paths to the datasets are resolved once, when the cursor is created. Data stored in 2-dimensional datasets
+ * (shape = [numFrames, numElements]) is read for all the detector elements in a single hyperslab. Otherwise the dataset
+ * of each element is read and its values are copied straight into the primitive array backing the returned
+ * [numFrames, numElements] dataset.
+ * <p>
+ * The cursor keeps track of the next frame to be read; {@link #reset()} should be called when a new file is opened.
+ */
+public class XspressFrameCursor {
+
+	private static final Logger logger = LoggerFactory.getLogger(XspressFrameCursor.class);
+
+	private final SwmrFileReader fileReader;
+	private final int numElements;
+	private final boolean twoDData;
+
+	/** Path to the 2-dimensional dataset of each scaler, or to the dataset of each scaler for each element ([scaler][element]) */
+	private final String[][] scalerPaths;
+	/** Path to the 2-dimensional dataset of DTC factors, or to the dataset of each element */
+	private final String[] dtcFactorPaths;
+
+	private int nextFrame;
+
+	/**
+	 * @param fileReader
+	 *            reader for the detector hdf file
+	 * @param numElements
+	 *            number of detector elements
+	 * @param twoDData
+	 *            true if the data is stored in 2-dimensional datasets, 1 dataset per scaler (shape = [numFrames, numElements])
+	 * @param scalerPaths
+	 *            for each scaler, the path to its 2-dimensional dataset or the path to its dataset for each detector element
+	 * @param dtcFactorPaths
+	 *            path to the 2-dimensional DTC factor dataset, or to the DTC factor dataset of each detector element
+	 */
+	public XspressFrameCursor(SwmrFileReader fileReader, int numElements, boolean twoDData, String[][] scalerPaths, String[] dtcFactorPaths) {
+		this.fileReader = fileReader;
+		this.numElements = numElements;
+		this.twoDData = twoDData;
+		this.scalerPaths = scalerPaths;
+		this.dtcFactorPaths = dtcFactorPaths;
+	}
+
+	/**
+	 * Move the cursor back to the first frame, e.g. when a new file has been opened.
+	 */
+	public void reset() {
+		nextFrame = 0;
+	}
+
+	/**
+	 * @return index of the frame after the last frame of scaler data read
+	 */
+	public int getNextFrame() {
+		return nextFrame;
+	}
+
+	/**
+	 * Read scaler data for a range of frames for all detector elements.
+	 *
+	 * @param lowFrame
+	 * @param highFrame
+	 * @return List of datasets (1 per scaler), Shape [numFrames, numElements]
+	 * @throws NexusException
+	 */
+	public List<Dataset> readScalerData(int lowFrame, int highFrame) throws NexusException {
+		if (lowFrame != nextFrame) {
+			logger.debug("Reading scaler data from frame {} (next frame is {})", lowFrame, nextFrame);
+		}
+		int numFrames = highFrame - lowFrame + 1;
+		List<Dataset> allDatasets = new ArrayList<>(scalerPaths.length);
+		for (String[] paths : scalerPaths) {
+			if (twoDData) {
+				allDatasets.add(readTwoDData(paths[0], lowFrame, numFrames));
+			} else {
+				allDatasets.add(readElementData(paths, lowFrame, numFrames, false));
+			}
+		}
+		nextFrame = highFrame + 1;
+		return allDatasets;
+	}
+
+	/**
+	 * Read deadtime correction factors for a range of frames for all detector elements. <p>
+	 * These might not be present in old versions of IOC, in which case a warning is logged and the values are
+	 * substituted with 1s.
+	 *
+	 * @param lowFrame
+	 * @param highFrame
+	 * @return dataset. Shape = [numFrames, numElements]
+	 * @throws NexusException
+	 */
+	public Dataset readDtcFactorData(int lowFrame, int highFrame) throws NexusException {
+		int numFrames = highFrame - lowFrame + 1;
+		if (twoDData) {
+			return readTwoDData(dtcFactorPaths[0], lowFrame, numFrames);
+		}
+		return readElementData(dtcFactorPaths, lowFrame, numFrames, true);
+	}
+
+	private Dataset readTwoDData(String path, int lowFrame, int numFrames) throws NexusException {
+		return fileReader.readDataset(path, new int[] {lowFrame, 0}, new int[] {numFrames, numElements}, new int[] {1, 1});
+	}
+
+	/**
+	 * Read the 1-dimensional dataset of each detector element and interleave the values into a single
+	 * [numFrames, numElements] dataset.
+	 *
+	 * @param paths path to the dataset for each element
+	 * @param lowFrame
+	 * @param numFrames
+	 * @param substituteOnes if true, values for missing datasets are replaced with 1s
+	 * @return dataset. Shape = [numFrames, numElements]
+	 * @throws NexusException if a dataset is missing and substituteOnes is false
+	 */
+	private Dataset readElementData(String[] paths, int lowFrame, int numFrames, boolean substituteOnes) throws NexusException {
+		int[] start = {lowFrame};
+		int[] shape = {numFrames};
+		int[] step = {1};
+		DoubleDataset block = DatasetFactory.zeros(DoubleDataset.class, numFrames, numElements);
+		double[] values = block.getData();
+		for (int element = 0; element < numElements; element++) {
+			Dataset elementData = fileReader.readDataset(paths[element], start, shape, step);
+			if (elementData != null) {
+				for (int frame = 0, index = element; frame < numFrames; frame++, index += numElements) {
+					values[index] = elementData.getElementDoubleAbs(frame);
+				}
+			} else if (substituteOnes) {
+				logger.warn("DTC data {} is not present in Hdf file- replacing with 1s", paths[element]);
+				for (int index = element; index < values.length; index += numElements) {
+					values[index] = 1.0;
+				}
+			} else {
+				throw new NexusException("Data " + paths[element] + " is not present in Hdf file");
+			}
+		}
+		return block;
+	}
+}
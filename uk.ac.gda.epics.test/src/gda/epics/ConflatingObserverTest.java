@@ -0,0 +1,112 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.epics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import gda.observable.Observer;
+
+public class ConflatingObserverTest {
+
+	private ScheduledExecutorService executor;
+
+	private final List<Integer> delivered = new CopyOnWriteArrayList<>();
+
+	@Before
+	public void setUp() {
+		executor = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private void waitForValue(int value) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 5000;
+		while (!delivered.contains(value) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertTrue("Value " + value + " was not delivered", delivered.contains(value));
+	}
+
+	@Test
+	public void testUpdatesAreConflatedToMaximumRate() throws Exception {
+		final ConflatingObserver<Integer> observer = new ConflatingObserver<>((source, value) -> delivered.add(value), 5, executor);
+		for (int i = 0; i < 1000; i++) {
+			observer.update(null, i);
+		}
+		waitForValue(999);
+		// the first update is delivered immediately and everything else is conflated into the next delivery
+		assertTrue("Too many updates delivered: " + delivered, delivered.size() <= 3);
+		assertEquals(999, (int) delivered.get(delivered.size() - 1));
+	}
+
+	@Test
+	public void testUpdatesAreDeliveredInOrder() throws Exception {
+		final ConflatingObserver<Integer> observer = new ConflatingObserver<>((source, value) -> delivered.add(value), 0, executor);
+		for (int i = 0; i < 1000; i++) {
+			observer.update(null, i);
+		}
+		waitForValue(999);
+		for (int i = 1; i < delivered.size(); i++) {
+			assertTrue(delivered.get(i) > delivered.get(i - 1));
+		}
+	}
+
+	@Test
+	public void testUpdatesAreNotDeliveredOnCallingThread() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final Thread[] deliveryThread = new Thread[1];
+		final Observer<Integer> delegate = (source, value) -> {
+			deliveryThread[0] = Thread.currentThread();
+			latch.countDown();
+		};
+		new ConflatingObserver<>(delegate, 0, executor).update(null, 1);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertNotEquals(Thread.currentThread(), deliveryThread[0]);
+	}
+
+	@Test
+	public void testDeliveryContinuesAfterException() throws Exception {
+		final ConflatingObserver<Integer> observer = new ConflatingObserver<>((source, value) -> {
+			delivered.add(value);
+			if (value == 1) {
+				throw new IllegalStateException("Observer failed");
+			}
+		}, 0, executor);
+		observer.update(null, 1);
+		waitForValue(1);
+		observer.update(null, 2);
+		waitForValue(2);
+	}
+}
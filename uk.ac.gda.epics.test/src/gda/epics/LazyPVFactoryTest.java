@@ -21,6 +21,7 @@ package gda.epics;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -247,6 +248,22 @@ public class LazyPVFactoryTest {
 		verify(mockEpicsController, times(1)).createChannel(MOCK_PV_NAME);
 	}
 
+	@Test
+	public void testGetPrimitiveArray() throws Exception {
+		PV<int[]> primitiveArray = LazyPVFactory.newPrimitiveIntegerArrayPV(MOCK_PV_NAME);
+		final int[] values = new int[] { 1, 2, 3, 4, 5 };
+		when(mockIntDBR.getIntValue()).thenReturn(values);
+		assertSame(values, primitiveArray.get()); // not copied or boxed
+		verify(mockEpicsController, times(1)).createChannel(MOCK_PV_NAME);
+	}
+
+	@Test
+	public void testPutPrimitiveArray() throws Exception {
+		NoCallbackPV<int[]> primitiveArray = LazyPVFactory.newPrimitiveIntegerArrayPV(MOCK_PV_NAME);
+		primitiveArray.putNoWait(new int[] { 1, 2, 3, 4, 5 });
+		verify(mockEpicsController).caput(mockChannel, new int[] { 1, 2, 3, 4, 5 });
+	}
+
 	@Test
 	public void testPut() throws Exception {
 		pv.putNoWait(1);
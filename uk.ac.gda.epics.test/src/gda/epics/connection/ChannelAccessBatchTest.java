@@ -0,0 +1,171 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.epics.connection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import gov.aps.jca.CAStatus;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.Context;
+import gov.aps.jca.TimeoutException;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.event.GetEvent;
+import gov.aps.jca.event.GetListener;
+import gov.aps.jca.event.PutEvent;
+import gov.aps.jca.event.PutListener;
+
+public class ChannelAccessBatchTest {
+
+	private Context context;
+	private EpicsController controller;
+
+	/** Replies to be sent by the stand-in IOC when the context is flushed */
+	private final List<Runnable> replies = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		context = mock(Context.class);
+		doAnswer(inv -> {
+			replies.forEach(Runnable::run);
+			replies.clear();
+			return null;
+		}).when(context).flushIO();
+		controller = new EpicsController(context);
+	}
+
+	private Channel createChannel(String name, double value, CAStatus status) throws Exception {
+		final Channel channel = mock(Channel.class);
+		when(channel.getName()).thenReturn(name);
+		when(channel.getConnectionState()).thenReturn(Channel.CONNECTED);
+		when(channel.getElementCount()).thenReturn(1);
+		doAnswer(inv -> {
+			final GetListener listener = inv.getArgument(2);
+			replies.add(() -> listener.getCompleted(new GetEvent(channel, new DBR_Double(new double[] { value }), status)));
+			return null;
+		}).when(channel).get(eq(DBRType.DOUBLE), eq(1), any(GetListener.class));
+		doAnswer(inv -> {
+			final PutListener listener = inv.getArgument(1);
+			replies.add(() -> listener.putCompleted(new PutEvent(channel, DBRType.DOUBLE, 1, status)));
+			return null;
+		}).when(channel).put(anyDouble(), any(PutListener.class));
+		return channel;
+	}
+
+	@Test
+	public void testGetsAreSentWithSingleFlush() throws Exception {
+		final Channel x = createChannel("x", 1.5, CAStatus.NORMAL);
+		final Channel y = createChannel("y", 2.5, CAStatus.NORMAL);
+		final Channel z = createChannel("z", 3.5, CAStatus.NORMAL);
+
+		final ChannelAccessBatch batch = controller.createBatch();
+		final CompletableFuture<Double> xValue = batch.getDouble(x);
+		final CompletableFuture<Double> yValue = batch.getDouble(y);
+		final CompletableFuture<Double> zValue = batch.getDouble(z);
+		assertEquals(3, batch.size());
+		verify(context, never()).flushIO();
+		assertFalse(xValue.isDone());
+
+		batch.flushAndWait();
+
+		verify(context, times(1)).flushIO();
+		assertEquals(1.5, xValue.get(), 0);
+		assertEquals(2.5, yValue.get(), 0);
+		assertEquals(3.5, zValue.get(), 0);
+		assertEquals(0, batch.size());
+	}
+
+	@Test
+	public void testCagetDoubles() throws Exception {
+		final Channel[] channels = new Channel[40];
+		final double[] expected = new double[channels.length];
+		for (int i = 0; i < channels.length; i++) {
+			channels[i] = createChannel("pv" + i, i, CAStatus.NORMAL);
+			expected[i] = i;
+		}
+		assertArrayEquals(expected, controller.cagetDoubles(channels), 0);
+		verify(context, times(1)).flushIO();
+	}
+
+	@Test
+	public void testPutsCompleteOnCallback() throws Exception {
+		final Channel x = createChannel("x", 0, CAStatus.NORMAL);
+		final Channel y = createChannel("y", 0, CAStatus.NORMAL);
+		final ChannelAccessBatch batch = controller.createBatch();
+		final CompletableFuture<Void> xPut = batch.put(x, 1.0);
+		final CompletableFuture<Void> yPut = batch.put(y, 2.0);
+
+		batch.flushAndWait();
+
+		verify(x).put(eq(1.0), any(PutListener.class));
+		verify(y).put(eq(2.0), any(PutListener.class));
+		verify(context, times(1)).flushIO();
+		assertTrue(xPut.isDone() && yPut.isDone());
+	}
+
+	@Test(expected = CAStatusException.class)
+	public void testFailedGetThrows() throws Exception {
+		final ChannelAccessBatch batch = controller.createBatch();
+		batch.getDouble(createChannel("x", 1, CAStatus.NORMAL));
+		batch.getDouble(createChannel("y", 2, CAStatus.GETFAIL));
+		batch.flushAndWait();
+	}
+
+	@Test(expected = TimeoutException.class)
+	public void testMissingReplyTimesOut() throws Exception {
+		final ChannelAccessBatch batch = controller.createBatch();
+		batch.getDouble(createChannel("x", 1, CAStatus.NORMAL));
+		batch.getDouble(createChannel("y", 2, CAStatus.NORMAL));
+		replies.remove(1);
+		batch.flushAndWait(0.1);
+	}
+
+	@Test
+	public void testBatchCanBeReused() throws Exception {
+		final Channel x = createChannel("x", 1, CAStatus.NORMAL);
+		final ChannelAccessBatch batch = controller.createBatch();
+		batch.getDouble(x);
+		batch.flushAndWait();
+		final CompletableFuture<Double> second = batch.getDouble(x);
+		final CompletableFuture<Void> all = batch.flush();
+		assertTrue(all.isDone());
+		assertEquals(1, second.get(), 0);
+		verify(context, times(2)).flushIO();
+	}
+}
@@ -0,0 +1,72 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.epics.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import gov.aps.jca.dbr.DBR_Double;
+import gov.aps.jca.dbr.DBR_Int;
+import gov.aps.jca.dbr.DBR_Short;
+import gov.aps.jca.dbr.DBR_String;
+
+public class DBRArraysTest {
+
+	@Test
+	public void testCopyDoublesIntoReusedBuffer() {
+		final double[] buffer = new double[4];
+		assertEquals(3, DBRArrays.copyInto(new DBR_Double(new double[] { 1.5, 2.5, 3.5 }), buffer));
+		assertArrayEquals(new double[] { 1.5, 2.5, 3.5, 0 }, buffer, 0);
+		assertEquals(2, DBRArrays.copyInto(new DBR_Double(new double[] { 4.5, 5.5 }), buffer));
+		assertArrayEquals(new double[] { 4.5, 5.5, 3.5, 0 }, buffer, 0);
+	}
+
+	@Test
+	public void testCopyIntsIntoShorterBuffer() {
+		final double[] doubles = new double[2];
+		assertEquals(2, DBRArrays.copyInto(new DBR_Int(new int[] { 1, 2, 3 }), doubles));
+		assertArrayEquals(new double[] { 1, 2 }, doubles, 0);
+
+		final int[] ints = new int[2];
+		assertEquals(2, DBRArrays.copyInto(new DBR_Short(new short[] { 7, 8, 9 }), ints));
+		assertArrayEquals(new int[] { 7, 8 }, ints);
+	}
+
+	@Test
+	public void testCopyIntoByteBuffer() {
+		final ByteBuffer buffer = ByteBuffer.allocate(3 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		assertEquals(2, DBRArrays.copyInto(new DBR_Int(new int[] { 1, 2 }), buffer));
+		assertEquals(2 * Integer.BYTES, buffer.position());
+		assertEquals(1, DBRArrays.copyInto(new DBR_Int(new int[] { 3, 4 }), buffer));
+		buffer.flip();
+		assertEquals(1, buffer.getInt());
+		assertEquals(2, buffer.getInt());
+		assertEquals(3, buffer.getInt());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStringsCannotBeCopied() {
+		DBRArrays.copyInto(new DBR_String(new String[] { "a" }), new double[1]);
+	}
+}
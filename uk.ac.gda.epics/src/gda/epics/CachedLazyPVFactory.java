@@ -23,6 +23,8 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import gda.observable.Observer;
+
 public class CachedLazyPVFactory {
 
 	protected Map<String, PV<Double>> pvDoubles;
@@ -156,6 +158,40 @@ public class CachedLazyPVFactory {
 		return pv;
 	}
 
+	/**
+	 * Observe a double PV without receiving every monitor update. Only the latest value is delivered, at no more than
+	 * the given rate, and not on the Channel Access thread.
+	 *
+	 * @param suffix
+	 *            suffix of the PV name
+	 * @param observer
+	 *            observer of the PV's value
+	 * @param maxRateHz
+	 *            maximum number of updates per second to deliver to the observer, or 0 for no limit
+	 * @return the observer added to the PV, to be passed to {@link #removeDoubleObserver(String, Observer)}
+	 * @see ConflatingObserver
+	 */
+	public Observer<Double> addDoubleObserver(String suffix, Observer<Double> observer, double maxRateHz) throws Exception {
+		return ConflatingObserver.observe(getPVDouble(suffix), observer, maxRateHz);
+	}
+
+	public void removeDoubleObserver(String suffix, Observer<Double> observer) {
+		getPVDouble(suffix).removeObserver(observer);
+	}
+
+	/**
+	 * Observe an integer PV without receiving every monitor update.
+	 *
+	 * @see #addDoubleObserver(String, Observer, double)
+	 */
+	public Observer<Integer> addIntegerObserver(String suffix, Observer<Integer> observer, double maxRateHz) throws Exception {
+		return ConflatingObserver.observe(getPVInteger(suffix), observer, maxRateHz);
+	}
+
+	public void removeIntegerObserver(String suffix, Observer<Integer> observer) {
+		getPVInteger(suffix).removeObserver(observer);
+	}
+
 	public PV<String> getPVString(String suffix) {
 		if (pvStrings == null)
 			pvStrings = new HashMap<String, PV<String>>();
@@ -0,0 +1,154 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.epics;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gda.configuration.properties.LocalProperties;
+import gda.observable.Observable;
+import gda.observable.Observer;
+import uk.ac.diamond.daq.concurrent.ExecutorFactory;
+
+/**
+ * An {@link Observer} which passes only the latest value on to another observer, at no more than a given rate, on a
+ * small dedicated thread pool rather than the thread that produced the update.
+ * <p>
+ * Monitors of high rate PVs (encoders, ion chambers etc) are called on the Channel Access context threads for every
+ * update. Observers that only need the latest value (e.g. to update a GUI) can be wrapped in one of these so that the
+ * CA threads only have to store the value, and updates which arrive faster than the delegate wants them are dropped.
+ * <p>
+ * Updates are always delivered to the delegate one at a time and in order. The last update is always delivered.
+ *
+ * <pre>
+ * ConflatingObserver.observe(pv, (source, value) -&gt; plot(value), 10); // at most 10 updates per second
+ * </pre>
+ *
+ * @param <T>
+ *            the type of value observed
+ */
+public class ConflatingObserver<T> implements Observer<T> {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConflatingObserver.class);
+
+	/** Number of threads used to deliver updates from all conflating observers */
+	public static final String DISPATCH_THREADS_PROPERTY = "gda.epics.monitor.dispatch.threads";
+
+	private static final class Holder {
+		static final ScheduledExecutorService DISPATCHER = ExecutorFactory
+				.scheduled(LocalProperties.getInt(DISPATCH_THREADS_PROPERTY, 2), "PvMonitorDispatch");
+	}
+
+	/** Observable and value of an update waiting to be delivered */
+	private record Update<T>(Observable<T> source, T value) {}
+
+	private final Observer<T> delegate;
+
+	private final long minIntervalNanos;
+
+	private final ScheduledExecutorService executor;
+
+	/** The latest update not yet delivered, if any */
+	private final AtomicReference<Update<T>> latest = new AtomicReference<>();
+
+	/** Whether a delivery has been scheduled or is in progress */
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	private volatile long lastDeliveryNanos;
+
+	/**
+	 * @param delegate
+	 *            the observer to pass updates to
+	 * @param maxRateHz
+	 *            maximum number of updates per second to pass to the delegate, or 0 for no limit
+	 */
+	public ConflatingObserver(Observer<T> delegate, double maxRateHz) {
+		this(delegate, maxRateHz, Holder.DISPATCHER);
+	}
+
+	ConflatingObserver(Observer<T> delegate, double maxRateHz, ScheduledExecutorService executor) {
+		if (maxRateHz < 0) {
+			throw new IllegalArgumentException("Maximum rate must not be negative: " + maxRateHz);
+		}
+		this.delegate = delegate;
+		this.minIntervalNanos = maxRateHz == 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / maxRateHz);
+		this.executor = executor;
+		this.lastDeliveryNanos = System.nanoTime() - minIntervalNanos;
+	}
+
+	/**
+	 * Adds a conflating observer to the given observable
+	 *
+	 * @return the observer added, which must be used to remove it from the observable
+	 * @throws Exception
+	 *             if the observer cannot be added, e.g. if a monitor cannot be created
+	 */
+	public static <T> ConflatingObserver<T> observe(Observable<T> observable, Observer<T> delegate, double maxRateHz) throws Exception {
+		final ConflatingObserver<T> observer = new ConflatingObserver<>(delegate, maxRateHz);
+		observable.addObserver(observer);
+		return observer;
+	}
+
+	@Override
+	public void update(Observable<T> source, T arg) {
+		latest.set(new Update<>(source, arg));
+		scheduleDelivery();
+	}
+
+	private void scheduleDelivery() {
+		if (scheduled.compareAndSet(false, true)) {
+			final long delay = Math.max(0, lastDeliveryNanos + minIntervalNanos - System.nanoTime());
+			executor.schedule(this::deliver, delay, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void deliver() {
+		final Update<T> update = latest.getAndSet(null);
+		if (update != null) {
+			lastDeliveryNanos = System.nanoTime();
+			try {
+				delegate.update(update.source(), update.value());
+			} catch (Exception e) {
+				logger.error("Error delivering update {} to {}", update.value(), delegate, e);
+			}
+		}
+		scheduled.set(false);
+		// an update may have arrived while delivering, which could not schedule its own delivery
+		if (latest.get() != null) {
+			scheduleDelivery();
+		}
+	}
+
+	/**
+	 * @return the observer updates are passed to
+	 */
+	public Observer<T> getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public String toString() {
+		return "ConflatingObserver [delegate=" + delegate + ", minIntervalMs=" + TimeUnit.NANOSECONDS.toMillis(minIntervalNanos) + "]";
+	}
+}
@@ -162,6 +162,34 @@ public class LazyPVFactory {
 		return new LazyPV<>(epicsController, pvName, Short[].class);
 	}
 
+	/**
+	 * Create a new PV for an EPICS array whose values are returned as a primitive array without boxing each element.
+	 * The array returned by {@link PV#get()} is the one decoded by CA and is not shared with any other caller. To
+	 * decode monitored values into reusable buffers, see {@link gda.epics.util.DBRArrays}.
+	 *
+	 * @param pvName
+	 * @return the double[] PV
+	 */
+	public static PV<double[]> newPrimitiveDoubleArrayPV(String pvName) {
+		return new LazyPV<>(epicsController, pvName, double[].class);
+	}
+
+	public static PV<float[]> newPrimitiveFloatArrayPV(String pvName) {
+		return new LazyPV<>(epicsController, pvName, float[].class);
+	}
+
+	public static PV<int[]> newPrimitiveIntegerArrayPV(String pvName) {
+		return new LazyPV<>(epicsController, pvName, int[].class);
+	}
+
+	public static PV<short[]> newPrimitiveShortArrayPV(String pvName) {
+		return new LazyPV<>(epicsController, pvName, short[].class);
+	}
+
+	public static PV<byte[]> newPrimitiveByteArrayPV(String pvName) {
+		return new LazyPV<>(epicsController, pvName, byte[].class);
+	}
+
 	public static PV<Boolean> newBooleanFromDoublePV(String pvName) {
 		return new BooleanFromDouble(new LazyPV<>(epicsController, pvName, Double.class));
 	}
@@ -316,6 +344,26 @@ public class LazyPVFactory {
 		return new ReadOnly<>(newShortArrayPV(pvName));
 	}
 
+	public static ReadOnlyPV<double[]> newReadOnlyPrimitiveDoubleArrayPV(String pvName) {
+		return new ReadOnly<>(newPrimitiveDoubleArrayPV(pvName));
+	}
+
+	public static ReadOnlyPV<float[]> newReadOnlyPrimitiveFloatArrayPV(String pvName) {
+		return new ReadOnly<>(newPrimitiveFloatArrayPV(pvName));
+	}
+
+	public static ReadOnlyPV<int[]> newReadOnlyPrimitiveIntegerArrayPV(String pvName) {
+		return new ReadOnly<>(newPrimitiveIntegerArrayPV(pvName));
+	}
+
+	public static ReadOnlyPV<short[]> newReadOnlyPrimitiveShortArrayPV(String pvName) {
+		return new ReadOnly<>(newPrimitiveShortArrayPV(pvName));
+	}
+
+	public static ReadOnlyPV<byte[]> newReadOnlyPrimitiveByteArrayPV(String pvName) {
+		return new ReadOnly<>(newPrimitiveByteArrayPV(pvName));
+	}
+
 	public static ReadOnlyPV<Boolean> newReadOnlyBooleanFromIntegerPV(String pvName) {
 		return new ReadOnly<>(newBooleanFromIntegerPV(pvName));
 	}
@@ -354,6 +402,17 @@ public class LazyPVFactory {
 			javaTypeToDBRType.put(Byte.class, DBRType.BYTE);
 
 			javaTypeToDBRType.put(String.class, DBRType.STRING);
+
+			// component types of primitive arrays
+			javaTypeToDBRType.put(double.class, DBRType.DOUBLE);
+
+			javaTypeToDBRType.put(float.class, DBRType.FLOAT);
+
+			javaTypeToDBRType.put(int.class, DBRType.INT);
+
+			javaTypeToDBRType.put(short.class, DBRType.SHORT);
+
+			javaTypeToDBRType.put(byte.class, DBRType.BYTE);
 		}
 
 		private final EpicsController controller;
@@ -555,6 +614,27 @@ public class LazyPVFactory {
 				return (T) ((STRING) dbr).getStringValue();
 			}
 
+			// Primitive arrays are returned as decoded without copying
+			if (javaType == double[].class) {
+				return (T) ((DOUBLE) dbr).getDoubleValue();
+			}
+
+			if (javaType == float[].class) {
+				return (T) ((FLOAT) dbr).getFloatValue();
+			}
+
+			if (javaType == int[].class) {
+				return (T) ((INT) dbr).getIntValue();
+			}
+
+			if (javaType == short[].class) {
+				return (T) ((SHORT) dbr).getShortValue();
+			}
+
+			if (javaType == byte[].class) {
+				return (T) ((BYTE) dbr).getByteValue();
+			}
+
 			throw new IllegalStateException(UNEXPECTED_TYPE_CONFIGURED);
 
 		}
@@ -680,6 +760,16 @@ public class LazyPVFactory {
 					controller.caput(getChannel(), toPrimitive((Short[]) value));
 				} else if (javaType == String[].class) {
 					throw new IllegalStateException("String[] not supported");
+				} else if (javaType == double[].class) {
+					controller.caput(getChannel(), (double[]) value);
+				} else if (javaType == float[].class) {
+					controller.caput(getChannel(), (float[]) value);
+				} else if (javaType == int[].class) {
+					controller.caput(getChannel(), (int[]) value);
+				} else if (javaType == short[].class) {
+					controller.caput(getChannel(), (short[]) value);
+				} else if (javaType == byte[].class) {
+					controller.caput(getChannel(), (byte[]) value);
 				} else if (javaType == Byte.class) {
 					controller.caput(getChannel(), (Byte) value);
 				} else if (javaType == Double.class) {
@@ -728,6 +818,16 @@ public class LazyPVFactory {
 					controller.caput(getChannel(), toPrimitive((Short[]) value), pl);
 				} else if (javaType == String[].class) {
 					throw new IllegalStateException("String[] not supported");
+				} else if (javaType == double[].class) {
+					controller.caput(getChannel(), (double[]) value, pl);
+				} else if (javaType == float[].class) {
+					controller.caput(getChannel(), (float[]) value, pl);
+				} else if (javaType == int[].class) {
+					controller.caput(getChannel(), (int[]) value, pl);
+				} else if (javaType == short[].class) {
+					controller.caput(getChannel(), (short[]) value, pl);
+				} else if (javaType == byte[].class) {
+					controller.caput(getChannel(), (byte[]) value, pl);
 				} else if (javaType == Byte.class) {
 					controller.caput(getChannel(), (Byte) value, pl);
 				} else if (javaType == Double.class) {
@@ -25,7 +25,8 @@ import java.io.IOException;
 
 public class PVValueCache<T> implements Observer<T> {
 	PV<T> pv;
-	private T cache;
+	/** Updated by monitors on the CA threads */
+	private volatile T cache;
 
 	public PVValueCache(PV<T> pv) throws Exception {
 		super();
@@ -0,0 +1,297 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.epics.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.aps.jca.CAException;
+import gov.aps.jca.CAStatus;
+import gov.aps.jca.CAStatusException;
+import gov.aps.jca.Channel;
+import gov.aps.jca.Context;
+import gov.aps.jca.TimeoutException;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DBRType;
+import gov.aps.jca.dbr.DOUBLE;
+import gov.aps.jca.dbr.INT;
+import gov.aps.jca.dbr.STRING;
+import gov.aps.jca.event.GetEvent;
+import gov.aps.jca.event.GetListener;
+import gov.aps.jca.event.PutEvent;
+import gov.aps.jca.event.PutListener;
+
+/**
+ * Queues a number of Channel Access gets and puts and sends them to the IOCs together with a single
+ * {@link Context#flushIO()}, so that reading a group of PVs costs one network round trip rather than one per PV.
+ * <p>
+ * Requests are issued to their channels as they are added but are not sent until {@link #flush()} (or
+ * {@link #flushAndWait()}) is called. Each request returns a future which completes when the IOC replies, and
+ * {@link #flush()} returns a future which completes when every request in the batch has completed. Puts use
+ * put-callback, so their futures complete once the put has been processed.
+ * <p>
+ * A batch may be reused after it has been flushed; the next flush only covers requests added since the last one.
+ * Instances are not thread safe and are obtained from {@link EpicsController#createBatch()}.
+ *
+ * <pre>
+ * final ChannelAccessBatch batch = controller.createBatch();
+ * final CompletableFuture&lt;Double&gt; x = batch.getDouble(xChannel);
+ * final CompletableFuture&lt;Double&gt; y = batch.getDouble(yChannel);
+ * batch.put(demandChannel, 2.5);
+ * batch.flushAndWait();
+ * </pre>
+ */
+public class ChannelAccessBatch {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChannelAccessBatch.class);
+
+	/**
+	 * A request is its own listener so that queuing a get or put needs only one allocation
+	 */
+	private abstract static class Request<T> extends CompletableFuture<T> {
+		protected final Channel channel;
+
+		Request(Channel channel) {
+			this.channel = channel;
+		}
+
+		protected void failed(CAStatus status, String operation) {
+			completeExceptionally(new CAStatusException(status, operation + " on " + channel.getName() + " failed"));
+		}
+	}
+
+	private static class GetRequest extends Request<DBR> implements GetListener {
+		GetRequest(Channel channel) {
+			super(channel);
+		}
+
+		@Override
+		public void getCompleted(GetEvent ev) {
+			if (ev.getStatus() == CAStatus.NORMAL) {
+				complete(ev.getDBR());
+			} else {
+				failed(ev.getStatus(), "get");
+			}
+		}
+	}
+
+	private static class PutRequest extends Request<Void> implements PutListener {
+		PutRequest(Channel channel) {
+			super(channel);
+		}
+
+		@Override
+		public void putCompleted(PutEvent ev) {
+			if (ev.getStatus() == CAStatus.NORMAL) {
+				complete(null);
+			} else {
+				failed(ev.getStatus(), "put");
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface PutOperation {
+		void put(Channel channel, PutListener listener) throws CAException;
+	}
+
+	private final EpicsController controller;
+
+	private final Context context;
+
+	private final double timeoutSeconds;
+
+	private List<Request<?>> pending = new ArrayList<>();
+
+	ChannelAccessBatch(EpicsController controller, Context context, double timeoutSeconds) {
+		this.controller = controller;
+		this.context = context;
+		this.timeoutSeconds = timeoutSeconds;
+	}
+
+	/**
+	 * Queues a read of the given channel's native element count in the given DBR type
+	 *
+	 * @see EpicsController#getDBR(Channel, DBRType)
+	 */
+	public CompletableFuture<DBR> get(Channel ch, DBRType type) throws CAException, InterruptedException {
+		return get(ch, type, ch.getElementCount());
+	}
+
+	/**
+	 * Queues a read of the given channel
+	 *
+	 * @param ch
+	 *            the CA channel
+	 * @param type
+	 *            the DBR type
+	 * @param count
+	 *            the number of elements to read
+	 * @return future which completes with the value when the IOC replies, or exceptionally with a
+	 *         {@link CAStatusException} if the get fails
+	 * @throws CAException
+	 *             if the request could not be issued
+	 */
+	public CompletableFuture<DBR> get(Channel ch, DBRType type, int count) throws CAException, InterruptedException {
+		controller.checkConnection(ch);
+		final GetRequest request = new GetRequest(ch);
+		try {
+			ch.get(type, count, request);
+		} catch (IllegalStateException e) {
+			throw new CAException("Could not get from " + ch.getName(), e);
+		}
+		pending.add(request);
+		return request;
+	}
+
+	/**
+	 * @see EpicsController#cagetDouble(Channel)
+	 */
+	public CompletableFuture<Double> getDouble(Channel ch) throws CAException, InterruptedException {
+		return get(ch, DBRType.DOUBLE, 1).thenApply(dbr -> ((DOUBLE) dbr).getDoubleValue()[0]);
+	}
+
+	/**
+	 * @see EpicsController#cagetInt(Channel)
+	 */
+	public CompletableFuture<Integer> getInt(Channel ch) throws CAException, InterruptedException {
+		return get(ch, DBRType.INT, 1).thenApply(dbr -> ((INT) dbr).getIntValue()[0]);
+	}
+
+	/**
+	 * @see EpicsController#cagetString(Channel)
+	 */
+	public CompletableFuture<String> getString(Channel ch) throws CAException, InterruptedException {
+		return get(ch, DBRType.STRING, 1).thenApply(dbr -> ((STRING) dbr).getStringValue()[0]);
+	}
+
+	/**
+	 * @see EpicsController#cagetDoubleArray(Channel)
+	 */
+	public CompletableFuture<double[]> getDoubleArray(Channel ch) throws CAException, InterruptedException {
+		return get(ch, DBRType.DOUBLE).thenApply(dbr -> ((DOUBLE) dbr).getDoubleValue());
+	}
+
+	/**
+	 * Queues a write of the given value using put-callback
+	 *
+	 * @return future which completes when the put has been processed by the IOC
+	 */
+	public CompletableFuture<Void> put(Channel ch, double value) throws CAException, InterruptedException {
+		return put(ch, value, (c, l) -> c.put(value, l));
+	}
+
+	public CompletableFuture<Void> put(Channel ch, int value) throws CAException, InterruptedException {
+		return put(ch, value, (c, l) -> c.put(value, l));
+	}
+
+	public CompletableFuture<Void> put(Channel ch, String value) throws CAException, InterruptedException {
+		return put(ch, value, (c, l) -> c.put(value, l));
+	}
+
+	public CompletableFuture<Void> put(Channel ch, double[] value) throws CAException, InterruptedException {
+		return put(ch, value, (c, l) -> c.put(value, l));
+	}
+
+	public CompletableFuture<Void> put(Channel ch, int[] value) throws CAException, InterruptedException {
+		return put(ch, value, (c, l) -> c.put(value, l));
+	}
+
+	private CompletableFuture<Void> put(Channel ch, Object value, PutOperation operation) throws CAException, InterruptedException {
+		controller.checkConnection(ch);
+		final PutRequest request = new PutRequest(ch);
+		try {
+			operation.put(ch, request);
+		} catch (IllegalStateException e) {
+			throw new CAException("Could not put " + value + " to " + ch.getName(), e);
+		}
+		logger.trace("Queued put of '{}' to '{}'", value, ch.getName());
+		pending.add(request);
+		return request;
+	}
+
+	/**
+	 * @return the number of requests added since the last flush
+	 */
+	public int size() {
+		return pending.size();
+	}
+
+	/**
+	 * Sends all queued requests to the IOCs
+	 *
+	 * @return future which completes when all the requests added since the last flush have completed
+	 * @throws CAException
+	 *             if the requests could not be sent
+	 */
+	public CompletableFuture<Void> flush() throws CAException {
+		final List<Request<?>> requests = pending;
+		pending = new ArrayList<>();
+		try {
+			context.flushIO();
+		} catch (IllegalStateException e) {
+			throw new CAException("Could not flush " + requests.size() + " requests", e);
+		}
+		logger.trace("Flushed {} requests", requests.size());
+		return CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new));
+	}
+
+	/**
+	 * Sends all queued requests and waits for them to complete using the default EPICS timeout
+	 */
+	public void flushAndWait() throws CAException, TimeoutException, InterruptedException {
+		flushAndWait(timeoutSeconds);
+	}
+
+	/**
+	 * Sends all queued requests and waits for them to complete
+	 *
+	 * @param timeout
+	 *            timeout in seconds for the whole batch
+	 * @throws TimeoutException
+	 *             if any request has not completed within the timeout
+	 * @throws CAException
+	 *             if any request fails
+	 */
+	public void flushAndWait(double timeout) throws CAException, TimeoutException, InterruptedException {
+		final List<Request<?>> requests = pending;
+		try {
+			flush().get((long) (timeout * 1000), TimeUnit.MILLISECONDS);
+		} catch (java.util.concurrent.TimeoutException e) {
+			final String incomplete = requests.stream()
+					.filter(r -> !r.isDone())
+					.map(r -> r.channel.getName())
+					.collect(Collectors.joining(", "));
+			throw new TimeoutException("batch of " + requests.size() + " requests timeout " + timeout + "s waiting for " + incomplete);
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof CAException caException) {
+				throw caException;
+			}
+			throw new CAException("Batch of " + requests.size() + " requests failed", cause);
+		}
+	}
+}
@@ -21,6 +21,9 @@ package gda.epics.connection;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.nio.BufferOverflowException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
@@ -151,6 +154,13 @@ public class EpicsController implements ContextExceptionListener, ContextMessage
 		return instance;
 	}
 
+	/**
+	 * Constructor for tests which need to supply their own context
+	 */
+	EpicsController(Context context) {
+		this.context = context;
+	}
+
 	/**
 	 * Private constructor.
 	 * @param contextRequired is normally True, but False for testing, to avoid leaving a orphan process.
@@ -474,18 +484,37 @@ public class EpicsController implements ContextExceptionListener, ContextMessage
 		return value;
 	}
 
-	private void checkConnection(Channel ch) throws InterruptedException {
+	void checkConnection(Channel ch) throws InterruptedException {
 		checkConnection(ch, TIMEOUT_SECONDS);
 	}
 
+	/**
+	 * Waits for the channel to connect, if it is not already connected. The connection listener is notified by the CA
+	 * context so this does not need to poll the connection state.
+	 */
 	private void checkConnection(Channel ch, double timeoutSeconds) throws InterruptedException {
 		if (ch.getConnectionState() == Channel.CONNECTED)
 			return;
-		long startTimeMs = System.currentTimeMillis();
-		long timeoutMs = (long) (timeoutSeconds * 1000.);
-
-		while (ch.getConnectionState() != Channel.CONNECTED && (System.currentTimeMillis() - startTimeMs < timeoutMs)) {
-			Thread.sleep(10);
+		final long deadlineMs = System.currentTimeMillis() + (long) (timeoutSeconds * 1000.);
+		final ConnectionListenerImpl listener = new ConnectionListenerImpl();
+		try {
+			synchronized (listener) {
+				ch.addConnectionListener(listener);
+				long remainingMs = deadlineMs - System.currentTimeMillis();
+				while (ch.getConnectionState() != Channel.CONNECTED && remainingMs > 0) {
+					listener.wait(remainingMs);
+					remainingMs = deadlineMs - System.currentTimeMillis();
+				}
+			}
+		} catch (IllegalStateException | CAException e) {
+			logger.debug("Could not listen for connection to {}", ch.getName(), e);
+		} finally {
+			// also when interrupted while waiting, so listeners do not accumulate on the channel
+			try {
+				ch.removeConnectionListener(listener);
+			} catch (IllegalStateException | CAException e) {
+				logger.debug("Could not remove connection listener from {}", ch.getName(), e);
+			}
 		}
 		if (ch.getConnectionState() != Channel.CONNECTED) {
 			logger.error("Connection to {} request timeout {}s", ch.getName(), timeoutSeconds);
@@ -780,6 +809,38 @@ public class EpicsController implements ContextExceptionListener, ContextMessage
 		return cagetString(channel);
 	}
 
+	/**
+	 * Gets the current value of each of the specified channels as a double. All the requests are sent to the IOCs
+	 * together so this costs a single round trip rather than one per channel.
+	 *
+	 * @param channels
+	 *            the CA channels
+	 * @return the channels' values in the order of the channels
+	 * @throws TimeoutException
+	 *             if any channel does not reply within the timeout
+	 * @throws CAException
+	 * @throws InterruptedException
+	 * @see #createBatch()
+	 */
+	public double[] cagetDoubles(Channel... channels) throws TimeoutException, CAException, InterruptedException {
+		final ChannelAccessBatch batch = createBatch();
+		final List<CompletableFuture<Double>> values = new ArrayList<>(channels.length);
+		for (Channel ch : channels) {
+			values.add(batch.getDouble(ch));
+		}
+		batch.flushAndWait();
+		return values.stream().mapToDouble(CompletableFuture::join).toArray();
+	}
+
+	/**
+	 * Creates a batch to which many gets and puts can be added and then sent to the IOCs with a single flush.
+	 *
+	 * @return a new batch using this controller's context and default timeout
+	 */
+	public ChannelAccessBatch createBatch() {
+		return new ChannelAccessBatch(this, context, TIMEOUT_SECONDS);
+	}
+
 	// ******** wrapper method to handle CA exceptions *******************
 
 	/**
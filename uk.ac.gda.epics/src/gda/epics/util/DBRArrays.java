@@ -0,0 +1,188 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.epics.util;
+
+import java.nio.ByteBuffer;
+
+import gov.aps.jca.dbr.BYTE;
+import gov.aps.jca.dbr.DBR;
+import gov.aps.jca.dbr.DOUBLE;
+import gov.aps.jca.dbr.FLOAT;
+import gov.aps.jca.dbr.INT;
+import gov.aps.jca.dbr.SHORT;
+
+/**
+ * Decodes the values of numeric array {@link DBR}s into buffers supplied by the caller, so that a monitor receiving a
+ * high rate of waveform updates can reuse the same buffer for every update rather than allocating (or boxing) a new
+ * array each time.
+ * <p>
+ * Values are converted to the type of the buffer as by a Java widening or narrowing primitive conversion. If the
+ * buffer is shorter than the DBR only the first values are copied.
+ */
+public final class DBRArrays {
+
+	private DBRArrays() {
+		// static methods only
+	}
+
+	/**
+	 * Copies the values of a DOUBLE, FLOAT, INT, SHORT or BYTE DBR into the given array
+	 *
+	 * @param dbr
+	 *            the DBR, e.g. from a monitor event
+	 * @param target
+	 *            the array to decode into
+	 * @return the number of values copied
+	 * @throws IllegalArgumentException
+	 *             if the DBR is not numeric
+	 */
+	public static int copyInto(DBR dbr, double[] target) {
+		if (dbr instanceof DOUBLE d) {
+			final double[] values = d.getDoubleValue();
+			final int n = Math.min(values.length, target.length);
+			System.arraycopy(values, 0, target, 0, n);
+			return n;
+		}
+		if (dbr instanceof FLOAT f) {
+			final float[] values = f.getFloatValue();
+			final int n = Math.min(values.length, target.length);
+			for (int i = 0; i < n; i++) {
+				target[i] = values[i];
+			}
+			return n;
+		}
+		if (dbr instanceof INT in) {
+			final int[] values = in.getIntValue();
+			final int n = Math.min(values.length, target.length);
+			for (int i = 0; i < n; i++) {
+				target[i] = values[i];
+			}
+			return n;
+		}
+		if (dbr instanceof SHORT s) {
+			final short[] values = s.getShortValue();
+			final int n = Math.min(values.length, target.length);
+			for (int i = 0; i < n; i++) {
+				target[i] = values[i];
+			}
+			return n;
+		}
+		if (dbr instanceof BYTE b) {
+			final byte[] values = b.getByteValue();
+			final int n = Math.min(values.length, target.length);
+			for (int i = 0; i < n; i++) {
+				target[i] = values[i];
+			}
+			return n;
+		}
+		throw unsupported(dbr);
+	}
+
+	/**
+	 * Copies the values of an INT, SHORT or BYTE DBR into the given array
+	 *
+	 * @param dbr
+	 *            the DBR, e.g. from a monitor event
+	 * @param target
+	 *            the array to decode into
+	 * @return the number of values copied
+	 * @throws IllegalArgumentException
+	 *             if the DBR is not an integer type
+	 */
+	public static int copyInto(DBR dbr, int[] target) {
+		if (dbr instanceof INT in) {
+			final int[] values = in.getIntValue();
+			final int n = Math.min(values.length, target.length);
+			System.arraycopy(values, 0, target, 0, n);
+			return n;
+		}
+		if (dbr instanceof SHORT s) {
+			final short[] values = s.getShortValue();
+			final int n = Math.min(values.length, target.length);
+			for (int i = 0; i < n; i++) {
+				target[i] = values[i];
+			}
+			return n;
+		}
+		if (dbr instanceof BYTE b) {
+			final byte[] values = b.getByteValue();
+			final int n = Math.min(values.length, target.length);
+			for (int i = 0; i < n; i++) {
+				target[i] = values[i];
+			}
+			return n;
+		}
+		throw unsupported(dbr);
+	}
+
+	/**
+	 * Writes the values of a DOUBLE, FLOAT, INT, SHORT or BYTE DBR into the given buffer at its current position, each
+	 * value taking the width of its EPICS type (e.g. 8 bytes for DOUBLE) in the byte order of the buffer. The position
+	 * of the buffer is advanced past the values written.
+	 *
+	 * @param dbr
+	 *            the DBR, e.g. from a monitor event
+	 * @param target
+	 *            the buffer to write into
+	 * @return the number of values written, limited by the space remaining in the buffer
+	 * @throws IllegalArgumentException
+	 *             if the DBR is not numeric
+	 */
+	public static int copyInto(DBR dbr, ByteBuffer target) {
+		if (dbr instanceof DOUBLE d) {
+			final double[] values = d.getDoubleValue();
+			final int n = Math.min(values.length, target.remaining() / Double.BYTES);
+			target.asDoubleBuffer().put(values, 0, n);
+			target.position(target.position() + n * Double.BYTES);
+			return n;
+		}
+		if (dbr instanceof FLOAT f) {
+			final float[] values = f.getFloatValue();
+			final int n = Math.min(values.length, target.remaining() / Float.BYTES);
+			target.asFloatBuffer().put(values, 0, n);
+			target.position(target.position() + n * Float.BYTES);
+			return n;
+		}
+		if (dbr instanceof INT in) {
+			final int[] values = in.getIntValue();
+			final int n = Math.min(values.length, target.remaining() / Integer.BYTES);
+			target.asIntBuffer().put(values, 0, n);
+			target.position(target.position() + n * Integer.BYTES);
+			return n;
+		}
+		if (dbr instanceof SHORT s) {
+			final short[] values = s.getShortValue();
+			final int n = Math.min(values.length, target.remaining() / Short.BYTES);
+			target.asShortBuffer().put(values, 0, n);
+			target.position(target.position() + n * Short.BYTES);
+			return n;
+		}
+		if (dbr instanceof BYTE b) {
+			final byte[] values = b.getByteValue();
+			final int n = Math.min(values.length, target.remaining());
+			target.put(values, 0, n);
+			return n;
+		}
+		throw unsupported(dbr);
+	}
+
+	private static IllegalArgumentException unsupported(DBR dbr) {
+		return new IllegalArgumentException("Cannot decode " + (dbr == null ? null : dbr.getType()) + " into a numeric array");
+	}
+}
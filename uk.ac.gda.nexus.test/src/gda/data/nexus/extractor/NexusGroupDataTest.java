@@ -18,9 +18,17 @@
 
 package gda.data.nexus.extractor;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.eclipse.january.dataset.Dataset;
 import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.DoubleDataset;
+import org.eclipse.january.dataset.IntegerDataset;
 import org.eclipse.january.dataset.ShapeUtils;
 import org.eclipse.january.dataset.StringDataset;
 import org.junit.Assert;
@@ -65,4 +73,52 @@ public class NexusGroupDataTest {
 		s = ngd.toDataset();
 		Assert.assertEquals(strings, s);
 	}
+
+	private static NexusGroupData createIntBufferData(ByteOrder order) {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(6 * Integer.BYTES).order(order);
+		for (int i = 0; i < 6; i++) {
+			buffer.putInt(i + 1);
+		}
+		return NexusGroupData.createFromBuffer(new int[] { 2, 3 }, IntegerDataset.class, buffer.flip());
+	}
+
+	@Test
+	public void testBufferBackedDataset() {
+		final Dataset expected = new NexusGroupData(new int[][] { { 1, 2, 3 }, { 4, 5, 6 } }).toDataset();
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			final NexusGroupData ngd = createIntBufferData(order);
+			Assert.assertTrue(ngd.isBufferBacked());
+			Assert.assertTrue(ngd.hasData());
+			Assert.assertEquals(expected, ngd.toDataset());
+			Assert.assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 6 }, (int[]) ngd.getBuffer());
+			Assert.assertEquals(1, ngd.getFirstValue());
+			Assert.assertEquals("NX_INT32", ngd.getType());
+		}
+	}
+
+	@Test
+	public void testBufferBackedAsDouble() {
+		final Dataset dataset = createIntBufferData(ByteOrder.nativeOrder()).asDouble().toDataset();
+		Assert.assertEquals(DatasetFactory.createFromObject(DoubleDataset.class, new double[] { 1, 2, 3, 4, 5, 6 }, 2, 3), dataset);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBufferMustMatchShape() {
+		NexusGroupData.createFromBuffer(new int[] { 2, 4 }, IntegerDataset.class, ByteBuffer.allocate(6 * Integer.BYTES));
+	}
+
+	@Test
+	public void testSerialiseBufferBackedData() throws Exception {
+		final NexusGroupData ngd = createIntBufferData(ByteOrder.LITTLE_ENDIAN);
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(ngd);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			final NexusGroupData copy = (NexusGroupData) in.readObject();
+			Assert.assertTrue(copy.isBufferBacked());
+			Assert.assertEquals(ngd, copy);
+			Assert.assertEquals(ngd.toDataset(), copy.toDataset());
+		}
+	}
 }
@@ -335,7 +335,7 @@ public final class NexusExtractor implements INexusDataGetter {
 	 * @throws NexusException
 	 */
 	public static NexusGroupData getNexusGroupDataWithBuffer(INexusTree node, boolean readIfNull) throws NexusException {
-		if ((node.getData() == null || node.getData().getBuffer() == null) && readIfNull) {
+		if ((node.getData() == null || !node.getData().hasData()) && readIfNull) {
 			INexusTree top = node;
 			while (top.getParentNode() != null) {
 				top = top.getParentNode();
@@ -20,10 +20,16 @@ package gda.data.nexus.extractor;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
 
 import org.eclipse.dawnsci.nexus.NXdata;
 import org.eclipse.dawnsci.nexus.NexusFile;
@@ -46,11 +52,27 @@ import org.eclipse.january.dataset.StringDataset;
 
 /**
  * Data class that is returned by first class Nexus aware detectors
+ * <p>
+ * The data is normally held in a (possibly nested) Java array. Large detector frames can instead be held in a flat
+ * {@link ByteBuffer} (see {@link #createFromBuffer(int[], Class, ByteBuffer)}), which avoids allocating nested arrays
+ * and is copied in bulk straight into the dataset written to the file.
  */
 public class NexusGroupData implements Serializable {
 
 	private Serializable data;
 
+	/**
+	 * Flat buffer holding the data instead of {@link #data}, or null. Serialised by {@link #writeObject}
+	 */
+	private transient ByteBuffer byteBuffer;
+
+	/** Dataset classes which can be held in a buffer */
+	private static final Set<Class<? extends Dataset>> BUFFER_CLASSES = Set.of(ByteDataset.class, ShortDataset.class,
+			IntegerDataset.class, LongDataset.class, FloatDataset.class, DoubleDataset.class);
+
+	/** Size of the chunks in which a buffer is serialised */
+	private static final int SERIALISATION_CHUNK_BYTES = 64 * 1024;
+
 	/**
 	 * dimensions of data
 	 */
@@ -150,6 +172,57 @@ public class NexusGroupData implements Serializable {
 		return new NexusGroupData(dataset);
 	}
 
+	/**
+	 * Creates group data backed by a flat buffer, e.g. a detector frame read into a direct buffer, rather than by a
+	 * Java array. The values are read in the byte order of the buffer, in row major order, from its position to its
+	 * limit. The buffer is not copied, so must not be changed until the data has been written.
+	 *
+	 * @param dims
+	 *            shape of the data
+	 * @param clazz
+	 *            numeric dataset class of the data, e.g. {@code IntegerDataset.class}
+	 * @param buffer
+	 *            the values
+	 * @return group data
+	 * @throws IllegalArgumentException
+	 *             if the class is not numeric or the buffer does not hold the number of values given by the shape
+	 */
+	public static NexusGroupData createFromBuffer(int[] dims, Class<? extends Dataset> clazz, ByteBuffer buffer) {
+		if (!BUFFER_CLASSES.contains(clazz)) {
+			throw new IllegalArgumentException("Buffer must hold integer or floating point values, not " + clazz);
+		}
+		final long expectedBytes = ShapeUtils.calcLongSize(dims) * InterfaceUtils.getItemBytes(1, clazz);
+		if (buffer.remaining() != expectedBytes) {
+			throw new IllegalArgumentException("Buffer holds " + buffer.remaining() + " bytes but shape "
+					+ Arrays.toString(dims) + " needs " + expectedBytes);
+		}
+		final NexusGroupData groupData = new NexusGroupData(dims, clazz, null, null);
+		groupData.byteBuffer = buffer.slice().order(buffer.order());
+		return groupData;
+	}
+
+	/**
+	 * @return true if the data is held in a flat buffer rather than an array
+	 */
+	public boolean isBufferBacked() {
+		return byteBuffer != null;
+	}
+
+	/**
+	 * @return true if the data has been extracted, i.e. if {@link #getBuffer()} would not return null. Unlike
+	 *         {@link #getBuffer()} this never copies the data
+	 */
+	public boolean hasData() {
+		return data != null || byteBuffer != null;
+	}
+
+	/**
+	 * @return a read only view of the buffer holding the data, or null if the data is held in an array
+	 */
+	public ByteBuffer getByteBuffer() {
+		return byteBuffer == null ? null : byteBuffer.asReadOnlyBuffer().order(byteBuffer.order());
+	}
+
 	/**
 	 * Set maximum length of any string when encoded as bytes
 	 * @param length
@@ -360,7 +433,8 @@ public class NexusGroupData implements Serializable {
 	}
 
 	/**
-	 * @return The data buffer compatible with type, null if data not extracted
+	 * @return The data buffer compatible with type, null if data not extracted. If the data is held in a flat
+	 *         {@link ByteBuffer} a new flat array is created with a copy of the values
 	 */
 	public Serializable getBuffer() {
 		return getBuffer(false);
@@ -371,6 +445,9 @@ public class NexusGroupData implements Serializable {
 	 * @return The data buffer compatible with type, null if data not extracted
 	 */
 	public Serializable getBuffer(boolean encode) {
+		if (byteBuffer != null) {
+			return bufferToDataset().getBuffer();
+		}
 		if (isChar()) {
 			if (!encode && data instanceof byte[]) {
 				return makeStrings((byte[]) data, textLength);
@@ -386,8 +463,9 @@ public class NexusGroupData implements Serializable {
 	 * @return Returns the value of data and sets data to null
 	 */
 	public Object releaseData() {
-		Object d = data;
+		Object d = byteBuffer != null ? byteBuffer : data;
 		data = null;
+		byteBuffer = null;
 		return d;
 	}
 
@@ -435,6 +513,9 @@ public class NexusGroupData implements Serializable {
 	 * @return XML representation of the object
 	 */
 	public String dataToTxt(boolean newlineAfterEach, boolean dataAsString, boolean wrap) {
+		if (byteBuffer != null) {
+			return asArrayBacked().dataToTxt(newlineAfterEach, dataAsString, wrap);
+		}
 		StringBuffer msg = new StringBuffer();
 		if (data != null) {
 			if (isChar()) {
@@ -563,7 +644,7 @@ public class NexusGroupData implements Serializable {
 	}
 
 	public Serializable getFirstValue() {
-		if (dimensions == null || data == null)
+		if (dimensions == null || (data == null && byteBuffer == null))
 			return null;
 
 		if (ShapeUtils.calcSize(dimensions) < 1)
@@ -571,7 +652,9 @@ public class NexusGroupData implements Serializable {
 
 		Serializable value;
 
-		if (data.getClass().isArray()) {
+		if (byteBuffer != null) {
+			value = getFirstFromBuffer();
+		} else if (data.getClass().isArray()) {
 			if (isChar()) { // reinterpret byte arrays as String
 				return getStringFromArray(data);
 			}
@@ -634,7 +717,7 @@ public class NexusGroupData implements Serializable {
 	 * @return dataset
 	 */
 	public Dataset toDataset(boolean keepBitWidth) {
-		Dataset dataset = DatasetFactory.createFromObject(clazz, getBuffer());
+		Dataset dataset = byteBuffer != null ? bufferToDataset() : DatasetFactory.createFromObject(clazz, getBuffer());
 		if (!keepBitWidth && isUnsigned) {
 			dataset = DatasetUtils.makeUnsigned(dataset);
 		}
@@ -683,6 +766,55 @@ public class NexusGroupData implements Serializable {
 		return "NX_" + type;
 	}
 
+	/**
+	 * Creates a dataset of the shape and class of this data, and copies the buffer into it in bulk
+	 */
+	private Dataset bufferToDataset() {
+		final Dataset dataset = DatasetFactory.zeros(clazz, dimensions);
+		if (dataset instanceof DoubleDataset d) {
+			byteBuffer.asDoubleBuffer().get(d.getData());
+		} else if (dataset instanceof FloatDataset f) {
+			byteBuffer.asFloatBuffer().get(f.getData());
+		} else if (dataset instanceof LongDataset l) {
+			byteBuffer.asLongBuffer().get(l.getData());
+		} else if (dataset instanceof IntegerDataset i) {
+			byteBuffer.asIntBuffer().get(i.getData());
+		} else if (dataset instanceof ShortDataset s) {
+			byteBuffer.asShortBuffer().get(s.getData());
+		} else if (dataset instanceof ByteDataset b) {
+			byteBuffer.duplicate().get(b.getData());
+		} else {
+			throw new UnsupportedOperationException("Cannot copy buffer into " + clazz);
+		}
+		return dataset;
+	}
+
+	private Serializable getFirstFromBuffer() {
+		if (DoubleDataset.class.equals(clazz)) {
+			return byteBuffer.getDouble(0);
+		} else if (FloatDataset.class.equals(clazz)) {
+			return byteBuffer.getFloat(0);
+		} else if (LongDataset.class.equals(clazz)) {
+			return byteBuffer.getLong(0);
+		} else if (IntegerDataset.class.equals(clazz)) {
+			return byteBuffer.getInt(0);
+		} else if (ShortDataset.class.equals(clazz)) {
+			return byteBuffer.getShort(0);
+		}
+		return byteBuffer.get(0);
+	}
+
+	/**
+	 * @return a copy of this data held in a flat array rather than a buffer
+	 */
+	private NexusGroupData asArrayBacked() {
+		NexusGroupData ngd = new NexusGroupData(dimensions, clazz, getBuffer(), chunkDimensions);
+		ngd.isDetectorEntryData = isDetectorEntryData;
+		ngd.isUnsigned = isUnsigned;
+		ngd.textLength = textLength;
+		return ngd;
+	}
+
 	private static Serializable getFromArray(Serializable array) {
 		Serializable a = (Serializable) Array.get(array, 0);
 		if (a == null)
@@ -710,7 +842,8 @@ public class NexusGroupData implements Serializable {
 		if (clazz == nClass)
 			return this;
 
-		NexusGroupData ngd = new NexusGroupData(dimensions, nClass, data, chunkDimensions);
+		// values in a buffer can only be read as their own type, so are converted from an array
+		NexusGroupData ngd = new NexusGroupData(dimensions, nClass, byteBuffer != null ? getBuffer() : data, chunkDimensions);
 		ngd.isDetectorEntryData = isDetectorEntryData;
 		ngd.isUnsigned = isUnsigned;
 		ngd.textLength = textLength;
@@ -803,6 +936,7 @@ public class NexusGroupData implements Serializable {
 		result = prime * result + Arrays.hashCode(chunkDimensions);
 		result = prime * result + ((compressionType == null) ? 0 : compressionType.hashCode());
 		result = prime * result + ((data == null) ? 0 : data.hashCode());
+		result = prime * result + Objects.hashCode(byteBuffer);
 		result = prime * result + Arrays.hashCode(dimensions);
 		result = prime * result + Objects.hashCode(clazz);
 		result = prime * result + (isDetectorEntryData ? 1231 : 1237);
@@ -836,9 +970,46 @@ public class NexusGroupData implements Serializable {
 			return false;
 		if (!Objects.deepEquals(data, other.data))
 			return false;
+		if (!Objects.equals(byteBuffer, other.byteBuffer))
+			return false;
 		return true;
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		if (byteBuffer == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(byteBuffer.remaining());
+		out.writeBoolean(byteBuffer.order() == ByteOrder.LITTLE_ENDIAN);
+		// write in chunks so that a large frame is not copied into one array
+		final ByteBuffer source = byteBuffer.duplicate();
+		final byte[] chunk = new byte[Math.min(source.remaining(), SERIALISATION_CHUNK_BYTES)];
+		while (source.hasRemaining()) {
+			final int length = Math.min(source.remaining(), chunk.length);
+			source.get(chunk, 0, length);
+			out.write(chunk, 0, length);
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		final int length = in.readInt();
+		if (length < 0) {
+			return;
+		}
+		final ByteOrder order = in.readBoolean() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(length).order(order);
+		final byte[] chunk = new byte[Math.min(length, SERIALISATION_CHUNK_BYTES)];
+		while (buffer.hasRemaining()) {
+			final int read = Math.min(buffer.remaining(), chunk.length);
+			in.readFully(chunk, 0, read);
+			buffer.put(chunk, 0, read);
+		}
+		byteBuffer = buffer.flip();
+	}
+
 	private static int[] calcChunksFromInterface(int[] dims, Class<? extends Dataset> clazz) {
 		try {
 			int size = InterfaceUtils.getItemBytes(1, clazz);
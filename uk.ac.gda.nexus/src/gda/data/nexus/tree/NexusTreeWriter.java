@@ -45,7 +45,7 @@ public class NexusTreeWriter {
 
 		if( nxClass.equals(NexusExtractor.AttrClassName)){
 			NexusGroupData data = tree.getData();
-			if( data != null && data.getBuffer() != null){
+			if( data != null && data.hasData()){
 				NexusUtils.writeAttribute(file, group, name, data.toDataset());
 			}
 			return;
@@ -0,0 +1,156 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.images.camera.mjpeg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FrameCaptureTaskTest {
+
+	/**
+	 * An executor which holds the tasks submitted to it until they are run by the test, or rejects them as if it had
+	 * been shut down after the capture task checked it
+	 */
+	private static class TestExecutor extends AbstractExecutorService {
+		private final List<Runnable> tasks = new ArrayList<>();
+		private boolean rejectTasks;
+
+		@Override
+		public void execute(Runnable command) {
+			if (rejectTasks) {
+				throw new RejectedExecutionException("Test executor rejecting tasks");
+			}
+			tasks.add(command);
+		}
+
+		void runTasks() {
+			tasks.forEach(Runnable::run);
+			tasks.clear();
+		}
+
+		@Override
+		public void shutdown() {
+			// never shut down
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return new ArrayList<>();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return false;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return false;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) {
+			return false;
+		}
+	}
+
+	private byte[] jpeg;
+	private TestExecutor decodingService;
+	private BlockingQueue<Image> receivedImages;
+	private AwtFrameCaptureTask task;
+
+	@Before
+	public void setUp() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), "jpg", stream);
+		jpeg = stream.toByteArray();
+
+		decodingService = new TestExecutor();
+		receivedImages = new ArrayBlockingQueue<>(1);
+		task = new AwtFrameCaptureTask("http://localhost/stream.mjpg", decodingService, receivedImages);
+	}
+
+	/**
+	 * @return the number of frames submitted before the decoding service was full and frames were dropped
+	 */
+	private int fillDecodingService() {
+		int submitted = 0;
+		while (task.getDroppedFrames() == 0) {
+			task.submitForDecoding(ByteBuffer.wrap(jpeg));
+			submitted++;
+		}
+		return submitted - 1;
+	}
+
+	@Test
+	public void testPendingDecodesReleasedWhenFramesAreDecoded() {
+		final int maxPendingDecodes = fillDecodingService();
+		assertTrue(maxPendingDecodes > 0);
+		assertEquals(maxPendingDecodes, task.getPendingDecodes());
+
+		// The received images queue only has room for one image, so the rest are dropped after decoding
+		decodingService.runTasks();
+		assertEquals(0, task.getPendingDecodes());
+		assertEquals(1, receivedImages.size());
+		assertEquals(maxPendingDecodes, task.getDroppedFrames());
+
+		// Frames are decoded again once the earlier ones have finished
+		task.submitForDecoding(ByteBuffer.wrap(jpeg));
+		assertEquals(1, task.getPendingDecodes());
+		assertEquals(maxPendingDecodes, task.getDroppedFrames());
+	}
+
+	@Test
+	public void testPendingDecodesReleasedWhenFramesAreRejected() {
+		final int maxPendingDecodes = fillDecodingService();
+
+		decodingService.runTasks();
+		decodingService.rejectTasks = true;
+		for (int i = 0; i < maxPendingDecodes * 2; i++) {
+			task.submitForDecoding(ByteBuffer.wrap(jpeg));
+		}
+		assertEquals(0, task.getPendingDecodes());
+		// Rejected frames do not hold on to a decode slot, so none are dropped for lack of one
+		assertEquals(maxPendingDecodes, task.getDroppedFrames());
+
+		// Once the decoding service accepts tasks again frames are not dropped
+		decodingService.rejectTasks = false;
+		task.submitForDecoding(ByteBuffer.wrap(jpeg));
+		assertEquals(1, task.getPendingDecodes());
+	}
+
+}
@@ -0,0 +1,180 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.images.camera.mjpeg;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import org.junit.Test;
+
+public class MjpegFrameDecoderTest {
+
+	private static final int MAX_FRAME_LENGTH = 64 * 1024;
+
+	/** A JPEG with a 0xFF and an end marker in its data, so a frame read to its first end marker would be cut short */
+	private static final byte[] JPEG_WITH_END_MARKER = jpeg(0x01, 0xFF, 0xD9, 0xFF, 0x02, 0x03);
+
+	private static final byte[] JPEG = jpeg(0x10, 0xFF, 0x20, 0x30, 0x40);
+
+	/**
+	 * A channel returning at most a given number of bytes from each read, so frames and headers are split across
+	 * reads of the stream
+	 */
+	private static class ChunkedChannel implements ReadableByteChannel {
+		private final byte[] stream;
+		private final int chunkSize;
+		private int position;
+
+		ChunkedChannel(byte[] stream, int chunkSize) {
+			this.stream = stream;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public int read(ByteBuffer dst) {
+			if (position == stream.length) return -1;
+			final int length = Math.min(chunkSize, Math.min(dst.remaining(), stream.length - position));
+			dst.put(stream, position, length);
+			position += length;
+			return length;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+			// nothing to close
+		}
+	}
+
+	private static byte[] jpeg(int... data) {
+		final byte[] jpeg = new byte[data.length + 4];
+		jpeg[0] = (byte) 0xFF;
+		jpeg[1] = (byte) 0xD8;
+		for (int i = 0; i < data.length; i++) {
+			jpeg[i + 2] = (byte) data[i];
+		}
+		jpeg[jpeg.length - 2] = (byte) 0xFF;
+		jpeg[jpeg.length - 1] = (byte) 0xD9;
+		return jpeg;
+	}
+
+	private static void writePart(ByteArrayOutputStream stream, byte[] jpeg, boolean withContentLength) {
+		final StringBuilder header = new StringBuilder("--boundary\r\nContent-Type: image/jpeg\r\n");
+		if (withContentLength) {
+			header.append("Content-Length: ").append(jpeg.length).append("\r\n");
+		}
+		stream.writeBytes(header.append("\r\n").toString().getBytes(US_ASCII));
+		stream.writeBytes(jpeg);
+		stream.writeBytes("\r\n".getBytes(US_ASCII));
+	}
+
+	private static byte[] toArray(ByteBuffer frame) {
+		final byte[] bytes = new byte[frame.remaining()];
+		frame.get(bytes);
+		return bytes;
+	}
+
+	@Test
+	public void testFramesSplitAcrossReads() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		writePart(stream, JPEG_WITH_END_MARKER, true);
+		writePart(stream, JPEG, true);
+		writePart(stream, JPEG_WITH_END_MARKER, true);
+
+		for (int chunkSize : new int[] { 1, 3, 7 }) {
+			final MjpegFrameDecoder decoder = new MjpegFrameDecoder(new ChunkedChannel(stream.toByteArray(), chunkSize), MAX_FRAME_LENGTH);
+			assertArrayEquals(JPEG_WITH_END_MARKER, toArray(decoder.nextFrame()));
+			assertArrayEquals(JPEG, toArray(decoder.nextFrame()));
+			assertArrayEquals(JPEG_WITH_END_MARKER, toArray(decoder.nextFrame()));
+			assertEquals(3, decoder.getFramesDecoded());
+		}
+	}
+
+	@Test
+	public void testFramesWithoutContentLengthEndAtEndMarker() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		writePart(stream, JPEG, false);
+		writePart(stream, JPEG, true);
+		writePart(stream, JPEG, false);
+
+		final MjpegFrameDecoder decoder = new MjpegFrameDecoder(new ChunkedChannel(stream.toByteArray(), 5), MAX_FRAME_LENGTH);
+		assertArrayEquals(JPEG, toArray(decoder.nextFrame()));
+		assertArrayEquals(JPEG, toArray(decoder.nextFrame()));
+		assertArrayEquals(JPEG, toArray(decoder.nextFrame()));
+	}
+
+	@Test
+	public void testTruncatedFrameWithContentLength() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		writePart(stream, JPEG, true);
+		final byte[] bytes = stream.toByteArray();
+		final byte[] truncated = new byte[bytes.length - JPEG.length / 2];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+		final MjpegFrameDecoder decoder = new MjpegFrameDecoder(new ChunkedChannel(truncated, 4), MAX_FRAME_LENGTH);
+		assertThrows(EOFException.class, decoder::nextFrame);
+	}
+
+	@Test
+	public void testTruncatedFrameWithoutContentLength() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		writePart(stream, JPEG, true);
+		writePart(stream, JPEG, false);
+		final byte[] bytes = stream.toByteArray();
+		// cut the stream inside the end marker of the second frame
+		final byte[] truncated = new byte[bytes.length - 3];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+		final MjpegFrameDecoder decoder = new MjpegFrameDecoder(new ChunkedChannel(truncated, 4), MAX_FRAME_LENGTH);
+		assertArrayEquals(JPEG, toArray(decoder.nextFrame()));
+		assertThrows(EOFException.class, decoder::nextFrame);
+	}
+
+	@Test
+	public void testEndOfStreamBetweenFrames() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		writePart(stream, JPEG, true);
+
+		final MjpegFrameDecoder decoder = new MjpegFrameDecoder(new ChunkedChannel(stream.toByteArray(), 4), MAX_FRAME_LENGTH);
+		assertArrayEquals(JPEG, toArray(decoder.nextFrame()));
+		assertThrows(EOFException.class, decoder::nextFrame);
+	}
+
+	@Test
+	public void testFrameLargerThanMaximum() {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		writePart(stream, jpeg(new int[200]), true);
+
+		final MjpegFrameDecoder decoder = new MjpegFrameDecoder(new ChunkedChannel(stream.toByteArray(), 16), 128);
+		assertThrows(IOException.class, decoder::nextFrame);
+	}
+
+}
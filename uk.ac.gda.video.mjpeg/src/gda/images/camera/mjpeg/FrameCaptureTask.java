@@ -24,15 +24,21 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.imageio.ImageIO;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import gda.configuration.properties.LocalProperties;
 import gda.images.camera.FrameStatistics;
 import gda.images.camera.MotionJpegOverHttpReceiverBase;
 
@@ -42,12 +48,25 @@ import gda.images.camera.MotionJpegOverHttpReceiverBase;
  *
  * The stream read has an infinite timeout. To stop the task, it should be interrupted as the
  * socket read will block forever if there are currently no new frames.
+ * <p>
+ * If decoding cannot keep up with the stream, frames are dropped as they are captured rather than queued, so that the
+ * frames displayed stay up to date. The capture rate and number of dropped frames are available from
+ * {@link #getFramesPerSecond()} and {@link #getDroppedFrames()}.
  *
  */
 public abstract class FrameCaptureTask<E> implements Runnable {
 
 	private static final Logger logger = LoggerFactory.getLogger(FrameCaptureTask.class);
 
+	/** Maximum number of frames waiting to be decoded before further frames are dropped */
+	private static final int MAX_PENDING_DECODES = LocalProperties.getAsInt("gda.images.camera.mjpeg.maxPendingDecodes", 8);
+
+	/** Maximum length of an MJPEG frame in bytes */
+	private static final int MAX_FRAME_LENGTH = LocalProperties.getAsInt("gda.images.camera.mjpeg.maxFrameLength",
+			MjpegInputStream.DEFAULT_MAX_FRAME_LENGTH);
+
+	private static final long FRAME_RATE_INTERVAL_NS = TimeUnit.SECONDS.toNanos(1);
+
 	private String urlSpec;
 
 	private ExecutorService imageDecodingService;
@@ -60,6 +79,17 @@ public abstract class FrameCaptureTask<E> implements Runnable {
 
 	private FrameStatistics frameDecodeStatistics = new FrameStatistics("MJPEG decoding", 300, 15);
 
+	/** Number of frames submitted for decoding but not yet decoded */
+	private final AtomicInteger pendingDecodes = new AtomicInteger();
+
+	private final LongAdder droppedFrames = new LongAdder();
+
+	/** Start of the current interval over which the frame rate is measured, and frames captured in it */
+	private long frameRateIntervalStart;
+	private int framesInInterval;
+
+	private volatile double framesPerSecond;
+
 	protected FrameCaptureTask(String urlSpec, ExecutorService imageDecodingService,
 			BlockingQueue<E> receivedImages) {
 		this.urlSpec = urlSpec;
@@ -77,6 +107,9 @@ public abstract class FrameCaptureTask<E> implements Runnable {
 		ImageIO.setUseCache(false); // Provides a slight performance increase
 		frameCaptureStatistics.reset();
 		frameDecodeStatistics.reset();
+		droppedFrames.reset();
+		frameRateIntervalStart = System.nanoTime();
+		framesInInterval = 0;
 		URL url;
 		try {
 			// TODO replace urlSpec with a URL field instead
@@ -86,7 +119,7 @@ public abstract class FrameCaptureTask<E> implements Runnable {
 			return;
 		}
 		keepRunning = true;
-		MjpegInputStream mjpegStream = new MjpegInputStream(url);
+		MjpegInputStream mjpegStream = new MjpegInputStream(url, MAX_FRAME_LENGTH);
 		try (mjpegStream) {
 			mjpegStream.connect();
 			while (keepRunning) {
@@ -104,7 +137,7 @@ public abstract class FrameCaptureTask<E> implements Runnable {
 	}
 
 	/**
-	 * Reads a byte array from stream and pass it to decoding service.
+	 * Reads a frame from stream and pass it to decoding service, unless too many frames are waiting to be decoded.
 	 * @param mjpegStream to be closed by the caller
 	 * @throws IOException
 	 */
@@ -113,23 +146,60 @@ public abstract class FrameCaptureTask<E> implements Runnable {
 			if (MotionJpegOverHttpReceiverBase.SHOW_STATS) {
 				frameCaptureStatistics.startProcessingFrame();
 			}
-			final ByteArrayInputStream jpegBytes = new ByteArrayInputStream(mjpegStream.getNextFrame());
+			final ByteBuffer frame = mjpegStream.getNextFrameBuffer();
 			if (MotionJpegOverHttpReceiverBase.SHOW_STATS) {
 				frameCaptureStatistics.finishProcessingFrame();
 			}
-			Runnable decodeTask = () -> convertBytesToImage(jpegBytes);
-
-			// We might be in the middle of capturing a frame from the stream when the image decoding service
-			// is shut down
-			if (!imageDecodingService.isShutdown()) {
-				imageDecodingService.submit(decodeTask);
-			}
+			updateFrameRate();
+			submitForDecoding(frame);
 		} catch (ClosedByInterruptException e) {
 			logger.debug("Stream closed for {}", urlSpec);
 			keepRunning = false;
 		}
 	}
 
+	/**
+	 * Submits a copy of the frame to the decoding service, unless too many frames are already waiting to be decoded
+	 * in which case the frame is dropped.
+	 */
+	void submitForDecoding(ByteBuffer frame) {
+		if (pendingDecodes.get() >= MAX_PENDING_DECODES) {
+			droppedFrames.increment();
+			return;
+		}
+		// The frame is only valid until the next is read, so copy it for decoding on another thread
+		final byte[] jpeg = new byte[frame.remaining()];
+		frame.get(jpeg);
+		final ByteArrayInputStream jpegBytes = new ByteArrayInputStream(jpeg);
+		Runnable decodeTask = () -> {
+			try {
+				convertBytesToImage(jpegBytes);
+			} finally {
+				pendingDecodes.decrementAndGet();
+			}
+		};
+
+		// We might be in the middle of capturing a frame from the stream when the image decoding service
+		// is shut down
+		if (!imageDecodingService.isShutdown()) {
+			pendingDecodes.incrementAndGet();
+			try {
+				imageDecodingService.submit(decodeTask);
+			} catch (RejectedExecutionException e) {
+				// shut down after the check above, so the task will never run to decrement the count
+				pendingDecodes.decrementAndGet();
+				logger.debug("Frame from {} not decoded as the decoding service has shut down", urlSpec);
+			}
+		}
+	}
+
+	/**
+	 * @return the number of frames submitted for decoding which have not yet been decoded
+	 */
+	int getPendingDecodes() {
+		return pendingDecodes.get();
+	}
+
 	/**
 	 * The resulting image is not returned but rather added to the received images queue.
 	 * <p>
@@ -145,7 +215,9 @@ public abstract class FrameCaptureTask<E> implements Runnable {
 		try {
 			BufferedImage bufferedImage = ImageIO.read(bias);
 			E decodedImage = convertImage(bufferedImage);
-			receivedImages.offer(decodedImage);
+			if (!receivedImages.offer(decodedImage)) {
+				droppedFrames.increment();
+			}
 		} catch (IOException e) {
 			// Shutdown if we get an unencodable image
 			logger.error("Failed to convert image", e);
@@ -157,6 +229,32 @@ public abstract class FrameCaptureTask<E> implements Runnable {
 		}
 	}
 
+	private void updateFrameRate() {
+		framesInInterval++;
+		final long now = System.nanoTime();
+		final long elapsed = now - frameRateIntervalStart;
+		if (elapsed >= FRAME_RATE_INTERVAL_NS) {
+			framesPerSecond = framesInInterval * 1e9 / elapsed;
+			frameRateIntervalStart = now;
+			framesInInterval = 0;
+		}
+	}
+
+	/**
+	 * @return the number of frames captured from the stream per second, measured over the last second
+	 */
+	public double getFramesPerSecond() {
+		return framesPerSecond;
+	}
+
+	/**
+	 * @return the number of frames captured but not added to the received images queue since capture started,
+	 *         because decoding could not keep up or the queue was full
+	 */
+	public long getDroppedFrames() {
+		return droppedFrames.sum();
+	}
+
 	/**
 	 * Should be implemented by subclasses to convert the specified {@link BufferedImage} to desired image type.
 	 */
@@ -0,0 +1,230 @@
+/*-
+ * Copyright © 2026 Diamond Light Source Ltd.
+ *
+ * This file is part of GDA.
+ *
+ * GDA is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License version 3 as published by the Free
+ * Software Foundation.
+ *
+ * GDA is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with GDA. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package gda.images.camera.mjpeg;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Splits an MJPEG stream read from a channel into JPEG frames.
+ * <p>
+ * The stream is read in bulk into a reusable direct buffer, which grows as needed up to a maximum frame length. Each
+ * frame is found from the {@code Content-Length} of its header or, if there is none, by scanning for the JPEG end
+ * marker, and is returned as a view of the buffer so that no bytes are copied. Unused bytes are moved to the start of
+ * the buffer before the next frame is read.
+ * <p>
+ * This class is not thread safe: it is intended to be used by a single thread reading a stream.
+ */
+public class MjpegFrameDecoder {
+
+	/** First byte of the JPEG markers */
+	private static final byte MARKER = (byte) 0xFF;
+
+	/** Start Of Image (SOI) marker, the first two bytes of every JPEG frame */
+	private static final byte START_OF_IMAGE = (byte) 0xD8;
+
+	/** End Of Image (EOI) marker, the last two bytes of every JPEG frame */
+	private static final byte END_OF_IMAGE = (byte) 0xD9;
+
+	private static final byte[] CONTENT_LENGTH = "content-length".getBytes();
+
+	/** Maximum number of bytes before the start of a frame, i.e. the multipart boundary and headers */
+	private static final int HEADER_MAX_LENGTH = 4096;
+
+	private static final int INITIAL_CAPACITY = 256 * 1024;
+
+	private final ReadableByteChannel channel;
+
+	private final int maxFrameLength;
+
+	/** Bytes read from the channel. The bytes not yet returned in a frame are between the position and limit */
+	private ByteBuffer buffer;
+
+	private long framesDecoded;
+
+	/**
+	 * @param channel
+	 *            the MJPEG stream
+	 * @param maxFrameLength
+	 *            the maximum length of a frame (and its header) in bytes
+	 */
+	public MjpegFrameDecoder(ReadableByteChannel channel, int maxFrameLength) {
+		this.channel = channel;
+		this.maxFrameLength = maxFrameLength;
+		buffer = ByteBuffer.allocateDirect(Math.min(INITIAL_CAPACITY, maxFrameLength));
+		buffer.limit(0);
+	}
+
+	/**
+	 * Reads the next JPEG frame from the stream
+	 *
+	 * @return a read only view of the JPEG bytes, which is only valid until this method is next called
+	 * @throws EOFException
+	 *             if the stream ends
+	 * @throws IOException
+	 *             if the stream cannot be read or is not a valid MJPEG stream
+	 */
+	public ByteBuffer nextFrame() throws IOException {
+		// Move the unused bytes to the start of the buffer, so the frame and its header are at the start
+		buffer.compact().flip();
+
+		final int start = findMarker(START_OF_IMAGE, 0, HEADER_MAX_LENGTH);
+		if (start < 0) {
+			throw new IOException("Invalid MJPEG stream, JPEG start marker not found");
+		}
+
+		final int contentLength = parseContentLength(start);
+		final int end;
+		if (contentLength > 0) {
+			end = start + contentLength;
+			if (end > maxFrameLength) {
+				throw new IOException("Frame of " + contentLength + " bytes is larger than maximum of " + maxFrameLength);
+			}
+			while (buffer.limit() < end) {
+				fill();
+			}
+		} else {
+			final int endMarker = findMarker(END_OF_IMAGE, start + 2, maxFrameLength);
+			if (endMarker < 0) {
+				throw new IOException("Invalid MJPEG stream, JPEG end marker not found within " + maxFrameLength + " bytes");
+			}
+			end = endMarker + 2;
+		}
+
+		final ByteBuffer frame = buffer.duplicate().position(start).limit(end).slice().asReadOnlyBuffer();
+		buffer.position(end);
+		framesDecoded++;
+		return frame;
+	}
+
+	/**
+	 * Finds the next two byte JPEG marker, reading more of the stream as needed
+	 *
+	 * @param marker
+	 *            the second byte of the marker
+	 * @param from
+	 *            the index in the buffer to search from
+	 * @param maxIndex
+	 *            the maximum index of the end of the marker
+	 * @return the index of the start of the marker or -1 if it was not found before maxIndex
+	 */
+	private int findMarker(byte marker, int from, int maxIndex) throws IOException {
+		int i = from;
+		while (i + 1 < maxIndex) {
+			if (i + 1 >= buffer.limit()) {
+				fill();
+				continue;
+			}
+			final byte b = buffer.get(i + 1);
+			if (b == marker) {
+				if (buffer.get(i) == MARKER) {
+					return i;
+				}
+				i += 2;
+			} else if (b == MARKER) {
+				i += 1;
+			} else {
+				// Neither byte can start the marker
+				i += 2;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Reads the Content-Length from the header before the start of the frame, e.g. {@code Content-Length: 92708}
+	 *
+	 * @return the length or 0 if there is no Content-Length header
+	 */
+	private int parseContentLength(int headerEnd) {
+		for (int lineStart = 0; lineStart < headerEnd;) {
+			if (startsWithIgnoreCase(lineStart, headerEnd, CONTENT_LENGTH)) {
+				int i = lineStart + CONTENT_LENGTH.length;
+				while (i < headerEnd && (buffer.get(i) == ':' || buffer.get(i) == ' ' || buffer.get(i) == '\t')) {
+					i++;
+				}
+				int length = 0;
+				while (i < headerEnd && buffer.get(i) >= '0' && buffer.get(i) <= '9' && length < maxFrameLength) {
+					length = length * 10 + buffer.get(i++) - '0';
+				}
+				return length;
+			}
+			while (lineStart < headerEnd && buffer.get(lineStart++) != '\n') {
+				// Skip to the start of the next line
+			}
+		}
+		return 0;
+	}
+
+	private boolean startsWithIgnoreCase(int index, int end, byte[] lowerCasePrefix) {
+		if (index + lowerCasePrefix.length > end) {
+			return false;
+		}
+		for (int i = 0; i < lowerCasePrefix.length; i++) {
+			final byte b = buffer.get(index + i);
+			final byte lower = b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+			if (lower != lowerCasePrefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads more of the stream into the buffer, growing it if it is full
+	 */
+	private void fill() throws IOException {
+		if (buffer.limit() == buffer.capacity()) {
+			if (buffer.capacity() >= maxFrameLength) {
+				throw new IOException("Frame is larger than maximum of " + maxFrameLength + " bytes");
+			}
+			final ByteBuffer larger = ByteBuffer.allocateDirect((int) Math.min(2L * buffer.capacity(), maxFrameLength));
+			larger.put(buffer.duplicate().position(0)).flip();
+			larger.position(buffer.position());
+			buffer = larger;
+		}
+		final int position = buffer.position();
+		final int limit = buffer.limit();
+		buffer.position(limit).limit(buffer.capacity());
+		try {
+			if (channel.read(buffer) < 0) {
+				throw new EOFException("End of MJPEG stream");
+			}
+		} finally {
+			buffer.limit(buffer.position()).position(position);
+		}
+	}
+
+	/**
+	 * @return the number of frames read from the stream
+	 */
+	public long getFramesDecoded() {
+		return framesDecoded;
+	}
+
+	/**
+	 * @return the current size of the buffer in bytes
+	 */
+	public int getCapacity() {
+		return buffer.capacity();
+	}
+
+}
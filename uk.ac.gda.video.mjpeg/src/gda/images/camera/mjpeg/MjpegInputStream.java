@@ -19,19 +19,15 @@
 package gda.images.camera.mjpeg;
 
 import static java.nio.channels.Channels.newChannel;
-import static java.nio.channels.Channels.newInputStream;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.InterruptibleChannel;
+import java.nio.channels.ReadableByteChannel;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
@@ -55,9 +51,9 @@ import org.slf4j.LoggerFactory;
  * An MJPEG stream is a stream of JPEG images. Before each image there is a header containing
  * several lines defining the content type, and length.
  * <p>
- * This class functions by reading the input stream, attempting to locate the header line: {@code Content-Length}.
- * This defines the length of bytes to read into an array which is returned to the caller. As a fallback the JPEG
- * bytes can be identified using the JPEG standard's start and end markers.
+ * Frames are split from the stream by a {@link MjpegFrameDecoder}, using the header line: {@code Content-Length}
+ * to find the length of each frame. As a fallback the JPEG bytes can be identified using the JPEG standard's start
+ * and end markers.
  * <p>
  * This class wraps the URL stream with an {@link InterruptibleChannel} to allow the thread running it
  * to be interrupted in order to close the infinite timeout socket read. Callers should catch a
@@ -68,31 +64,31 @@ public class MjpegInputStream implements AutoCloseable {
 
 	private static final Logger logger = LoggerFactory.getLogger(MjpegInputStream.class);
 
-	/** The first two bytes of every JPEG frame are the Start Of Image (SOI) marker */
-	private static final byte[] JPEG_START_MARKER = { (byte) 0xFF, (byte) 0xD8 };
+	/** Default maximum frame length (32MB), enough for uncompressed frames from high resolution cameras */
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 32 * 1024 * 1024;
 
-	/** At the end of the JPEG frame: End Of Image (EOI) marker */
-	private static final byte[] JPEG_END_MARKER = { (byte) 0xFF, (byte) 0xD9 };
+	private final URL url;
 
-	/** Name of content length header */
-	private static final String CONTENT_LENGTH = "Content-Length".toLowerCase();
+	private final int maxFrameLength;
 
-	/** Maximum header length in bytes */
-	private static final int HEADER_MAX_LENGTH = 100;
+	/** The data source, which is interruptible */
+	private ReadableByteChannel channel;
 
-	/** Max frame length (100kB) */
-	private static final int FRAME_MAX_LENGTH = 100000 + HEADER_MAX_LENGTH;
+	private MjpegFrameDecoder decoder;
 
-	private final URL url;
+	public MjpegInputStream(URL url) {
+		this(url, DEFAULT_MAX_FRAME_LENGTH);
+	}
 
 	/**
-	 * The data source. This stream is decorated with a {@link BufferedInputStream} (for performance)
-	 * and a {@link DataInputStream} (to provide useful methods e.g. readFully, skipBytes)
+	 * @param url
+	 *            the MJPEG stream
+	 * @param maxFrameLength
+	 *            the maximum length of a frame in bytes
 	 */
-	private DataInputStream dataStream;
-
-	public MjpegInputStream(URL url) {
+	public MjpegInputStream(URL url, int maxFrameLength) {
 		this.url = url;
+		this.maxFrameLength = maxFrameLength;
 	}
 
 	/**
@@ -101,8 +97,8 @@ public class MjpegInputStream implements AutoCloseable {
 	 */
 	public void connect() throws IOException {
 		HttpEntity ent = getConnection(url);
-		var interruptableInputStream = newInputStream(newChannel(ent.getContent()));
-		dataStream = new DataInputStream(new BufferedInputStream(interruptableInputStream, FRAME_MAX_LENGTH));
+		channel = newChannel(ent.getContent());
+		decoder = new MjpegFrameDecoder(channel, maxFrameLength);
 	}
 
 	/**
@@ -138,103 +134,35 @@ public class MjpegInputStream implements AutoCloseable {
 	}
 
 	/**
-	 *  Get the byte index of the of the next byte following the specified sequence
-	 * @return the index or -1 if the complete sequence is not found
-	 * @throws IOException
-	 */
-	private int getEndOfSeqeunce(byte[] sequence) throws IOException {
-		int matchingSequenceBytes = 0;
-		byte nextByte;
-		for (int i = 0; i < FRAME_MAX_LENGTH; i++) {
-			nextByte = (byte) dataStream.readUnsignedByte();
-			if (nextByte == sequence[matchingSequenceBytes]) {
-				matchingSequenceBytes++;
-				if (matchingSequenceBytes == sequence.length) {
-					return i + 1;
-				}
-			} else {
-				matchingSequenceBytes = 0;
-			}
-		}
-		return -1;
-	}
-
-	private int getStartOfSequence(byte[] sequence) throws IOException {
-		int end = getEndOfSeqeunce(sequence);
-		return end < 0 ? -1 : end - sequence.length;
-	}
-
-	/**
-	 * Extract length from header bytes e.g. if header contains:
-	 * {@code Content-Length: 92708}
-	 * return {@code 92708}
-	 * @param headerBytes
-	 * @return content length specified in the header or zero if not found
+	 * Read single MJPEG frame (JPEG image) from stream.
+	 *
+	 * @return JPEG image as byte array
 	 * @throws IOException
+	 *             when there is a problem in reading from stream
 	 */
-	private int parseContentLength(byte[] headerBytes) throws IOException {
-
-		try (ByteArrayInputStream bais = new ByteArrayInputStream(headerBytes);
-				InputStreamReader isr = new InputStreamReader(bais);
-				BufferedReader br = new BufferedReader(isr)) {
-
-			String line = null;
-			while ((line = br.readLine()) != null) {
-				if (line.toLowerCase().startsWith(CONTENT_LENGTH)) {
-					String[] parts = line.split(":");
-					if (parts.length == 2) {
-						return Integer.parseInt(parts[1].trim());
-					}
-				}
-			}
-		}
-		throw new NumberFormatException("No Content-Length in header");
-	}
-
-
-
-	/**
-	 * Attempt to get jpeg length from header otherwise fall back to searching ahead for ending
-	 */
-	private int getJpegDataLength(byte[] header) throws IOException {
-		try {
-			return parseContentLength(header);
-		} catch (NumberFormatException e) {
-			int len = getEndOfSeqeunce(JPEG_END_MARKER);
-			if (len <= 0) {
-				logger.error("Invalid MJPEG stream, JPEG end marker not found");
-			}
-			return len;
-		}
+	public byte[] getNextFrame() throws IOException {
+		final ByteBuffer frame = getNextFrameBuffer();
+		final byte[] bytes = new byte[frame.remaining()];
+		frame.get(bytes);
+		return bytes;
 	}
 
 	/**
-	 * Read single MJPEG frame (JPEG image) from stream.
+	 * Read single MJPEG frame (JPEG image) from stream without copying it.
 	 *
-	 * @return JPEG image as byte array or null
+	 * @return a read only view of the JPEG image, which is only valid until the next frame is read
 	 * @throws IOException
 	 *             when there is a problem in reading from stream
 	 */
-	public byte[] getNextFrame() throws IOException {
-		dataStream.mark(FRAME_MAX_LENGTH); // mark current stream position
-		int jpegStartIndex = getStartOfSequence(JPEG_START_MARKER);
-		dataStream.reset();
-		byte[] header = new byte[jpegStartIndex];
-		dataStream.readFully(header); // read until header is full
-		// stream will now be at the start of the jpeg data
-		int length = getJpegDataLength(header);
-		dataStream.reset();
-		byte[] frame = new byte[length];
-		dataStream.skipBytes(jpegStartIndex);
-		dataStream.readFully(frame);
-		return frame;
+	public ByteBuffer getNextFrameBuffer() throws IOException {
+		return decoder.nextFrame();
 	}
 
 	@Override
 	public void close() throws IOException {
-		// Closing dataStream will close decorated streams
-		if (dataStream != null) {
-			dataStream.close();
+		// Closing the channel will close the underlying stream
+		if (channel != null) {
+			channel.close();
 		}
 	}
 }
\ No newline at end of file